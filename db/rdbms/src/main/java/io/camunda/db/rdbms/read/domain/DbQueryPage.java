@@ -10,7 +10,12 @@ package io.camunda.db.rdbms.read.domain;
 import io.camunda.search.sort.SortOrder;
 import java.util.List;
 
-public record DbQueryPage(Integer size, Integer from, List<KeySetPagination> keySetPagination) {
+/**
+ * @param countLimit the maximum number of rows to count for the total hits, or null to count all
+ *     rows; see {@code Commons.countLimit}
+ */
+public record DbQueryPage(
+    Integer size, Integer from, List<KeySetPagination> keySetPagination, Integer countLimit) {
 
   public record KeySetPagination(List<KeySetPaginationFieldEntry> entries) {}
 
@@ -26,6 +26,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.function.Function;
+import java.util.function.LongSupplier;
 
 abstract class AbstractEntityReader<T> {
 
@@ -66,7 +67,12 @@ abstract class AbstractEntityReader<T> {
       keySetPagination = createKeySetPagination(sort, page);
     }
 
-    return new DbQueryPage(page.size(), page.from(), keySetPagination);
+    // count one more row than the limit, to know if there are more hits than the limit
+    final Integer countLimit =
+        page.totalHitsLimit() == null
+            ? null
+            : (int) Math.min(page.totalHitsLimit() + 1L, Integer.MAX_VALUE);
+    return new DbQueryPage(page.size(), page.from(), keySetPagination, countLimit);
   }
 
   /**
@@ -119,16 +125,65 @@ abstract class AbstractEntityReader<T> {
     return keySetPagination;
   }
 
+  /**
+   * Builds the result of the given page of hits. The total hits are only counted if necessary:
+   *
+   * <ul>
+   *   <li>if the first page isn't full, its hits are all there is, provided that the reader's
+   *       {@link #pageLimitsHits() page limits the hits}
+   *   <li>if the page's total hits limit is 0, counting is skipped
+   *   <li>otherwise, the count stops at the page's total hits limit, if any; the count statement
+   *       has to apply {@link DbQueryPage#countLimit()}
+   * </ul>
+   */
   protected final SearchQueryResult<T> buildSearchQueryResult(
-      final long totalHits, final List<T> hits, final DbQuerySorting<T> dbSort) {
+      final SearchQueryPage page,
+      final LongSupplier totalHitsCounter,
+      final List<T> hits,
+      final DbQuerySorting<T> dbSort) {
+    final Integer totalHitsLimit = page.totalHitsLimit();
+    final long totalHits;
+    final boolean hasMoreTotalItems;
+    if (isFirstPage(page) && hits.size() < page.size() && pageLimitsHits()) {
+      totalHits = hits.size();
+      hasMoreTotalItems = false;
+    } else if (totalHitsLimit == null) {
+      totalHits = totalHitsCounter.getAsLong();
+      hasMoreTotalItems = false;
+    } else if (totalHitsLimit == 0) {
+      totalHits = 0;
+      hasMoreTotalItems = !hits.isEmpty();
+    } else {
+      final long countedHits = totalHitsCounter.getAsLong();
+      totalHits = Math.min(countedHits, totalHitsLimit);
+      hasMoreTotalItems = countedHits > totalHitsLimit;
+    }
+
     return new SearchQueryResult.Builder<T>()
         .total(totalHits)
+        .hasMoreTotalItems(hasMoreTotalItems)
         .items(hits)
         .firstSortValues(extractFirstSortValues(hits, dbSort))
         .lastSortValues(extractLastSortValues(hits, dbSort))
         .build();
   }
 
+  /**
+   * Returns true if each row of the search is one hit, so that the page size limits the hits. Only
+   * then a first page with fewer hits than its size is known to contain all hits. Readers whose
+   * search joins rows that are aggregated into fewer hits, e.g. the members of a group, must not
+   * override this.
+   */
+  protected boolean pageLimitsHits() {
+    return false;
+  }
+
+  private static boolean isFirstPage(final SearchQueryPage page) {
+    return page.searchAfter() == null
+        && page.searchBefore() == null
+        && (page.from() == null || page.from() == 0);
+  }
+
   @VisibleForTesting
   Object[] extractFirstSortValues(final List<T> hits, final DbQuerySorting<T> sort) {
     return extractSortValues(hits, sort, List::getFirst);
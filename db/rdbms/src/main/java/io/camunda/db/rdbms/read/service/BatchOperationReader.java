@@ -53,12 +53,12 @@ public class BatchOperationReader extends AbstractEntityReader<BatchOperationEnt
             b -> b.filter(query.filter()).sort(dbSort).page(convertPaging(dbSort, query.page())));
 
     LOG.trace("[RDBMS DB] Search for batch operations with filter {}", dbQuery);
-    final var totalHits = batchOperationMapper.count(dbQuery);
     final var hits =
         batchOperationMapper.search(dbQuery).stream()
             .map(BatchOperationEntityMapper::toEntity)
             .toList();
-    return buildSearchQueryResult(totalHits, hits, dbSort);
+    return buildSearchQueryResult(
+        query.page(), () -> batchOperationMapper.count(dbQuery), hits, dbSort);
   }
 
   public List<BatchOperationItemEntity> getItems(final String batchOperationKey) {
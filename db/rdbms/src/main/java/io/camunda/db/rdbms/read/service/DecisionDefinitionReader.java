@@ -44,8 +44,8 @@ public class DecisionDefinitionReader extends AbstractEntityReader<DecisionDefin
             b -> b.filter(query.filter()).sort(dbSort).page(convertPaging(dbSort, query.page())));
 
     LOG.trace("[RDBMS DB] Search for decision definition with filter {}", dbQuery);
-    final var totalHits = decisionDefinitionMapper.count(dbQuery);
     final var hits = decisionDefinitionMapper.search(dbQuery);
-    return buildSearchQueryResult(totalHits, hits, dbSort);
+    return buildSearchQueryResult(
+        query.page(), () -> decisionDefinitionMapper.count(dbQuery), hits, dbSort);
   }
 }
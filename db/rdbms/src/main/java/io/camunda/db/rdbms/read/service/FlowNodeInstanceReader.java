@@ -42,8 +42,13 @@ public class FlowNodeInstanceReader extends AbstractEntityReader<FlowNodeInstanc
             b -> b.filter(query.filter()).sort(dbSort).page(convertPaging(dbSort, query.page())));
 
     LOG.trace("[RDBMS DB] Search for process instance with filter {}", dbQuery);
-    final var totalHits = flowNodeInstanceMapper.count(dbQuery);
     final var hits = flowNodeInstanceMapper.search(dbQuery);
-    return buildSearchQueryResult(totalHits, hits, dbSort);
+    return buildSearchQueryResult(
+        query.page(), () -> flowNodeInstanceMapper.count(dbQuery), hits, dbSort);
+  }
+
+  @Override
+  protected boolean pageLimitsHits() {
+    return true;
   }
 }
@@ -42,8 +42,7 @@ public class FormReader extends AbstractEntityReader<FormEntity> {
             b -> b.filter(query.filter()).sort(dbSort).page(convertPaging(dbSort, query.page())));
 
     LOG.trace("[RDBMS DB] Search for form with filter {}", dbQuery);
-    final var totalHits = formMapper.count(dbQuery);
     final var hits = formMapper.search(dbQuery);
-    return buildSearchQueryResult(totalHits, hits, dbSort);
+    return buildSearchQueryResult(query.page(), () -> formMapper.count(dbQuery), hits, dbSort);
   }
 }
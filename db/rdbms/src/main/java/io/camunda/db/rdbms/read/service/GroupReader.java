@@ -41,9 +41,8 @@ public class GroupReader extends AbstractEntityReader<GroupEntity> {
             b -> b.filter(query.filter()).sort(dbSort).page(convertPaging(dbSort, query.page())));
 
     LOG.trace("[RDBMS DB] Search for groups with filter {}", dbQuery);
-    final var totalHits = groupMapper.count(dbQuery);
     final var hits = groupMapper.search(dbQuery).stream().map(this::map).toList();
-    return buildSearchQueryResult(totalHits, hits, dbSort);
+    return buildSearchQueryResult(query.page(), () -> groupMapper.count(dbQuery), hits, dbSort);
   }
 
   private GroupEntity map(final GroupDbModel model) {
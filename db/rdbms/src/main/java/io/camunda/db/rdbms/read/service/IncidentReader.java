@@ -40,8 +40,12 @@ public class IncidentReader extends AbstractEntityReader<IncidentEntity> {
             b -> b.filter(query.filter()).sort(dbSort).page(convertPaging(dbSort, query.page())));
 
     LOG.trace("[RDBMS DB] Search for incident with filter {}", dbQuery);
-    final var totalHits = incidentMapper.count(dbQuery);
     final var hits = incidentMapper.search(dbQuery);
-    return buildSearchQueryResult(totalHits, hits, dbSort);
+    return buildSearchQueryResult(query.page(), () -> incidentMapper.count(dbQuery), hits, dbSort);
+  }
+
+  @Override
+  protected boolean pageLimitsHits() {
+    return true;
   }
 }
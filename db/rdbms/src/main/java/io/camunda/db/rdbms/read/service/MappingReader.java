@@ -42,8 +42,7 @@ public class MappingReader extends AbstractEntityReader<MappingEntity> {
             b -> b.filter(query.filter()).sort(dbSort).page(convertPaging(dbSort, query.page())));
 
     LOG.trace("[RDBMS DB] Search for mapping with filter {}", dbQuery);
-    final var totalHits = mappingMapper.count(dbQuery);
     final var hits = mappingMapper.search(dbQuery);
-    return buildSearchQueryResult(totalHits, hits, dbSort);
+    return buildSearchQueryResult(query.page(), () -> mappingMapper.count(dbQuery), hits, dbSort);
   }
 }
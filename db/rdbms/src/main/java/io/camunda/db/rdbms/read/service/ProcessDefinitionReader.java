@@ -51,9 +51,14 @@ public class ProcessDefinitionReader extends AbstractEntityReader<ProcessDefinit
             b -> b.filter(query.filter()).sort(dbSort).page(convertPaging(dbSort, query.page())));
 
     LOG.trace("[RDBMS DB] Search for process instance with filter {}", dbQuery);
-    final var totalHits = processDefinitionMapper.count(dbQuery);
     final var hits = processDefinitionMapper.search(dbQuery);
-    return buildSearchQueryResult(totalHits, hits, dbSort);
+    return buildSearchQueryResult(
+        query.page(), () -> processDefinitionMapper.count(dbQuery), hits, dbSort);
+  }
+
+  @Override
+  protected boolean pageLimitsHits() {
+    return true;
   }
 
   public List<ProcessFlowNodeStatisticsEntity> flowNodeStatistics(
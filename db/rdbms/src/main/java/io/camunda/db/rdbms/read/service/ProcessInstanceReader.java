@@ -42,9 +42,15 @@ public class ProcessInstanceReader extends AbstractEntityReader<ProcessInstanceE
             b -> b.filter(query.filter()).sort(dbSort).page(convertPaging(dbSort, query.page())));
 
     LOG.trace("[RDBMS DB] Search for process instance with filter {}", dbQuery);
-    final var totalHits = processInstanceMapper.count(dbQuery);
     final var hits = processInstanceMapper.search(dbQuery);
-    return buildSearchQueryResult(totalHits, hits, dbSort);
+    return buildSearchQueryResult(
+        query.page(), () -> processInstanceMapper.count(dbQuery), hits, dbSort);
+  }
+
+  @Override
+  protected boolean pageLimitsHits() {
+    // the process definition is joined by its key, one per row
+    return true;
   }
 
   public List<ProcessFlowNodeStatisticsEntity> flowNodeStatistics(final long processInstanceKey) {
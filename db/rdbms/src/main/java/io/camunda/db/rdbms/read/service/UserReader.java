@@ -40,8 +40,7 @@ public class UserReader extends AbstractEntityReader<UserEntity> {
             b -> b.filter(query.filter()).sort(dbSort).page(convertPaging(dbSort, query.page())));
 
     LOG.trace("[RDBMS DB] Search for users with filter {}", dbQuery);
-    final var totalHits = userMapper.count(dbQuery);
     final var hits = userMapper.search(dbQuery);
-    return buildSearchQueryResult(totalHits, hits, dbSort);
+    return buildSearchQueryResult(query.page(), () -> userMapper.count(dbQuery), hits, dbSort);
   }
 }
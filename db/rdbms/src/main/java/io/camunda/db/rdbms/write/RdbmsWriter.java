@@ -217,4 +217,12 @@ public class RdbmsWriter {
   public void flush() {
     executionQueue.flush();
   }
+
+  public void flushAsync() {
+    executionQueue.flushAsync();
+  }
+
+  public void close() {
+    executionQueue.close();
+  }
 }
@@ -16,13 +16,19 @@ public record RdbmsWriterConfig(
     Duration defaultHistoryTTL,
     Duration minHistoryCleanupInterval,
     Duration maxHistoryCleanupInterval,
-    int historyCleanupBatchSize) {
+    int historyCleanupBatchSize,
+    Duration historyCleanupTargetBatchDuration,
+    int maxRowsPerInsert,
+    int maxInFlightFlushes) {
 
   public static final int DEFAULT_QUEUE_SIZE = -1;
   public static final Duration DEFAULT_HISTORY_TTL = Duration.ofDays(30);
   public static final Duration DEFAULT_MIN_HISTORY_CLEANUP_INTERVAL = Duration.ofMinutes(1);
   public static final Duration DEFAULT_MAX_HISTORY_CLEANUP_INTERVAL = Duration.ofMinutes(60);
   public static final int DEFAULT_HISTORY_CLEANUP_BATCH_SIZE = 1000;
+  public static final Duration DEFAULT_HISTORY_CLEANUP_TARGET_BATCH_DURATION = Duration.ZERO;
+  public static final int DEFAULT_MAX_ROWS_PER_INSERT = 100;
+  public static final int DEFAULT_MAX_IN_FLIGHT_FLUSHES = 0;
 
   public static Builder builder() {
     return new Builder();
@@ -36,6 +42,10 @@ public record RdbmsWriterConfig(
     private Duration minHistoryCleanupInterval = DEFAULT_MIN_HISTORY_CLEANUP_INTERVAL;
     private Duration maxHistoryCleanupInterval = DEFAULT_MAX_HISTORY_CLEANUP_INTERVAL;
     private int historyCleanupBatchSize = DEFAULT_HISTORY_CLEANUP_BATCH_SIZE;
+    private Duration historyCleanupTargetBatchDuration =
+        DEFAULT_HISTORY_CLEANUP_TARGET_BATCH_DURATION;
+    private int maxRowsPerInsert = DEFAULT_MAX_ROWS_PER_INSERT;
+    private int maxInFlightFlushes = DEFAULT_MAX_IN_FLIGHT_FLUSHES;
 
     public Builder partitionId(int partitionId) {
       this.partitionId = partitionId;
@@ -67,6 +77,21 @@ public record RdbmsWriterConfig(
       return this;
     }
 
+    public Builder historyCleanupTargetBatchDuration(Duration historyCleanupTargetBatchDuration) {
+      this.historyCleanupTargetBatchDuration = historyCleanupTargetBatchDuration;
+      return this;
+    }
+
+    public Builder maxRowsPerInsert(int maxRowsPerInsert) {
+      this.maxRowsPerInsert = maxRowsPerInsert;
+      return this;
+    }
+
+    public Builder maxInFlightFlushes(int maxInFlightFlushes) {
+      this.maxInFlightFlushes = maxInFlightFlushes;
+      return this;
+    }
+
     @Override
     public RdbmsWriterConfig build() {
       return new RdbmsWriterConfig(
@@ -75,7 +100,10 @@ public record RdbmsWriterConfig(
           defaultHistoryTTL,
           minHistoryCleanupInterval,
           maxHistoryCleanupInterval,
-          historyCleanupBatchSize);
+          historyCleanupBatchSize,
+          historyCleanupTargetBatchDuration,
+          maxRowsPerInsert,
+          maxInFlightFlushes);
     }
   }
 }
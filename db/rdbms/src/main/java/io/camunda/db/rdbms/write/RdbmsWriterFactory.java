@@ -74,7 +74,12 @@ public class RdbmsWriterFactory {
   public RdbmsWriter createWriter(final RdbmsWriterConfig config) {
     final var executionQueue =
         new DefaultExecutionQueue(
-            sqlSessionFactory, config.partitionId(), config.maxQueueSize(), metrics);
+            sqlSessionFactory,
+            config.partitionId(),
+            config.maxQueueSize(),
+            config.maxRowsPerInsert(),
+            config.maxInFlightFlushes(),
+            metrics);
     return new RdbmsWriter(
         config,
         executionQueue,
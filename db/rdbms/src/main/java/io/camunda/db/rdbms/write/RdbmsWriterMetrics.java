@@ -16,6 +16,7 @@ import io.micrometer.core.instrument.Timer;
 import io.micrometer.core.instrument.Timer.ResourceSample;
 import io.micrometer.core.instrument.Timer.Sample;
 import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
 public class RdbmsWriterMetrics {
@@ -24,6 +25,9 @@ public class RdbmsWriterMetrics {
 
   private final MeterRegistry meterRegistry;
   private final Timer flushLatency;
+  private final Timer mergeLookupDuration;
+  private final Counter mergeLookupHits;
+  private final Counter mergeLookupMisses;
   private Sample flushLatencyMeasurement;
 
   public RdbmsWriterMetrics(final MeterRegistry meterRegistry) {
@@ -35,6 +39,16 @@ public class RdbmsWriterMetrics {
                 "Time of how long a export buffer is open and collects new records before flushing, meaning latency until the next flush is done.")
             .publishPercentileHistogram()
             .register(meterRegistry);
+
+    mergeLookupDuration =
+        Timer.builder(meterName("merge.lookup.duration"))
+            .description("Time spent looking up a queue item to merge a new item with")
+            .publishPercentileHistogram()
+            .minimumExpectedValue(Duration.ofNanos(100))
+            .maximumExpectedValue(Duration.ofMillis(10))
+            .register(meterRegistry);
+    mergeLookupHits = mergeLookupCounter("hit");
+    mergeLookupMisses = mergeLookupCounter("miss");
   }
 
   public ResourceSample measureFlushDuration() {
@@ -60,6 +74,14 @@ public class RdbmsWriterMetrics {
         .register(meterRegistry);
   }
 
+  public void registerInFlightFlushesGauge(
+      final long partitionId, final Supplier<Number> supplier) {
+    Gauge.builder(meterName("flush.inFlight"), supplier)
+        .description("Number of export buffers which are currently flushed in the background")
+        .tag("partitionId", String.valueOf(partitionId))
+        .register(meterRegistry);
+  }
+
   public ResourceSample measureHistoryCleanupDuration() {
     return Timer.resource(meterRegistry, meterName("historyCleanup.duration.seconds"))
         .description("History cleanup duration of bulk exporters in seconds")
@@ -93,6 +115,18 @@ public class RdbmsWriterMetrics {
         .increment();
   }
 
+  /**
+   * Records an attempt to merge a new item with an already queued item. The ratio of hits to all
+   * attempts is the merge hit rate.
+   *
+   * @param merged true if a mergeable queue item was found
+   * @param durationNanos the time spent looking up the queue item
+   */
+  public void recordMergeLookup(final boolean merged, final long durationNanos) {
+    mergeLookupDuration.record(durationNanos, TimeUnit.NANOSECONDS);
+    (merged ? mergeLookupHits : mergeLookupMisses).increment();
+  }
+
   public void recordEnqueuedStatement(final String statementId) {
     Counter.builder(meterName("enqueued.statements"))
         .tags("statementId", statementId)
@@ -128,6 +162,13 @@ public class RdbmsWriterMetrics {
     }
   }
 
+  private Counter mergeLookupCounter(final String result) {
+    return Counter.builder(meterName("merge.lookup"))
+        .tag("result", result)
+        .description("Number of attempts to merge a new item with an already queued item")
+        .register(meterRegistry);
+  }
+
   private String meterName(final String name) {
     return NAMESPACE + "." + name;
   }
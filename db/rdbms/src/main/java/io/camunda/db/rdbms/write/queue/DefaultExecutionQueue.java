@@ -10,15 +10,22 @@ package io.camunda.db.rdbms.write.queue;
 import io.camunda.db.rdbms.write.RdbmsWriterMetrics;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
-import java.util.Iterator;
-import java.util.LinkedList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import org.apache.ibatis.executor.BatchResult;
 import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
 import org.apache.ibatis.session.SqlSessionFactory;
 import org.apache.ibatis.session.TransactionIsolationLevel;
 import org.slf4j.Logger;
@@ -35,27 +42,81 @@ public class DefaultExecutionQueue implements ExecutionQueue {
           "io.camunda.db.rdbms.sql.IncidentMapper.updateHistoryCleanupDate",
           "io.camunda.db.rdbms.sql.DecisionInstanceMapper.updateHistoryCleanupDate",
           "io.camunda.db.rdbms.sql.VariableMapper.updateHistoryCleanupDate");
+  // suffix of the multi-row variant of an insert statement, see e.g. FlowNodeInstanceMapper.xml
+  private static final String BATCH_STATEMENT_SUFFIX = "Batch";
+  private static final long INITIAL_FLUSH_RETRY_DELAY_MS = 1_000;
+  private static final long MAX_FLUSH_RETRY_DELAY_MS = 30_000;
+  private static final long FLUSH_AWAIT_INTERVAL_MS = 100;
+  private static final int MAX_FLUSH_ATTEMPTS_ON_CLOSE = 3;
+  private static final long CLOSE_TIMEOUT_MS = 10_000;
 
   private final SqlSessionFactory sessionFactory;
   private final List<PreFlushListener> preFlushListeners = new ArrayList<>();
   private final List<PostFlushListener> postFlushListeners = new ArrayList<>();
 
-  private final LinkedList<QueueItem> queue = new LinkedList<>();
+  private final List<QueueItem> queue = new ArrayList<>();
+  // positions of the queued items by context type and id, in ascending order, to find the items a
+  // merger can be merged with without scanning the whole queue
+  private final Map<QueueItemKey, List<Integer>> queueIndex = new HashMap<>();
 
   private final long partitionId; // for addressing the logger
   private final int queueFlushLimit;
+  private final int maxRowsPerInsert;
+  private final Map<String, Boolean> hasBatchStatement = new HashMap<>();
 
   private final RdbmsWriterMetrics metrics;
 
+  // asynchronous flushing, only used if maxInFlightFlushes > 0
+  private final int maxInFlightFlushes;
+  private final Semaphore inFlightFlushes;
+  private final ExecutorService flusher;
+  private final CountDownLatch closing = new CountDownLatch(1);
+  private volatile Exception lastFlushFailure;
+  private boolean sealing;
+
   public DefaultExecutionQueue(
       final SqlSessionFactory sessionFactory,
       final long partitionId,
       final int queueFlushLimit,
+      final int maxRowsPerInsert,
+      final RdbmsWriterMetrics metrics) {
+    this(sessionFactory, partitionId, queueFlushLimit, maxRowsPerInsert, 0, metrics);
+  }
+
+  /**
+   * @param maxInFlightFlushes the number of full buffers which may be flushed in the background
+   *     while the queue is filled with new items; if 0, the queue is flushed synchronously by the
+   *     thread which fills it
+   */
+  public DefaultExecutionQueue(
+      final SqlSessionFactory sessionFactory,
+      final long partitionId,
+      final int queueFlushLimit,
+      final int maxRowsPerInsert,
+      final int maxInFlightFlushes,
       final RdbmsWriterMetrics metrics) {
     this.sessionFactory = sessionFactory;
     this.partitionId = partitionId;
     this.queueFlushLimit = queueFlushLimit;
+    this.maxRowsPerInsert = maxRowsPerInsert;
+    this.maxInFlightFlushes = Math.max(0, maxInFlightFlushes);
     this.metrics = metrics;
+
+    if (this.maxInFlightFlushes > 0) {
+      inFlightFlushes = new Semaphore(this.maxInFlightFlushes);
+      flusher =
+          Executors.newSingleThreadExecutor(
+              runnable -> {
+                final var thread = new Thread(runnable, "rdbms-flusher-" + partitionId);
+                thread.setDaemon(true);
+                return thread;
+              });
+      metrics.registerInFlightFlushesGauge(
+          partitionId, () -> this.maxInFlightFlushes - inFlightFlushes.availablePermits());
+    } else {
+      inFlightFlushes = null;
+      flusher = null;
+    }
   }
 
   @Override
@@ -67,6 +128,7 @@ public class DefaultExecutionQueue implements ExecutionQueue {
       }
 
       queue.add(entry);
+      indexItem(entry, queue.size() - 1);
       metrics.recordEnqueuedStatement(entry.statementId());
       checkQueueForFlush();
     }
@@ -83,12 +145,19 @@ public class DefaultExecutionQueue implements ExecutionQueue {
   }
 
   /**
-   * Performs flush on the queue.
+   * Performs flush on the queue. If the queue flushes asynchronously, this waits until all buffers
+   * handed to the flusher are committed.
    *
    * @return number of flushed items
    */
   @Override
   public int flush() {
+    if (flushesAsynchronously()) {
+      final int sealedItems = sealAndSubmit();
+      awaitInFlightFlushes();
+      return sealedItems;
+    }
+
     synchronized (queue) {
       if (queue.isEmpty()) {
         LOG.trace(
@@ -112,29 +181,308 @@ public class DefaultExecutionQueue implements ExecutionQueue {
   }
 
   /**
-   * Iterate from end over the queue and try to find a last added compatible queueItem. The
-   * queueItem will be replaced with a new, combined queueItem.
+   * Hands the current buffer to the flusher thread, without waiting for it to be committed. Falls
+   * back to {@link #flush()} if the queue flushes synchronously.
+   */
+  @Override
+  public void flushAsync() {
+    if (flushesAsynchronously()) {
+      sealAndSubmit();
+    } else {
+      flush();
+    }
+  }
+
+  @Override
+  public boolean flushesAsynchronously() {
+    return flusher != null;
+  }
+
+  /**
+   * Closes the queue. Buffers which are still in flight are committed before, but a failing buffer
+   * is only attempted {@value #MAX_FLUSH_ATTEMPTS_ON_CLOSE} more times and then dropped. Waits at
+   * most {@value #CLOSE_TIMEOUT_MS}ms for the flusher.
+   */
+  @Override
+  public void close() {
+    closing.countDown();
+    if (flusher == null) {
+      return;
+    }
+
+    flusher.shutdown();
+    try {
+      if (!flusher.awaitTermination(CLOSE_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+        LOG.warn(
+            "[RDBMS ExecutionQueue, Partition {}] Flusher didn't finish within {}ms, abort flushing the remaining buffers",
+            partitionId,
+            CLOSE_TIMEOUT_MS);
+        flusher.shutdownNow();
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      flusher.shutdownNow();
+    }
+  }
+
+  /**
+   * Finds the last added queueItem which is compatible with one of the given mergers. The queueItem
+   * will be replaced with a new, combined queueItem. Mergers which specify the context type and id
+   * of the items they can be merged with are looked up in the queue index, all others scan the
+   * queue from the end.
    */
   @Override
   public boolean tryMergeWithExistingQueueItem(final QueueItemMerger... combiners) {
     synchronized (queue) {
-      int index = queue.size() - 1;
-      for (final Iterator<QueueItem> it = queue.descendingIterator(); it.hasNext(); ) {
-        final QueueItem item = it.next();
-
-        for (final QueueItemMerger merger : combiners) {
-          if (merger.canBeMerged(item)) {
-            LOG.trace("Merging new item with item {}, {}", item.contextType(), item.id());
-            queue.set(index, merger.merge(item));
-            metrics.recordMergedQueueItem(item.contextType(), item.statementId());
-            return true;
-          }
+      final long startNanos = System.nanoTime();
+      int index = -1;
+      QueueItemMerger itemMerger = null;
+      for (final QueueItemMerger merger : combiners) {
+        final int mergeableIndex =
+            merger.contextType() == null || merger.id() == null
+                ? scanForMergeableItem(merger)
+                : lookupMergeableItem(merger);
+        // the last added item wins; on a tie, the first given merger
+        if (mergeableIndex > index) {
+          index = mergeableIndex;
+          itemMerger = merger;
+        }
+      }
+
+      if (itemMerger == null) {
+        metrics.recordMergeLookup(false, System.nanoTime() - startNanos);
+        return false;
+      }
+
+      final QueueItem item = queue.get(index);
+      LOG.trace("Merging new item with item {}, {}", item.contextType(), item.id());
+      final QueueItem mergedItem = itemMerger.merge(item);
+      queue.set(index, mergedItem);
+      if (!Objects.equals(QueueItemKey.of(item), QueueItemKey.of(mergedItem))) {
+        unindexItem(item, index);
+        indexItem(mergedItem, index);
+      }
+
+      metrics.recordMergeLookup(true, System.nanoTime() - startNanos);
+      metrics.recordMergedQueueItem(item.contextType(), item.statementId());
+      return true;
+    }
+  }
+
+  private int lookupMergeableItem(final QueueItemMerger merger) {
+    final var positions =
+        queueIndex.getOrDefault(
+            new QueueItemKey(merger.contextType(), merger.id()), Collections.emptyList());
+    for (int i = positions.size() - 1; i >= 0; i--) {
+      final int index = positions.get(i);
+      if (merger.canBeMerged(queue.get(index))) {
+        return index;
+      }
+    }
+
+    return -1;
+  }
+
+  private int scanForMergeableItem(final QueueItemMerger merger) {
+    for (int index = queue.size() - 1; index >= 0; index--) {
+      if (merger.canBeMerged(queue.get(index))) {
+        return index;
+      }
+    }
+
+    return -1;
+  }
+
+  private void indexItem(final QueueItem item, final int index) {
+    final var key = QueueItemKey.of(item);
+    if (key == null) {
+      return;
+    }
+
+    final var positions = queueIndex.computeIfAbsent(key, k -> new ArrayList<>(2));
+    final int insertionPoint = Collections.binarySearch(positions, index);
+    if (insertionPoint < 0) {
+      positions.add(-insertionPoint - 1, index);
+    }
+  }
+
+  private void unindexItem(final QueueItem item, final int index) {
+    final var key = QueueItemKey.of(item);
+    final var positions = key == null ? null : queueIndex.get(key);
+    if (positions == null) {
+      return;
+    }
+
+    positions.remove(Integer.valueOf(index));
+    if (positions.isEmpty()) {
+      queueIndex.remove(key);
+    }
+  }
+
+  private void removeFlushedItems(final int flushedItems) {
+    queue.subList(0, Math.min(flushedItems, queue.size())).clear();
+    queueIndex.clear();
+    for (int index = 0; index < queue.size(); index++) {
+      indexItem(queue.get(index), index);
+    }
+  }
+
+  /**
+   * Swaps the filled buffer with an empty one and submits it to the flusher thread. The pre flush
+   * listeners are called before the swap, such that the items they add are committed together with
+   * the buffer. Blocks while {@link #maxInFlightFlushes} buffers are already in flight.
+   *
+   * @return number of items handed to the flusher
+   * @throws IllegalStateException if a flush failed and is still being retried, while the maximum
+   *     of buffers is in flight; the queue is kept, such that the caller can back off and try again
+   */
+  private int sealAndSubmit() {
+    synchronized (queue) {
+      if (queue.isEmpty() || sealing) {
+        return 0;
+      }
+
+      // backpressure: the exporter waits here if the flusher can't keep up
+      acquireInFlightFlushes(1);
+      final List<QueueItem> buffer;
+      sealing = true;
+      try {
+        if (!preFlushListeners.isEmpty()) {
+          LOG.trace("[RDBMS ExecutionQueue, Partition {}] Call pre flush listeners", partitionId);
+          preFlushListeners.forEach(PreFlushListener::onPreFlush);
         }
 
-        index--;
+        buffer = new ArrayList<>(queue);
+        queue.clear();
+        queueIndex.clear();
+      } catch (final RuntimeException e) {
+        inFlightFlushes.release();
+        throw e;
+      } finally {
+        sealing = false;
       }
 
-      return false;
+      metrics.stopFlushLatencyMeasurement();
+      metrics.recordBulkSize(buffer.size());
+
+      LOG.debug(
+          "[RDBMS ExecutionQueue, Partition {}] Hand over buffer with {} items to flusher",
+          partitionId,
+          buffer.size());
+      try {
+        flusher.execute(() -> flushBuffer(buffer));
+      } catch (final RuntimeException e) {
+        inFlightFlushes.release();
+        throw e;
+      }
+
+      return buffer.size();
+    }
+  }
+
+  /**
+   * Flushes the given buffer on the flusher thread. A failed flush is retried with an exponential
+   * backoff until it succeeds, since the buffers must be committed in the order they were sealed.
+   * Once the queue is closing, the buffer is retried right away, but only a few more times.
+   */
+  private void flushBuffer(final List<QueueItem> buffer) {
+    try {
+      long retryDelayMs = INITIAL_FLUSH_RETRY_DELAY_MS;
+      int attemptsOnClose = 0;
+      while (true) {
+        try (final var ignored = metrics.measureFlushDuration()) {
+          commitBuffer(buffer);
+          lastFlushFailure = null;
+          return;
+        } catch (final Exception e) {
+          metrics.recordFailedFlush();
+          lastFlushFailure = e;
+          if (closing.getCount() == 0 && ++attemptsOnClose >= MAX_FLUSH_ATTEMPTS_ON_CLOSE) {
+            LOG.error(
+                "[RDBMS ExecutionQueue, Partition {}] Failed to flush buffer with {} items while closing, the items are not committed",
+                partitionId,
+                buffer.size(),
+                e);
+            return;
+          }
+
+          LOG.warn(
+              "[RDBMS ExecutionQueue, Partition {}] Failed to flush buffer, retry in {}ms",
+              partitionId,
+              retryDelayMs);
+          // closing the queue ends the backoff
+          closing.await(retryDelayMs, TimeUnit.MILLISECONDS);
+          retryDelayMs = Math.min(retryDelayMs * 2, MAX_FLUSH_RETRY_DELAY_MS);
+        }
+      }
+    } catch (final InterruptedException e) {
+      LOG.error(
+          "[RDBMS ExecutionQueue, Partition {}] Interrupted while flushing buffer with {} items, the items are not committed",
+          partitionId,
+          buffer.size());
+      Thread.currentThread().interrupt();
+    } finally {
+      inFlightFlushes.release();
+    }
+  }
+
+  private void commitBuffer(final List<QueueItem> buffer) {
+    final var startMillis = System.currentTimeMillis();
+    final var session =
+        sessionFactory.openSession(ExecutorType.BATCH, TransactionIsolationLevel.READ_UNCOMMITTED);
+    try {
+      executeStatements(session, optimizeQueueOrder(buffer));
+      flushStatementsAndCommit(session);
+    } catch (final Exception e) {
+      LOG.error("[RDBMS ExecutionQueue, Partition {}] Error while executing queue", partitionId, e);
+      session.rollback();
+
+      throw e;
+    } finally {
+      session.close();
+    }
+
+    if (!postFlushListeners.isEmpty()) {
+      LOG.trace("[RDBMS ExecutionQueue, Partition {}] Call post flush listeners", partitionId);
+      postFlushListeners.forEach(PostFlushListener::onPostFlush);
+    }
+    LOG.debug(
+        "[RDBMS ExecutionQueue, Partition {}] Commit buffer with {} entries in {}ms",
+        partitionId,
+        buffer.size(),
+        System.currentTimeMillis() - startMillis);
+  }
+
+  /**
+   * Waits until all buffers handed to the flusher are committed.
+   *
+   * @throws IllegalStateException if a flush failed in the meantime and is still being retried
+   */
+  private void awaitInFlightFlushes() {
+    acquireInFlightFlushes(maxInFlightFlushes);
+    inFlightFlushes.release(maxInFlightFlushes);
+  }
+
+  /**
+   * Waits until the given number of buffers may be handed to the flusher. Instead of waiting until
+   * a failing flush eventually succeeds, the failure is rethrown, such that the caller can back
+   * off.
+   *
+   * @throws IllegalStateException if a flush failed in the meantime and is still being retried
+   */
+  private void acquireInFlightFlushes(final int permits) {
+    try {
+      while (!inFlightFlushes.tryAcquire(
+          permits, FLUSH_AWAIT_INTERVAL_MS, TimeUnit.MILLISECONDS)) {
+        final var failure = lastFlushFailure;
+        if (failure != null) {
+          throw new IllegalStateException(
+              "Failed to flush execution queue of partition " + partitionId, failure);
+        }
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for the execution queue flush", e);
     }
   }
 
@@ -148,15 +496,12 @@ public class DefaultExecutionQueue implements ExecutionQueue {
     final var session =
         sessionFactory.openSession(ExecutorType.BATCH, TransactionIsolationLevel.READ_UNCOMMITTED);
 
-    var flushedElements = 0;
-    final var optimizedItems = optimizeQueueOrder(queue);
-
+    int flushedElements = 0;
     try {
-      for (final var entry : optimizedItems) {
-        LOG.trace("[RDBMS ExecutionQueue, Partition {}] Executing entry: {}", partitionId, entry);
-        session.update(entry.statementId(), entry.parameter());
-        queue.remove();
-        flushedElements++;
+      try {
+        flushedElements = executeStatements(session, optimizeQueueOrder(queue));
+      } finally {
+        removeFlushedItems(flushedElements);
       }
 
       if (!preFlushListeners.isEmpty()) {
@@ -164,21 +509,7 @@ public class DefaultExecutionQueue implements ExecutionQueue {
         preFlushListeners.forEach(PreFlushListener::onPreFlush);
       }
 
-      final var batchResult = session.flushStatements();
-      for (final BatchResult singleBatchResult : batchResult) {
-        if (Arrays.stream(singleBatchResult.getUpdateCounts()).anyMatch(i -> i == 0)
-            && !IGNORE_EMPTY_UPDATES.contains(singleBatchResult.getMappedStatement().getId())) {
-          LOG.error(
-              "[RDBMS ExecutionQueue, Partition {}] Some statements with ID {} were not executed successfully",
-              partitionId,
-              singleBatchResult.getMappedStatement().getId());
-        }
-        metrics.recordExecutedStatement(
-            singleBatchResult.getMappedStatement().getId(),
-            singleBatchResult.getParameterObjects().size());
-      }
-
-      session.commit();
+      flushStatementsAndCommit(session);
       if (!postFlushListeners.isEmpty()) {
         LOG.trace("[RDBMS ExecutionQueue, Partition {}] Call post flush listeners", partitionId);
         postFlushListeners.forEach(PostFlushListener::onPostFlush);
@@ -200,6 +531,58 @@ public class DefaultExecutionQueue implements ExecutionQueue {
     }
   }
 
+  /**
+   * Executes the statements of the given items in the given session. Consecutive inserts are
+   * combined to multi-row inserts where possible.
+   *
+   * @return the number of executed items
+   */
+  private int executeStatements(final SqlSession session, final List<QueueItem> items) {
+    int executedItems = 0;
+    for (int index = 0; index < items.size(); ) {
+      final var entry = items.get(index);
+      final int rows = countRowsOfMultiRowInsert(items, index);
+      if (rows > 1) {
+        LOG.trace(
+            "[RDBMS ExecutionQueue, Partition {}] Executing {} entries as one statement: {}",
+            partitionId,
+            rows,
+            entry.statementId());
+        final List<Object> parameters = new ArrayList<>(rows);
+        for (int row = index; row < index + rows; row++) {
+          parameters.add(items.get(row).parameter());
+        }
+        session.update(entry.statementId() + BATCH_STATEMENT_SUFFIX, parameters);
+      } else {
+        LOG.trace("[RDBMS ExecutionQueue, Partition {}] Executing entry: {}", partitionId, entry);
+        session.update(entry.statementId(), entry.parameter());
+      }
+
+      index += rows;
+      executedItems += rows;
+    }
+
+    return executedItems;
+  }
+
+  private void flushStatementsAndCommit(final SqlSession session) {
+    final var batchResult = session.flushStatements();
+    for (final BatchResult singleBatchResult : batchResult) {
+      if (Arrays.stream(singleBatchResult.getUpdateCounts()).anyMatch(i -> i == 0)
+          && !IGNORE_EMPTY_UPDATES.contains(singleBatchResult.getMappedStatement().getId())) {
+        LOG.error(
+            "[RDBMS ExecutionQueue, Partition {}] Some statements with ID {} were not executed successfully",
+            partitionId,
+            singleBatchResult.getMappedStatement().getId());
+      }
+      metrics.recordExecutedStatement(
+          singleBatchResult.getMappedStatement().getId(),
+          singleBatchResult.getParameterObjects().size());
+    }
+
+    session.commit();
+  }
+
   /**
    * Optimizes the order of the queue items to minimize the number of executed statements. Primary
    * goal of this optimization is to batch as many statements as possible For this statements with
@@ -237,7 +620,45 @@ public class DefaultExecutionQueue implements ExecutionQueue {
     return resultList;
   }
 
-  LinkedList<QueueItem> getQueue() {
+  /**
+   * Counts the consecutive inserts, starting at the given item, which can be executed as one
+   * multi-row INSERT statement. This is the case for inserts with the same statement, if the mapper
+   * provides a multi-row variant of it, which is the insert statement's id with the suffix {@value
+   * #BATCH_STATEMENT_SUFFIX}. The multi-row variants take the list of row parameters and are
+   * written per database vendor.
+   *
+   * @return the number of rows to insert with one statement, at most {@link #maxRowsPerInsert}; 1
+   *     if the item must be executed on its own
+   */
+  private int countRowsOfMultiRowInsert(final List<QueueItem> items, final int from) {
+    final var first = items.get(from);
+    if (maxRowsPerInsert <= 1
+        || first.statementType() != WriteStatementType.INSERT
+        || !hasBatchStatement(first.statementId())) {
+      return 1;
+    }
+
+    final int to = Math.min(items.size(), from + maxRowsPerInsert);
+    int rows = 1;
+    while (from + rows < to) {
+      final var next = items.get(from + rows);
+      if (next.statementType() != WriteStatementType.INSERT
+          || !next.statementId().equals(first.statementId())) {
+        break;
+      }
+      rows++;
+    }
+
+    return rows;
+  }
+
+  private boolean hasBatchStatement(final String statementId) {
+    return hasBatchStatement.computeIfAbsent(
+        statementId,
+        id -> sessionFactory.getConfiguration().hasStatement(id + BATCH_STATEMENT_SUFFIX));
+  }
+
+  List<QueueItem> getQueue() {
     return queue;
   }
 
@@ -252,7 +673,20 @@ public class DefaultExecutionQueue implements ExecutionQueue {
         partitionId,
         queue.size());
     if (queue.size() >= queueFlushLimit) {
-      flush();
+      if (flushesAsynchronously()) {
+        sealAndSubmit();
+      } else {
+        flush();
+      }
+    }
+  }
+
+  private record QueueItemKey(ContextType contextType, Object id) {
+
+    private static QueueItemKey of(final QueueItem item) {
+      return item.contextType() == null || item.id() == null
+          ? null
+          : new QueueItemKey(item.contextType(), item.id());
     }
   }
 }
@@ -17,5 +17,24 @@ public interface ExecutionQueue {
 
   int flush();
 
+  /**
+   * Flushes the queue without waiting for the items to be committed, if the queue supports
+   * asynchronous flushing; see {@link #flushesAsynchronously()}.
+   */
+  default void flushAsync() {
+    flush();
+  }
+
+  /**
+   * @return true if the queue commits its items on a separate thread, in which case the post flush
+   *     listeners are called from that thread
+   */
+  default boolean flushesAsynchronously() {
+    return false;
+  }
+
+  /** Stops flushing in the background, if the queue does so. */
+  default void close() {}
+
   boolean tryMergeWithExistingQueueItem(QueueItemMerger... combiners);
 }
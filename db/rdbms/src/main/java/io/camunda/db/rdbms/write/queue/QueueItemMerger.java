@@ -12,4 +12,22 @@ public interface QueueItemMerger {
   boolean canBeMerged(QueueItem queueItem);
 
   QueueItem merge(QueueItem originalItem);
+
+  /**
+   * The context type of the queue items this merger can be merged with. Together with {@link
+   * #id()}, it allows the {@link ExecutionQueue} to look up the candidate items directly instead of
+   * scanning the whole queue.
+   *
+   * @return the context type of mergeable items, or null if items of any context type may match
+   */
+  default ContextType contextType() {
+    return null;
+  }
+
+  /**
+   * @return the id of mergeable items, or null if items with any id may match
+   */
+  default Object id() {
+    return null;
+  }
 }
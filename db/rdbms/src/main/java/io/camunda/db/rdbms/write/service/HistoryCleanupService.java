@@ -13,6 +13,7 @@ import io.camunda.zeebe.util.VisibleForTesting;
 import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -25,6 +26,9 @@ public class HistoryCleanupService {
   private final Duration minCleanupInterval;
   private final Duration maxCleanupInterval;
   private final int cleanupBatchSize;
+  private final Duration cleanupTargetBatchDuration;
+  private final int minCleanupBatchSize;
+  private final int maxCleanupBatchSize;
 
   private final RdbmsWriterMetrics metrics;
 
@@ -37,7 +41,10 @@ public class HistoryCleanupService {
   private final JobWriter jobWriter;
   private final SequenceFlowWriter sequenceFlowWriter;
 
+  private final Map<String, CleanupFunction> cleanupFunctions = new LinkedHashMap<>();
   private final Map<Integer, Duration> lastCleanupInterval = new HashMap<>();
+  // the batch sizes for the next cleanup by partition and entity
+  private final Map<Integer, Map<String, Integer>> cleanupBatchSizes = new HashMap<>();
 
   public HistoryCleanupService(
       final RdbmsWriterConfig config,
@@ -57,6 +64,9 @@ public class HistoryCleanupService {
     minCleanupInterval = config.minHistoryCleanupInterval();
     maxCleanupInterval = config.maxHistoryCleanupInterval();
     cleanupBatchSize = config.historyCleanupBatchSize();
+    cleanupTargetBatchDuration = config.historyCleanupTargetBatchDuration();
+    minCleanupBatchSize = Math.max(1, cleanupBatchSize / 10);
+    maxCleanupBatchSize = (int) Math.min(Integer.MAX_VALUE, cleanupBatchSize * 10L);
     this.processInstanceWriter = processInstanceWriter;
     this.incidentWriter = incidentWriter;
     this.flowNodeInstanceWriter = flowNodeInstanceWriter;
@@ -66,6 +76,15 @@ public class HistoryCleanupService {
     this.jobWriter = jobWriter;
     this.sequenceFlowWriter = sequenceFlowWriter;
     this.metrics = metrics;
+
+    cleanupFunctions.put("processInstance", processInstanceWriter::cleanupHistory);
+    cleanupFunctions.put("flowNodeInstance", flowNodeInstanceWriter::cleanupHistory);
+    cleanupFunctions.put("incident", incidentWriter::cleanupHistory);
+    cleanupFunctions.put("userTask", userTaskWriter::cleanupHistory);
+    cleanupFunctions.put("variable", variableInstanceWriter::cleanupHistory);
+    cleanupFunctions.put("decisionInstance", decisionInstanceWriter::cleanupHistory);
+    cleanupFunctions.put("job", jobWriter::cleanupHistory);
+    cleanupFunctions.put("sequenceFlow", sequenceFlowWriter::cleanupHistory);
   }
 
   public void scheduleProcessForHistoryCleanup(
@@ -92,28 +111,34 @@ public class HistoryCleanupService {
     final var sample = metrics.measureHistoryCleanupDuration();
     final long start = System.currentTimeMillis();
 
+    final var batchSizes = cleanupBatchSizes.computeIfAbsent(partitionId, p -> new HashMap<>());
+    final var usedBatchSizes = new HashMap<String, Integer>();
     final var numDeletedRecords = new HashMap<String, Integer>();
-    numDeletedRecords.put(
-        "processInstance",
-        processInstanceWriter.cleanupHistory(partitionId, cleanupDate, cleanupBatchSize));
-    numDeletedRecords.put(
-        "flowNodeInstance",
-        flowNodeInstanceWriter.cleanupHistory(partitionId, cleanupDate, cleanupBatchSize));
-    numDeletedRecords.put(
-        "incident", incidentWriter.cleanupHistory(partitionId, cleanupDate, cleanupBatchSize));
-    numDeletedRecords.put(
-        "userTask", userTaskWriter.cleanupHistory(partitionId, cleanupDate, cleanupBatchSize));
-    numDeletedRecords.put(
-        "variable",
-        variableInstanceWriter.cleanupHistory(partitionId, cleanupDate, cleanupBatchSize));
-    numDeletedRecords.put(
-        "decisionInstance",
-        decisionInstanceWriter.cleanupHistory(partitionId, cleanupDate, cleanupBatchSize));
-    numDeletedRecords.put(
-        "job", jobWriter.cleanupHistory(partitionId, cleanupDate, cleanupBatchSize));
-    numDeletedRecords.put(
-        "sequenceFlow",
-        sequenceFlowWriter.cleanupHistory(partitionId, cleanupDate, cleanupBatchSize));
+    for (final var entry : cleanupFunctions.entrySet()) {
+      final var entityName = entry.getKey();
+      final int batchSize = batchSizes.getOrDefault(entityName, cleanupBatchSize);
+
+      final long startNanos = System.nanoTime();
+      final int deleted = entry.getValue().cleanupHistory(partitionId, cleanupDate, batchSize);
+      final var deleteDuration = Duration.ofNanos(System.nanoTime() - startNanos);
+
+      numDeletedRecords.put(entityName, deleted);
+      usedBatchSizes.put(entityName, batchSize);
+      metrics.recordHistoryCleanupBulkSize(deleted, entityName);
+
+      final int newBatchSize = calculateNewBatchSize(batchSize, deleted, deleteDuration);
+      if (newBatchSize != batchSize) {
+        LOG.debug(
+            "Adapt history cleanup batch size of {}s for partition {} from {} to {}, deleting {} took {} ms",
+            entityName,
+            partitionId,
+            batchSize,
+            newBatchSize,
+            deleted,
+            deleteDuration.toMillis());
+      }
+      batchSizes.put(entityName, newBatchSize);
+    }
     final long end = System.currentTimeMillis();
     sample.close();
 
@@ -132,7 +157,8 @@ public class HistoryCleanupService {
         sum);
 
     final var nextDuration =
-        calculateNewDuration(lastCleanupInterval.get(partitionId), numDeletedRecords);
+        calculateNewDuration(
+            lastCleanupInterval.get(partitionId), numDeletedRecords, usedBatchSizes);
     LOG.debug("Schedule next cleanup for partition {} with TTL in {}", partitionId, nextDuration);
 
     saveLastCleanupInterval(partitionId, nextDuration);
@@ -149,9 +175,18 @@ public class HistoryCleanupService {
   @VisibleForTesting
   Duration calculateNewDuration(
       final Duration lastDuration, final Map<String, Integer> numDeletedRecords) {
+    return calculateNewDuration(lastDuration, numDeletedRecords, Map.of());
+  }
+
+  private Duration calculateNewDuration(
+      final Duration lastDuration,
+      final Map<String, Integer> numDeletedRecords,
+      final Map<String, Integer> usedBatchSizes) {
     final var deletedNothing = numDeletedRecords.values().stream().allMatch(i -> i == 0);
     final var exceededBatchSize =
-        numDeletedRecords.values().stream().anyMatch(i -> i >= cleanupBatchSize);
+        numDeletedRecords.entrySet().stream()
+            .anyMatch(
+                e -> e.getValue() >= usedBatchSizes.getOrDefault(e.getKey(), cleanupBatchSize));
     Duration nextDuration;
 
     if (lastDuration == null) {
@@ -171,7 +206,35 @@ public class HistoryCleanupService {
     return nextDuration;
   }
 
+  /**
+   * Adapts the batch size of an entity to the time it took to delete the last batch, if a target
+   * batch duration is configured. The batch size is halved if deleting took longer than the target,
+   * such that the cleanup doesn't hold locks and I/O for too long at the expense of the exporter.
+   * It is doubled if a full batch was deleted in less than half the target. The batch size stays
+   * between a tenth and ten times the configured batch size.
+   */
+  @VisibleForTesting
+  int calculateNewBatchSize(final int batchSize, final int deleted, final Duration deleteDuration) {
+    if (cleanupTargetBatchDuration == null || !cleanupTargetBatchDuration.isPositive()) {
+      return cleanupBatchSize;
+    }
+
+    if (deleteDuration.compareTo(cleanupTargetBatchDuration) > 0) {
+      return Math.max(minCleanupBatchSize, batchSize / 2);
+    } else if (deleted >= batchSize
+        && deleteDuration.compareTo(cleanupTargetBatchDuration.dividedBy(2)) < 0) {
+      return (int) Math.min(maxCleanupBatchSize, batchSize * 2L);
+    } else {
+      return batchSize;
+    }
+  }
+
   public Duration getHistoryCleanupInterval() {
     return defaultHistoryTTL;
   }
+
+  @FunctionalInterface
+  private interface CleanupFunction {
+    int cleanupHistory(int partitionId, OffsetDateTime cleanupDate, int rowsToRemove);
+  }
 }
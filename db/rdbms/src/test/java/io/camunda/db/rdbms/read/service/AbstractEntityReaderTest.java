@@ -19,11 +19,16 @@ import io.camunda.db.rdbms.read.domain.DbQuerySorting.SortingEntry;
 import io.camunda.db.rdbms.sql.columns.ProcessInstanceSearchColumn;
 import io.camunda.search.entities.ProcessInstanceEntity;
 import io.camunda.search.page.SearchQueryPage;
+import io.camunda.search.query.SearchQueryResult;
 import io.camunda.search.sort.ProcessInstanceSort;
 import io.camunda.search.sort.SortOption.FieldSorting;
 import io.camunda.search.sort.SortOrder;
 import java.util.List;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.Mockito;
 
 class AbstractEntityReaderTest {
@@ -98,7 +103,7 @@ class AbstractEntityReaderTest {
             b ->
                 b.addEntry(ProcessInstanceSearchColumn.PROCESS_DEFINITION_NAME, SortOrder.ASC)
                     .addEntry(ProcessInstanceSearchColumn.PROCESS_INSTANCE_KEY, SortOrder.ASC));
-    final SearchQueryPage page = new SearchQueryPage(0, 10, null, null);
+    final SearchQueryPage page = new SearchQueryPage(0, 10, null, null, null);
 
     final DbQueryPage result = AbstractEntityReader.convertPaging(sort, page);
 
@@ -116,7 +121,8 @@ class AbstractEntityReaderTest {
                     .addEntry(ProcessInstanceSearchColumn.PROCESS_DEFINITION_NAME, SortOrder.DESC)
                     .addEntry(ProcessInstanceSearchColumn.PROCESS_INSTANCE_KEY, SortOrder.ASC));
     final SearchQueryPage page =
-        new SearchQueryPage(0, 10, new Object[] {"test-process-id", "Test Process", 42L}, null);
+        new SearchQueryPage(
+            0, 10, new Object[] {"test-process-id", "Test Process", 42L}, null, null);
 
     final DbQueryPage result = AbstractEntityReader.convertPaging(sort, page);
 
@@ -156,7 +162,8 @@ class AbstractEntityReaderTest {
                     .addEntry(ProcessInstanceSearchColumn.PROCESS_DEFINITION_NAME, SortOrder.DESC)
                     .addEntry(ProcessInstanceSearchColumn.PROCESS_INSTANCE_KEY, SortOrder.ASC));
     final SearchQueryPage page =
-        new SearchQueryPage(0, 10, null, new Object[] {"test-process-id", "Test Process", 42L});
+        new SearchQueryPage(
+            0, 10, null, new Object[] {"test-process-id", "Test Process", 42L}, null);
 
     final DbQueryPage result = AbstractEntityReader.convertPaging(sort, page);
 
@@ -186,4 +193,136 @@ class AbstractEntityReaderTest {
                 "PROCESS_DEFINITION_NAME", Operator.EQUALS, "Test Process"),
             new KeySetPaginationFieldEntry("PROCESS_INSTANCE_KEY", Operator.LOWER, 42L));
   }
+
+  @Test
+  void shouldConvertTotalHitsLimitToCountLimit() {
+    final DbQuerySorting<ProcessInstanceEntity> sort =
+        DbQuerySorting.of(
+            b -> b.addEntry(ProcessInstanceSearchColumn.PROCESS_INSTANCE_KEY, SortOrder.ASC));
+
+    assertThat(
+            AbstractEntityReader.convertPaging(sort, SearchQueryPage.of(b -> b.size(10)))
+                .countLimit())
+        .isNull();
+    assertThat(
+            AbstractEntityReader.convertPaging(
+                    sort, SearchQueryPage.of(b -> b.size(10).totalHitsLimit(1000)))
+                .countLimit())
+        .isEqualTo(1001);
+    assertThat(
+            AbstractEntityReader.convertPaging(
+                    sort, SearchQueryPage.of(b -> b.size(10).totalHitsLimit(Integer.MAX_VALUE)))
+                .countLimit())
+        .isEqualTo(Integer.MAX_VALUE);
+  }
+
+  @Test
+  void shouldNotCountTotalHitsIfFirstPageIsNotFull() {
+    final var reader = new ProcessInstanceReader(null);
+    final var hits = List.of(Mockito.mock(ProcessInstanceEntity.class));
+
+    final var result =
+        reader.buildSearchQueryResult(
+            SearchQueryPage.of(b -> b.size(10)),
+            () -> {
+              throw new AssertionError("should not count");
+            },
+            hits,
+            processInstanceKeySorting());
+
+    assertThat(result.total()).isEqualTo(1);
+    assertThat(result.hasMoreTotalItems()).isFalse();
+  }
+
+  @ParameterizedTest
+  @MethodSource("readersWithOneHitPerRow")
+  void shouldNotCountTotalHitsIfFirstPageOfReaderIsNotFull(final AbstractEntityReader<?> reader) {
+    final var result =
+        buildResultOfEmptyFirstPage(
+            reader,
+            () -> {
+              throw new AssertionError("should not count");
+            });
+
+    assertThat(result.total()).isZero();
+  }
+
+  @ParameterizedTest
+  @MethodSource("readersWithJoinedRows")
+  void shouldCountTotalHitsIfFirstPageOfJoinedRowsIsNotFull(final AbstractEntityReader<?> reader) {
+    // e.g. the members of a group are joined, so fewer groups than rows may be returned
+    final var result = buildResultOfEmptyFirstPage(reader, () -> 20);
+
+    assertThat(result.total()).isEqualTo(20);
+  }
+
+  @Test
+  void shouldSkipCountingTotalHitsIfLimitIsZero() {
+    final var reader = new ProcessInstanceReader(null);
+    final var hits = List.of(Mockito.mock(ProcessInstanceEntity.class));
+
+    final var result =
+        reader.buildSearchQueryResult(
+            SearchQueryPage.of(b -> b.size(1).totalHitsLimit(0)),
+            () -> {
+              throw new AssertionError("should not count");
+            },
+            hits,
+            processInstanceKeySorting());
+
+    assertThat(result.total()).isZero();
+    assertThat(result.hasMoreTotalItems()).isTrue();
+  }
+
+  @Test
+  void shouldCapTotalHitsAtLimit() {
+    final var reader = new ProcessInstanceReader(null);
+    final var hits = List.of(Mockito.mock(ProcessInstanceEntity.class));
+
+    final var cappedResult =
+        reader.buildSearchQueryResult(
+            SearchQueryPage.of(b -> b.size(1).totalHitsLimit(100)),
+            () -> 101,
+            hits,
+            processInstanceKeySorting());
+    final var exactResult =
+        reader.buildSearchQueryResult(
+            SearchQueryPage.of(b -> b.size(1).totalHitsLimit(100)),
+            () -> 42,
+            hits,
+            processInstanceKeySorting());
+
+    assertThat(cappedResult.total()).isEqualTo(100);
+    assertThat(cappedResult.hasMoreTotalItems()).isTrue();
+    assertThat(exactResult.total()).isEqualTo(42);
+    assertThat(exactResult.hasMoreTotalItems()).isFalse();
+  }
+
+  private static DbQuerySorting<ProcessInstanceEntity> processInstanceKeySorting() {
+    return DbQuerySorting.of(
+        b -> b.addEntry(ProcessInstanceSearchColumn.PROCESS_INSTANCE_KEY, SortOrder.ASC));
+  }
+
+  private static <T> SearchQueryResult<T> buildResultOfEmptyFirstPage(
+      final AbstractEntityReader<T> reader, final LongSupplier totalHitsCounter) {
+    return reader.buildSearchQueryResult(
+        SearchQueryPage.of(b -> b.size(10)),
+        totalHitsCounter,
+        List.of(),
+        DbQuerySorting.of(b -> b));
+  }
+
+  private static Stream<AbstractEntityReader<?>> readersWithOneHitPerRow() {
+    return Stream.of(
+        new ProcessDefinitionReader(null),
+        new ProcessInstanceReader(null),
+        new FlowNodeInstanceReader(null),
+        new VariableReader(null),
+        new IncidentReader(null),
+        new DecisionInstanceReader(null));
+  }
+
+  private static Stream<AbstractEntityReader<?>> readersWithJoinedRows() {
+    return Stream.of(new GroupReader(null), new RoleReader(null), new UserTaskReader(null));
+  }
 }
@@ -10,14 +10,27 @@ package io.camunda.db.rdbms.write.queue;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import io.camunda.db.rdbms.write.RdbmsWriterMetrics;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.ibatis.session.Configuration;
 import org.apache.ibatis.session.ExecutorType;
 import org.apache.ibatis.session.SqlSession;
 import org.apache.ibatis.session.SqlSessionFactory;
@@ -43,7 +56,7 @@ class DefaultExecutionQueueTest {
             ExecutorType.BATCH, TransactionIsolationLevel.READ_UNCOMMITTED))
         .thenReturn(session);
 
-    executionQueue = new DefaultExecutionQueue(sqlSessionFactory, 1, 10, metrics);
+    executionQueue = new DefaultExecutionQueue(sqlSessionFactory, 1, 10, 1, metrics);
   }
 
   @Test
@@ -55,7 +68,7 @@ class DefaultExecutionQueueTest {
 
   @Test
   public void whenElementIsAddedNoFlushHappens() {
-    executionQueue = new DefaultExecutionQueue(sqlSessionFactory, 1, 0, metrics);
+    executionQueue = new DefaultExecutionQueue(sqlSessionFactory, 1, 0, 1, metrics);
 
     executionQueue.executeInQueue(mock(QueueItem.class));
 
@@ -64,7 +77,7 @@ class DefaultExecutionQueueTest {
 
   @Test
   public void whenFlushLimitIsActivatedFlushShouldHappen() {
-    executionQueue = new DefaultExecutionQueue(sqlSessionFactory, 1, 3, metrics);
+    executionQueue = new DefaultExecutionQueue(sqlSessionFactory, 1, 3, 1, metrics);
     final var item1 =
         new QueueItem(
             ContextType.PROCESS_INSTANCE,
@@ -270,6 +283,152 @@ class DefaultExecutionQueueTest {
     assertThat(executionQueue.getQueue().get(1)).isSameAs(item2);
   }
 
+  @Test
+  public void shouldMergeWithLastAddedItemOfSameContextTypeAndId() {
+    final var item1 =
+        new QueueItem(
+            ContextType.FLOW_NODE, WriteStatementType.INSERT, 1L, "statement1", "parameter1");
+    final var item2 =
+        new QueueItem(
+            ContextType.PROCESS_INSTANCE,
+            WriteStatementType.INSERT,
+            1L,
+            "statement2",
+            "parameter2");
+    final var item3 =
+        new QueueItem(
+            ContextType.FLOW_NODE, WriteStatementType.UPDATE, 1L, "statement3", "parameter3");
+    final var item4 =
+        new QueueItem(
+            ContextType.FLOW_NODE, WriteStatementType.INSERT, 2L, "statement4", "parameter4");
+    executionQueue.executeInQueue(item1);
+    executionQueue.executeInQueue(item2);
+    executionQueue.executeInQueue(item3);
+    executionQueue.executeInQueue(item4);
+
+    final var result =
+        executionQueue.tryMergeWithExistingQueueItem(
+            new AppendingMerger(ContextType.FLOW_NODE, 1L));
+
+    assertThat(result).isTrue();
+    assertThat(executionQueue.getQueue())
+        .extracting(QueueItem::parameter)
+        .containsExactly("parameter1", "parameter2", "parameter3+", "parameter4");
+    verify(metrics).recordMergeLookup(eq(true), anyLong());
+    verify(metrics).recordMergedQueueItem(ContextType.FLOW_NODE, "statement3");
+  }
+
+  @Test
+  public void shouldNotMergeWithItemOfOtherContextType() {
+    executionQueue.executeInQueue(
+        new QueueItem(
+            ContextType.PROCESS_INSTANCE,
+            WriteStatementType.INSERT,
+            1L,
+            "statement1",
+            "parameter1"));
+
+    final var result =
+        executionQueue.tryMergeWithExistingQueueItem(
+            new AppendingMerger(ContextType.FLOW_NODE, 1L));
+
+    assertThat(result).isFalse();
+    assertThat(executionQueue.getQueue())
+        .extracting(QueueItem::parameter)
+        .containsExactly("parameter1");
+    verify(metrics).recordMergeLookup(eq(false), anyLong());
+  }
+
+  @Test
+  public void shouldNotMergeWithFlushedItems() {
+    executionQueue.executeInQueue(
+        new QueueItem(
+            ContextType.FLOW_NODE, WriteStatementType.INSERT, 1L, "statement1", "parameter1"));
+    executionQueue.flush();
+    executionQueue.executeInQueue(
+        new QueueItem(
+            ContextType.FLOW_NODE, WriteStatementType.INSERT, 2L, "statement2", "parameter2"));
+
+    assertThat(
+            executionQueue.tryMergeWithExistingQueueItem(
+                new AppendingMerger(ContextType.FLOW_NODE, 1L)))
+        .isFalse();
+    assertThat(
+            executionQueue.tryMergeWithExistingQueueItem(
+                new AppendingMerger(ContextType.FLOW_NODE, 2L)))
+        .isTrue();
+    assertThat(executionQueue.getQueue())
+        .extracting(QueueItem::parameter)
+        .containsExactly("parameter2+");
+  }
+
+  @Test
+  public void shouldNotExecuteFlushedItemsAgainIfPreFlushListenerTriggersFlush() {
+    // given -- a listener which adds an item, like the exporter position, filling the queue again
+    executionQueue = new DefaultExecutionQueue(sqlSessionFactory, 1, 1, 1, metrics);
+    final var positionItem =
+        new QueueItem(
+            ContextType.EXPORTER_POSITION,
+            WriteStatementType.UPDATE,
+            1L,
+            "positionStatement",
+            "positionParameter");
+    final var positionAdded = new AtomicBoolean();
+    executionQueue.registerPreFlushListener(
+        () -> {
+          if (positionAdded.compareAndSet(false, true)) {
+            executionQueue.executeInQueue(positionItem);
+          }
+        });
+
+    // when
+    executionQueue.executeInQueue(
+        new QueueItem(
+            ContextType.FLOW_NODE, WriteStatementType.INSERT, 1L, "statement1", "parameter1"));
+
+    // then
+    verify(session, times(1)).update("statement1", "parameter1");
+    verify(session, times(1)).update("positionStatement", "positionParameter");
+    assertThat(executionQueue.getQueue()).isEmpty();
+  }
+
+  @Test
+  public void shouldInsertConsecutiveRowsWithMultiRowStatement() {
+    // given
+    final var configuration = mock(Configuration.class);
+    when(sqlSessionFactory.getConfiguration()).thenReturn(configuration);
+    when(configuration.hasStatement("insertFlowNode" + "Batch")).thenReturn(true);
+    executionQueue = new DefaultExecutionQueue(sqlSessionFactory, 1, 0, 2, metrics);
+
+    executionQueue.executeInQueue(
+        new QueueItem(
+            ContextType.FLOW_NODE, WriteStatementType.INSERT, 1L, "insertFlowNode", "parameter1"));
+    executionQueue.executeInQueue(
+        new QueueItem(
+            ContextType.FLOW_NODE, WriteStatementType.INSERT, 2L, "insertFlowNode", "parameter2"));
+    executionQueue.executeInQueue(
+        new QueueItem(
+            ContextType.FLOW_NODE, WriteStatementType.INSERT, 3L, "insertFlowNode", "parameter3"));
+    executionQueue.executeInQueue(
+        new QueueItem(
+            ContextType.VARIABLE, WriteStatementType.INSERT, 4L, "insertVariable", "parameter4"));
+    executionQueue.executeInQueue(
+        new QueueItem(
+            ContextType.VARIABLE, WriteStatementType.INSERT, 5L, "insertVariable", "parameter5"));
+
+    // when
+    final var flushed = executionQueue.flush();
+
+    // then
+    assertThat(flushed).isEqualTo(5);
+    assertThat(executionQueue.getQueue()).isEmpty();
+    verify(session).update("insertFlowNodeBatch", List.of("parameter1", "parameter2"));
+    verify(session).update("insertFlowNode", "parameter3");
+    verify(session).update("insertVariable", "parameter4");
+    verify(session).update("insertVariable", "parameter5");
+    verify(session, never()).update(eq("insertVariableBatch"), any());
+  }
+
   @Test
   public void shouldSortQueueItemsDuringFlush() {
     executionQueue.executeInQueue(
@@ -322,4 +481,141 @@ class DefaultExecutionQueueTest {
     verify(session).update(eq("statement1"), any());
     verify(session).update(eq("statement3"), any());
   }
+
+  @Test
+  public void shouldFlushFullBufferOnFlusherThread() throws Exception {
+    // given
+    executionQueue = new DefaultExecutionQueue(sqlSessionFactory, 1, 2, 1, 1, metrics);
+    final var commitStarted = new CountDownLatch(1);
+    final var releaseCommit = new CountDownLatch(1);
+    final var commitThread = new AtomicReference<String>();
+    doAnswer(
+            invocation -> {
+              commitThread.set(Thread.currentThread().getName());
+              commitStarted.countDown();
+              releaseCommit.await();
+              return null;
+            })
+        .doNothing()
+        .when(session)
+        .commit();
+    final var postFlushListener = mock(PostFlushListener.class);
+    executionQueue.registerPostFlushListener(postFlushListener);
+
+    // when
+    executionQueue.executeInQueue(
+        new QueueItem(ContextType.PROCESS_INSTANCE, WriteStatementType.INSERT, 1L, "s1", "p1"));
+    executionQueue.executeInQueue(
+        new QueueItem(ContextType.PROCESS_INSTANCE, WriteStatementType.INSERT, 2L, "s2", "p2"));
+
+    // then - the exporter can fill the next buffer while the first one is committed
+    assertThat(commitStarted.await(10, TimeUnit.SECONDS)).isTrue();
+    assertThat(commitThread.get()).isEqualTo("rdbms-flusher-1");
+    assertThat(executionQueue.getQueue()).isEmpty();
+    executionQueue.executeInQueue(
+        new QueueItem(ContextType.PROCESS_INSTANCE, WriteStatementType.INSERT, 3L, "s3", "p3"));
+    assertThat(executionQueue.getQueue()).hasSize(1);
+    verify(postFlushListener, never()).onPostFlush();
+
+    // when
+    releaseCommit.countDown();
+    final int flushedItems = executionQueue.flush();
+
+    // then
+    assertThat(flushedItems).isEqualTo(1);
+    assertThat(executionQueue.getQueue()).isEmpty();
+    verify(session, times(2)).commit();
+    verify(postFlushListener, times(2)).onPostFlush();
+    executionQueue.close();
+  }
+
+  @Test
+  public void shouldCallPreFlushListenersBeforeHandingOverBuffer() {
+    // given
+    executionQueue = new DefaultExecutionQueue(sqlSessionFactory, 1, 0, 1, 1, metrics);
+    final var positionItem =
+        new QueueItem(
+            ContextType.EXPORTER_POSITION, WriteStatementType.UPDATE, 1L, "position", "p0");
+    executionQueue.registerPreFlushListener(() -> executionQueue.executeInQueue(positionItem));
+    executionQueue.executeInQueue(
+        new QueueItem(ContextType.PROCESS_INSTANCE, WriteStatementType.INSERT, 1L, "s1", "p1"));
+
+    // when
+    executionQueue.flush();
+
+    // then
+    verify(session).update("s1", "p1");
+    verify(session).update("position", "p0");
+    verify(session).commit();
+    assertThat(executionQueue.getQueue()).isEmpty();
+    executionQueue.close();
+  }
+
+  @Test
+  public void shouldFailFlushIfAsyncFlushFailed() {
+    // given
+    executionQueue = new DefaultExecutionQueue(sqlSessionFactory, 1, 0, 1, 1, metrics);
+    doThrow(new IllegalStateException("expected")).when(session).commit();
+    executionQueue.executeInQueue(
+        new QueueItem(ContextType.PROCESS_INSTANCE, WriteStatementType.INSERT, 1L, "s1", "p1"));
+
+    // when - then
+    assertThatThrownBy(() -> executionQueue.flush())
+        .isInstanceOf(IllegalStateException.class)
+        .hasRootCauseMessage("expected");
+    verify(session).rollback();
+    verify(metrics).recordFailedFlush();
+    executionQueue.close();
+  }
+
+  @Test
+  public void shouldFailToHandOverBufferWhileFlushIsFailing() {
+    // given - the only in-flight buffer fails to be committed
+    executionQueue = new DefaultExecutionQueue(sqlSessionFactory, 1, 0, 1, 1, metrics);
+    doThrow(new IllegalStateException("expected")).when(session).commit();
+    executionQueue.executeInQueue(
+        new QueueItem(ContextType.PROCESS_INSTANCE, WriteStatementType.INSERT, 1L, "s1", "p1"));
+    executionQueue.flushAsync();
+    final var item =
+        new QueueItem(ContextType.PROCESS_INSTANCE, WriteStatementType.INSERT, 2L, "s2", "p2");
+    executionQueue.executeInQueue(item);
+
+    // when - then - the exporter isn't blocked until the database is back
+    assertThatThrownBy(() -> executionQueue.flushAsync())
+        .isInstanceOf(IllegalStateException.class)
+        .hasRootCauseMessage("expected");
+    assertThat(executionQueue.getQueue()).containsExactly(item);
+    executionQueue.close();
+  }
+
+  @Test
+  public void shouldStopRetryingFailedFlushOnClose() {
+    // given
+    executionQueue = new DefaultExecutionQueue(sqlSessionFactory, 1, 0, 1, 1, metrics);
+    doThrow(new IllegalStateException("expected")).when(session).commit();
+    executionQueue.executeInQueue(
+        new QueueItem(ContextType.PROCESS_INSTANCE, WriteStatementType.INSERT, 1L, "s1", "p1"));
+    executionQueue.flushAsync();
+    verify(session, timeout(10_000)).commit();
+
+    // when
+    executionQueue.close();
+
+    // then - the buffer is retried a few more times without backoff, and then dropped
+    verify(session, atLeast(3)).commit();
+    verify(session, atMost(4)).commit();
+  }
+
+  private record AppendingMerger(ContextType contextType, Object id) implements QueueItemMerger {
+
+    @Override
+    public boolean canBeMerged(final QueueItem queueItem) {
+      return queueItem.contextType() == contextType && queueItem.id().equals(id);
+    }
+
+    @Override
+    public QueueItem merge(final QueueItem originalItem) {
+      return originalItem.copy(b -> b.parameter(originalItem.parameter() + "+"));
+    }
+  }
 }
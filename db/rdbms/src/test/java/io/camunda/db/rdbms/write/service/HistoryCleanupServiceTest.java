@@ -11,6 +11,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -66,18 +67,7 @@ class HistoryCleanupServiceTest {
     when(config.maxHistoryCleanupInterval()).thenReturn(Duration.ofDays(1));
     when(config.historyCleanupBatchSize()).thenReturn(100);
 
-    historyCleanupService =
-        new HistoryCleanupService(
-            config,
-            processInstanceWriter,
-            incidentWriter,
-            flowNodeInstanceWriter,
-            userTaskWriter,
-            variableInstanceWriter,
-            decisionInstanceWriter,
-            jobWriter,
-            sequenceFlowWriter,
-            mock(RdbmsWriterMetrics.class, Mockito.RETURNS_DEEP_STUBS));
+    historyCleanupService = createHistoryCleanupService();
   }
 
   @Test
@@ -173,4 +163,75 @@ class HistoryCleanupServiceTest {
     // then
     assertEquals(Duration.ofHours(4), nextDuration); // assuming minCleanupInterval is 1 hour
   }
+
+  @Test
+  void testCalculateNewBatchSizeWithoutTargetBatchDuration() {
+    // when
+    final int newBatchSize =
+        historyCleanupService.calculateNewBatchSize(100, 100, Duration.ofMinutes(1));
+
+    // then
+    assertEquals(100, newBatchSize);
+  }
+
+  @Test
+  void testCalculateNewBatchSizeWhenDeletingTookLongerThanTarget() {
+    // given
+    when(config.historyCleanupTargetBatchDuration()).thenReturn(Duration.ofSeconds(1));
+    historyCleanupService = createHistoryCleanupService();
+
+    // when - then
+    assertEquals(50, historyCleanupService.calculateNewBatchSize(100, 100, Duration.ofSeconds(2)));
+    assertEquals(50, historyCleanupService.calculateNewBatchSize(100, 10, Duration.ofSeconds(2)));
+    // a tenth of the configured batch size at minimum
+    assertEquals(10, historyCleanupService.calculateNewBatchSize(10, 10, Duration.ofSeconds(2)));
+  }
+
+  @Test
+  void testCalculateNewBatchSizeWhenFullBatchWasDeletedFast() {
+    // given
+    when(config.historyCleanupTargetBatchDuration()).thenReturn(Duration.ofSeconds(1));
+    historyCleanupService = createHistoryCleanupService();
+
+    // when - then
+    assertEquals(
+        200, historyCleanupService.calculateNewBatchSize(100, 100, Duration.ofMillis(100)));
+    assertEquals(100, historyCleanupService.calculateNewBatchSize(100, 50, Duration.ofMillis(100)));
+    assertEquals(
+        100, historyCleanupService.calculateNewBatchSize(100, 100, Duration.ofMillis(800)));
+    // ten times the configured batch size at maximum
+    assertEquals(
+        1000, historyCleanupService.calculateNewBatchSize(1000, 1000, Duration.ofMillis(100)));
+  }
+
+  @Test
+  void testCleanupHistoryWithAdaptedBatchSize() {
+    // given
+    when(config.historyCleanupTargetBatchDuration()).thenReturn(Duration.ofMinutes(1));
+    historyCleanupService = createHistoryCleanupService();
+    when(processInstanceWriter.cleanupHistory(anyInt(), any(), anyInt())).thenReturn(100);
+
+    // when
+    historyCleanupService.cleanupHistory(PARTITION_ID, CLEANUP_DATE);
+    historyCleanupService.cleanupHistory(PARTITION_ID, CLEANUP_DATE);
+
+    // then
+    verify(processInstanceWriter).cleanupHistory(PARTITION_ID, CLEANUP_DATE, 100);
+    verify(processInstanceWriter).cleanupHistory(PARTITION_ID, CLEANUP_DATE, 200);
+    verify(flowNodeInstanceWriter, times(2)).cleanupHistory(PARTITION_ID, CLEANUP_DATE, 100);
+  }
+
+  private HistoryCleanupService createHistoryCleanupService() {
+    return new HistoryCleanupService(
+        config,
+        processInstanceWriter,
+        incidentWriter,
+        flowNodeInstanceWriter,
+        userTaskWriter,
+        variableInstanceWriter,
+        decisionInstanceWriter,
+        jobWriter,
+        sequenceFlowWriter,
+        mock(RdbmsWriterMetrics.class, Mockito.RETURNS_DEEP_STUBS));
+  }
 }
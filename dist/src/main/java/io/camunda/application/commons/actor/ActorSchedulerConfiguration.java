@@ -43,12 +43,14 @@ public final class ActorSchedulerConfiguration {
     final var metricsEnabled = schedulerConfiguration.metricsEnabled();
     final var prefix = schedulerConfiguration.schedulerPrefix();
     final var nodeId = schedulerConfiguration.nodeId();
+    final var highPriorityWeight = schedulerConfiguration.highPriorityWeight();
 
     final var scheduler =
         ActorScheduler.newActorScheduler()
             .setActorClock(actorClockConfiguration.getClock().orElse(null))
             .setCpuBoundActorThreadCount(cpuThreads)
             .setIoBoundActorThreadCount(ioThreads)
+            .setHighPriorityWeight(highPriorityWeight)
             .setMeterRegistry(metricsEnabled ? registry : null)
             .setSchedulerName(String.format("%s-%s", prefix, nodeId))
             .setIdleStrategySupplier(idleStrategySupplier)
@@ -63,5 +65,6 @@ public final class ActorSchedulerConfiguration {
       int ioThreads,
       boolean metricsEnabled,
       String schedulerPrefix,
-      String nodeId) {}
+      String nodeId,
+      int highPriorityWeight) {}
 }
@@ -73,7 +73,9 @@ public class BrokerBasedConfiguration {
     final var ioThreads = threadCfg.getIoThreadCount();
     final var metricsEnabled = properties.getExperimental().getFeatures().isEnableActorMetrics();
     final var nodeId = String.valueOf(properties.getCluster().getNodeId());
-    return new SchedulerConfiguration(cpuThreads, ioThreads, metricsEnabled, "Broker", nodeId);
+    final var highPriorityWeight = threadCfg.getHighPriorityWeight();
+    return new SchedulerConfiguration(
+        cpuThreads, ioThreads, metricsEnabled, "Broker", nodeId, highPriorityWeight);
   }
 
   @ConditionalOnRestGatewayEnabled
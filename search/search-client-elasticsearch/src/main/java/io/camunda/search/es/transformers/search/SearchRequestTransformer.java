@@ -12,6 +12,7 @@ import co.elastic.clients.elasticsearch._types.SortOptions;
 import co.elastic.clients.elasticsearch.core.SearchRequest;
 import co.elastic.clients.elasticsearch.core.SearchRequest.Builder;
 import co.elastic.clients.elasticsearch.core.search.SourceConfig;
+import co.elastic.clients.elasticsearch.core.search.TrackHits;
 import co.elastic.clients.json.JsonData;
 import io.camunda.search.clients.core.SearchQueryRequest;
 import io.camunda.search.clients.source.SearchSourceConfig;
@@ -43,6 +44,11 @@ public final class SearchRequestTransformer
     final var builder =
         new SearchRequest.Builder().index(value.index()).from(value.from()).size(value.size());
 
+    final var trackTotalHitsUpTo = value.trackTotalHitsUpTo();
+    if (trackTotalHitsUpTo != null) {
+      builder.trackTotalHits(of(trackTotalHitsUpTo.intValue()));
+    }
+
     if (searchQuery != null) {
       final var queryTransformer = getQueryTransformer();
       final var transformedQuery = queryTransformer.apply(searchQuery);
@@ -87,6 +93,13 @@ public final class SearchRequestTransformer
     return values.stream().map(sortTransformer::apply).collect(Collectors.toList());
   }
 
+  private TrackHits of(final int trackTotalHitsUpTo) {
+    if (trackTotalHitsUpTo == 0) {
+      return TrackHits.of(t -> t.enabled(false));
+    }
+    return TrackHits.of(t -> t.count(trackTotalHitsUpTo));
+  }
+
   private SourceConfig of(final SearchSourceConfig value) {
     final var sourceTransformer = getSourceConfigTransformer();
     return sourceTransformer.apply(value);
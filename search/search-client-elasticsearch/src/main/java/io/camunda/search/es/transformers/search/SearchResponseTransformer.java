@@ -11,6 +11,7 @@ import co.elastic.clients.elasticsearch._types.aggregations.Aggregate;
 import co.elastic.clients.elasticsearch.core.SearchResponse;
 import co.elastic.clients.elasticsearch.core.search.Hit;
 import co.elastic.clients.elasticsearch.core.search.TotalHits;
+import co.elastic.clients.elasticsearch.core.search.TotalHitsRelation;
 import io.camunda.search.clients.core.AggregationResult;
 import io.camunda.search.clients.core.SearchQueryHit;
 import io.camunda.search.clients.core.SearchQueryResponse;
@@ -39,11 +40,13 @@ public final class SearchResponseTransformer<T>
     final var totalHits = of(total);
 
     final var sourceHits = hits.hits();
+    final var hasMoreTotalHits = hasMoreTotalHits(total, sourceHits);
     final var transformedHits = of(sourceHits);
     final var transformedAggregations = of(aggregations);
 
     return new SearchQueryResponse.Builder<T>()
         .totalHits(totalHits)
+        .hasMoreTotalHits(hasMoreTotalHits)
         .scrollId(scrollId)
         .hits(transformedHits)
         .aggregations(transformedAggregations)
@@ -71,4 +74,13 @@ public final class SearchResponseTransformer<T>
     }
     return 0;
   }
+
+  private boolean hasMoreTotalHits(final TotalHits totalHits, final List<Hit<T>> hits) {
+    if (totalHits != null) {
+      // the total hits are a lower bound if the counting stopped at the tracked limit
+      return totalHits.relation() == TotalHitsRelation.Gte;
+    }
+    // the total hits are not tracked, so any hit is more than the total of 0
+    return hits != null && !hits.isEmpty();
+  }
 }
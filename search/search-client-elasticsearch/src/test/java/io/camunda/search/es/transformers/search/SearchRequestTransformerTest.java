@@ -111,6 +111,14 @@ public class SearchRequestTransformerTest {
         Arguments.arguments(
             SearchQueryRequest.of(b -> b.index("operate-list-view-8.3.0_").from(1).size(10)),
             "{'from':1,'size':10}"),
+        // WITH TRACK TOTAL HITS UP TO
+        Arguments.arguments(
+            SearchQueryRequest.of(b -> b.index("operate-list-view-8.3.0_").trackTotalHitsUpTo(100)),
+            "{'track_total_hits':100}"),
+        // WITHOUT TRACKING TOTAL HITS
+        Arguments.arguments(
+            SearchQueryRequest.of(b -> b.index("operate-list-view-8.3.0_").trackTotalHitsUpTo(0)),
+            "{'track_total_hits':false}"),
         // WITH SORT
         Arguments.arguments(
             SearchQueryRequest.of(
@@ -20,6 +20,7 @@ import org.opensearch.client.opensearch._types.SortOptions;
 import org.opensearch.client.opensearch.core.SearchRequest;
 import org.opensearch.client.opensearch.core.SearchRequest.Builder;
 import org.opensearch.client.opensearch.core.search.SourceConfig;
+import org.opensearch.client.opensearch.core.search.TrackHits;
 
 public final class SearchRequestTransformer
     extends OpensearchTransformer<SearchQueryRequest, SearchRequest> {
@@ -40,6 +41,11 @@ public final class SearchRequestTransformer
 
     final var builder = new Builder().index(value.index()).from(value.from()).size(value.size());
 
+    final var trackTotalHitsUpTo = value.trackTotalHitsUpTo();
+    if (trackTotalHitsUpTo != null) {
+      builder.trackTotalHits(of(trackTotalHitsUpTo.intValue()));
+    }
+
     if (searchQuery != null) {
       final var queryTransformer = getQueryTransformer();
       final var transformedQuery = queryTransformer.apply(searchQuery);
@@ -88,6 +94,13 @@ public final class SearchRequestTransformer
     return Arrays.asList(values).stream().map(Object::toString).collect(Collectors.toList());
   }
 
+  private TrackHits of(final int trackTotalHitsUpTo) {
+    if (trackTotalHitsUpTo == 0) {
+      return new TrackHits.Builder().enabled(false).build();
+    }
+    return new TrackHits.Builder().count(trackTotalHitsUpTo).build();
+  }
+
   private SourceConfig of(final SearchSourceConfig value) {
     final var sourceTransformer = getSourceConfigTransformer();
     return sourceTransformer.apply(value);
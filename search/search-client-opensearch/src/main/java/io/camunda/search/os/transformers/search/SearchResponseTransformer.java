@@ -21,6 +21,7 @@ import org.opensearch.client.opensearch._types.aggregations.Aggregate;
 import org.opensearch.client.opensearch.core.SearchResponse;
 import org.opensearch.client.opensearch.core.search.Hit;
 import org.opensearch.client.opensearch.core.search.TotalHits;
+import org.opensearch.client.opensearch.core.search.TotalHitsRelation;
 
 public final class SearchResponseTransformer<T>
     extends OpensearchTransformer<SearchResponse<T>, SearchQueryResponse<T>> {
@@ -39,11 +40,13 @@ public final class SearchResponseTransformer<T>
     final var totalHits = of(total);
 
     final var sourceHits = hits.hits();
+    final var hasMoreTotalHits = hasMoreTotalHits(total, sourceHits);
     final var transformedHits = of(sourceHits);
     final var transformedAggregations = of(aggregations);
 
     return new SearchQueryResponse.Builder<T>()
         .totalHits(totalHits)
+        .hasMoreTotalHits(hasMoreTotalHits)
         .scrollId(scrollId)
         .hits(transformedHits)
         .aggregations(transformedAggregations)
@@ -71,4 +74,13 @@ public final class SearchResponseTransformer<T>
     }
     return 0;
   }
+
+  private boolean hasMoreTotalHits(final TotalHits totalHits, final List<Hit<T>> hits) {
+    if (totalHits != null) {
+      // the total hits are a lower bound if the counting stopped at the tracked limit
+      return totalHits.relation() == TotalHitsRelation.Gte;
+    }
+    // the total hits are not tracked, so any hit is more than the total of 0
+    return hits != null && !hits.isEmpty();
+  }
 }
@@ -8,6 +8,7 @@
 package io.camunda.search.os.clients;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -79,6 +80,36 @@ public class OpensearchDataStoreClientTest {
     // then
     assertThat(response).isNotNull();
     assertThat(response.totalHits()).isEqualTo(789);
+    assertThat(response.hasMoreTotalHits()).isFalse();
+  }
+
+  @Test
+  public void shouldTransformSearchResponseWithTotalHitsLimit() throws IOException {
+    // given
+    final SearchResponse<TestDocument> searchResponse =
+        SearchResponse.searchResponseOf(
+            (f) ->
+                f.took(122)
+                    .hits(
+                        HitsMetadata.of(
+                            (m) ->
+                                m.hits(new ArrayList<>())
+                                    .total((t) -> t.value(100).relation(TotalHitsRelation.Gte))))
+                    .shards((s) -> s.failed(0).successful(100).total(100))
+                    .timedOut(false));
+    when(client.search(any(SearchRequest.class), eq(TestDocument.class)))
+        .thenReturn(searchResponse);
+
+    final SearchQueryRequest request =
+        SearchQueryRequest.of(
+            b -> b.index("operate-list-view-8.3.0_").size(1).trackTotalHitsUpTo(100));
+
+    // when
+    final var response = searchClient.search(request, TestDocument.class);
+
+    // then
+    assertThat(response.totalHits()).isEqualTo(100);
+    assertThat(response.hasMoreTotalHits()).isTrue();
   }
 
   @Test
@@ -31,6 +31,7 @@ public record SearchQueryRequest(
     Object[] searchAfter,
     Integer from,
     Integer size,
+    Integer trackTotalHitsUpTo,
     SearchSourceConfig source) {
 
   public static SearchQueryRequest of(
@@ -47,6 +48,7 @@ public record SearchQueryRequest(
         .searchAfter(searchAfter)
         .from(from)
         .size(size)
+        .trackTotalHitsUpTo(trackTotalHitsUpTo)
         .source(source);
   }
 
@@ -59,6 +61,7 @@ public record SearchQueryRequest(
     private Object[] searchAfter;
     private Integer from;
     private Integer size;
+    private Integer trackTotalHitsUpTo;
     private SearchSourceConfig source;
 
     public Builder index(final List<String> values) {
@@ -108,6 +111,15 @@ public record SearchQueryRequest(
       return this;
     }
 
+    /**
+     * Limits the counting of the total hits to the given number, or disables it if 0. If not set,
+     * the default of the search engine applies.
+     */
+    public Builder trackTotalHitsUpTo(final Integer value) {
+      trackTotalHitsUpTo = value;
+      return this;
+    }
+
     public Builder source(final SearchSourceConfig value) {
       source = value;
       return this;
@@ -138,6 +150,7 @@ public record SearchQueryRequest(
           searchAfter,
           from,
           size,
+          trackTotalHitsUpTo,
           source);
     }
   }
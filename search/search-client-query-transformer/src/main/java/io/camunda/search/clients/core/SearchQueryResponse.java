@@ -16,6 +16,7 @@ import java.util.function.Function;
 
 public record SearchQueryResponse<T>(
     long totalHits,
+    boolean hasMoreTotalHits,
     String scrollId,
     List<SearchQueryHit<T>> hits,
     Map<String, AggregationResult> aggregations) {
@@ -28,6 +29,7 @@ public record SearchQueryResponse<T>(
   public static final class Builder<T> implements ObjectBuilder<SearchQueryResponse<T>> {
 
     private long totalHits;
+    private boolean hasMoreTotalHits;
     private String scrollId;
     private List<SearchQueryHit<T>> hits;
     private Map<String, AggregationResult> aggregations;
@@ -37,6 +39,11 @@ public record SearchQueryResponse<T>(
       return this;
     }
 
+    public Builder<T> hasMoreTotalHits(final boolean value) {
+      hasMoreTotalHits = value;
+      return this;
+    }
+
     public Builder<T> scrollId(final String value) {
       scrollId = value;
       return this;
@@ -56,6 +63,7 @@ public record SearchQueryResponse<T>(
     public SearchQueryResponse<T> build() {
       return new SearchQueryResponse<T>(
           totalHits,
+          hasMoreTotalHits,
           scrollId,
           Objects.requireNonNullElse(hits, Collections.emptyList()),
           aggregations);
@@ -51,6 +51,7 @@ public final class SearchQueryResultTransformer<T, R> {
 
     return new Builder<R>()
         .total(value.totalHits())
+        .hasMoreTotalItems(value.hasMoreTotalHits())
         .firstSortValues(firstSortValues)
         .lastSortValues(lastSortValues)
         .items(items.stream().map(documentToEntityMapper::apply).toList())
@@ -48,7 +48,12 @@ public class TypedSearchQueryTransformer<F extends FilterBase, S extends SortOpt
     final var reverse = !page.isNextPage();
 
     final var builder =
-        searchRequest().index(indices).query(searchQueryFilter).from(page.from()).size(page.size());
+        searchRequest()
+            .index(indices)
+            .query(searchQueryFilter)
+            .from(page.from())
+            .size(page.size())
+            .trackTotalHitsUpTo(page.totalHitsLimit());
 
     final var sort = query.sort();
     if (!(sort instanceof NoSort)) {
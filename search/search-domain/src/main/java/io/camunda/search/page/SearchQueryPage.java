@@ -10,15 +10,23 @@ package io.camunda.search.page;
 import io.camunda.util.ObjectBuilder;
 import java.util.function.Function;
 
+/**
+ * @param totalHitsLimit the maximum number of matching items to count for the total of the result;
+ *     0 to skip counting, null to count all matching items
+ */
 public record SearchQueryPage(
-    Integer from, Integer size, Object[] searchAfter, Object[] searchBefore) {
+    Integer from,
+    Integer size,
+    Object[] searchAfter,
+    Object[] searchBefore,
+    Integer totalHitsLimit) {
 
   public static final Integer DEFAULT_FROM = 0;
   public static final Integer DEFAULT_SIZE = 100;
 
   public static final SearchQueryPage DEFAULT = new Builder().build();
   public static final SearchQueryPage NO_ENTITIES_QUERY =
-      new SearchQueryPage(0, 0, new Object[] {}, new Object[] {});
+      new SearchQueryPage(0, 0, new Object[] {}, new Object[] {}, null);
 
   public boolean isNextPage() {
     return searchAfter != null || !isPreviousPage();
@@ -43,6 +51,7 @@ public record SearchQueryPage(
         .size(size)
         .searchAfter(searchAfter)
         .searchBefore(searchBefore)
+        .totalHitsLimit(totalHitsLimit)
         .build();
   }
 
@@ -56,6 +65,7 @@ public record SearchQueryPage(
     private Integer size = DEFAULT_SIZE;
     private Object[] searchAfter;
     private Object[] searchBefore;
+    private Integer totalHitsLimit;
 
     public Builder from(final Integer value) {
       from = value;
@@ -77,11 +87,19 @@ public record SearchQueryPage(
       return this;
     }
 
+    public Builder totalHitsLimit(final Integer value) {
+      totalHitsLimit = value;
+      return this;
+    }
+
     @Override
     public SearchQueryPage build() {
       final var sanitizedFrom = (from == null) ? DEFAULT_FROM : Math.max(0, from);
       final var sanitizedSize = (size == null) ? DEFAULT_SIZE : Math.max(0, size);
-      return new SearchQueryPage(sanitizedFrom, sanitizedSize, searchAfter, searchBefore);
+      final var sanitizedTotalHitsLimit =
+          (totalHitsLimit == null) ? null : Math.max(0, totalHitsLimit);
+      return new SearchQueryPage(
+          sanitizedFrom, sanitizedSize, searchAfter, searchBefore, sanitizedTotalHitsLimit);
     }
   }
 }
@@ -12,8 +12,24 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
+/**
+ * @param hasMoreTotalItems true if more items match than the {@code total}, because counting
+ *     stopped at the {@link io.camunda.search.page.SearchQueryPage#totalHitsLimit()}
+ */
 public record SearchQueryResult<T>(
-    long total, List<T> items, Object[] firstSortValues, Object[] lastSortValues) {
+    long total,
+    boolean hasMoreTotalItems,
+    List<T> items,
+    Object[] firstSortValues,
+    Object[] lastSortValues) {
+
+  public SearchQueryResult(
+      final long total,
+      final List<T> items,
+      final Object[] firstSortValues,
+      final Object[] lastSortValues) {
+    this(total, false, items, firstSortValues, lastSortValues);
+  }
 
   public static <T> SearchQueryResult<T> empty() {
     return new SearchQueryResult<>(0, Collections.emptyList(), null, null);
@@ -22,6 +38,7 @@ public record SearchQueryResult<T>(
   public static final class Builder<T> implements ObjectBuilder<SearchQueryResult<T>> {
 
     private long total;
+    private boolean hasMoreTotalItems;
     private List<T> items;
     private Object[] firstSortValues;
     private Object[] lastSortValues;
@@ -31,6 +48,11 @@ public record SearchQueryResult<T>(
       return this;
     }
 
+    public Builder<T> hasMoreTotalItems(final boolean value) {
+      hasMoreTotalItems = value;
+      return this;
+    }
+
     public Builder<T> items(final List<T> values) {
       items = values;
       return this;
@@ -50,6 +72,7 @@ public record SearchQueryResult<T>(
     public SearchQueryResult<T> build() {
       return new SearchQueryResult<T>(
           total,
+          hasMoreTotalItems,
           Objects.requireNonNullElse(items, Collections.emptyList()),
           firstSortValues,
           lastSortValues);
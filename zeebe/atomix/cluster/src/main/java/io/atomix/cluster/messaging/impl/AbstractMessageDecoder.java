@@ -27,6 +27,14 @@ import org.slf4j.LoggerFactory;
 abstract class AbstractMessageDecoder extends ByteToMessageDecoder {
 
   static final byte[] EMPTY_PAYLOAD = new byte[0];
+
+  /**
+   * Upper bound of the content which is reserved up front, matching the default maximum message
+   * size. The content length is declared by the sender, so it must not decide alone how much memory
+   * is allocated; the content of larger messages is received by growing the buffer as before.
+   */
+  static final int MAX_CONTENT_RESERVATION = 4 * 1024 * 1024;
+
   private static final Escape ESCAPE = new Escape();
   private final Logger log = LoggerFactory.getLogger(getClass());
 
@@ -243,6 +251,23 @@ abstract class AbstractMessageDecoder extends ByteToMessageDecoder {
     }
   }
 
+  /**
+   * Makes sure that the cumulation buffer has enough capacity for the rest of the content. Without
+   * it, the buffer is grown step by step while the fragments of a large message (e.g. a snapshot
+   * chunk) arrive, copying the already received bytes each time. At most {@link
+   * #MAX_CONTENT_RESERVATION} bytes of content are reserved.
+   *
+   * @param buffer the cumulation buffer, positioned at the start of the content
+   * @param contentLength the length of the content, as declared by the sender
+   */
+  static void reserveContent(final ByteBuf buffer, final int contentLength) {
+    final int remainingBytes =
+        Math.min(contentLength, MAX_CONTENT_RESERVATION) - buffer.readableBytes();
+    if (remainingBytes > buffer.writableBytes() && !buffer.isReadOnly()) {
+      buffer.ensureWritable(remainingBytes, false);
+    }
+  }
+
   @Override
   public void exceptionCaught(final ChannelHandlerContext context, final Throwable cause) {
     try {
@@ -30,6 +30,9 @@ abstract class AbstractMessageEncoder extends MessageToByteEncoder<Object> {
   // Effectively MessageToByteEncoder<InternalMessage>,
   // had to specify <Object> to avoid Class Loader not being able to find some classes.
 
+  private static final int MAX_VARINT_LENGTH = 5;
+  private static final int MAX_VARLONG_LENGTH = 9;
+
   protected final Address address;
   private final Logger log = LoggerFactory.getLogger(getClass());
   private boolean addressWritten;
@@ -39,6 +42,8 @@ abstract class AbstractMessageEncoder extends MessageToByteEncoder<Object> {
     this.address = address;
   }
 
+  protected abstract int maxAddressLength();
+
   protected abstract void encodeAddress(ProtocolMessage message, ByteBuf buffer);
 
   protected abstract void encodeMessage(ProtocolMessage message, ByteBuf buffer);
@@ -48,14 +53,14 @@ abstract class AbstractMessageEncoder extends MessageToByteEncoder<Object> {
   protected abstract void encodeReply(ProtocolReply reply, ByteBuf out);
 
   static void writeString(final ByteBuf buffer, final String value) {
-    final ByteBuf buf = buffer.alloc().buffer(ByteBufUtil.utf8MaxBytes(value));
-    try {
-      final int length = ByteBufUtil.writeUtf8(buf, value);
-      buffer.writeShort(length);
-      buffer.writeBytes(buf);
-    } finally {
-      buf.release();
-    }
+    final int lengthIndex = buffer.writerIndex();
+    buffer.writeShort(0);
+    final int length = ByteBufUtil.writeUtf8(buffer, value);
+    buffer.setShort(lengthIndex, length);
+  }
+
+  static int maxStringLength(final String value) {
+    return Short.BYTES + ByteBufUtil.utf8MaxBytes(value);
   }
 
   static void writeInt(final ByteBuf buf, final int value) {
@@ -159,6 +164,28 @@ abstract class AbstractMessageEncoder extends MessageToByteEncoder<Object> {
     return msg instanceof ProtocolMessage;
   }
 
+  /**
+   * Allocates a buffer which is large enough for the whole message. The default buffer of {@link
+   * MessageToByteEncoder} starts small and is grown while the payload is written, which copies the
+   * already written bytes each time for large payloads.
+   */
+  @Override
+  protected ByteBuf allocateBuffer(
+      final ChannelHandlerContext context, final Object rawMessage, final boolean preferDirect) {
+    final ProtocolMessage message = (ProtocolMessage) rawMessage;
+    int capacity = Byte.BYTES + MAX_VARLONG_LENGTH + MAX_VARINT_LENGTH + message.payload().length;
+    if (!addressWritten) {
+      capacity += maxAddressLength();
+    }
+    if (message instanceof final ProtocolRequest request) {
+      capacity += maxStringLength(request.subject());
+    } else {
+      capacity += Byte.BYTES;
+    }
+
+    return preferDirect ? context.alloc().ioBuffer(capacity) : context.alloc().heapBuffer(capacity);
+  }
+
   @Override
   protected void encode(
       final ChannelHandlerContext context, final Object rawMessage, final ByteBuf out) {
@@ -88,6 +88,7 @@ class MessageDecoderV1 extends AbstractMessageDecoder {
         currentState = DecoderState.READ_CONTENT;
       case READ_CONTENT:
         if (buffer.readableBytes() < contentLength) {
+          reserveContent(buffer, contentLength);
           return;
         }
         if (contentLength > 0) {
@@ -85,6 +85,7 @@ class MessageDecoderV2 extends AbstractMessageDecoder {
         currentState = DecoderState.READ_CONTENT;
       case READ_CONTENT:
         if (buffer.readableBytes() < contentLength) {
+          reserveContent(buffer, contentLength);
           return;
         }
         if (contentLength > 0) {
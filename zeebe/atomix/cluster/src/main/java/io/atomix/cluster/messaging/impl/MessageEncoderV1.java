@@ -22,10 +22,18 @@ import java.net.InetAddress;
 
 /** V1 message encoder. */
 class MessageEncoderV1 extends AbstractMessageEncoder {
+  private static final int MAX_IP_ADDRESS_LENGTH = 16;
+
   MessageEncoderV1(final Address address) {
     super(address);
   }
 
+  @Override
+  protected int maxAddressLength() {
+    // length prefix, IPv6 address and port
+    return Byte.BYTES + MAX_IP_ADDRESS_LENGTH + Integer.BYTES;
+  }
+
   @Override
   protected void encodeAddress(final ProtocolMessage message, final ByteBuf buffer) {
     final InetAddress senderIp = address.tryResolveAddress();
@@ -25,6 +25,11 @@ class MessageEncoderV2 extends MessageEncoderV1 {
     super(address);
   }
 
+  @Override
+  protected int maxAddressLength() {
+    return maxStringLength(address.host()) + Integer.BYTES;
+  }
+
   @Override
   protected void encodeAddress(final ProtocolMessage message, final ByteBuf buffer) {
     writeString(buffer, address.host());
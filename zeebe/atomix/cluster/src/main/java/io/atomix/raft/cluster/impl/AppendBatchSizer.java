@@ -0,0 +1,73 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.cluster.impl;
+
+/**
+ * Sizes the append requests sent to a single member, between the configured batch size and an upper
+ * bound.
+ *
+ * <p>While a member is lagging behind, every acknowledged batch doubles the size of the following
+ * ones, such that the member catches up with fewer round trips. The lowest observed round trip time
+ * serves as a baseline: when a round trip takes more than twice as long, the requests are queueing
+ * up on the way to the member, and the size is halved again. Once the member has caught up, or an
+ * append failed, the size falls back to the configured batch size.
+ *
+ * <p>If the upper bound is not larger than the configured batch size, the size never changes.
+ */
+final class AppendBatchSizer {
+
+  private static final int CONGESTION_FACTOR = 2;
+
+  private final int minBatchSize;
+  private final int maxBatchSize;
+  private int batchSize;
+  private long minRoundTripTime = Long.MAX_VALUE;
+
+  AppendBatchSizer(final int minBatchSize, final int maxBatchSize) {
+    this.minBatchSize = minBatchSize;
+    this.maxBatchSize = Math.max(minBatchSize, maxBatchSize);
+    batchSize = minBatchSize;
+  }
+
+  /**
+   * @return the maximum size in bytes of the next append request
+   */
+  int batchSize() {
+    return batchSize;
+  }
+
+  /**
+   * Adapts the batch size after an append request with entries was acknowledged.
+   *
+   * @param roundTripTime the time in milliseconds between sending the request and receiving its
+   *     response
+   * @param lagging whether the member is still lagging behind after this request
+   */
+  void onAppendAcknowledged(final long roundTripTime, final boolean lagging) {
+    minRoundTripTime = Math.min(minRoundTripTime, roundTripTime);
+
+    if (!lagging) {
+      batchSize = minBatchSize;
+    } else if (roundTripTime > CONGESTION_FACTOR * Math.max(1, minRoundTripTime)) {
+      batchSize = Math.max(minBatchSize, batchSize / 2);
+    } else {
+      batchSize = (int) Math.min(maxBatchSize, 2L * batchSize);
+    }
+  }
+
+  /** Falls back to the configured batch size after an append request failed. */
+  void onAppendFailed() {
+    batchSize = minBatchSize;
+  }
+
+  /** Resets the batch size and forgets about the observed round trip times. */
+  void reset() {
+    batchSize = minBatchSize;
+    minRoundTripTime = Long.MAX_VALUE;
+  }
+}
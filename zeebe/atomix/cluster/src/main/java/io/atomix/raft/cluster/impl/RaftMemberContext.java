@@ -33,6 +33,7 @@ public final class RaftMemberContext {
   private static final int APPEND_WINDOW_SIZE = 8;
   private final DefaultRaftMember member;
   private final int maxAppendsPerMember;
+  private final AppendBatchSizer appendBatchSizer;
   private boolean open = true;
   private long term;
   private long configIndex;
@@ -46,6 +47,7 @@ public final class RaftMemberContext {
   private boolean appendSucceeded;
   private boolean configuring;
   private boolean installing;
+  private boolean versionedInstallSupported = true;
   private int failures;
   private long failureTime;
   private volatile RaftLogReader reader;
@@ -55,9 +57,12 @@ public final class RaftMemberContext {
   RaftMemberContext(
       final DefaultRaftMember member,
       final RaftClusterContext cluster,
-      final int maxAppendsPerMember) {
+      final int maxAppendsPerMember,
+      final int maxAppendBatchSize,
+      final int maxAdaptiveAppendBatchSize) {
     this.member = checkNotNull(member, "member cannot be null").setCluster(cluster);
     this.maxAppendsPerMember = maxAppendsPerMember;
+    appendBatchSizer = new AppendBatchSizer(maxAppendBatchSize, maxAdaptiveAppendBatchSize);
   }
 
   /** Resets the member state. */
@@ -71,9 +76,11 @@ public final class RaftMemberContext {
     inFlightAppendCount = 0;
     configuring = false;
     installing = false;
+    versionedInstallSupported = true;
     appendSucceeded = false;
     failures = 0;
     failureTime = 0;
+    appendBatchSizer.reset();
 
     if (reader != null) {
       closeReader();
@@ -176,6 +183,28 @@ public final class RaftMemberContext {
   /** Flags the last append to the member is failed. */
   public void appendFailed() {
     appendSucceeded(false);
+    appendBatchSizer.onAppendFailed();
+  }
+
+  /**
+   * Returns the maximum size in bytes of the next append request to the member. This adapts to how
+   * far the member lags behind and to the round trip time of its appends.
+   *
+   * @return the maximum size of the next append request
+   */
+  public int getAppendBatchSize() {
+    return appendBatchSizer.batchSize();
+  }
+
+  /**
+   * Records that the member acknowledged an append request with entries.
+   *
+   * @param roundTripTime the time in milliseconds between sending the request and receiving its
+   *     response
+   * @param lagging whether the member is still lagging behind after this request
+   */
+  public void appendAcknowledged(final long roundTripTime, final boolean lagging) {
+    appendBatchSizer.onAppendAcknowledged(roundTripTime, lagging);
   }
 
   /** Starts an append request to the member. */
@@ -226,12 +255,33 @@ public final class RaftMemberContext {
     installing = false;
   }
 
+  /**
+   * Returns a boolean indicating whether the member handles versioned install requests, i.e. can
+   * reuse the files of its own snapshot.
+   *
+   * @return Indicates whether versioned install requests can be sent to the member.
+   */
+  public boolean isVersionedInstallSupported() {
+    return versionedInstallSupported;
+  }
+
+  /**
+   * Sets whether the member handles versioned install requests. Members of an older version don't
+   * and only receive plain install requests then.
+   *
+   * @param versionedInstallSupported whether versioned install requests can be sent to the member
+   */
+  public void setVersionedInstallSupported(final boolean versionedInstallSupported) {
+    this.versionedInstallSupported = versionedInstallSupported;
+  }
+
   /**
    * Increments the member failure count.
    *
    * @return The member state.
    */
   public int incrementFailureCount() {
+    appendBatchSizer.onAppendFailed();
     if (failures++ == 0) {
       failureTime = System.currentTimeMillis();
     }
@@ -257,6 +307,7 @@ public final class RaftMemberContext {
         .add("heartbeatTime", heartbeatTime)
         .add("appending", inFlightAppendCount)
         .add("appendSucceeded", appendSucceeded)
+        .add("appendBatchSize", appendBatchSizer.batchSize())
         .add("configuring", configuring)
         .add("installing", installing)
         .add("failures", failures)
@@ -35,6 +35,7 @@ public class RaftPartitionConfig {
   private Duration heartbeatInterval = DEFAULT_HEARTBEAT_INTERVAL;
   private int maxAppendsPerFollower = 2;
   private int maxAppendBatchSize = 32 * 1024;
+  private int maxAdaptiveAppendBatchSize = 0;
   private boolean priorityElectionEnabled = DEFAULT_PRIORITY_ELECTION;
   private Duration requestTimeout = DEFAULT_REQUEST_TIMEOUT;
   private Duration snapshotRequestTimeout = DEFAULT_SNAPSHOT_REQUEST_TIMEOUT;
@@ -102,6 +103,21 @@ public class RaftPartitionConfig {
     this.maxAppendBatchSize = maxAppendBatchSize;
   }
 
+  public int getMaxAdaptiveAppendBatchSize() {
+    return maxAdaptiveAppendBatchSize;
+  }
+
+  /**
+   * Sets the upper bound up to which the size of append requests grows while a follower is lagging
+   * behind. If it is not larger than the max append batch size, the size of append requests is not
+   * adapted.
+   *
+   * @param maxAdaptiveAppendBatchSize the upper bound of the append request size in bytes
+   */
+  public void setMaxAdaptiveAppendBatchSize(final int maxAdaptiveAppendBatchSize) {
+    this.maxAdaptiveAppendBatchSize = maxAdaptiveAppendBatchSize;
+  }
+
   public boolean isPriorityElectionEnabled() {
     return priorityElectionEnabled;
   }
@@ -220,6 +236,8 @@ public class RaftPartitionConfig {
         + maxAppendsPerFollower
         + ", maxAppendBatchSize="
         + maxAppendBatchSize
+        + ", maxAdaptiveAppendBatchSize="
+        + maxAdaptiveAppendBatchSize
         + ", priorityElectionEnabled="
         + priorityElectionEnabled
         + ", requestTimeout="
@@ -30,12 +30,14 @@ public class RaftStorageConfig {
   private static final int DEFAULT_JOURNAL_INDEX_DENSITY = 100;
 
   private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+  private static final boolean DEFAULT_PERSIST_JOURNAL_INDEX = false;
 
   private long segmentSize = DEFAULT_MAX_SEGMENT_SIZE;
   private RaftLogFlusher.Factory flusherFactory = DEFAULT_FLUSHER_FACTORY;
   private long freeDiskSpace = DEFAULT_FREE_DISK_SPACE;
   private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
   private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+  private boolean persistJournalIndex = DEFAULT_PERSIST_JOURNAL_INDEX;
 
   /**
    * Returns the Raft log segment size.
@@ -125,6 +127,23 @@ public class RaftStorageConfig {
     this.preallocateSegmentFiles = preallocateSegmentFiles;
   }
 
+  /**
+   * @return true to persist the journal index of full segments, false otherwise
+   */
+  public boolean isPersistJournalIndex() {
+    return persistJournalIndex;
+  }
+
+  /**
+   * Sets whether the journal index of full segments is persisted next to them. If true, the index
+   * is restored from these files when the log is opened, instead of being rebuilt on demand.
+   *
+   * @param persistJournalIndex true to persist the journal index, false otherwise
+   */
+  public void setPersistJournalIndex(final boolean persistJournalIndex) {
+    this.persistJournalIndex = persistJournalIndex;
+  }
+
   @Override
   public String toString() {
     return "RaftStorageConfig{"
@@ -138,6 +157,8 @@ public class RaftStorageConfig {
         + journalIndexDensity
         + ", preallocateSegmentFiles="
         + preallocateSegmentFiles
+        + ", persistJournalIndex="
+        + persistJournalIndex
         + '}';
   }
 }
@@ -43,6 +43,8 @@ import io.atomix.raft.protocol.ReplicatableJournalRecord;
 import io.atomix.raft.protocol.TransferRequest;
 import io.atomix.raft.protocol.TransferResponse;
 import io.atomix.raft.protocol.VersionedAppendRequest;
+import io.atomix.raft.protocol.VersionedInstallRequest;
+import io.atomix.raft.protocol.VersionedInstallResponse;
 import io.atomix.raft.protocol.VoteRequest;
 import io.atomix.raft.protocol.VoteResponse;
 import io.atomix.utils.serializer.Namespace;
@@ -98,6 +100,8 @@ public final class RaftNamespaces {
           .register(LeaveResponse.class)
           .register(ForceConfigureRequest.class)
           .register(ForceConfigureResponse.class)
+          .register(VersionedInstallRequest.class)
+          .register(VersionedInstallResponse.class)
           .name("RaftProtocol")
           .build();
 
@@ -41,6 +41,7 @@ import io.atomix.raft.protocol.ReconfigureResponse;
 import io.atomix.raft.protocol.TransferRequest;
 import io.atomix.raft.protocol.TransferResponse;
 import io.atomix.raft.protocol.VersionedAppendRequest;
+import io.atomix.raft.protocol.VersionedInstallRequest;
 import io.atomix.raft.protocol.VoteRequest;
 import io.atomix.raft.protocol.VoteResponse;
 import io.atomix.utils.serializer.Serializer;
@@ -114,6 +115,12 @@ public class RaftServerCommunicator implements RaftServerProtocol {
     return sendAndReceive(context.installSubject, request, memberId, snapshotRequestTimeout);
   }
 
+  @Override
+  public CompletableFuture<InstallResponse> install(
+      final MemberId memberId, final VersionedInstallRequest request) {
+    return sendAndReceive(context.installV2Subject, request, memberId, snapshotRequestTimeout);
+  }
+
   @Override
   public CompletableFuture<TransferResponse> transfer(
       final MemberId memberId, final TransferRequest request) {
@@ -240,11 +247,17 @@ public class RaftServerCommunicator implements RaftServerProtocol {
         serializer::decode,
         handler.<InstallRequest>compose(this::recordReceivedMetrics),
         serializer::encode);
+    clusterCommunicator.replyTo(
+        context.installV2Subject,
+        serializer::decode,
+        handler.<InstallRequest>compose(this::recordReceivedMetrics),
+        serializer::encode);
   }
 
   @Override
   public void unregisterInstallHandler() {
     clusterCommunicator.unsubscribe(context.installSubject);
+    clusterCommunicator.unsubscribe(context.installV2Subject);
   }
 
   @Override
@@ -24,6 +24,7 @@ import io.atomix.cluster.MemberId;
 import io.atomix.utils.misc.StringUtils;
 import io.camunda.zeebe.snapshots.impl.SnapshotChunkId;
 import java.nio.ByteBuffer;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -82,6 +83,20 @@ public class InstallRequest extends AbstractRaftRequest {
     this.term = term;
   }
 
+  protected InstallRequest(final InstallRequest request) {
+    this(
+        request.currentTerm,
+        request.leader,
+        request.index,
+        request.term,
+        request.version,
+        request.chunkId,
+        request.nextChunkId,
+        request.data,
+        request.initial,
+        request.complete);
+  }
+
   /**
    * Returns a new install request builder.
    *
@@ -170,6 +185,27 @@ public class InstallRequest extends AbstractRaftRequest {
     return complete;
   }
 
+  /**
+   * Returns the checksums of all files of the snapshot, such that the receiver can reuse the files
+   * it already has. Only sent with the first chunk of a {@link VersionedInstallRequest}.
+   *
+   * @return the checksums by file name; empty if none were sent
+   */
+  public Map<String, Long> fileChecksums() {
+    return Map.of();
+  }
+
+  /**
+   * Returns the sizes of all files of the snapshot, which the receiver compares in addition to the
+   * checksums before reusing a file. Only sent with the first chunk of a {@link
+   * VersionedInstallRequest}.
+   *
+   * @return the sizes in bytes by file name; empty if none were sent
+   */
+  public Map<String, Long> fileSizes() {
+    return Map.of();
+  }
+
   @Override
   public int hashCode() {
     return Objects.hash(
@@ -20,6 +20,8 @@ import static com.google.common.base.MoreObjects.toStringHelper;
 import static com.google.common.base.Preconditions.checkArgument;
 
 import io.atomix.raft.RaftError;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * Snapshot installation response.
@@ -41,6 +43,14 @@ public class InstallResponse extends AbstractRaftResponse {
     return preferredChunkSize;
   }
 
+  /**
+   * @return the names of the snapshot files which don't have to be sent anymore; only listed by a
+   *     {@link VersionedInstallResponse}
+   */
+  public List<String> reusedFiles() {
+    return List.of();
+  }
+
   @Override
   public String toString() {
     return toStringHelper(this)
@@ -62,14 +72,31 @@ public class InstallResponse extends AbstractRaftResponse {
   /** Install response builder. */
   public static class Builder extends AbstractRaftResponse.Builder<Builder, InstallResponse> {
     protected int preferredChunkSize;
+    protected Collection<String> reusedFiles;
 
     @Override
     public InstallResponse build() {
       validate();
       checkArgument(preferredChunkSize >= 0, "preferred chunk size must be positive");
+      if (reusedFiles != null) {
+        return new VersionedInstallResponse(status, error, preferredChunkSize, reusedFiles);
+      }
       return new InstallResponse(status, error, preferredChunkSize);
     }
 
+    /**
+     * Sets the files which the receiver reused from its own snapshot. The response is built as a
+     * {@link VersionedInstallResponse} then, so this must only be set in response to a {@link
+     * VersionedInstallRequest}.
+     *
+     * @param reusedFiles the names of the reused files, or null if none
+     * @return the response builder
+     */
+    public Builder withReusedFiles(final Collection<String> reusedFiles) {
+      this.reusedFiles = reusedFiles;
+      return this;
+    }
+
     public Builder withPreferredChunkSize(final int preferredChunkSize) {
       this.preferredChunkSize = preferredChunkSize;
       return this;
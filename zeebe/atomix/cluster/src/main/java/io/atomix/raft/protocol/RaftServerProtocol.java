@@ -78,6 +78,20 @@ public interface RaftServerProtocol {
    */
   CompletableFuture<InstallResponse> install(MemberId memberId, InstallRequest request);
 
+  /**
+   * Sends a versioned install request to the given node. Members which don't support versioned
+   * install requests yet fail the request with {@link
+   * io.atomix.cluster.messaging.MessagingException.NoRemoteHandler}.
+   *
+   * @param memberId the node to which to send the request
+   * @param request the request to send
+   * @return a future to be completed with the response
+   */
+  default CompletableFuture<InstallResponse> install(
+      final MemberId memberId, final VersionedInstallRequest request) {
+    return install(memberId, (InstallRequest) request);
+  }
+
   /**
    * Sends a transfer request to the given node.
    *
@@ -0,0 +1,79 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.protocol;
+
+import static com.google.common.base.MoreObjects.toStringHelper;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Snapshot installation request which additionally carries the checksums and sizes of all snapshot
+ * files, such that the receiver can reuse the files it already has instead of receiving them again.
+ *
+ * <p>It is sent on its own subject, so members which don't know this message yet keep receiving
+ * plain {@link InstallRequest}s.
+ */
+public class VersionedInstallRequest extends InstallRequest {
+
+  // the checksums of all snapshot files by name (or null if none, e.g. not the first chunk)
+  private final HashMap<String, Long> fileChecksums;
+  // the sizes of all snapshot files by name (or null if none, e.g. not the first chunk)
+  private final HashMap<String, Long> fileSizes;
+
+  public VersionedInstallRequest(
+      final InstallRequest request,
+      final Map<String, Long> fileChecksums,
+      final Map<String, Long> fileSizes) {
+    super(request);
+    this.fileChecksums = fileChecksums == null ? null : new HashMap<>(fileChecksums);
+    this.fileSizes = fileSizes == null ? null : new HashMap<>(fileSizes);
+  }
+
+  @Override
+  public Map<String, Long> fileChecksums() {
+    return fileChecksums == null ? Map.of() : fileChecksums;
+  }
+
+  @Override
+  public Map<String, Long> fileSizes() {
+    return fileSizes == null ? Map.of() : fileSizes;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(super.hashCode(), fileChecksums(), fileSizes());
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (!super.equals(o)) {
+      return false;
+    }
+    final VersionedInstallRequest that = (VersionedInstallRequest) o;
+    return fileChecksums().equals(that.fileChecksums()) && fileSizes().equals(that.fileSizes());
+  }
+
+  @Override
+  public String toString() {
+    return toStringHelper(this)
+        .add("request", super.toString())
+        .add("fileChecksums", fileChecksums().size())
+        .add("fileSizes", fileSizes().size())
+        .toString();
+  }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.protocol;
+
+import static com.google.common.base.MoreObjects.toStringHelper;
+
+import io.atomix.raft.RaftError;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Snapshot installation response to a {@link VersionedInstallRequest}, which additionally lists the
+ * snapshot files the receiver reused, such that the leader can skip sending them.
+ */
+public class VersionedInstallResponse extends InstallResponse {
+
+  private final ArrayList<String> reusedFiles;
+
+  public VersionedInstallResponse(
+      final Status status,
+      final RaftError error,
+      final int preferredChunkSize,
+      final Collection<String> reusedFiles) {
+    super(status, error, preferredChunkSize);
+    this.reusedFiles = new ArrayList<>(reusedFiles);
+  }
+
+  @Override
+  public List<String> reusedFiles() {
+    return reusedFiles;
+  }
+
+  @Override
+  public String toString() {
+    return toStringHelper(this)
+        .add("status", status)
+        .add("error", error)
+        .add("preferredChunkSize", preferredChunkSize)
+        .add("reusedFiles", reusedFiles)
+        .toString();
+  }
+}
@@ -18,6 +18,7 @@ package io.atomix.raft.roles;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import io.atomix.cluster.messaging.MessagingException.NoRemoteHandler;
 import io.atomix.raft.RaftException;
 import io.atomix.raft.RaftException.AppendFailureException;
 import io.atomix.raft.RaftException.CommitFailedException;
@@ -38,17 +39,22 @@ import io.atomix.raft.protocol.RaftRequest;
 import io.atomix.raft.protocol.RaftResponse;
 import io.atomix.raft.protocol.ReplicatableJournalRecord;
 import io.atomix.raft.protocol.VersionedAppendRequest;
+import io.atomix.raft.protocol.VersionedInstallRequest;
 import io.atomix.raft.snapshot.impl.SnapshotChunkImpl;
 import io.atomix.raft.storage.log.IndexedRaftLogEntry;
 import io.camunda.zeebe.snapshots.PersistedSnapshot;
 import io.camunda.zeebe.snapshots.SnapshotChunk;
 import io.camunda.zeebe.snapshots.SnapshotChunkReader;
+import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.NavigableMap;
 import java.util.Optional;
 import java.util.TreeMap;
@@ -170,12 +176,13 @@ final class LeaderAppender {
     // Build a list of entries to send to the member.
     final List<ReplicatableJournalRecord> entries = new ArrayList<>();
 
-    // Build a list of entries up to the MAX_BATCH_SIZE. Note that entries in the log may
+    // Build a list of entries up to the member's batch size. Note that entries in the log may
     // be null if they've been compacted and the member to which we're sending entries is just
     // joining the cluster or is otherwise far behind. Null entries are simply skipped and not
     // counted towards the size of the batch.
-    // If there exists an entry in the log with size >= MAX_BATCH_SIZE the logic ensures that
+    // If there exists an entry in the log with size >= the batch size the logic ensures that
     // entry will be sent in a batch of size one
+    final int batchSize = member.getAppendBatchSize();
     int size = 0;
 
     // Iterate through the log until the last index or the end of the log is reached.
@@ -185,7 +192,7 @@ final class LeaderAppender {
       final var replicatableRecord = entry.getReplicatableJournalRecord();
       entries.add(replicatableRecord);
       size += replicatableRecord.approximateSize();
-      if (entry.index() == lastIndex || size >= maxBatchSizePerAppend) {
+      if (entry.index() == lastIndex || size >= batchSize) {
         break;
       }
     }
@@ -409,6 +416,7 @@ final class LeaderAppender {
       }
       final ByteBuffer currentChunkId = reader.nextId();
       final SnapshotChunk chunk = reader.next();
+      final boolean initial = member.getNextSnapshotChunk() == null;
 
       // Create the install request, indicating whether this is the last chunk of data based on
       // the number of bytes remaining in the buffer.
@@ -423,11 +431,20 @@ final class LeaderAppender {
               .withVersion(persistedSnapshot.version())
               .withData(new SnapshotChunkImpl(chunk).toByteBuffer())
               .withChunkId(currentChunkId)
-              .withInitial(member.getNextSnapshotChunk() == null)
+              .withInitial(initial)
               .withComplete(!reader.hasNext())
               .withNextChunkId(reader.nextId())
               .build();
-      return Optional.of(request);
+      if (!member.isVersionedInstallSupported()) {
+        return Optional.of(request);
+      }
+
+      // lets the member reuse the files it already has, instead of receiving them again
+      return Optional.of(
+          new VersionedInstallRequest(
+              request,
+              initial ? fileChecksums(persistedSnapshot) : null,
+              initial ? fileSizes(persistedSnapshot) : null));
     } catch (final UncheckedIOException e) {
       LOGGER.warn(
           "Expected to send next chunk of Snapshot {} to {}. But could not read SnapshotChunk. Snapshot may have been deleted. Will retry.",
@@ -441,6 +458,30 @@ final class LeaderAppender {
     }
   }
 
+  private Map<String, Long> fileChecksums(final PersistedSnapshot persistedSnapshot) {
+    final var checksums = persistedSnapshot.getChecksums();
+    return checksums == null ? null : checksums.getChecksums();
+  }
+
+  private Map<String, Long> fileSizes(final PersistedSnapshot persistedSnapshot) {
+    final var checksums = persistedSnapshot.getChecksums();
+    if (checksums == null) {
+      return null;
+    }
+
+    final var sizes = new HashMap<String, Long>();
+    try {
+      for (final var fileName : checksums.getChecksums().keySet()) {
+        sizes.put(fileName, Files.size(persistedSnapshot.getPath().resolve(fileName)));
+      }
+    } catch (final IOException e) {
+      // without sizes the member doesn't reuse any files, so it receives all of them instead
+      LOGGER.debug("Failed to determine the file sizes of snapshot {}", persistedSnapshot, e);
+      return null;
+    }
+    return sizes;
+  }
+
   /** Connects to the member and sends a snapshot request. */
   private void sendInstallRequest(final RaftMemberContext member, final InstallRequest request) {
     // Start the install to the member.
@@ -449,24 +490,27 @@ final class LeaderAppender {
     final long timestamp = System.currentTimeMillis();
 
     LOGGER.trace("Sending {} to {}", request, member.getMember().memberId());
-    raft.getProtocol()
-        .install(member.getMember().memberId(), request)
-        .whenCompleteAsync(
-            (response, error) -> {
-              if (open) {
-                // Complete the install to the member.
-                member.completeInstall();
-
-                if (error == null) {
-                  LOGGER.trace("Received {} from {}", response, member.getMember().memberId());
-                  handleInstallResponse(member, request, response, timestamp);
-                } else {
-                  // Trigger reactions to the install response failure.
-                  handleInstallResponseFailure(member, request, error);
-                }
-              }
-            },
-            raft.getThreadContext());
+    final var memberId = member.getMember().memberId();
+    final var responseFuture =
+        request instanceof final VersionedInstallRequest versionedRequest
+            ? raft.getProtocol().install(memberId, versionedRequest)
+            : raft.getProtocol().install(memberId, request);
+    responseFuture.whenCompleteAsync(
+        (response, error) -> {
+          if (open) {
+            // Complete the install to the member.
+            member.completeInstall();
+
+            if (error == null) {
+              LOGGER.trace("Received {} from {}", response, member.getMember().memberId());
+              handleInstallResponse(member, request, response, timestamp);
+            } else {
+              // Trigger reactions to the install response failure.
+              handleInstallResponseFailure(member, request, error);
+            }
+          }
+        },
+        raft.getThreadContext());
   }
 
   /** Handles an install response failure. */
@@ -483,6 +527,18 @@ final class LeaderAppender {
       member.setNextSnapshotChunkId(null);
     }
 
+    final boolean isNoRemoteHandler =
+        error instanceof NoRemoteHandler
+            || (error != null && error.getCause() instanceof NoRemoteHandler);
+    if (request instanceof VersionedInstallRequest && isNoRemoteHandler) {
+      // the member runs an older version, which only handles plain install requests; the snapshot
+      // is resent from the start, without letting the member reuse its files
+      LOGGER.debug(
+          "Member {} does not handle versioned install requests, fall back to install requests",
+          member.getMember().memberId());
+      member.setVersionedInstallSupported(false);
+    }
+
     // Log the failed attempt to contact the member.
     failAttempt(member, request, error);
   }
@@ -509,6 +565,13 @@ final class LeaderAppender {
     }
     // If more install requests remain, increment the member's snapshot offset.
     else {
+      if (!response.reusedFiles().isEmpty()) {
+        LOGGER.debug(
+            "Skipping {} snapshot files which {} reused from its own snapshot",
+            response.reusedFiles().size(),
+            member.getMember().memberId());
+        member.getSnapshotChunkReader().skip(response.reusedFiles());
+      }
       member.setNextSnapshotChunkId(request.nextChunkId());
     }
 
@@ -673,7 +736,7 @@ final class LeaderAppender {
       final AppendResponse response,
       final long timestamp) {
     if (response.status() == RaftResponse.Status.OK) {
-      handleAppendResponseOk(member, request, response);
+      handleAppendResponseOk(member, request, response, timestamp);
     } else {
       handleAppendResponseError(member, request, response);
     }
@@ -683,7 +746,8 @@ final class LeaderAppender {
   private void handleAppendResponseOk(
       final RaftMemberContext member,
       final VersionedAppendRequest request,
-      final AppendResponse response) {
+      final AppendResponse response,
+      final long timestamp) {
     // Reset the member failure count and update the member's availability status if necessary.
     succeedAttempt(member);
 
@@ -693,10 +757,16 @@ final class LeaderAppender {
     if (response.succeeded()) {
       member.appendSucceeded();
       updateMatchIndex(member, response);
+      final int appendedBytes =
+          request.entries().stream().mapToInt(ReplicatableJournalRecord::approximateSize).sum();
       metrics.observeAppend(
-          member.getMember().memberId().id(),
-          request.entries().size(),
-          request.entries().stream().mapToInt(ReplicatableJournalRecord::approximateSize).sum());
+          member.getMember().memberId().id(), request.entries().size(), appendedBytes);
+      if (!request.entries().isEmpty()) {
+        // the member is lagging if it received a full batch and there is still more to send, even
+        // though the other in-flight requests were already built
+        final boolean lagging = appendedBytes >= maxBatchSizePerAppend && hasMoreEntries(member);
+        member.appendAcknowledged(System.currentTimeMillis() - timestamp, lagging);
+      }
 
       commitEntries();
 
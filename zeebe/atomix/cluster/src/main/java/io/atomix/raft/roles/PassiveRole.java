@@ -40,6 +40,7 @@ import io.atomix.raft.protocol.ReconfigureRequest;
 import io.atomix.raft.protocol.ReconfigureResponse;
 import io.atomix.raft.protocol.ReplicatableJournalRecord;
 import io.atomix.raft.protocol.ReplicatableRaftRecord;
+import io.atomix.raft.protocol.VersionedInstallRequest;
 import io.atomix.raft.protocol.VoteRequest;
 import io.atomix.raft.protocol.VoteResponse;
 import io.atomix.raft.snapshot.impl.SnapshotChunkImpl;
@@ -62,6 +63,8 @@ import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import org.agrona.concurrent.UnsafeBuffer;
@@ -75,6 +78,7 @@ public class PassiveRole extends InactiveRole {
   private ReceivedSnapshot pendingSnapshot;
   private ByteBuffer nextPendingSnapshotChunkId;
   private ByteBuffer previouslyReceivedSnapshotChunkId;
+  private Set<String> reusedSnapshotFiles = Set.of();
   private final int snapshotChunkSize;
 
   public PassiveRole(final RaftContext context) {
@@ -230,6 +234,25 @@ public class PassiveRole extends InactiveRole {
                   .build()));
     }
 
+    // Reuse the files of the own snapshot which are part of the received snapshot as well, such
+    // that the leader doesn't have to send them
+    if (request.isInitial() && !request.complete() && !request.fileChecksums().isEmpty()) {
+      try {
+        reusedSnapshotFiles = reuseSnapshotFiles(request);
+      } catch (final Exception e) {
+        // files which were reused already are links to the own snapshot, receiving them would
+        // modify it as well
+        log.warn("Failed to reuse files, rolling back snapshot {}", pendingSnapshot, e);
+        abortPendingSnapshots();
+        return CompletableFuture.completedFuture(
+            logResponse(
+                InstallResponse.builder()
+                    .withStatus(RaftResponse.Status.ERROR)
+                    .withError(RaftError.Type.APPLICATION_ERROR, "Failed to reuse snapshot files")
+                    .build()));
+      }
+    }
+
     // If the snapshot is complete, store the snapshot and reset state, otherwise update the next
     // snapshot offset.
     if (request.complete()) {
@@ -259,12 +282,13 @@ public class PassiveRole extends InactiveRole {
       pendingSnapshotStartTimestamp = 0L;
       setNextExpected(null);
       previouslyReceivedSnapshotChunkId = null;
+      reusedSnapshotFiles = Set.of();
       snapshotReplicationMetrics.decrementCount();
       snapshotReplicationMetrics.observeDuration(elapsed);
       raft.updateCurrentSnapshot();
       onSnapshotReceiveCompletedOrAborted();
     } else {
-      setNextExpected(request.nextChunkId());
+      setNextExpected(nextExpectedChunkId(request));
       previouslyReceivedSnapshotChunkId = request.chunkId();
     }
 
@@ -273,9 +297,53 @@ public class PassiveRole extends InactiveRole {
             InstallResponse.builder()
                 .withStatus(RaftResponse.Status.OK)
                 .withPreferredChunkSize(snapshotChunkSize)
+                .withReusedFiles(request.isInitial() ? reusedFiles(request) : null)
                 .build()));
   }
 
+  /**
+   * Returns the files reused for the pending snapshot, to list them in the response, or null if
+   * none were reused. Only the response to a {@link VersionedInstallRequest} can list them, older
+   * leaders don't know the versioned response.
+   */
+  private Set<String> reusedFiles(final InstallRequest request) {
+    if (!(request instanceof VersionedInstallRequest) || reusedSnapshotFiles.isEmpty()) {
+      return null;
+    }
+    return reusedSnapshotFiles;
+  }
+
+  private Set<String> reuseSnapshotFiles(final InstallRequest request) {
+    final var reusedFiles =
+        pendingSnapshot.reuseFiles(request.fileChecksums(), request.fileSizes()).join();
+    log.debug(
+        "Reused {} of {} files for snapshot {}",
+        reusedFiles.size(),
+        request.fileChecksums().size(),
+        pendingSnapshot);
+    return reusedFiles;
+  }
+
+  /**
+   * Returns the id of the chunk which the leader sends next. The leader skips the reused files, so
+   * this is the first chunk of the next file that wasn't reused, in the lexicographical order in
+   * which the leader sends them. The last file is never skipped, since it completes the snapshot.
+   */
+  private ByteBuffer nextExpectedChunkId(final InstallRequest request) {
+    final var nextChunkId = request.nextChunkId();
+    if (nextChunkId == null
+        || !reusedSnapshotFiles.contains(new SnapshotChunkId(nextChunkId).fileName())) {
+      return nextChunkId;
+    }
+
+    final var remainingFiles = new TreeSet<>(request.fileChecksums().keySet());
+    final var lastFile = remainingFiles.last();
+    remainingFiles.removeAll(reusedSnapshotFiles);
+    remainingFiles.add(lastFile);
+    final var nextFile = remainingFiles.higher(new SnapshotChunkId(nextChunkId).fileName());
+    return nextFile == null ? null : new SnapshotChunkId(nextFile, 0).id();
+  }
+
   @Override
   public CompletableFuture<ReconfigureResponse> onReconfigure(final ReconfigureRequest request) {
     raft.checkThread();
@@ -431,12 +499,14 @@ public class PassiveRole extends InactiveRole {
   // further.
   private Either<InstallResponse, Void> preProcessInstallRequest(final InstallRequest request) {
     if (Objects.equals(request.chunkId(), previouslyReceivedSnapshotChunkId)) {
-      // Duplicate request for the same chunk that was previously processed
+      // Duplicate request for the same chunk that was previously processed; the leader may have
+      // missed the reused files, which it has to skip to send the expected chunk next
       return Either.left(
           logResponse(
               InstallResponse.builder()
                   .withStatus(Status.OK)
                   .withPreferredChunkSize(snapshotChunkSize)
+                  .withReusedFiles(reusedFiles(request))
                   .build()));
     }
 
@@ -551,6 +621,7 @@ public class PassiveRole extends InactiveRole {
     if (pendingSnapshot != null) {
       setNextExpected(null);
       previouslyReceivedSnapshotChunkId = null;
+      reusedSnapshotFiles = Set.of();
       log.info("Rolling back snapshot {}", pendingSnapshot);
       try {
         pendingSnapshot.abort();
@@ -65,6 +65,7 @@ public final class RaftStorage {
   private final ReceivableSnapshotStore persistedSnapshotStore;
   private final int journalIndexDensity;
   private final boolean preallocateSegmentFiles;
+  private final boolean persistJournalIndex;
   private final MeterRegistry meterRegistry;
   private final RaftLogFlusher.Factory flusherFactory;
 
@@ -78,6 +79,7 @@ public final class RaftStorage {
       final ReceivableSnapshotStore persistedSnapshotStore,
       final int journalIndexDensity,
       final boolean preallocateSegmentFiles,
+      final boolean persistJournalIndex,
       final MeterRegistry meterRegistry) {
     this.prefix = prefix;
     this.partitionId = partitionId;
@@ -88,6 +90,7 @@ public final class RaftStorage {
     this.persistedSnapshotStore = persistedSnapshotStore;
     this.journalIndexDensity = journalIndexDensity;
     this.preallocateSegmentFiles = preallocateSegmentFiles;
+    this.persistJournalIndex = persistJournalIndex;
     this.meterRegistry = meterRegistry;
 
     try {
@@ -197,6 +200,7 @@ public final class RaftStorage {
         .withFreeDiskSpace(freeDiskSpace)
         .withJournalIndexDensity(journalIndexDensity)
         .withPreallocateSegmentFiles(preallocateSegmentFiles)
+        .withPersistJournalIndex(persistJournalIndex)
         .withMetaStore(metaStore)
         .withFlusher(flusherFactory.createFlusher(threadFactory))
         .build();
@@ -253,6 +257,7 @@ public final class RaftStorage {
         RaftLogFlusher.Factory::direct;
     private static final int DEFAULT_JOURNAL_INDEX_DENSITY = 100;
     private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+    private static final boolean DEFAULT_PERSIST_JOURNAL_INDEX = false;
 
     // impossible value to make it clear it's unset and there's an error
     private static final int DEFAULT_PARTITION_ID = -1;
@@ -265,6 +270,7 @@ public final class RaftStorage {
     private ReceivableSnapshotStore persistedSnapshotStore;
     private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
     private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+    private boolean persistJournalIndex = DEFAULT_PERSIST_JOURNAL_INDEX;
     private int partitionId = DEFAULT_PARTITION_ID;
     private final MeterRegistry meterRegistry;
 
@@ -372,6 +378,18 @@ public final class RaftStorage {
       return this;
     }
 
+    /**
+     * Sets whether the journal index of full segments is persisted next to them, such that it can
+     * be restored when the log is opened instead of being rebuilt on demand.
+     *
+     * @param persistJournalIndex true to persist the journal index, false otherwise
+     * @return this builder for chaining
+     */
+    public Builder withPersistJournalIndex(final boolean persistJournalIndex) {
+      this.persistJournalIndex = persistJournalIndex;
+      return this;
+    }
+
     /**
      * The ID of the partition on which this storage resides.
      *
@@ -400,6 +418,7 @@ public final class RaftStorage {
           persistedSnapshotStore,
           journalIndexDensity,
           preallocateSegmentFiles,
+          persistJournalIndex,
           meterRegistry);
     }
   }
@@ -129,6 +129,18 @@ public class RaftLogBuilder implements io.atomix.utils.Builder<RaftLog> {
     return this;
   }
 
+  /**
+   * Sets whether the journal index of full segments is persisted next to them. If true, the index
+   * is restored from these files when the log is opened, instead of being rebuilt on demand.
+   *
+   * @param persistJournalIndex true to persist the journal index, false otherwise
+   * @return this builder for chaining
+   */
+  public RaftLogBuilder withPersistJournalIndex(final boolean persistJournalIndex) {
+    journalBuilder.withPersistIndex(persistJournalIndex);
+    return this;
+  }
+
   /**
    * The ID of the partition on which this log resides.
    *
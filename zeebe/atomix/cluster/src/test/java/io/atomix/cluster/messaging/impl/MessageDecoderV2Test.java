@@ -0,0 +1,147 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.cluster.messaging.impl.ProtocolReply.Status;
+import io.atomix.utils.net.Address;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import org.junit.After;
+import org.junit.Test;
+
+public class MessageDecoderV2Test {
+
+  private static final Address ADDRESS = Address.from("localhost", 26502);
+  private static final int FRAGMENT_LENGTH = 1024;
+
+  private final EmbeddedChannel encoderChannel = new EmbeddedChannel(new MessageEncoderV2(ADDRESS));
+  private final EmbeddedChannel decoderChannel = new EmbeddedChannel(new MessageDecoderV2());
+
+  @After
+  public void tearDown() {
+    encoderChannel.finishAndReleaseAll();
+    decoderChannel.finishAndReleaseAll();
+  }
+
+  @Test
+  public void shouldDecodeLargeRequestReceivedInFragments() {
+    // given
+    final byte[] payload = randomPayload(1024 * 1024);
+    final var request = new ProtocolRequest(1L, ADDRESS, "subject", payload);
+
+    // when
+    final ProtocolRequest decoded = roundTrip(request);
+
+    // then
+    assertThat(decoded.id()).isEqualTo(1L);
+    assertThat(decoded.sender()).isEqualTo(ADDRESS);
+    assertThat(decoded.subject()).isEqualTo("subject");
+    assertThat(decoded.payload()).isEqualTo(payload);
+  }
+
+  @Test
+  public void shouldDecodeConsecutiveMessagesReceivedInFragments() {
+    // given
+    final byte[] requestPayload = randomPayload(64 * 1024);
+    final byte[] replyPayload = randomPayload(128 * 1024);
+
+    // when
+    final ProtocolRequest decodedRequest =
+        roundTrip(new ProtocolRequest(1L, ADDRESS, "subject", requestPayload));
+    final ProtocolReply decodedReply =
+        roundTrip(new ProtocolReply(2L, replyPayload, Status.ERROR_HANDLER_EXCEPTION));
+    final ProtocolReply decodedEmptyReply =
+        roundTrip(new ProtocolReply(3L, new byte[0], Status.OK));
+
+    // then
+    assertThat(decodedRequest.payload()).isEqualTo(requestPayload);
+    assertThat(decodedReply.id()).isEqualTo(2L);
+    assertThat(decodedReply.status()).isEqualTo(Status.ERROR_HANDLER_EXCEPTION);
+    assertThat(decodedReply.payload()).isEqualTo(replyPayload);
+    assertThat(decodedEmptyReply.id()).isEqualTo(3L);
+    assertThat(decodedEmptyReply.payload()).isEmpty();
+  }
+
+  @Test
+  public void shouldEncodeMessageWithoutGrowingTheBuffer() {
+    // given
+    final var request =
+        new ProtocolRequest(Long.MAX_VALUE, ADDRESS, "sübject", randomPayload(4096));
+    final var reply = new ProtocolReply(Long.MAX_VALUE, randomPayload(4096), Status.OK);
+
+    // when
+    encoderChannel.writeOutbound(request, reply);
+
+    // then
+    final ByteBuf encodedRequest = encoderChannel.readOutbound();
+    final ByteBuf encodedReply = encoderChannel.readOutbound();
+    try {
+      assertThat(encodedRequest.capacity()).isGreaterThanOrEqualTo(encodedRequest.readableBytes());
+      assertThat(encodedRequest.capacity()).isLessThan(4096 + 256);
+      assertThat(encodedReply.capacity()).isGreaterThanOrEqualTo(encodedReply.readableBytes());
+      assertThat(encodedReply.capacity()).isLessThan(4096 + 256);
+    } finally {
+      encodedRequest.release();
+      encodedReply.release();
+    }
+  }
+
+  @Test
+  public void shouldNotReserveMoreThanTheMaximumContent() {
+    // given
+    final ByteBuf buffer = Unpooled.buffer(FRAGMENT_LENGTH);
+    buffer.writeBytes(randomPayload(FRAGMENT_LENGTH));
+
+    try {
+      // when
+      AbstractMessageDecoder.reserveContent(buffer, Integer.MAX_VALUE);
+
+      // then
+      assertThat(buffer.capacity())
+          .isGreaterThanOrEqualTo(AbstractMessageDecoder.MAX_CONTENT_RESERVATION)
+          .isLessThan(2 * AbstractMessageDecoder.MAX_CONTENT_RESERVATION);
+    } finally {
+      buffer.release();
+    }
+  }
+
+  private <T extends ProtocolMessage> T roundTrip(final T message) {
+    encoderChannel.writeOutbound(message);
+    final ByteBuf encoded = encoderChannel.readOutbound();
+
+    final List<Object> decoded = new ArrayList<>();
+    try {
+      while (encoded.isReadable()) {
+        final int length = Math.min(FRAGMENT_LENGTH, encoded.readableBytes());
+        decoderChannel.writeInbound(encoded.readRetainedSlice(length));
+        Object inbound;
+        while ((inbound = decoderChannel.readInbound()) != null) {
+          decoded.add(inbound);
+        }
+      }
+    } finally {
+      encoded.release();
+    }
+
+    assertThat(decoded).hasSize(1);
+    //noinspection unchecked
+    return (T) decoded.getFirst();
+  }
+
+  private static byte[] randomPayload(final int length) {
+    final byte[] payload = new byte[length];
+    ThreadLocalRandom.current().nextBytes(payload);
+    return payload;
+  }
+}
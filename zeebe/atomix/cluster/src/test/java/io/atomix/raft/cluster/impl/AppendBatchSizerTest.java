@@ -0,0 +1,122 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.cluster.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+final class AppendBatchSizerTest {
+
+  private static final int MIN_BATCH_SIZE = 32;
+  private static final int MAX_BATCH_SIZE = 128;
+
+  private final AppendBatchSizer sizer = new AppendBatchSizer(MIN_BATCH_SIZE, MAX_BATCH_SIZE);
+
+  @Test
+  void shouldStartWithConfiguredBatchSize() {
+    // then
+    assertThat(sizer.batchSize()).isEqualTo(MIN_BATCH_SIZE);
+  }
+
+  @Test
+  void shouldGrowBatchSizeWhileLagging() {
+    // when
+    sizer.onAppendAcknowledged(10, true);
+
+    // then
+    assertThat(sizer.batchSize()).isEqualTo(2 * MIN_BATCH_SIZE);
+  }
+
+  @Test
+  void shouldNotGrowBeyondUpperBound() {
+    // when
+    for (int i = 0; i < 10; i++) {
+      sizer.onAppendAcknowledged(10, true);
+    }
+
+    // then
+    assertThat(sizer.batchSize()).isEqualTo(MAX_BATCH_SIZE);
+  }
+
+  @Test
+  void shouldShrinkBatchSizeWhenRoundTripTimeIncreases() {
+    // given
+    sizer.onAppendAcknowledged(10, true);
+    sizer.onAppendAcknowledged(10, true);
+
+    // when
+    sizer.onAppendAcknowledged(21, true);
+
+    // then
+    assertThat(sizer.batchSize()).isEqualTo(2 * MIN_BATCH_SIZE);
+  }
+
+  @Test
+  void shouldNotShrinkBelowConfiguredBatchSize() {
+    // given
+    sizer.onAppendAcknowledged(10, true);
+
+    // when
+    sizer.onAppendAcknowledged(100, true);
+    sizer.onAppendAcknowledged(100, true);
+
+    // then
+    assertThat(sizer.batchSize()).isEqualTo(MIN_BATCH_SIZE);
+  }
+
+  @Test
+  void shouldFallBackToConfiguredBatchSizeOnceCaughtUp() {
+    // given
+    sizer.onAppendAcknowledged(10, true);
+    sizer.onAppendAcknowledged(10, true);
+
+    // when
+    sizer.onAppendAcknowledged(10, false);
+
+    // then
+    assertThat(sizer.batchSize()).isEqualTo(MIN_BATCH_SIZE);
+  }
+
+  @Test
+  void shouldFallBackToConfiguredBatchSizeOnFailure() {
+    // given
+    sizer.onAppendAcknowledged(10, true);
+
+    // when
+    sizer.onAppendFailed();
+
+    // then
+    assertThat(sizer.batchSize()).isEqualTo(MIN_BATCH_SIZE);
+  }
+
+  @Test
+  void shouldForgetRoundTripTimesOnReset() {
+    // given
+    sizer.onAppendAcknowledged(1, true);
+
+    // when
+    sizer.reset();
+    sizer.onAppendAcknowledged(10, true);
+
+    // then - the previous round trip time no longer counts as the baseline
+    assertThat(sizer.batchSize()).isEqualTo(2 * MIN_BATCH_SIZE);
+  }
+
+  @Test
+  void shouldNotAdaptIfUpperBoundIsNotLarger() {
+    // given
+    final var fixedSizer = new AppendBatchSizer(MIN_BATCH_SIZE, 0);
+
+    // when
+    fixedSizer.onAppendAcknowledged(10, true);
+
+    // then
+    assertThat(fixedSizer.batchSize()).isEqualTo(MIN_BATCH_SIZE);
+  }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.protocol;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.partition.impl.RaftNamespaces;
+import io.atomix.raft.protocol.RaftResponse.Status;
+import io.atomix.utils.serializer.Serializer;
+import io.camunda.zeebe.snapshots.impl.SnapshotChunkId;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+final class InstallMessageSerializationTest {
+
+  private final Serializer serializer = Serializer.using(RaftNamespaces.RAFT_PROTOCOL);
+
+  @Test
+  void shouldRoundTripInstallRequest() {
+    // given
+    final var request = installRequest(true);
+
+    // when
+    final InstallRequest decoded = serializer.decode(serializer.encode(request));
+
+    // then
+    assertThat(decoded).isExactlyInstanceOf(InstallRequest.class).isEqualTo(request);
+    assertThat(decoded.fileChecksums()).isEmpty();
+    assertThat(decoded.fileSizes()).isEmpty();
+  }
+
+  @Test
+  void shouldRoundTripVersionedInstallRequest() {
+    // given
+    final var request =
+        new VersionedInstallRequest(
+            installRequest(true), Map.of("a", 1L, "b", 2L), Map.of("a", 10L, "b", 20L));
+
+    // when
+    final InstallRequest decoded = serializer.decode(serializer.encode(request));
+
+    // then
+    assertThat(decoded).isExactlyInstanceOf(VersionedInstallRequest.class).isEqualTo(request);
+    assertThat(decoded.chunkId()).isEqualTo(request.chunkId());
+    assertThat(decoded.fileChecksums()).containsExactlyInAnyOrderEntriesOf(request.fileChecksums());
+    assertThat(decoded.fileSizes()).containsExactlyInAnyOrderEntriesOf(request.fileSizes());
+  }
+
+  @Test
+  void shouldRoundTripVersionedInstallRequestWithoutFiles() {
+    // given - only the first chunk carries the files
+    final var request = new VersionedInstallRequest(installRequest(false), null, null);
+
+    // when
+    final InstallRequest decoded = serializer.decode(serializer.encode(request));
+
+    // then
+    assertThat(decoded).isExactlyInstanceOf(VersionedInstallRequest.class).isEqualTo(request);
+    assertThat(decoded.fileChecksums()).isEmpty();
+    assertThat(decoded.fileSizes()).isEmpty();
+  }
+
+  @Test
+  void shouldRoundTripInstallResponse() {
+    // given
+    final var response =
+        InstallResponse.builder().withStatus(Status.OK).withPreferredChunkSize(1024).build();
+
+    // when
+    final InstallResponse decoded = serializer.decode(serializer.encode(response));
+
+    // then
+    assertThat(decoded).isExactlyInstanceOf(InstallResponse.class);
+    assertThat(decoded.status()).isEqualTo(Status.OK);
+    assertThat(decoded.preferredChunkSize()).isEqualTo(1024);
+    assertThat(decoded.reusedFiles()).isEmpty();
+  }
+
+  @Test
+  void shouldRoundTripVersionedInstallResponse() {
+    // given
+    final var response =
+        InstallResponse.builder()
+            .withStatus(Status.OK)
+            .withPreferredChunkSize(1024)
+            .withReusedFiles(List.of("a", "b"))
+            .build();
+
+    // when
+    final InstallResponse decoded = serializer.decode(serializer.encode(response));
+
+    // then
+    assertThat(decoded).isExactlyInstanceOf(VersionedInstallResponse.class);
+    assertThat(decoded.status()).isEqualTo(Status.OK);
+    assertThat(decoded.preferredChunkSize()).isEqualTo(1024);
+    assertThat(decoded.reusedFiles()).containsExactly("a", "b");
+  }
+
+  private InstallRequest installRequest(final boolean initial) {
+    return InstallRequest.builder()
+        .withCurrentTerm(3)
+        .withLeader(MemberId.from("1"))
+        .withIndex(10)
+        .withTerm(2)
+        .withVersion(1)
+        .withData(ByteBuffer.wrap(new byte[] {1, 2, 3}))
+        .withChunkId(new SnapshotChunkId("a", 0).id())
+        .withNextChunkId(new SnapshotChunkId("b", 0).id())
+        .withInitial(initial)
+        .withComplete(false)
+        .build();
+  }
+}
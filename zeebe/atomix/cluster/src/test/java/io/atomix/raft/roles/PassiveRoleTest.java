@@ -17,6 +17,7 @@ package io.atomix.raft.roles;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -24,27 +25,42 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.atomix.cluster.MemberId;
+import io.atomix.raft.cluster.impl.RaftClusterContext;
 import io.atomix.raft.impl.RaftContext;
 import io.atomix.raft.metrics.RaftReplicationMetrics;
 import io.atomix.raft.protocol.AppendRequest;
 import io.atomix.raft.protocol.AppendResponse;
+import io.atomix.raft.protocol.InstallRequest;
+import io.atomix.raft.protocol.InstallResponse;
 import io.atomix.raft.protocol.PersistedRaftRecord;
 import io.atomix.raft.protocol.ProtocolVersionHandler;
+import io.atomix.raft.protocol.RaftResponse.Status;
 import io.atomix.raft.protocol.ReplicatableJournalRecord;
 import io.atomix.raft.protocol.VersionedAppendRequest;
+import io.atomix.raft.protocol.VersionedInstallRequest;
+import io.atomix.raft.protocol.VersionedInstallResponse;
+import io.atomix.raft.snapshot.impl.SnapshotChunkImpl;
 import io.atomix.raft.storage.RaftStorage;
 import io.atomix.raft.storage.log.IndexedRaftLogEntry;
 import io.atomix.raft.storage.log.RaftLog;
 import io.camunda.zeebe.journal.CheckedJournalException;
 import io.camunda.zeebe.journal.JournalException;
 import io.camunda.zeebe.journal.JournalException.InvalidChecksum;
+import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.snapshots.PersistedSnapshot;
 import io.camunda.zeebe.snapshots.ReceivableSnapshotStore;
+import io.camunda.zeebe.snapshots.ReceivedSnapshot;
+import io.camunda.zeebe.snapshots.SnapshotChunk;
+import io.camunda.zeebe.snapshots.SnapshotId;
+import io.camunda.zeebe.snapshots.impl.SnapshotChunkId;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import org.junit.Before;
 import org.junit.Rule;
@@ -58,6 +74,7 @@ public class PassiveRoleTest {
   private RaftLog log;
   private PassiveRole role;
   private RaftContext ctx;
+  private ReceivableSnapshotStore store;
   @AutoClose private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
 
   @Before
@@ -72,7 +89,7 @@ public class PassiveRoleTest {
     when(snapshot.getIndex()).thenReturn(1L);
     when(snapshot.getTerm()).thenReturn(1L);
 
-    final ReceivableSnapshotStore store = mock(ReceivableSnapshotStore.class);
+    store = mock(ReceivableSnapshotStore.class);
     when(store.getLatestSnapshot()).thenReturn(Optional.of(snapshot));
 
     final RaftStorage storage = mock(RaftStorage.class);
@@ -258,4 +275,124 @@ public class PassiveRoleTest {
     // then
     assertThat(result.succeeded()).isFalse();
   }
+
+  @Test
+  public void shouldExpectNextChunkAfterReusedFiles() {
+    // given
+    receiveSnapshotReusing(Set.of("b", "c"));
+
+    // when - the leader skipped the reused files
+    final var response = role.onInstall(installRequest("d", "e")).join();
+
+    // then
+    assertThat(response.status()).isEqualTo(Status.OK);
+  }
+
+  @Test
+  public void shouldRejectChunkOfReusedFile() {
+    // given
+    receiveSnapshotReusing(Set.of("b", "c"));
+
+    // when - the leader didn't skip the reused files
+    final var response = role.onInstall(installRequest("b", "c")).join();
+
+    // then
+    assertThat(response.status()).isEqualTo(Status.ERROR);
+  }
+
+  @Test
+  public void shouldRepeatReusedFilesOnDuplicateRequest() {
+    // given
+    final var reusedFiles = Set.of("b", "c");
+    receiveSnapshotReusing(reusedFiles);
+
+    // when - the leader missed the first response
+    final var response = role.onInstall(initialInstallRequest()).join();
+
+    // then
+    assertThat(response.status()).isEqualTo(Status.OK);
+    assertThat(response.reusedFiles()).containsExactlyInAnyOrderElementsOf(reusedFiles);
+  }
+
+  @Test
+  public void shouldNotReuseFilesOnPlainInstallRequest() {
+    // given
+    final var receivedSnapshot = mockReceivedSnapshot(Set.of("b", "c"));
+
+    // when - an older leader sends install requests without the file checksums
+    final var response = role.onInstall(initialPlainInstallRequest()).join();
+
+    // then
+    assertThat(response.status()).isEqualTo(Status.OK);
+    assertThat(response).isNotInstanceOf(VersionedInstallResponse.class);
+    verify(receivedSnapshot, never()).reuseFiles(any(), any());
+  }
+
+  private void receiveSnapshotReusing(final Set<String> reusedFiles) {
+    mockReceivedSnapshot(reusedFiles);
+
+    final InstallResponse response = role.onInstall(initialInstallRequest()).join();
+    assertThat(response.status()).isEqualTo(Status.OK);
+    assertThat(response).isInstanceOf(VersionedInstallResponse.class);
+    assertThat(response.reusedFiles()).containsExactlyInAnyOrderElementsOf(reusedFiles);
+  }
+
+  private ReceivedSnapshot mockReceivedSnapshot(final Set<String> reusedFiles) {
+    when(ctx.getCluster()).thenReturn(mock(RaftClusterContext.class));
+    final var snapshotId = mock(SnapshotId.class);
+    when(snapshotId.getSnapshotIdAsString()).thenReturn("1-1-1-1");
+    final var receivedSnapshot = mock(ReceivedSnapshot.class);
+    when(receivedSnapshot.snapshotId()).thenReturn(snapshotId);
+    when(receivedSnapshot.apply(any())).thenReturn(CompletableActorFuture.completed(null));
+    when(receivedSnapshot.reuseFiles(any(), any()))
+        .thenReturn(CompletableActorFuture.completed(reusedFiles));
+    when(store.newReceivedSnapshot(anyString()))
+        .thenReturn(CompletableActorFuture.completed(receivedSnapshot));
+    return receivedSnapshot;
+  }
+
+  private InstallRequest initialInstallRequest() {
+    final var files = Map.of("a", 1L, "b", 2L, "c", 3L, "d", 4L, "e", 5L);
+    return new VersionedInstallRequest(initialPlainInstallRequest(), files, files);
+  }
+
+  private InstallRequest initialPlainInstallRequest() {
+    return InstallRequest.builder()
+        .withCurrentTerm(1)
+        .withLeader(MemberId.anonymous())
+        .withIndex(2)
+        .withTerm(1)
+        .withVersion(1)
+        .withData(snapshotChunk("a"))
+        .withChunkId(new SnapshotChunkId("a", 0).id())
+        .withNextChunkId(new SnapshotChunkId("b", 0).id())
+        .withInitial(true)
+        .withComplete(false)
+        .build();
+  }
+
+  private InstallRequest installRequest(final String fileName, final String nextFileName) {
+    return InstallRequest.builder()
+        .withCurrentTerm(1)
+        .withLeader(MemberId.anonymous())
+        .withIndex(2)
+        .withTerm(1)
+        .withVersion(1)
+        .withData(snapshotChunk(fileName))
+        .withChunkId(new SnapshotChunkId(fileName, 0).id())
+        .withNextChunkId(new SnapshotChunkId(nextFileName, 0).id())
+        .withInitial(false)
+        .withComplete(false)
+        .build();
+  }
+
+  private ByteBuffer snapshotChunk(final String fileName) {
+    final var chunk = mock(SnapshotChunk.class);
+    when(chunk.getSnapshotId()).thenReturn("1-1-1-1");
+    when(chunk.getChunkName()).thenReturn(fileName);
+    when(chunk.getTotalCount()).thenReturn(5);
+    when(chunk.getContent()).thenReturn(new byte[1]);
+    when(chunk.getTotalFileSize()).thenReturn(1L);
+    return new SnapshotChunkImpl(chunk).toByteBuffer();
+  }
 }
@@ -0,0 +1,112 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.backup.common;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+import org.apache.commons.compress.compressors.CompressorException;
+import org.apache.commons.compress.compressors.CompressorStreamFactory;
+
+/**
+ * Compresses and decompresses backup contents while they are streamed from or to a backup store,
+ * without creating temporary files. The algorithms are the ones supported by commons-compress, e.g.
+ * {@code zstd} or {@code gz}.
+ */
+public final class BackupCompression {
+
+  /** Files which aren't larger than this are not worth compressing. */
+  public static final long COMPRESSION_SIZE_THRESHOLD = 8 * 1024 * 1024; // 8 MiB
+
+  private BackupCompression() {}
+
+  /**
+   * @return the algorithms which can be used to compress and decompress backup contents
+   */
+  public static Set<String> supportedAlgorithms() {
+    final var factory = CompressorStreamFactory.getSingleton();
+    final var supported = new HashSet<>(factory.getInputStreamCompressorNames());
+    supported.retainAll(factory.getOutputStreamCompressorNames());
+    return supported;
+  }
+
+  /**
+   * @throws IllegalArgumentException if the algorithm is not {@link #supportedAlgorithms()
+   *     supported}
+   */
+  public static void validateAlgorithm(final String algorithm) {
+    final var supported = supportedAlgorithms();
+    if (!supported.contains(algorithm)) {
+      throw new IllegalArgumentException(
+          "Can't use compression algorithm %s. Only supports %s".formatted(algorithm, supported));
+    }
+  }
+
+  /**
+   * @return true if the file is large enough to be compressed
+   * @throws IOException if the size of the file can't be determined
+   */
+  public static boolean shouldCompress(final Path file) throws IOException {
+    return Files.size(file) > COMPRESSION_SIZE_THRESHOLD;
+  }
+
+  /**
+   * Writes the compressed contents of the source file to the given output stream. The output stream
+   * is closed afterwards, also if compressing fails.
+   */
+  public static void compress(final Path source, final OutputStream target, final String algorithm)
+      throws IOException {
+    try (target;
+        final var input = new BufferedInputStream(Files.newInputStream(source));
+        final var output = compressingStream(new BufferedOutputStream(target), algorithm)) {
+      input.transferTo(output);
+    }
+  }
+
+  /** Decompresses the given input stream to the target file, replacing any existing file. */
+  public static void decompress(final InputStream source, final Path target, final String algorithm)
+      throws IOException {
+    try (final var input = decompressingStream(new BufferedInputStream(source), algorithm);
+        final var output = new BufferedOutputStream(Files.newOutputStream(target))) {
+      input.transferTo(output);
+    }
+  }
+
+  /**
+   * Compresses the source file in chunks of at least the given size, for stores which upload large
+   * objects in multiple parts. Only a single chunk is kept in memory at a time.
+   */
+  public static CompressedChunks compressInChunks(
+      final Path source, final String algorithm, final int chunkSize) throws IOException {
+    return new CompressedChunks(source, algorithm, chunkSize);
+  }
+
+  static OutputStream compressingStream(final OutputStream output, final String algorithm)
+      throws IOException {
+    try {
+      return new CompressorStreamFactory().createCompressorOutputStream(algorithm, output);
+    } catch (final CompressorException e) {
+      throw new IOException("Failed to compress using %s".formatted(algorithm), e);
+    }
+  }
+
+  private static InputStream decompressingStream(final InputStream input, final String algorithm)
+      throws IOException {
+    try {
+      return new CompressorStreamFactory().createCompressorInputStream(algorithm, input);
+    } catch (final CompressorException e) {
+      throw new IOException("Failed to decompress using %s".formatted(algorithm), e);
+    }
+  }
+}
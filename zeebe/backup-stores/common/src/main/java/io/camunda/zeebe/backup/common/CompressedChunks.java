@@ -0,0 +1,125 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.backup.common;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * The compressed contents of a file, produced chunk by chunk while they are read. Every chunk but
+ * the last one is at least as large as the configured chunk size, which allows uploading each chunk
+ * as one part of a multipart upload while compressing the next one.
+ *
+ * <p>Chunks are compressed alternately into one of two buffers, which are reused instead of being
+ * copied or allocated per chunk. A returned chunk is therefore only valid until the chunk after the
+ * next one is requested.
+ *
+ * <p>Created via {@link BackupCompression#compressInChunks(Path, String, int)}. Not thread-safe.
+ */
+public final class CompressedChunks implements AutoCloseable {
+
+  private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+  private final InputStream input;
+  private final ChunkBuffer[] buffers;
+  private final OutputStream compressor;
+  private final int chunkSize;
+  private final byte[] readBuffer = new byte[READ_BUFFER_SIZE];
+  private ChunkBuffer chunk;
+  private boolean inputExhausted;
+  private boolean exhausted;
+
+  CompressedChunks(final Path source, final String algorithm, final int chunkSize)
+      throws IOException {
+    this.chunkSize = chunkSize;
+    input = Files.newInputStream(source);
+    buffers = new ChunkBuffer[] {new ChunkBuffer(chunkSize), new ChunkBuffer(chunkSize)};
+    chunk = buffers[0];
+    try {
+      compressor = BackupCompression.compressingStream(new CurrentChunkStream(), algorithm);
+    } catch (final IOException e) {
+      input.close();
+      throw e;
+    }
+  }
+
+  /**
+   * @return the next chunk of compressed content, or null if all content was returned already. The
+   *     returned buffer is overwritten by the call after the next one, so it must not be used
+   *     anymore by then.
+   */
+  public ByteBuffer next() throws IOException {
+    if (exhausted) {
+      return null;
+    }
+
+    while (chunk.size() < chunkSize && !inputExhausted) {
+      final var read = input.read(readBuffer);
+      if (read == -1) {
+        // closing the compressor writes out any remaining, buffered content
+        compressor.close();
+        inputExhausted = true;
+      } else {
+        compressor.write(readBuffer, 0, read);
+      }
+    }
+
+    final var next = chunk.content();
+    chunk = chunk == buffers[0] ? buffers[1] : buffers[0];
+    chunk.reset();
+    exhausted = inputExhausted;
+    return next;
+  }
+
+  /**
+   * @return true if the last chunk was returned already
+   */
+  public boolean isExhausted() {
+    return exhausted;
+  }
+
+  @Override
+  public void close() throws IOException {
+    try (input) {
+      if (!inputExhausted) {
+        compressor.close();
+      }
+    }
+  }
+
+  /** Exposes its content without copying it. */
+  private static final class ChunkBuffer extends ByteArrayOutputStream {
+
+    private ChunkBuffer(final int size) {
+      super(size);
+    }
+
+    private ByteBuffer content() {
+      return ByteBuffer.wrap(buf, 0, count);
+    }
+  }
+
+  /** Writes to the current chunk, so the compressor doesn't have to know about the swapping. */
+  private final class CurrentChunkStream extends OutputStream {
+
+    @Override
+    public void write(final int b) {
+      chunk.write(b);
+    }
+
+    @Override
+    public void write(final byte[] b, final int off, final int len) {
+      chunk.write(b, off, len);
+    }
+  }
+}
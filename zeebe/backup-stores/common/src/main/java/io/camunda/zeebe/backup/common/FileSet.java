@@ -43,9 +43,19 @@ public record FileSet(List<NamedFile> files) {
     return new FileSet(fileSet.namedFiles().keySet().stream().map(NamedFile::new).toList());
   }
 
-  public record NamedFile(String name) {
+  /**
+   * A stored file. The checksum is only set for files which are stored content-addressed, i.e.
+   * under their checksum instead of under the backup they belong to, and is then used to find the
+   * stored content again. The compression algorithm is only set for files which are stored
+   * compressed.
+   */
+  public record NamedFile(String name, String checksum, String compressionAlgorithm) {
     public NamedFile {
       Objects.requireNonNull(name);
     }
+
+    public NamedFile(final String name) {
+      this(name, null, null);
+    }
   }
 }
@@ -21,13 +21,18 @@ import java.util.Optional;
 public sealed interface Manifest {
 
   static InProgressManifest createInProgress(final Backup backup) {
+    return createInProgress(backup, FileSet.of(backup.snapshot()), FileSet.of(backup.segments()));
+  }
+
+  static InProgressManifest createInProgress(
+      final Backup backup, final FileSet snapshot, final FileSet segments) {
     final var creationTime = Instant.now();
     return new ManifestImpl(
         BackupIdentifierImpl.from(backup.id()),
         BackupDescriptorImpl.from(backup.descriptor()),
         StatusCode.IN_PROGRESS,
-        FileSet.of(backup.snapshot()),
-        FileSet.of(backup.segments()),
+        snapshot,
+        segments,
         creationTime,
         creationTime);
   }
@@ -54,6 +59,16 @@ public sealed interface Manifest {
 
   Instant modifiedAt();
 
+  /**
+   * @return the stored snapshot files, or null if the backup failed before it was started
+   */
+  FileSet snapshot();
+
+  /**
+   * @return the stored segment files, or null if the backup failed before it was started
+   */
+  FileSet segments();
+
   InProgressManifest asInProgress();
 
   CompletedManifest asCompleted();
@@ -99,10 +114,6 @@ public sealed interface Manifest {
   sealed interface CompletedManifest extends Manifest permits ManifestImpl {
 
     FailedManifest fail(final String failureReason);
-
-    FileSet snapshot();
-
-    FileSet segments();
   }
 
   sealed interface FailedManifest extends Manifest permits ManifestImpl {
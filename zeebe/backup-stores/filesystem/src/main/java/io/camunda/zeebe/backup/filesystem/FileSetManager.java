@@ -9,6 +9,7 @@ package io.camunda.zeebe.backup.filesystem;
 
 import io.camunda.zeebe.backup.api.BackupIdentifier;
 import io.camunda.zeebe.backup.api.NamedFileSet;
+import io.camunda.zeebe.backup.common.BackupCompression;
 import io.camunda.zeebe.backup.common.FileSet;
 import io.camunda.zeebe.backup.common.FileSet.NamedFile;
 import io.camunda.zeebe.backup.common.NamedFileSetImpl;
@@ -19,6 +20,14 @@ import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -29,13 +38,69 @@ final class FileSetManager {
 
   // The path format is constructed by basePath/contents/partitionId/checkpointId/nodeId/nameOfFile
   private static final String PATH_FORMAT = "%s/contents/%s/%s/%s/%s/";
+
+  // Content-addressed files are shared by all backups of a partition, and stored under
+  // basePath/objects/partitionId/first two characters of the checksum/checksum
+  private static final String OBJECT_PATH_FORMAT = "%s/objects/%s/%s/%s";
+  private static final String CHECKSUM_ALGORITHM = "SHA-256";
+  private static final int CHECKSUM_BUFFER_SIZE = 64 * 1024;
+
   private final String basePath;
+  private final Optional<String> compressionAlgorithm;
 
   FileSetManager(final String basePath) {
+    this(basePath, Optional.empty());
+  }
+
+  FileSetManager(final String basePath, final Optional<String> compressionAlgorithm) {
     this.basePath = basePath;
+    this.compressionAlgorithm = compressionAlgorithm;
+  }
+
+  /**
+   * Decides how every file in the given set is stored, i.e. whether it is compressed.
+   *
+   * @return the stored representation of the file set
+   */
+  FileSet describe(final NamedFileSet fileSet) {
+    final List<NamedFile> files = new ArrayList<>();
+    for (final var namedFile : fileSet.namedFiles().entrySet()) {
+      files.add(
+          new NamedFile(namedFile.getKey(), null, compressionAlgorithm(namedFile.getValue())));
+    }
+    return new FileSet(files);
+  }
+
+  /**
+   * Computes the checksum of every file in the given set, which identifies the file in the
+   * content-addressed storage, and decides whether it is compressed.
+   *
+   * @return the stored representation of the file set, with checksums
+   */
+  FileSet checksum(final NamedFileSet fileSet) {
+    final List<NamedFile> files = new ArrayList<>();
+    for (final var namedFile : fileSet.namedFiles().entrySet()) {
+      final var path = namedFile.getValue();
+      files.add(new NamedFile(namedFile.getKey(), checksum(path), compressionAlgorithm(path)));
+    }
+    return new FileSet(files);
   }
 
   void save(final BackupIdentifier id, final String fileSetName, final NamedFileSet fileSet) {
+    save(id, fileSetName, fileSet, describe(fileSet));
+  }
+
+  /**
+   * Stores the given files under the backup they belong to.
+   *
+   * @param fileSet the files to store
+   * @param storedFileSet how the files are stored, as decided by {@link #describe(NamedFileSet)}
+   */
+  void save(
+      final BackupIdentifier id,
+      final String fileSetName,
+      final NamedFileSet fileSet,
+      final FileSet storedFileSet) {
     final var fileSetPath = fileSetPath(id, fileSetName);
 
     try {
@@ -44,13 +109,12 @@ final class FileSetManager {
       throw new UncheckedIOException("Unable to create backup directory", e);
     }
 
-    for (final var namedFile : fileSet.namedFiles().entrySet()) {
-      final var sourceFileName = namedFile.getKey();
-      final var sourceFilePath = namedFile.getValue();
-
-      final var targetFilePath = fileSetPath.resolve(sourceFileName);
+    final var sourceFiles = fileSet.namedFiles();
+    for (final var file : storedFileSet.files()) {
+      final var sourceFilePath = sourceFiles.get(file.name());
+      final var targetFilePath = fileSetPath.resolve(file.name());
       try {
-        Files.copy(sourceFilePath, targetFilePath);
+        copy(sourceFilePath, targetFilePath, file.compressionAlgorithm());
         FileUtil.flush(targetFilePath);
       } catch (final IOException e) {
         throw new UncheckedIOException("Unable to copy file " + sourceFilePath, e);
@@ -68,6 +132,64 @@ final class FileSetManager {
     }
   }
 
+  /**
+   * Stores the given files content-addressed. Files which are already stored, because a previous
+   * backup of the same partition contains them as well, are skipped.
+   *
+   * @param fileSet the files to store
+   * @param checksums the checksums of the files, as computed by {@link #checksum(NamedFileSet)}
+   */
+  void saveContentAddressed(
+      final BackupIdentifier id, final NamedFileSet fileSet, final FileSet checksums) {
+    final var sourceFiles = fileSet.namedFiles();
+    var skippedFiles = 0;
+    for (final var file : checksums.files()) {
+      final var sourceFilePath = sourceFiles.get(file.name());
+      final var objectPath = objectPath(id.partitionId(), file);
+      if (Files.exists(objectPath)) {
+        skippedFiles++;
+        continue;
+      }
+
+      // copy to a temporary file first, such that a partially copied object is never mistaken
+      // for a stored one
+      final var temporaryPath = objectPath.resolveSibling(objectPath.getFileName() + ".tmp");
+      try {
+        FileUtil.ensureDirectoryExists(objectPath.getParent());
+        Files.deleteIfExists(temporaryPath);
+        copy(sourceFilePath, temporaryPath, file.compressionAlgorithm());
+        FileUtil.flush(temporaryPath);
+        FileUtil.moveDurably(temporaryPath, objectPath, StandardCopyOption.ATOMIC_MOVE);
+      } catch (final IOException e) {
+        throw new UncheckedIOException("Unable to copy file " + sourceFilePath, e);
+      }
+    }
+
+    LOGGER.debug(
+        "Stored {} files of backup {}, skipped {} files which were already stored",
+        checksums.files().size() - skippedFiles,
+        id,
+        skippedFiles);
+  }
+
+  /**
+   * Deletes the given content-addressed files of a partition. The caller must ensure that no backup
+   * references them anymore.
+   *
+   * @param objectNames the names under which the files are stored, see {@link
+   *     #objectName(NamedFile)}
+   */
+  void deleteContentAddressed(final int partitionId, final Collection<String> objectNames) {
+    for (final var objectName : objectNames) {
+      final var objectPath = objectPath(partitionId, objectName);
+      try {
+        Files.deleteIfExists(objectPath);
+      } catch (final IOException e) {
+        throw new UncheckedIOException("Unable to delete file " + objectPath, e);
+      }
+    }
+  }
+
   public void delete(final BackupIdentifier id, final String fileSetName) {
     final var fileSetPath = fileSetPath(id, fileSetName);
     try {
@@ -91,13 +213,21 @@ final class FileSetManager {
             .collect(Collectors.toMap(NamedFile::name, f -> targetFolder.resolve(f.name())));
 
     final Path fileSetPath = fileSetPath(id, fileSetName);
-    for (final var entry : pathByName.entrySet()) {
-      final var fileName = entry.getKey();
-      final var filePath = entry.getValue();
-      final var backupFilePath = fileSetPath.resolve(fileName);
+    for (final var file : fileSet.files()) {
+      final var fileName = file.name();
+      final var filePath = pathByName.get(fileName);
+      final var backupFilePath =
+          file.checksum() != null
+              ? objectPath(id.partitionId(), file)
+              : fileSetPath.resolve(fileName);
 
       try {
-        Files.copy(backupFilePath, filePath, StandardCopyOption.REPLACE_EXISTING);
+        if (file.compressionAlgorithm() != null) {
+          BackupCompression.decompress(
+              Files.newInputStream(backupFilePath), filePath, file.compressionAlgorithm());
+        } else {
+          Files.copy(backupFilePath, filePath, StandardCopyOption.REPLACE_EXISTING);
+        }
         FileUtil.flush(filePath);
       } catch (final IOException e) {
         throw new UncheckedIOException("Unable to restore file " + fileName, e);
@@ -118,6 +248,69 @@ final class FileSetManager {
     return new NamedFileSetImpl(pathByName);
   }
 
+  private String compressionAlgorithm(final Path file) {
+    if (compressionAlgorithm.isEmpty()) {
+      return null;
+    }
+
+    try {
+      return BackupCompression.shouldCompress(file) ? compressionAlgorithm.get() : null;
+    } catch (final IOException e) {
+      LOGGER.warn("Failed to determine if file should be compressed, assuming no: {}", file);
+      return null;
+    }
+  }
+
+  private void copy(final Path source, final Path target, final String compressionAlgorithm)
+      throws IOException {
+    if (compressionAlgorithm == null) {
+      Files.copy(source, target);
+    } else {
+      // compress while copying, instead of compressing to a temporary file first
+      BackupCompression.compress(
+          source,
+          Files.newOutputStream(target, StandardOpenOption.CREATE_NEW),
+          compressionAlgorithm);
+    }
+  }
+
+  private String checksum(final Path file) {
+    try (final var input = Files.newInputStream(file)) {
+      final var digest = MessageDigest.getInstance(CHECKSUM_ALGORITHM);
+      final var buffer = new byte[CHECKSUM_BUFFER_SIZE];
+      int read;
+      while ((read = input.read(buffer)) != -1) {
+        digest.update(buffer, 0, read);
+      }
+      return HexFormat.of().formatHex(digest.digest());
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Unable to compute checksum of file " + file, e);
+    } catch (final NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * @return the name under which the given content-addressed file is stored
+   */
+  String objectName(final NamedFile file) {
+    // the same content may be stored compressed and uncompressed, depending on the configuration
+    // at the time it was stored
+    return file.compressionAlgorithm() == null
+        ? file.checksum()
+        : file.checksum() + "." + file.compressionAlgorithm();
+  }
+
+  private Path objectPath(final int partitionId, final NamedFile file) {
+    return objectPath(partitionId, objectName(file));
+  }
+
+  private Path objectPath(final int partitionId, final String objectName) {
+    return Path.of(
+        OBJECT_PATH_FORMAT.formatted(
+            basePath, partitionId, objectName.substring(0, 2), objectName));
+  }
+
   private Path fileSetPath(final BackupIdentifier id, final String fileSetName) {
     return Path.of(
         PATH_FORMAT.formatted(
@@ -7,11 +7,23 @@
  */
 package io.camunda.zeebe.backup.filesystem;
 
-public record FilesystemBackupConfig(String basePath) {
+import java.util.Optional;
+
+/**
+ * Holds configuration for the {@link FilesystemBackupStore Filesystem Backup Store}.
+ *
+ * @param basePath the base path to store all related backup files in
+ * @param incremental whether backups are stored incrementally
+ * @param compressionAlgorithm algorithm to use (if any) for compressing backup contents
+ */
+public record FilesystemBackupConfig(
+    String basePath, boolean incremental, Optional<String> compressionAlgorithm) {
 
   public static class Builder {
 
     private String basePath;
+    private boolean incremental;
+    private String compressionAlgorithm;
 
     /**
      * The base path to store all related backup files in.
@@ -24,9 +36,33 @@ public record FilesystemBackupConfig(String basePath) {
       return this;
     }
 
+    /**
+     * Whether backups are stored incrementally. Files are then stored under their checksum, shared
+     * by all backups of the same partition, and only files which aren't stored yet are copied.
+     *
+     * @param incremental whether to store backups incrementally
+     * @return the builder for chaining
+     */
+    public Builder withIncremental(final boolean incremental) {
+      this.incremental = incremental;
+      return this;
+    }
+
+    /**
+     * Files larger than 8 MiB are compressed with the given algorithm while they are copied.
+     *
+     * @param compressionAlgorithm the algorithm to use, e.g. {@code zstd}, or null to not compress
+     * @return the builder for chaining
+     */
+    public Builder withCompressionAlgorithm(final String compressionAlgorithm) {
+      this.compressionAlgorithm = compressionAlgorithm;
+      return this;
+    }
+
     public FilesystemBackupConfig build() {
 
-      return new FilesystemBackupConfig(basePath);
+      return new FilesystemBackupConfig(
+          basePath, incremental, Optional.ofNullable(compressionAlgorithm));
     }
   }
 }
@@ -13,15 +13,26 @@ import io.camunda.zeebe.backup.api.BackupIdentifierWildcard;
 import io.camunda.zeebe.backup.api.BackupStatus;
 import io.camunda.zeebe.backup.api.BackupStatusCode;
 import io.camunda.zeebe.backup.api.BackupStore;
+import io.camunda.zeebe.backup.common.BackupCompression;
+import io.camunda.zeebe.backup.common.BackupIdentifierWildcardImpl;
 import io.camunda.zeebe.backup.common.BackupImpl;
 import io.camunda.zeebe.backup.common.BackupStatusImpl;
 import io.camunda.zeebe.backup.common.BackupStoreException.UnexpectedManifestState;
+import io.camunda.zeebe.backup.common.FileSet;
 import io.camunda.zeebe.backup.common.Manifest;
+import io.camunda.zeebe.backup.common.Manifest.InProgressManifest;
 import java.nio.file.Path;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -30,6 +41,13 @@ import org.slf4j.LoggerFactory;
  *
  * <p>All created object keys are prefixed by the {@link BackupIdentifier}, with the following
  * scheme: {@code basePath/partitionId/checkpointId/nodeId}.
+ *
+ * <p>If the store is {@link FilesystemBackupConfig#incremental() incremental}, the files of a
+ * backup are instead stored under their checksum, shared by all backups of the same partition. As
+ * most snapshot files are immutable RocksDB SST files, consecutive backups then only copy the files
+ * which changed since the previous backup. The manifest of a backup references the checksums of its
+ * files, and a stored file is only deleted once no manifest of the partition references it anymore.
+ * Backups which were not stored incrementally can still be restored and deleted.
  */
 public final class FilesystemBackupStore implements BackupStore {
 
@@ -43,24 +61,38 @@ public final class FilesystemBackupStore implements BackupStore {
   private final ExecutorService executor;
   private final FileSetManager fileSetManager;
   private final ManifestManager manifestManager;
+  private final boolean incremental;
+
+  // guards storing and deleting content-addressed files, such that a file which is about to be
+  // deleted is not mistaken as already stored by a concurrent backup
+  private final ReentrantLock contentAddressedFilesLock = new ReentrantLock();
 
   public FilesystemBackupStore(
       final FilesystemBackupConfig config, final ExecutorService executor) {
     validateConfig(config);
     this.executor = executor;
+    incremental = config.incremental();
 
-    fileSetManager = new FileSetManager(config.basePath());
+    fileSetManager = new FileSetManager(config.basePath(), config.compressionAlgorithm());
     manifestManager = new ManifestManager(config.basePath());
   }
 
   @Override
   public CompletableFuture<Void> save(final Backup backup) {
+    if (incremental) {
+      return CompletableFuture.runAsync(() -> saveIncremental(backup), executor);
+    }
+
     return CompletableFuture.runAsync(
         () -> {
-          final var manifest = manifestManager.createInitialManifest(backup);
+          final var snapshot = fileSetManager.describe(backup.snapshot());
+          final var segments = fileSetManager.describe(backup.segments());
+          final var manifest =
+              manifestManager.createInitialManifest(
+                  Manifest.createInProgress(backup, snapshot, segments));
           try {
-            fileSetManager.save(backup.id(), SNAPSHOT_FILESET_NAME, backup.snapshot());
-            fileSetManager.save(backup.id(), SEGMENTS_FILESET_NAME, backup.segments());
+            fileSetManager.save(backup.id(), SNAPSHOT_FILESET_NAME, backup.snapshot(), snapshot);
+            fileSetManager.save(backup.id(), SEGMENTS_FILESET_NAME, backup.segments(), segments);
             manifestManager.completeManifest(manifest);
           } catch (final Exception e) {
             manifestManager.markAsFailed(manifest.id(), e.getMessage());
@@ -94,9 +126,14 @@ public final class FilesystemBackupStore implements BackupStore {
   public CompletableFuture<Void> delete(final BackupIdentifier id) {
     return CompletableFuture.runAsync(
         () -> {
-          manifestManager.deleteManifest(id);
-          fileSetManager.delete(id, SNAPSHOT_FILESET_NAME);
-          fileSetManager.delete(id, SEGMENTS_FILESET_NAME);
+          final var manifest = manifestManager.deleteManifest(id);
+          final var objectNames = manifest == null ? Set.<String>of() : objectNames(manifest);
+          if (objectNames.isEmpty()) {
+            fileSetManager.delete(id, SNAPSHOT_FILESET_NAME);
+            fileSetManager.delete(id, SEGMENTS_FILESET_NAME);
+          } else {
+            deleteUnreferencedFiles(id.partitionId(), objectNames);
+          }
         },
         executor);
   }
@@ -157,9 +194,67 @@ public final class FilesystemBackupStore implements BackupStore {
         });
   }
 
+  private void saveIncremental(final Backup backup) {
+    // the checksums are part of the initial manifest, such that the files are referenced before
+    // they are stored and can't be deleted concurrently
+    final var snapshot = fileSetManager.checksum(backup.snapshot());
+    final var segments = fileSetManager.checksum(backup.segments());
+    final InProgressManifest manifest =
+        manifestManager.createInitialManifest(
+            Manifest.createInProgress(backup, snapshot, segments));
+    try {
+      contentAddressedFilesLock.lock();
+      try {
+        fileSetManager.saveContentAddressed(backup.id(), backup.snapshot(), snapshot);
+        fileSetManager.saveContentAddressed(backup.id(), backup.segments(), segments);
+      } finally {
+        contentAddressedFilesLock.unlock();
+      }
+      manifestManager.completeManifest(manifest);
+    } catch (final Exception e) {
+      manifestManager.markAsFailed(manifest.id(), e.getMessage());
+      throw e;
+    }
+  }
+
+  private void deleteUnreferencedFiles(final int partitionId, final Set<String> objectNames) {
+    final var wildcard =
+        new BackupIdentifierWildcardImpl(
+            Optional.empty(), Optional.of(partitionId), Optional.empty());
+
+    contentAddressedFilesLock.lock();
+    try {
+      final var unreferenced = new HashSet<>(objectNames);
+      manifestManager.listManifests(wildcard).stream()
+          .filter(Objects::nonNull)
+          .map(this::objectNames)
+          .forEach(unreferenced::removeAll);
+
+      LOG.debug(
+          "Deleting {} of {} files of partition {} which are no longer referenced by any backup",
+          unreferenced.size(),
+          objectNames.size(),
+          partitionId);
+      fileSetManager.deleteContentAddressed(partitionId, unreferenced);
+    } finally {
+      contentAddressedFilesLock.unlock();
+    }
+  }
+
+  private Set<String> objectNames(final Manifest manifest) {
+    return Stream.of(manifest.snapshot(), manifest.segments())
+        .filter(Objects::nonNull)
+        .map(FileSet::files)
+        .flatMap(Collection::stream)
+        .filter(file -> file.checksum() != null)
+        .map(fileSetManager::objectName)
+        .collect(Collectors.toSet());
+  }
+
   public static void validateConfig(final FilesystemBackupConfig config) {
     if (config.basePath() == null || config.basePath().isBlank()) {
       throw new IllegalArgumentException("Base directory is required");
     }
+    config.compressionAlgorithm().ifPresent(BackupCompression::validateAlgorithm);
   }
 }
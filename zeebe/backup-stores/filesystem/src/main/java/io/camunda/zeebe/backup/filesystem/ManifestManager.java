@@ -68,8 +68,10 @@ public final class ManifestManager {
   }
 
   InProgressManifest createInitialManifest(final Backup backup) {
+    return createInitialManifest(Manifest.createInProgress(backup));
+  }
 
-    final var manifest = Manifest.createInProgress(backup);
+  InProgressManifest createInitialManifest(final InProgressManifest manifest) {
     final byte[] serializedManifest;
     final var path = manifestPath(manifest);
 
@@ -138,10 +140,15 @@ public final class ManifestManager {
     }
   }
 
-  public void deleteManifest(final BackupIdentifier id) {
+  /**
+   * Deletes the manifest of the given backup, if it exists.
+   *
+   * @return the deleted manifest, or null if there was none
+   */
+  public Manifest deleteManifest(final BackupIdentifier id) {
     final Manifest manifest = getManifest(id);
     if (manifest == null) {
-      return;
+      return null;
     } else if (manifest.statusCode() == StatusCode.IN_PROGRESS) {
       throw new UnexpectedManifestState(
           "Cannot delete Backup with id '%s' while saving is in progress."
@@ -157,6 +164,8 @@ public final class ManifestManager {
     } catch (final IOException e) {
       throw new UncheckedIOException("Unable to delete manifest", e);
     }
+
+    return manifest;
   }
 
   Manifest getManifest(final BackupIdentifier id) {
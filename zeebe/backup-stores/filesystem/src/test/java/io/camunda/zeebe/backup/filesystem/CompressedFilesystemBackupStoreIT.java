@@ -0,0 +1,114 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.backup.filesystem;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.backup.api.Backup;
+import io.camunda.zeebe.backup.common.BackupDescriptorImpl;
+import io.camunda.zeebe.backup.common.BackupIdentifierImpl;
+import io.camunda.zeebe.backup.common.BackupImpl;
+import io.camunda.zeebe.backup.common.NamedFileSetImpl;
+import io.camunda.zeebe.backup.testkit.support.BackupAssert;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+final class CompressedFilesystemBackupStoreIT extends FilesystemBackupStoreIT {
+
+  private static final int COMPRESSIBLE_FILE_SIZE = 16 * 1024 * 1024;
+
+  @TempDir Path sourceDir;
+
+  @Override
+  @BeforeEach
+  public void setUpStore() {
+    setUpStore(false);
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {false, true})
+  void shouldCompressLargeFiles(final boolean incremental) throws IOException {
+    // given
+    setUpStore(incremental);
+    final var backup = compressibleBackup();
+
+    // when
+    getStore().save(backup).join();
+
+    // then
+    final var storedBytes = storedBytes();
+    assertThat(storedBytes).isPositive().isLessThan(COMPRESSIBLE_FILE_SIZE / 10);
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {false, true})
+  void shouldRestoreCompressedFiles(final boolean incremental, @TempDir final Path targetDir)
+      throws IOException {
+    // given
+    setUpStore(incremental);
+    final var backup = compressibleBackup();
+    getStore().save(backup).join();
+
+    // when
+    final var restored = getStore().restore(backup.id(), targetDir).join();
+
+    // then
+    BackupAssert.assertThatBackup(restored).hasSameContentsAs(backup);
+  }
+
+  private void setUpStore(final boolean incremental) {
+    backupConfig =
+        new FilesystemBackupConfig.Builder()
+            .withBasePath(backupDir.toString())
+            .withIncremental(incremental)
+            .withCompressionAlgorithm("zstd")
+            .build();
+    backupStore =
+        new FilesystemBackupStore(backupConfig, Executors.newVirtualThreadPerTaskExecutor());
+  }
+
+  private Backup compressibleBackup() throws IOException {
+    final var content = new byte[COMPRESSIBLE_FILE_SIZE];
+    Arrays.fill(content, (byte) 'a');
+    final var snapshotFile = Files.write(sourceDir.resolve("snapshot.sst"), content);
+    final var segmentFile = Files.writeString(sourceDir.resolve("segment.log"), "small");
+
+    return new BackupImpl(
+        new BackupIdentifierImpl(1, 2, 3),
+        new BackupDescriptorImpl(Optional.of("snapshot"), 3, 3, "test"),
+        new NamedFileSetImpl(Map.of("snapshot.sst", snapshotFile)),
+        new NamedFileSetImpl(Map.of("segment.log", segmentFile)));
+  }
+
+  private long storedBytes() throws IOException {
+    try (final var files = Files.walk(backupDir)) {
+      return files
+          .filter(Files::isRegularFile)
+          .filter(file -> !file.getFileName().toString().equals("manifest.json"))
+          .mapToLong(
+              file -> {
+                try {
+                  return Files.size(file);
+                } catch (final IOException e) {
+                  throw new UncheckedIOException(e);
+                }
+              })
+          .sum();
+    }
+  }
+}
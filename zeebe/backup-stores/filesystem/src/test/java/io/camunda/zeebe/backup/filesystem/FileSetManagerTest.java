@@ -87,4 +87,22 @@ class FileSetManagerTest {
     assertThat(Files.exists(restoredFilePath)).isTrue();
     assertThat(restoredFileSet.namedFiles().get("testFile.txt")).isEqualTo(restoredFilePath);
   }
+
+  @Test
+  void shouldRestoreContentAddressedFiles() throws IOException {
+    // given
+    final Path filePath = Files.writeString(tempDir.resolve("testFile.txt"), "content");
+    final var namedFileSet = new NamedFileSetImpl(Map.of("testFile.txt", filePath));
+    final var checksums = fileSetManager.checksum(namedFileSet);
+    fileSetManager.saveContentAddressed(backupIdentifier, namedFileSet, checksums);
+
+    // when
+    final Path targetFolder = Files.createDirectories(tempDir.resolve("restoreTarget"));
+    final NamedFileSet restoredFileSet =
+        fileSetManager.restore(backupIdentifier, "fileSetName", checksums, targetFolder);
+
+    // then
+    assertThat(restoredFileSet.namedFiles().get("testFile.txt")).hasContent("content");
+    assertThat(backupDir.resolve("contents")).doesNotExist();
+  }
 }
@@ -0,0 +1,113 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.backup.filesystem;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.backup.api.Backup;
+import io.camunda.zeebe.backup.common.BackupDescriptorImpl;
+import io.camunda.zeebe.backup.common.BackupIdentifierImpl;
+import io.camunda.zeebe.backup.common.BackupImpl;
+import io.camunda.zeebe.backup.common.NamedFileSetImpl;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class IncrementalFilesystemBackupStoreIT extends FilesystemBackupStoreIT {
+
+  @TempDir Path sourceDir;
+
+  @Override
+  @BeforeEach
+  public void setUpStore() {
+    backupConfig =
+        new FilesystemBackupConfig.Builder()
+            .withBasePath(backupDir.toString())
+            .withIncremental(true)
+            .build();
+    backupStore =
+        new FilesystemBackupStore(backupConfig, Executors.newVirtualThreadPerTaskExecutor());
+  }
+
+  @Test
+  void shouldStoreUnchangedFilesOnlyOnce() throws IOException {
+    // given
+    final var sharedFile = createFile("shared.sst", "shared");
+    final var first = backup(3, sharedFile, createFile("first.log", "first"));
+    final var second = backup(4, sharedFile, createFile("second.log", "second"));
+
+    // when
+    getStore().save(first).join();
+    getStore().save(second).join();
+
+    // then
+    assertThat(storedFiles()).hasSize(3);
+  }
+
+  @Test
+  void shouldRestoreSharedFilesAfterDeletingOtherBackup(@TempDir final Path targetDir)
+      throws IOException {
+    // given
+    final var sharedFile = createFile("shared.sst", "shared");
+    final var first = backup(3, sharedFile, createFile("first.log", "first"));
+    final var second = backup(4, sharedFile, createFile("second.log", "second"));
+    getStore().save(first).join();
+    getStore().save(second).join();
+
+    // when
+    getStore().delete(first.id()).join();
+
+    // then
+    assertThat(storedFiles()).hasSize(2);
+    final var restored = getStore().restore(second.id(), targetDir).join();
+    assertThat(restored.snapshot().namedFiles().get("shared.sst")).hasContent("shared");
+    assertThat(restored.segments().namedFiles().get("segment.log")).hasContent("second");
+  }
+
+  @Test
+  void shouldDeleteFilesWhichAreNoLongerReferenced() throws IOException {
+    // given
+    final var sharedFile = createFile("shared.sst", "shared");
+    final var first = backup(3, sharedFile, createFile("first.log", "first"));
+    final var second = backup(4, sharedFile, createFile("second.log", "second"));
+    getStore().save(first).join();
+    getStore().save(second).join();
+
+    // when
+    getStore().delete(first.id()).join();
+    getStore().delete(second.id()).join();
+
+    // then
+    assertThat(storedFiles()).isEmpty();
+  }
+
+  private Path createFile(final String name, final String content) throws IOException {
+    return Files.writeString(sourceDir.resolve(name), content);
+  }
+
+  private Backup backup(final long checkpointId, final Path snapshotFile, final Path segmentFile) {
+    return new BackupImpl(
+        new BackupIdentifierImpl(1, 2, checkpointId),
+        new BackupDescriptorImpl(Optional.of("snapshot"), checkpointId, 3, "test"),
+        new NamedFileSetImpl(Map.of("shared.sst", snapshotFile)),
+        new NamedFileSetImpl(Map.of("segment.log", segmentFile)));
+  }
+
+  private List<Path> storedFiles() throws IOException {
+    try (final var files = Files.walk(backupDir.resolve("objects"))) {
+      return files.filter(Files::isRegularFile).toList();
+    }
+  }
+}
@@ -8,42 +8,49 @@
 package io.camunda.zeebe.backup.s3;
 
 import io.camunda.zeebe.backup.api.NamedFileSet;
+import io.camunda.zeebe.backup.common.BackupCompression;
+import io.camunda.zeebe.backup.common.CompressedChunks;
 import io.camunda.zeebe.backup.common.NamedFileSetImpl;
 import io.camunda.zeebe.backup.s3.S3BackupStoreException.BackupCompressionFailed;
 import io.camunda.zeebe.backup.s3.manifest.FileSet;
 import io.camunda.zeebe.backup.s3.manifest.FileSet.FileMetadata;
 import io.camunda.zeebe.backup.s3.util.CompletableFutureUtils;
-import java.io.BufferedInputStream;
-import java.io.BufferedOutputStream;
 import java.io.IOException;
-import java.io.UncheckedIOException;
-import java.nio.file.Files;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map.Entry;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Semaphore;
-import org.apache.commons.compress.compressors.CompressorException;
-import org.apache.commons.compress.compressors.CompressorStreamFactory;
-import org.apache.commons.compress.utils.IOUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import software.amazon.awssdk.core.FileTransformerConfiguration.FailureBehavior;
-import software.amazon.awssdk.core.FileTransformerConfiguration.FileWriteOption;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
 
-/** Can save and restore {@link NamedFileSet NamedFileSets}. */
+/**
+ * Can save and restore {@link NamedFileSet NamedFileSets}.
+ *
+ * <p>Compressed files are streamed: they are compressed while being uploaded, in parts of a
+ * multipart upload, and decompressed while being downloaded. Neither requires temporary files.
+ * The next part of a file is compressed on a dedicated executor while the current one is uploaded,
+ * so each file being uploaded keeps at most two parts in memory.
+ */
 final class FileSetManager {
 
   private static final Logger LOG = LoggerFactory.getLogger(FileSetManager.class);
-  private static final int COMPRESSION_SIZE_THRESHOLD = 8 * 1024 * 1024; // 8 MiB
-  private static final String TMP_COMPRESSION_PREFIX = "zb-backup-compress-";
-  private static final String TMP_DECOMPRESSION_PREFIX = "zb-backup-decompress-";
+  // S3 requires every part but the last one of a multipart upload to be at least 5 MiB
+  private static final int UPLOAD_PART_SIZE = 8 * 1024 * 1024; // 8 MiB
 
   private final S3AsyncClient client;
   private final S3BackupConfig config;
   private final Semaphore uploadLimit;
+  private final ExecutorService compressionExecutor;
 
   public FileSetManager(final S3AsyncClient client, final S3BackupConfig config) {
     this.client = client;
@@ -53,7 +60,17 @@ final class FileSetManager {
     // concurrent uploads to half of the number of available connections.
     // This should prevent ConnectionAcquisitionTimeout for backups with many and/or large files
     // where we would otherwise occupy all connections, preventing some uploads from starting.
-    uploadLimit = new Semaphore(Math.max(1, config.maxConcurrentConnections() / 2));
+    final var maxConcurrentUploads = Math.max(1, config.maxConcurrentConnections() / 2);
+    uploadLimit = new Semaphore(maxConcurrentUploads);
+    // every file being uploaded compresses at most one part at a time
+    compressionExecutor =
+        Executors.newFixedThreadPool(
+            maxConcurrentUploads,
+            Thread.ofPlatform().name("s3-backup-compression-", 0).daemon().factory());
+  }
+
+  void close() {
+    compressionExecutor.shutdownNow();
   }
 
   CompletableFuture<FileSet> save(final String prefix, final NamedFileSet files) {
@@ -71,18 +88,14 @@ final class FileSetManager {
     if (shouldCompressFile(filePath)) {
       final var algorithm = config.compressionAlgorithm().orElseThrow();
       return CompletableFuture.runAsync(uploadLimit::acquireUninterruptibly)
-          .thenApply((success) -> compressFile(filePath, algorithm))
+          .thenApply(nothing -> compressInChunks(filePath, algorithm))
           .thenCompose(
-              (compressedFile) -> {
-                LOG.trace(
-                    "Saving compressed file {}({}) in prefix {}", fileName, compressedFile, prefix);
-                return client
-                    .putObject(
-                        put -> put.bucket(config.bucketName()).key(prefix + fileName),
-                        AsyncRequestBody.fromFile(compressedFile))
-                    .thenRunAsync(() -> cleanupCompressedFile(compressedFile))
-                    .thenApply(unused -> FileSet.FileMetadata.withCompression(algorithm));
+              chunks -> {
+                LOG.trace("Saving compressed file {}({}) in prefix {}", fileName, filePath, prefix);
+                return saveCompressedFile(prefix + fileName, filePath, chunks)
+                    .whenComplete((success, error) -> closeChunks(filePath, chunks));
               })
+          .thenApply(unused -> FileSet.FileMetadata.withCompression(algorithm))
           .whenComplete((success, error) -> uploadLimit.release());
     }
 
@@ -99,50 +112,141 @@ final class FileSetManager {
         .whenComplete((success, error) -> uploadLimit.release());
   }
 
-  private void cleanupCompressedFile(final Path compressedFile) {
-    try {
-      Files.delete(compressedFile);
-    } catch (final IOException e) {
-      LOG.warn(
-          "Failed to clean up temporary file used for (de-)compression: {}", compressedFile, e);
-    }
-  }
-
   private boolean shouldCompressFile(final Path filePath) {
     try {
       return config.compressionAlgorithm().isPresent()
-          && Files.size(filePath) > COMPRESSION_SIZE_THRESHOLD;
+          && BackupCompression.shouldCompress(filePath);
     } catch (final IOException e) {
       LOG.warn("Failed to determine if file should be compressed, assuming no: {}", filePath);
       return false;
     }
   }
 
-  private Path compressFile(final Path file, final String algorithm) {
+  private CompressedChunks compressInChunks(final Path file, final String algorithm) {
     try {
-      final var compressedFile = Files.createTempFile(TMP_COMPRESSION_PREFIX, null);
-      LOG.trace("Compressing file {} to {} using {}", file, compressedFile, algorithm);
-      try (final var input = new BufferedInputStream(Files.newInputStream(file));
-          final var output = new BufferedOutputStream(Files.newOutputStream(compressedFile));
-          final var compressedOutput =
-              new CompressorStreamFactory().createCompressorOutputStream(algorithm, output)) {
-        IOUtils.copy(input, compressedOutput);
-        if (LOG.isTraceEnabled()) {
-          LOG.trace(
-              "Compressed file {} to {}. Uncompressed: {} bytes, compressed: {} bytes",
-              file,
-              compressedFile,
-              Files.size(file),
-              Files.size(compressedFile));
-        }
-        return compressedFile;
-      }
-    } catch (final IOException | CompressorException e) {
+      return BackupCompression.compressInChunks(file, algorithm, UPLOAD_PART_SIZE);
+    } catch (final IOException e) {
       throw new BackupCompressionFailed(
           "Failed to compress file %s using %s".formatted(file, algorithm), e);
     }
   }
 
+  private ByteBuffer nextChunk(final Path file, final CompressedChunks chunks) {
+    try {
+      return chunks.next();
+    } catch (final IOException e) {
+      throw new BackupCompressionFailed("Failed to compress file %s".formatted(file), e);
+    }
+  }
+
+  private void closeChunks(final Path file, final CompressedChunks chunks) {
+    try {
+      chunks.close();
+    } catch (final IOException e) {
+      LOG.warn("Failed to close file {} after compressing it", file, e);
+    }
+  }
+
+  private CompletableFuture<Void> saveCompressedFile(
+      final String key, final Path file, final CompressedChunks chunks) {
+    return compressNextChunk(file, chunks)
+        .thenCompose(
+            firstChunk -> {
+              if (chunks.isExhausted()) {
+                // the compressed file fits into a single part, no need for a multipart upload
+                return client
+                    .putObject(
+                        put -> put.bucket(config.bucketName()).key(key),
+                        AsyncRequestBody.fromRemainingByteBufferUnsafe(firstChunk))
+                    .<Void>thenApply(response -> null);
+              }
+
+              return client
+                  .createMultipartUpload(create -> create.bucket(config.bucketName()).key(key))
+                  .thenCompose(
+                      upload -> saveInParts(key, upload.uploadId(), file, chunks, firstChunk));
+            });
+  }
+
+  private CompletableFuture<Void> saveInParts(
+      final String key,
+      final String uploadId,
+      final Path file,
+      final CompressedChunks chunks,
+      final ByteBuffer firstChunk) {
+    return uploadParts(key, uploadId, file, chunks, firstChunk, new ArrayList<>())
+        .thenCompose(
+            parts ->
+                client.completeMultipartUpload(
+                    complete ->
+                        complete
+                            .bucket(config.bucketName())
+                            .key(key)
+                            .uploadId(uploadId)
+                            .multipartUpload(multipart -> multipart.parts(parts))))
+        .<Void>thenApply(response -> null)
+        .exceptionallyCompose(error -> abortUpload(key, uploadId, error));
+  }
+
+  private CompletableFuture<List<CompletedPart>> uploadParts(
+      final String key,
+      final String uploadId,
+      final Path file,
+      final CompressedChunks chunks,
+      final ByteBuffer chunk,
+      final List<CompletedPart> parts) {
+    final var partNumber = parts.size() + 1;
+    final var partSize = chunk.remaining();
+    LOG.trace("Uploading part {} of {} ({} bytes)", partNumber, key, partSize);
+    final var upload =
+        client
+            .uploadPart(
+                part ->
+                    part.bucket(config.bucketName())
+                        .key(key)
+                        .uploadId(uploadId)
+                        .partNumber(partNumber)
+                        .contentLength((long) partSize),
+                AsyncRequestBody.fromRemainingByteBufferUnsafe(chunk))
+            .thenAccept(
+                response ->
+                    parts.add(
+                        CompletedPart.builder()
+                            .partNumber(partNumber)
+                            .eTag(response.eTag())
+                            .build()));
+    if (chunks.isExhausted()) {
+      return upload.thenApply(nothing -> parts);
+    }
+
+    // compress the next part while the current one is uploaded; waiting for both before going on
+    // ensures that the chunks are neither closed nor reused while one of them is still in use
+    final var next = compressNextChunk(file, chunks);
+    return CompletableFuture.allOf(upload, next)
+        .thenCompose(nothing -> uploadParts(key, uploadId, file, chunks, next.join(), parts));
+  }
+
+  private CompletableFuture<ByteBuffer> compressNextChunk(
+      final Path file, final CompressedChunks chunks) {
+    return CompletableFuture.supplyAsync(() -> nextChunk(file, chunks), compressionExecutor);
+  }
+
+  private CompletableFuture<Void> abortUpload(
+      final String key, final String uploadId, final Throwable error) {
+    LOG.debug("Aborting multipart upload of {} after failure", key, error);
+    return client
+        .abortMultipartUpload(
+            abort -> abort.bucket(config.bucketName()).key(key).uploadId(uploadId))
+        .handle(
+            (response, abortError) -> {
+              if (abortError != null) {
+                error.addSuppressed(abortError);
+              }
+              return null;
+            })
+        .thenCompose(nothing -> CompletableFuture.failedFuture(error));
+  }
+
   CompletableFuture<NamedFileSet> restore(
       final String sourcePrefix, final FileSet fileSet, final Path targetFolder) {
     LOG.debug(
@@ -171,22 +275,17 @@ final class FileSetManager {
           fileName,
           sourcePrefix,
           targetFolder);
-      try {
-        final var compressed = Files.createTempFile(TMP_DECOMPRESSION_PREFIX, null);
-        return client
-            .getObject(
-                req -> req.bucket(config.bucketName()).key(sourcePrefix + fileName),
-                AsyncResponseTransformer.toFile(
-                    compressed,
-                    cfg ->
-                        cfg.fileWriteOption(FileWriteOption.CREATE_OR_REPLACE_EXISTING)
-                            .failureBehavior(FailureBehavior.DELETE)))
-            .thenApplyAsync(
-                response -> decompressFile(compressed, decompressed, compressionAlgorithm.get()));
-
-      } catch (final IOException e) {
-        throw new UncheckedIOException(e);
-      }
+      return client
+          .getObject(
+              req -> req.bucket(config.bucketName()).key(sourcePrefix + fileName),
+              AsyncResponseTransformer.toBlockingInputStream())
+          .thenApplyAsync(
+              compressed ->
+                  decompressFile(
+                      sourcePrefix + fileName,
+                      compressed,
+                      decompressed,
+                      compressionAlgorithm.get()));
     }
 
     LOG.trace("Restoring file {} from prefix {} to {}", fileName, sourcePrefix, targetFolder);
@@ -197,28 +296,16 @@ final class FileSetManager {
   }
 
   private Path decompressFile(
-      final Path compressed, final Path decompressed, final String algorithm) {
-    try (final var input = new BufferedInputStream(Files.newInputStream(compressed));
-        final var output = new BufferedOutputStream(Files.newOutputStream(decompressed));
-        final var decompressedOutput =
-            new CompressorStreamFactory().createCompressorInputStream(algorithm, input)) {
-      IOUtils.copy(decompressedOutput, output);
-      if (LOG.isTraceEnabled()) {
-        LOG.trace(
-            "Decompressed file {} to {} using {}. Compressed: {} bytes, uncompressed: {} bytes",
-            compressed,
-            decompressed,
-            algorithm,
-            Files.size(compressed),
-            Files.size(decompressed));
-      }
-      cleanupCompressedFile(compressed);
+      final String key,
+      final InputStream compressed,
+      final Path decompressed,
+      final String algorithm) {
+    try (compressed) {
+      BackupCompression.decompress(compressed, decompressed, algorithm);
       return decompressed;
-    } catch (final IOException | CompressorException e) {
+    } catch (final IOException e) {
       throw new BackupCompressionFailed(
-          "Failed to decompress from %s to %s using %s"
-              .formatted(compressed, decompressed, algorithm),
-          e);
+          "Failed to decompress from %s to %s using %s".formatted(key, decompressed, algorithm), e);
     }
   }
 }
@@ -7,10 +7,9 @@
  */
 package io.camunda.zeebe.backup.s3;
 
+import io.camunda.zeebe.backup.common.BackupCompression;
 import java.time.Duration;
-import java.util.HashSet;
 import java.util.Optional;
-import org.apache.commons.compress.compressors.CompressorStreamFactory;
 
 /**
  * Holds configuration for the {@link S3BackupStore S3 Backup Store}.
@@ -56,20 +55,7 @@ public record S3BackupConfig(
     if (bucketName == null || bucketName.isEmpty()) {
       throw new IllegalArgumentException("Bucket name must not be empty.");
     }
-    if (compressionAlgorithm.isPresent()) {
-      final var inputAlgorithms =
-          CompressorStreamFactory.getSingleton().getInputStreamCompressorNames();
-      final var outputAlgorithms =
-          CompressorStreamFactory.getSingleton().getOutputStreamCompressorNames();
-      final var supported = new HashSet<>(inputAlgorithms);
-      supported.retainAll(outputAlgorithms);
-
-      if (!supported.contains(compressionAlgorithm.get())) {
-        throw new IllegalArgumentException(
-            "Can't use compression algorithm %s. Only supports %s"
-                .formatted(compressionAlgorithm.get(), supported));
-      }
-    }
+    compressionAlgorithm.ifPresent(BackupCompression::validateAlgorithm);
     if (basePath.isPresent()) {
       final var prefix = basePath.get();
       if (prefix.isEmpty()) {
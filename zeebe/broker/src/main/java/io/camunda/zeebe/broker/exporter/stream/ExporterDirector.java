@@ -13,9 +13,7 @@ import io.camunda.zeebe.broker.exporter.stream.ExporterDirectorContext.ExporterM
 import io.camunda.zeebe.broker.system.partitions.PartitionMessagingService;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.exporter.api.context.Context;
-import io.camunda.zeebe.logstreams.log.LogRecordAwaiter;
 import io.camunda.zeebe.logstreams.log.LogStream;
-import io.camunda.zeebe.logstreams.log.LogStreamReader;
 import io.camunda.zeebe.logstreams.log.LoggedEvent;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
 import io.camunda.zeebe.protocol.record.RecordType;
@@ -27,8 +25,6 @@ import io.camunda.zeebe.scheduler.SchedulingHints;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.scheduler.retry.BackOffRetryStrategy;
-import io.camunda.zeebe.scheduler.retry.EndlessRetryStrategy;
-import io.camunda.zeebe.scheduler.retry.RetryStrategy;
 import io.camunda.zeebe.stream.api.EventFilter;
 import io.camunda.zeebe.util.exception.UnrecoverableException;
 import io.camunda.zeebe.util.health.FailureListener;
@@ -40,6 +36,7 @@ import java.time.InstantSource;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -50,12 +47,8 @@ import java.util.stream.Collectors;
 import org.agrona.LangUtil;
 import org.slf4j.Logger;
 
-public final class ExporterDirector extends Actor implements HealthMonitorable, LogRecordAwaiter {
+public final class ExporterDirector extends Actor implements HealthMonitorable {
 
-  private static final String ERROR_MESSAGE_EXPORTING_ABORTED =
-      "Expected to export record '{}' successfully, but exception was thrown.";
-  private static final String ERROR_MESSAGE_RECOVER_FROM_SNAPSHOT_FAILED =
-      "Expected to find event with the snapshot position %s in log stream, but nothing was found. Failed to recover '%s'.";
   private static final String EXPORTER_STATE_TOPIC_FORMAT = "exporterState-%d";
 
   private static final Logger LOG = Loggers.EXPORTER_LOGGER;
@@ -68,17 +61,13 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   private final ZeebeDb zeebeDb;
   private final ExporterMetrics metrics;
   private final String name;
-  private final RetryStrategy exportingRetryStrategy;
-  private final RetryStrategy recordWrapStrategy;
+  private final ExportingLoop exportingLoop;
   private final Set<FailureListener> listeners = new HashSet<>();
-  private LogStreamReader logStreamReader;
-  private EventFilter eventFilter;
   private ExportersState state;
 
   @SuppressWarnings("java:S3077") // allow volatile here, health is immutable
   private volatile HealthReport healthReport;
 
-  private boolean inExportingPhase;
   private ExporterPhase exporterPhase;
   private final PartitionMessagingService partitionMessagingService;
   private final String exporterPositionsTopic;
@@ -93,6 +82,12 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   // The actor is still running, but it is not actively doing any work.
   private boolean idle;
   private final InstantSource clock;
+  // When exporting with parallel pipelines, every exporter is exported to by its own pipeline,
+  // instead of by this actor. Only used in ACTIVE mode.
+  private final boolean parallelPipelines;
+  private final Map<String, ExporterPipeline> pipelines = new LinkedHashMap<>();
+  private final AtomicBoolean exportedPositionUpdateScheduled = new AtomicBoolean(false);
+  private ActorSchedulingService actorSchedulingService;
 
   public ExporterDirector(
       final ExporterDirectorContext context, final ExporterPhase exporterPhase) {
@@ -115,8 +110,16 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     metrics = new ExporterMetrics(meterRegistry);
     metrics.initializeExporterState(exporterPhase);
     recordExporter = new RecordExporter(metrics, containers, partitionId, clock);
-    exportingRetryStrategy = new BackOffRetryStrategy(actor, Duration.ofSeconds(10));
-    recordWrapStrategy = new EndlessRetryStrategy(actor);
+    exportingLoop =
+        new ExportingLoop(
+            name,
+            actor,
+            logStream,
+            metrics,
+            recordExporter,
+            this::isClosed,
+            () -> isOpened.get() && !idle && this.exporterPhase != ExporterPhase.PAUSED,
+            new ExportingListener());
     zeebeDb = context.getZeebeDb();
     this.exporterPhase = exporterPhase;
     partitionMessagingService = context.getPartitionMessagingService();
@@ -124,12 +127,15 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     exporterMode = context.getExporterMode();
     distributionInterval = context.getDistributionInterval();
     positionsToSkipFilter = context.getPositionsToSkipFilter();
+    parallelPipelines =
+        context.isParallelPipelines() && context.getExporterMode() == ExporterMode.ACTIVE;
 
     // needs name to be initialized
     healthReport = HealthReport.healthy(this);
   }
 
   public ActorFuture<Void> startAsync(final ActorSchedulingService actorSchedulingService) {
+    this.actorSchedulingService = actorSchedulingService;
     return actorSchedulingService.submitActor(this, SchedulingHints.ioBound());
   }
 
@@ -151,6 +157,9 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       // are added.
       return CompletableActorFuture.completed(null);
     }
+    if (parallelPipelines) {
+      return changePipelinesPhase(ExporterPhase.PAUSED, metrics::setExporterPaused);
+    }
     return actor.call(
         () -> {
           metrics.setExporterPaused();
@@ -173,6 +182,9 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       // are added.
       return CompletableActorFuture.completed(null);
     }
+    if (parallelPipelines) {
+      return changePipelinesPhase(ExporterPhase.SOFT_PAUSED, metrics::setExporterSoftPaused);
+    }
     return actor.call(
         () -> {
           containers.stream().forEach(ExporterContainer::softPauseExporter);
@@ -193,6 +205,9 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       // state will be applied and exporting "resumes".
       return CompletableActorFuture.completed(null);
     }
+    if (parallelPipelines) {
+      return changePipelinesPhase(ExporterPhase.EXPORTING, metrics::setExporterActive);
+    }
 
     return actor.call(
         () -> {
@@ -202,7 +217,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
           exporterPhase = ExporterPhase.EXPORTING;
           metrics.setExporterActive();
           if (exporterMode == ExporterMode.ACTIVE) {
-            actor.submit(this::readNextEvent);
+            actor.submit(exportingLoop::readNextEvent);
           }
         });
   }
@@ -219,21 +234,47 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       return CompletableActorFuture.completed(null);
     }
 
-    return actor.call(() -> removeExporter(exporterId));
+    final var removed = new CompletableActorFuture<Void>();
+    actor.run(() -> removeExporter(exporterId, removed));
+    return removed;
   }
 
-  private void removeExporter(final String exporterId) {
+  private void removeExporter(final String exporterId, final CompletableActorFuture<Void> removed) {
     containers.stream()
         .filter(c -> c.getId().equals(exporterId))
         .findFirst()
         .ifPresentOrElse(
-            container -> removeExporter(exporterId, container),
-            () -> LOG.debug("Exporter '{}' is not found. It may be already removed.", exporterId));
+            container -> removeExporter(exporterId, container, removed),
+            () -> {
+              LOG.debug("Exporter '{}' is not found. It may be already removed.", exporterId);
+              removed.complete(null);
+            });
   }
 
-  private void removeExporter(final String exporterId, final ExporterContainer container) {
-    container.close();
+  private void removeExporter(
+      final String exporterId,
+      final ExporterContainer container,
+      final CompletableActorFuture<Void> removed) {
     containers.remove(container);
+
+    final var pipeline = pipelines.remove(exporterId);
+    if (pipeline == null) {
+      container.close();
+      removeExporterState(exporterId);
+      removed.complete(null);
+      return;
+    }
+
+    // the pipeline must not update the exporter's position anymore once its state is removed
+    actor.runOnCompletion(
+        pipeline.closeAsync(),
+        (closed, error) -> {
+          removeExporterState(exporterId);
+          removed.complete(null);
+        });
+  }
+
+  private void removeExporterState(final String exporterId) {
     state.removeExporterState(exporterId);
     // After removing this exporter, the exporter index has changed. Reset it so that we don't
     // miss to export the record to any of the exporters whose index has changed.
@@ -314,7 +355,10 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
 
     final ExporterContainer container =
         new ExporterContainer(descriptor, partitionId, initializationInfo, meterRegistry, clock);
-    container.initContainer(actor, metrics, state, exporterPhase);
+    final var pipeline = parallelPipelines ? newPipeline(container) : null;
+    if (pipeline == null) {
+      container.initContainer(actor, metrics, state, exporterPhase);
+    }
     try {
       container.configureExporter();
     } catch (final Exception e) {
@@ -323,7 +367,11 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     }
     // initializes metadata and position in the runtime state
     container.initMetadata();
-    if (exporterMode == ExporterMode.ACTIVE) {
+    if (pipeline != null) {
+      // the pipeline opens the exporter once it is started
+      pipelines.put(exporterId, pipeline);
+      actorSchedulingService.submitActor(pipeline, SchedulingHints.ioBound());
+    } else if (exporterMode == ExporterMode.ACTIVE) {
       container.openExporter();
     }
     containers.add(container);
@@ -355,8 +403,8 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
 
   @Override
   protected void onActorStarting() {
-    if (exporterMode == ExporterMode.ACTIVE) {
-      logStreamReader = logStream.newLogStreamReader();
+    if (exporterMode == ExporterMode.ACTIVE && !parallelPipelines) {
+      exportingLoop.openReader();
     }
   }
 
@@ -392,10 +440,18 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
 
   @Override
   protected void onActorClosing() {
-    if (logStreamReader != null) {
-      logStreamReader.close();
+    exportingLoop.closeReader();
+
+    // the pipelines close their exporters
+    for (final var pipeline : pipelines.values()) {
+      actor.runOnCompletionBlockingCurrentPhase(
+          pipeline.closeAsync(),
+          (closed, error) -> {
+            if (error != null) {
+              LOG.warn("Failed to close exporter pipeline '{}'", pipeline.getName(), error);
+            }
+          });
     }
-    logStream.removeRecordAvailableListener(this);
   }
 
   @Override
@@ -407,7 +463,9 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   @Override
   protected void onActorCloseRequested() {
     isOpened.set(false);
-    containers.forEach(ExporterContainer::close);
+    containers.stream()
+        .filter(container -> !pipelines.containsKey(container.getId()))
+        .forEach(ExporterContainer::close);
     exporterDistributionService.close();
   }
 
@@ -446,11 +504,16 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
 
   private void initContainers() throws Exception {
     for (final ExporterContainer container : containers) {
-      container.initContainer(actor, metrics, state, exporterPhase);
+      if (parallelPipelines) {
+        pipelines.put(container.getId(), newPipeline(container));
+      } else {
+        container.initContainer(actor, metrics, state, exporterPhase);
+      }
       container.configureExporter();
     }
 
-    eventFilter = positionsToSkipFilter.and(createEventFilter(containers));
+    final var eventFilter = positionsToSkipFilter.and(createEventFilter(containers));
+    exportingLoop.setEventFilter(eventFilter);
     LOG.debug("Set event filter for exporters: {}", eventFilter);
   }
 
@@ -463,6 +526,59 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
         snapshotPosition);
   }
 
+  private ExporterPipeline newPipeline(final ExporterContainer container) {
+    // every pipeline writes its exporter's state with its own transaction context, as the contexts
+    // are not thread safe; the metrics are not thread safe either
+    return new ExporterPipeline(
+        name + "-" + container.getId(),
+        container,
+        logStream,
+        new ExporterMetrics(meterRegistry),
+        new ExportersState(zeebeDb, zeebeDb.createContext()),
+        positionsToSkipFilter.and(createEventFilter(List.of(container))),
+        exporterPhase,
+        clock,
+        this::onPipelineExported,
+        failure -> actor.run(() -> handleFailure(failure)));
+  }
+
+  private ActorFuture<Void> changePipelinesPhase(
+      final ExporterPhase phase, final Runnable updateMetrics) {
+    final var changed = new CompletableActorFuture<Void>();
+    actor.run(
+        () -> {
+          updateMetrics.run();
+          exporterPhase = phase;
+          final var futures =
+              pipelines.values().stream().map(pipeline -> pipeline.changePhase(phase)).toList();
+          actor.runOnCompletion(
+              futures,
+              error -> {
+                if (error == null) {
+                  changed.complete(null);
+                } else {
+                  changed.completeExceptionally(error);
+                }
+              });
+        });
+    return changed;
+  }
+
+  private void onPipelineExported() {
+    // called by every pipeline for every record, so the updates are coalesced
+    if (exportedPositionUpdateScheduled.compareAndSet(false, true)) {
+      actor.run(this::updateExportedPosition);
+    }
+  }
+
+  private void updateExportedPosition() {
+    exportedPositionUpdateScheduled.set(false);
+    pipelines.values().stream()
+        .mapToLong(ExporterPipeline::getExportedPosition)
+        .min()
+        .ifPresent(position -> logStream.getFlowControl().onExported(position));
+  }
+
   private ExporterEventFilter createEventFilter(final List<ExporterContainer> containers) {
 
     final List<Context.RecordFilter> recordFilters =
@@ -493,18 +609,14 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   private void becomeIdle() {
     idle = true;
     LOG.debug("No exporters are configured. Going idle.");
-    logStream.removeRecordAvailableListener(this);
+    // We have to close the reader, otherwise it will prevent journal segment deletion
+    exportingLoop.closeReader();
     exporterDistributionService.close();
     if (exporterDistributionTimer != null) {
       // closing the service do not stop the repeated timer task scheduled in this actor
       exporterDistributionTimer.cancel();
       exporterDistributionTimer = null;
     }
-    if (logStreamReader != null) {
-      // We have to close it, otherwise it will prevent journal segment deletion
-      logStreamReader.close();
-      logStreamReader = null;
-    }
   }
 
   private void becomeLive() {
@@ -518,6 +630,11 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   }
 
   private void startActiveExportingMode() {
+    if (parallelPipelines) {
+      startPipelines();
+      return;
+    }
+
     final var containerOpenFutures = new ArrayList<ActorFuture<Boolean>>();
     for (final ExporterContainer container : containers) {
       container.initMetadata();
@@ -553,21 +670,37 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
         });
   }
 
+  private void startPipelines() {
+    for (final ExporterContainer container : containers) {
+      container.initMetadata();
+    }
+
+    if (!state.hasExporters()) {
+      becomeIdle();
+      return;
+    }
+
+    // every pipeline opens its exporter and starts exporting from its exporter's position
+    for (final var pipeline : pipelines.values()) {
+      actorSchedulingService.submitActor(pipeline, SchedulingHints.ioBound());
+    }
+    exporterDistributionTimer =
+        actor.runAtFixedRate(distributionInterval, this::distributeExporterState);
+  }
+
   private void restartActiveExportingMode() {
-    logStreamReader = logStream.newLogStreamReader();
+    if (parallelPipelines) {
+      exporterDistributionTimer =
+          actor.runAtFixedRate(distributionInterval, this::distributeExporterState);
+      return;
+    }
+
+    exportingLoop.openReader();
     startActiveExportingFrom(-1);
   }
 
   private void startActiveExportingFrom(final long snapshotPosition) {
-    final boolean failedToRecoverReader = !logStreamReader.seekToNextEvent(snapshotPosition);
-    if (failedToRecoverReader) {
-      throw new IllegalStateException(
-          String.format(ERROR_MESSAGE_RECOVER_FROM_SNAPSHOT_FAILED, -1, getName()));
-    }
-    logStream.registerRecordAvailableListener(this);
-    if (!exporterPhase.equals(ExporterPhase.PAUSED)) {
-      actor.submit(this::readNextEvent);
-    }
+    exportingLoop.startExportingFrom(snapshotPosition);
 
     exporterDistributionTimer =
         actor.runAtFixedRate(distributionInterval, this::distributeExporterState);
@@ -599,77 +732,6 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     exporterDistributionService.distributeExporterState(exporterStateMessage);
   }
 
-  private void skipRecord(final LoggedEvent currentEvent) {
-    final RecordMetadata metadata = new RecordMetadata();
-    final long eventPosition = currentEvent.getPosition();
-
-    currentEvent.readMetadata(metadata);
-    metrics.eventSkipped(metadata.getValueType());
-
-    // increase position of all up to date exporters - an up to date exporter is one which has
-    // acknowledged the last record we passed to it
-    for (final ExporterContainer container : containers) {
-      container.updatePositionOnSkipIfUpToDate(eventPosition);
-    }
-
-    actor.submit(this::readNextEvent);
-  }
-
-  private void readNextEvent() {
-    if (shouldExport()) {
-      final LoggedEvent currentEvent = logStreamReader.next();
-      if (eventFilter == null || eventFilter.applies(currentEvent)) {
-        inExportingPhase = true;
-        exportEvent(currentEvent);
-      } else {
-        skipRecord(currentEvent);
-      }
-    }
-  }
-
-  private boolean shouldExport() {
-    return isOpened.get()
-        && !idle
-        && logStreamReader.hasNext()
-        && !inExportingPhase
-        && !exporterPhase.equals(ExporterPhase.PAUSED);
-  }
-
-  private void exportEvent(final LoggedEvent event) {
-    final ActorFuture<Boolean> wrapRetryFuture =
-        recordWrapStrategy.runWithRetry(
-            () -> {
-              recordExporter.wrap(event);
-              return true;
-            },
-            this::isClosed);
-
-    actor.runOnCompletion(
-        wrapRetryFuture,
-        (b, t) -> {
-          assert t == null : "Throwable must be null";
-
-          final ActorFuture<Boolean> retryFuture =
-              exportingRetryStrategy.runWithRetry(recordExporter::export, this::isClosed);
-
-          actor.runOnCompletion(
-              retryFuture,
-              (bool, throwable) -> {
-                if (throwable != null) {
-                  LOG.error(ERROR_MESSAGE_EXPORTING_ABORTED, event, throwable);
-                  onFailure();
-                } else {
-                  logStream
-                      .getFlowControl()
-                      .onExported(recordExporter.getTypedEvent().getPosition());
-                  metrics.eventExported(recordExporter.getTypedEvent().getValueType());
-                  inExportingPhase = false;
-                  actor.submit(this::readNextEvent);
-                }
-              });
-        });
-  }
-
   private void clearExporterState() {
     final List<String> exporterIds =
         containers.stream().map(ExporterContainer::getId).collect(Collectors.toList());
@@ -709,11 +771,6 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     actor.run(() -> listeners.remove(failureListener));
   }
 
-  @Override
-  public void onRecordAvailable() {
-    actor.run(this::readNextEvent);
-  }
-
   public ActorFuture<Long> getLowestPosition() {
     if (actor.isClosed()) {
       return CompletableActorFuture.completed(ExportersState.VALUE_NOT_FOUND);
@@ -727,6 +784,28 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
    */
   public record ExporterInitializationInfo(long metadataVersion, String initializeFrom) {}
 
+  private final class ExportingListener implements ExportingLoop.Listener {
+
+    @Override
+    public void onSkipped(final long position) {
+      // increase position of all up to date exporters - an up to date exporter is one which has
+      // acknowledged the last record we passed to it
+      for (final ExporterContainer container : containers) {
+        container.updatePositionOnSkipIfUpToDate(position);
+      }
+    }
+
+    @Override
+    public void onExported(final long position) {
+      logStream.getFlowControl().onExported(position);
+    }
+
+    @Override
+    public void onExportingAborted() {
+      onFailure();
+    }
+  }
+
   private static class ExporterEventFilter implements EventFilter {
 
     private final RecordMetadata metadata = new RecordMetadata();
@@ -33,6 +33,7 @@ public final class ExporterDirectorContext {
   private EventFilter positionsToSkipFilter;
   private MeterRegistry meterRegistry;
   private InstantSource clock;
+  private boolean parallelPipelines;
 
   public int getId() {
     return id;
@@ -78,6 +79,10 @@ public final class ExporterDirectorContext {
     return clock;
   }
 
+  public boolean isParallelPipelines() {
+    return parallelPipelines;
+  }
+
   public ExporterDirectorContext id(final int id) {
     this.id = id;
     return this;
@@ -135,6 +140,15 @@ public final class ExporterDirectorContext {
     return this;
   }
 
+  /**
+   * @param parallelPipelines whether every exporter should be exported to by its own pipeline, with
+   *     its own reader and actor, instead of all exporters sharing one
+   */
+  public ExporterDirectorContext parallelPipelines(final boolean parallelPipelines) {
+    this.parallelPipelines = parallelPipelines;
+    return this;
+  }
+
   public enum ExporterMode {
     /**
      * ACTIVE, means it is actively running the exporting and distributes the exporter positions to
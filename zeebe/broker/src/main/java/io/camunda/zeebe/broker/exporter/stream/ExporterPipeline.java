@@ -0,0 +1,206 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.exporter.stream;
+
+import io.camunda.zeebe.broker.Loggers;
+import io.camunda.zeebe.logstreams.log.LogStream;
+import io.camunda.zeebe.scheduler.Actor;
+import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.camunda.zeebe.scheduler.retry.BackOffRetryStrategy;
+import io.camunda.zeebe.stream.api.EventFilter;
+import java.time.Duration;
+import java.time.InstantSource;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+
+/**
+ * Exports the records of a partition to a single exporter, independently of the other exporters of
+ * the partition. The pipeline reads the log with its own reader and runs in its own actor, such
+ * that a slow exporter doesn't hold back the others.
+ *
+ * <p>The exporter's position is kept in the shared {@link ExportersState}, so the lowest exported
+ * position across all exporters is still what bounds the log compaction. Distributing the exporter
+ * state and deciding on the exporting phase remains the responsibility of the {@link
+ * ExporterDirector}.
+ */
+final class ExporterPipeline extends Actor implements ExportingLoop.Listener {
+
+  private static final Logger LOG = Loggers.EXPORTER_LOGGER;
+
+  private final AtomicBoolean isOpened = new AtomicBoolean(false);
+  private final String name;
+  private final int partitionId;
+  private final ExporterContainer container;
+  private final ExportingLoop exportingLoop;
+  private final Runnable exportedListener;
+  private final Consumer<Throwable> failureListener;
+  private ExporterPhase exporterPhase;
+  private volatile long exportedPosition = -1;
+
+  /**
+   * @param exportedListener notified whenever the pipeline exported or skipped a record, may be
+   *     called from the pipeline's actor
+   * @param failureListener notified if the pipeline failed, called from the pipeline's actor
+   */
+  ExporterPipeline(
+      final String name,
+      final ExporterContainer container,
+      final LogStream logStream,
+      final ExporterMetrics metrics,
+      final ExportersState state,
+      final EventFilter eventFilter,
+      final ExporterPhase exporterPhase,
+      final InstantSource clock,
+      final Runnable exportedListener,
+      final Consumer<Throwable> failureListener) {
+    this.name = name;
+    this.container = container;
+    this.exporterPhase = exporterPhase;
+    this.exportedListener = exportedListener;
+    this.failureListener = failureListener;
+    partitionId = logStream.getPartitionId();
+    exportingLoop =
+        new ExportingLoop(
+            name,
+            actor,
+            logStream,
+            metrics,
+            new RecordExporter(metrics, List.of(container), partitionId, clock),
+            this::isClosed,
+            () -> isOpened.get() && this.exporterPhase != ExporterPhase.PAUSED,
+            this);
+    exportingLoop.setEventFilter(eventFilter);
+
+    // the exporter is driven by this pipeline's actor
+    container.initContainer(actor, metrics, state, exporterPhase);
+  }
+
+  /**
+   * Changes the exporting phase of this pipeline; see {@link ExporterDirector#pauseExporting()},
+   * {@link ExporterDirector#softPauseExporting()} and {@link ExporterDirector#resumeExporting()}.
+   */
+  ActorFuture<Void> changePhase(final ExporterPhase phase) {
+    return actor.call(
+        () -> {
+          if (phase == ExporterPhase.SOFT_PAUSED) {
+            container.softPauseExporter();
+          } else if (phase == ExporterPhase.EXPORTING
+              && exporterPhase == ExporterPhase.SOFT_PAUSED) {
+            container.undoSoftPauseExporter();
+          }
+
+          exporterPhase = phase;
+          actor.submit(exportingLoop::readNextEvent);
+        });
+  }
+
+  /**
+   * @return the position of the last record which was passed to, or skipped for, the exporter
+   */
+  long getExportedPosition() {
+    return exportedPosition;
+  }
+
+  String getExporterId() {
+    return container.getId();
+  }
+
+  @Override
+  protected Map<String, String> createContext() {
+    final var context = super.createContext();
+    context.put(ACTOR_PROP_PARTITION_ID, Integer.toString(partitionId));
+    return context;
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  protected void onActorStarting() {
+    exportingLoop.openReader();
+  }
+
+  @Override
+  protected void onActorStarted() {
+    isOpened.set(true);
+
+    final var openFuture =
+        new BackOffRetryStrategy(actor, Duration.ofSeconds(10), Duration.ofMillis(150))
+            .runWithRetry(
+                () -> {
+                  try {
+                    container.openExporter();
+                    return true;
+                  } catch (final Exception e) {
+                    LOG.warn("Failed to open exporter '{}'. Retrying...", container.getId());
+                    LOG.debug("Stacktrace:", e);
+                    return false;
+                  }
+                },
+                this::isClosed);
+
+    actor.runOnCompletion(
+        openFuture,
+        (opened, error) -> {
+          if (!isClosed()) {
+            exportedPosition = container.getPosition();
+            exportingLoop.startExportingFrom(exportedPosition);
+          }
+        });
+  }
+
+  @Override
+  protected void onActorClosing() {
+    exportingLoop.closeReader();
+  }
+
+  @Override
+  protected void onActorCloseRequested() {
+    isOpened.set(false);
+    container.close();
+  }
+
+  @Override
+  protected void handleFailure(final Throwable failure) {
+    LOG.error(
+        "Actor '{}' failed in phase {} with: {} .",
+        name,
+        actor.getLifecyclePhase(),
+        failure,
+        failure);
+    actor.fail(failure);
+    failureListener.accept(failure);
+  }
+
+  @Override
+  public void onSkipped(final long position) {
+    container.updatePositionOnSkipIfUpToDate(position);
+    onExported(position);
+  }
+
+  @Override
+  public void onExported(final long position) {
+    exportedPosition = position;
+    exportedListener.run();
+  }
+
+  @Override
+  public void onExportingAborted() {
+    isOpened.set(false);
+    actor.close();
+  }
+
+  private boolean isClosed() {
+    return !isOpened.get();
+  }
+}
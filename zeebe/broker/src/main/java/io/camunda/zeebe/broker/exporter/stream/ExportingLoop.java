@@ -0,0 +1,200 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.exporter.stream;
+
+import io.camunda.zeebe.broker.Loggers;
+import io.camunda.zeebe.logstreams.log.LogRecordAwaiter;
+import io.camunda.zeebe.logstreams.log.LogStream;
+import io.camunda.zeebe.logstreams.log.LogStreamReader;
+import io.camunda.zeebe.logstreams.log.LoggedEvent;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.scheduler.ActorControl;
+import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.camunda.zeebe.scheduler.retry.BackOffRetryStrategy;
+import io.camunda.zeebe.scheduler.retry.EndlessRetryStrategy;
+import io.camunda.zeebe.scheduler.retry.RetryStrategy;
+import io.camunda.zeebe.stream.api.EventFilter;
+import java.time.Duration;
+import java.util.function.BooleanSupplier;
+import org.slf4j.Logger;
+
+/**
+ * Reads the records of a log stream one after another, and exports every record which the event
+ * filter accepts; all other records are skipped. Shared by the {@link ExporterDirector}, which
+ * exports to all of its exporters at once, and the {@link ExporterPipeline}, which exports to a
+ * single exporter.
+ *
+ * <p>Must only be used from the actor which owns it.
+ */
+final class ExportingLoop implements LogRecordAwaiter {
+
+  private static final String ERROR_MESSAGE_EXPORTING_ABORTED =
+      "Expected to export record '{}' successfully, but exception was thrown.";
+  private static final String ERROR_MESSAGE_RECOVER_FAILED =
+      "Expected to find event with the position %d in log stream, but nothing was found. Failed to recover '%s'.";
+
+  private static final Logger LOG = Loggers.EXPORTER_LOGGER;
+
+  private final RecordMetadata metadata = new RecordMetadata();
+  private final String name;
+  private final ActorControl actor;
+  private final LogStream logStream;
+  private final ExporterMetrics metrics;
+  private final RecordExporter recordExporter;
+  private final RetryStrategy exportingRetryStrategy;
+  private final RetryStrategy recordWrapStrategy;
+  private final BooleanSupplier isClosed;
+  private final BooleanSupplier canExport;
+  private final Listener listener;
+  private LogStreamReader logStreamReader;
+  private EventFilter eventFilter;
+  private boolean inExportingPhase;
+
+  /**
+   * @param isClosed aborts retrying to export a record, if true
+   * @param canExport pauses reading records, if false; reading is resumed by {@link
+   *     #readNextEvent()}
+   */
+  ExportingLoop(
+      final String name,
+      final ActorControl actor,
+      final LogStream logStream,
+      final ExporterMetrics metrics,
+      final RecordExporter recordExporter,
+      final BooleanSupplier isClosed,
+      final BooleanSupplier canExport,
+      final Listener listener) {
+    this.name = name;
+    this.actor = actor;
+    this.logStream = logStream;
+    this.metrics = metrics;
+    this.recordExporter = recordExporter;
+    this.isClosed = isClosed;
+    this.canExport = canExport;
+    this.listener = listener;
+    exportingRetryStrategy = new BackOffRetryStrategy(actor, Duration.ofSeconds(10));
+    recordWrapStrategy = new EndlessRetryStrategy(actor);
+  }
+
+  /** Records which the filter doesn't accept are skipped; without a filter, none are skipped. */
+  void setEventFilter(final EventFilter eventFilter) {
+    this.eventFilter = eventFilter;
+  }
+
+  /** Opens a new reader, which is positioned by {@link #startExportingFrom(long)}. */
+  void openReader() {
+    closeReader();
+    logStreamReader = logStream.newLogStreamReader();
+  }
+
+  /**
+   * Stops reading records, and closes the reader. The reader has to be closed when not needed, as
+   * it prevents the log from being compacted.
+   */
+  void closeReader() {
+    logStream.removeRecordAvailableListener(this);
+    if (logStreamReader != null) {
+      logStreamReader.close();
+      logStreamReader = null;
+    }
+  }
+
+  /**
+   * Starts exporting the records after the given position, and keeps exporting new records as they
+   * become available.
+   *
+   * @throws IllegalStateException if the log doesn't contain the given position anymore
+   */
+  void startExportingFrom(final long position) {
+    if (!logStreamReader.seekToNextEvent(position)) {
+      throw new IllegalStateException(String.format(ERROR_MESSAGE_RECOVER_FAILED, position, name));
+    }
+
+    logStream.registerRecordAvailableListener(this);
+    actor.submit(this::readNextEvent);
+  }
+
+  @Override
+  public void onRecordAvailable() {
+    actor.run(this::readNextEvent);
+  }
+
+  void readNextEvent() {
+    if (shouldExport()) {
+      final LoggedEvent currentEvent = logStreamReader.next();
+      if (eventFilter == null || eventFilter.applies(currentEvent)) {
+        inExportingPhase = true;
+        exportEvent(currentEvent);
+      } else {
+        skipRecord(currentEvent);
+      }
+    }
+  }
+
+  private boolean shouldExport() {
+    return canExport.getAsBoolean()
+        && logStreamReader != null
+        && logStreamReader.hasNext()
+        && !inExportingPhase;
+  }
+
+  private void skipRecord(final LoggedEvent currentEvent) {
+    currentEvent.readMetadata(metadata);
+    metrics.eventSkipped(metadata.getValueType());
+    listener.onSkipped(currentEvent.getPosition());
+
+    actor.submit(this::readNextEvent);
+  }
+
+  private void exportEvent(final LoggedEvent event) {
+    final ActorFuture<Boolean> wrapRetryFuture =
+        recordWrapStrategy.runWithRetry(
+            () -> {
+              recordExporter.wrap(event);
+              return true;
+            },
+            isClosed);
+
+    actor.runOnCompletion(
+        wrapRetryFuture,
+        (wrapped, wrapError) -> {
+          assert wrapError == null : "Throwable must be null";
+
+          final ActorFuture<Boolean> retryFuture =
+              exportingRetryStrategy.runWithRetry(recordExporter::export, isClosed);
+
+          actor.runOnCompletion(
+              retryFuture,
+              (exported, throwable) -> {
+                if (throwable != null) {
+                  LOG.error(ERROR_MESSAGE_EXPORTING_ABORTED, event, throwable);
+                  listener.onExportingAborted();
+                } else {
+                  final var record = recordExporter.getTypedEvent();
+                  metrics.eventExported(record.getValueType());
+                  listener.onExported(record.getPosition());
+                  inExportingPhase = false;
+                  actor.submit(this::readNextEvent);
+                }
+              });
+        });
+  }
+
+  /** Notified from the actor which owns the loop. */
+  interface Listener {
+
+    /** Called for every record which the event filter didn't accept. */
+    void onSkipped(long position);
+
+    /** Called for every record which was exported. */
+    void onExported(long position);
+
+    /** Called if a record couldn't be exported; no further records are read afterwards. */
+    void onExportingAborted();
+  }
+}
@@ -43,7 +43,7 @@ final class RecordExporter {
     rawEvent.readMetadata(rawMetadata);
 
     final UnifiedRecordValue recordValue =
-        recordValues.readRecordValue(rawEvent, rawMetadata.getValueType());
+        recordValues.readRecordValueLazily(rawEvent, rawMetadata.getValueType());
 
     shouldExport = recordValue != null;
     if (shouldExport) {
@@ -83,11 +83,15 @@ public final class RaftPartitionFactory {
     storageConfig.setJournalIndexDensity(brokerCfg.getData().getLogIndexDensity());
     storageConfig.setPreallocateSegmentFiles(
         brokerCfg.getExperimental().getRaft().isPreallocateSegmentFiles());
+    storageConfig.setPersistJournalIndex(
+        brokerCfg.getExperimental().getRaft().isPersistJournalIndex());
 
     partitionConfig.setStorageConfig(storageConfig);
     partitionConfig.setEntryValidator(new ZeebeEntryValidator());
     partitionConfig.setMaxAppendBatchSize(
         (int) brokerCfg.getExperimental().getMaxAppendBatchSizeInBytes());
+    partitionConfig.setMaxAdaptiveAppendBatchSize(
+        (int) brokerCfg.getExperimental().getMaxAdaptiveAppendBatchSizeInBytes());
     partitionConfig.setMaxAppendsPerFollower(
         brokerCfg.getExperimental().getMaxAppendsPerFollower());
     partitionConfig.setPriorityElectionEnabled(
@@ -60,6 +60,8 @@ public final class SystemContext {
       "Snapshot period %s needs to be larger then or equals to one minute.";
   private static final String MAX_BATCH_SIZE_ERROR_MSG =
       "Expected to have an append batch size maximum which is non negative and smaller then '%d', but was '%s'.";
+  private static final String MAX_ADAPTIVE_BATCH_SIZE_ERROR_MSG =
+      "Expected to have an adaptive append batch size maximum which is non negative and not larger than the max message size '%s', but was '%s'.";
 
   private final Duration shutdownTimeout;
   private final BrokerCfg brokerCfg;
@@ -206,6 +208,16 @@ public final class SystemContext {
           String.format(MAX_BATCH_SIZE_ERROR_MSG, Integer.MAX_VALUE, maxAppendBatchSize));
     }
 
+    final var maxAdaptiveAppendBatchSize = experimental.getMaxAdaptiveAppendBatchSizeInBytes();
+    final var maxMessageSize = brokerCfg.getNetwork().getMaxMessageSize();
+    if (maxAdaptiveAppendBatchSize < 0 || maxAdaptiveAppendBatchSize > maxMessageSize.toBytes()) {
+      throw new IllegalArgumentException(
+          String.format(
+              MAX_ADAPTIVE_BATCH_SIZE_ERROR_MSG,
+              maxMessageSize,
+              experimental.getMaxAdaptiveAppendBatchSize()));
+    }
+
     final var partitioningConfig = experimental.getPartitioning();
     if (partitioningConfig.getScheme() == Scheme.FIXED) {
       validateFixedPartitioningScheme(cluster, experimental);
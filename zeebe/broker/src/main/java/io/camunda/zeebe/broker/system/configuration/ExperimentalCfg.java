@@ -21,6 +21,7 @@ public class ExperimentalCfg implements ConfigurationEntry {
 
   public static final int DEFAULT_MAX_APPENDS_PER_FOLLOWER = 6;
   public static final DataSize DEFAULT_MAX_APPEND_BATCH_SIZE = DataSize.ofKilobytes(32);
+  public static final DataSize DEFAULT_MAX_ADAPTIVE_APPEND_BATCH_SIZE = DataSize.ofBytes(0);
   public static final boolean DEFAULT_DISABLE_EXPLICIT_RAFT_FLUSH = false;
   public static final boolean DEFAULT_VERSION_CHECK_ENABLED = true;
 
@@ -32,6 +33,14 @@ public class ExperimentalCfg implements ConfigurationEntry {
 
   private int maxAppendsPerFollower = DEFAULT_MAX_APPENDS_PER_FOLLOWER;
   private DataSize maxAppendBatchSize = DEFAULT_MAX_APPEND_BATCH_SIZE;
+
+  /**
+   * Upper bound up to which the size of append requests to a lagging follower grows, as long as the
+   * round trip time to the follower doesn't increase. When not larger than the max append batch
+   * size, which is the default, the size of append requests is fixed.
+   */
+  private DataSize maxAdaptiveAppendBatchSize = DEFAULT_MAX_ADAPTIVE_APPEND_BATCH_SIZE;
+
   private boolean disableExplicitRaftFlush = DEFAULT_DISABLE_EXPLICIT_RAFT_FLUSH;
   private RocksdbCfg rocksdb = new RocksdbCfg();
   private ExperimentalRaftCfg raft = new ExperimentalRaftCfg();
@@ -76,6 +85,20 @@ public class ExperimentalCfg implements ConfigurationEntry {
     return Optional.ofNullable(maxAppendBatchSize).orElse(DEFAULT_MAX_APPEND_BATCH_SIZE).toBytes();
   }
 
+  public DataSize getMaxAdaptiveAppendBatchSize() {
+    return maxAdaptiveAppendBatchSize;
+  }
+
+  public void setMaxAdaptiveAppendBatchSize(final DataSize maxAdaptiveAppendBatchSize) {
+    this.maxAdaptiveAppendBatchSize = maxAdaptiveAppendBatchSize;
+  }
+
+  public long getMaxAdaptiveAppendBatchSizeInBytes() {
+    return Optional.ofNullable(maxAdaptiveAppendBatchSize)
+        .orElse(DEFAULT_MAX_ADAPTIVE_APPEND_BATCH_SIZE)
+        .toBytes();
+  }
+
   /**
    * @deprecated Deprecated in favor of {@link RaftCfg#getFlush()}. The equivalent is a null
    *     configuration, e.g. {@link new FlushConfig(null)}. Will be removed in 8.3.0.
@@ -158,6 +181,8 @@ public class ExperimentalCfg implements ConfigurationEntry {
         + maxAppendsPerFollower
         + ", maxAppendBatchSize="
         + maxAppendBatchSize
+        + ", maxAdaptiveAppendBatchSize="
+        + maxAdaptiveAppendBatchSize
         + ", disableExplicitRaftFlush="
         + disableExplicitRaftFlush
         + ", rocksdb="
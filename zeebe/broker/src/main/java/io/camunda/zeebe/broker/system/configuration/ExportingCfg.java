@@ -15,16 +15,24 @@ import java.util.Set;
 /**
  * Exporting component configuration. This configuration pertains to configurations that are common
  * to all exporters.
+ *
+ * @param parallelPipelines whether every exporter of a partition is exported to independently, by
+ *     its own pipeline, such that a slow exporter doesn't hold back the others
  */
-public record ExportingCfg(Set<Long> skipRecords, Duration distributionInterval) {
+public record ExportingCfg(
+    Set<Long> skipRecords, Duration distributionInterval, boolean parallelPipelines) {
 
-  public ExportingCfg(final Set<Long> skipRecords, final Duration distributionInterval) {
+  public ExportingCfg(
+      final Set<Long> skipRecords,
+      final Duration distributionInterval,
+      final boolean parallelPipelines) {
     this.skipRecords = skipRecords == null ? Set.of() : skipRecords;
     this.distributionInterval =
         distributionInterval == null ? DEFAULT_DISTRIBUTION_INTERVAL : distributionInterval;
+    this.parallelPipelines = parallelPipelines;
   }
 
   public static ExportingCfg defaultExportingCfg() {
-    return new ExportingCfg(null, null);
+    return new ExportingCfg(null, null, false);
   }
 }
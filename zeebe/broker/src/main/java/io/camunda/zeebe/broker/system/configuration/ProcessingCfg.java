@@ -15,6 +15,9 @@ public final class ProcessingCfg implements ConfigurationEntry {
   private static final int DEFAULT_PROCESSING_BATCH_LIMIT = 100;
   private Integer maxCommandsInBatch = DEFAULT_PROCESSING_BATCH_LIMIT;
   private boolean enableAsyncScheduledTasks = true;
+  private boolean enablePipelinedProcessing = false;
+  private int maxEventsInReplayBatch = 1;
+  private Duration maxReplayBatchDuration = Duration.ofMillis(100);
   private Duration scheduledTaskCheckInterval = Duration.ofSeconds(1);
   private Set<Long> skipPositions;
 
@@ -29,6 +32,14 @@ public final class ProcessingCfg implements ConfigurationEntry {
           "scheduledTaskCheckInterval must be positive but was %s"
               .formatted(scheduledTaskCheckInterval));
     }
+    if (maxEventsInReplayBatch < 1) {
+      throw new IllegalArgumentException(
+          "maxEventsInReplayBatch must be >= 1 but was %s".formatted(maxEventsInReplayBatch));
+    }
+    if (!maxReplayBatchDuration.isPositive()) {
+      throw new IllegalArgumentException(
+          "maxReplayBatchDuration must be positive but was %s".formatted(maxReplayBatchDuration));
+    }
   }
 
   public int getMaxCommandsInBatch() {
@@ -47,6 +58,30 @@ public final class ProcessingCfg implements ConfigurationEntry {
     this.enableAsyncScheduledTasks = enableAsyncScheduledTasks;
   }
 
+  public boolean isEnablePipelinedProcessing() {
+    return enablePipelinedProcessing;
+  }
+
+  public void setEnablePipelinedProcessing(final boolean enablePipelinedProcessing) {
+    this.enablePipelinedProcessing = enablePipelinedProcessing;
+  }
+
+  public int getMaxEventsInReplayBatch() {
+    return maxEventsInReplayBatch;
+  }
+
+  public void setMaxEventsInReplayBatch(final int maxEventsInReplayBatch) {
+    this.maxEventsInReplayBatch = maxEventsInReplayBatch;
+  }
+
+  public Duration getMaxReplayBatchDuration() {
+    return maxReplayBatchDuration;
+  }
+
+  public void setMaxReplayBatchDuration(final Duration maxReplayBatchDuration) {
+    this.maxReplayBatchDuration = maxReplayBatchDuration;
+  }
+
   public Set<Long> skipPositions() {
     return skipPositions != null ? skipPositions : Set.of();
   }
@@ -62,6 +97,12 @@ public final class ProcessingCfg implements ConfigurationEntry {
         + maxCommandsInBatch
         + ", enableAsyncScheduledTasks="
         + enableAsyncScheduledTasks
+        + ", enablePipelinedProcessing="
+        + enablePipelinedProcessing
+        + ", maxEventsInReplayBatch="
+        + maxEventsInReplayBatch
+        + ", maxReplayBatchDuration="
+        + maxReplayBatchDuration
         + ", scheduledTaskCheckInterval="
         + scheduledTaskCheckInterval
         + '}';
@@ -9,10 +9,13 @@ package io.camunda.zeebe.broker.system.configuration;
 
 import io.camunda.zeebe.db.AccessMetricsConfiguration;
 import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 import org.springframework.util.unit.DataSize;
 
 public final class RocksdbCfg implements ConfigurationEntry {
@@ -28,6 +31,9 @@ public final class RocksdbCfg implements ConfigurationEntry {
   private int ioRateBytesPerSecond = RocksDbConfiguration.DEFAULT_IO_RATE_BYTES_PER_SECOND;
   private boolean disableWal = RocksDbConfiguration.DEFAULT_WAL_DISABLED;
   private boolean enableSstPartitioning = RocksDbConfiguration.DEFAULT_SST_PARTITIONING_ENABLED;
+  private boolean enableSeparateColumnFamilies =
+      RocksDbConfiguration.DEFAULT_SEPARATE_COLUMN_FAMILIES_ENABLED;
+  private Map<String, RocksdbColumnFamilyTuningCfg> columnFamilyTuning = new HashMap<>();
 
   @Override
   public void init(final BrokerCfg globalConfig, final String brokerBase) {
@@ -121,6 +127,23 @@ public final class RocksdbCfg implements ConfigurationEntry {
     this.enableSstPartitioning = enableSstPartitioning;
   }
 
+  public boolean isEnableSeparateColumnFamilies() {
+    return enableSeparateColumnFamilies;
+  }
+
+  public void setEnableSeparateColumnFamilies(final boolean enableSeparateColumnFamilies) {
+    this.enableSeparateColumnFamilies = enableSeparateColumnFamilies;
+  }
+
+  public Map<String, RocksdbColumnFamilyTuningCfg> getColumnFamilyTuning() {
+    return columnFamilyTuning;
+  }
+
+  public void setColumnFamilyTuning(
+      final Map<String, RocksdbColumnFamilyTuningCfg> columnFamilyTuning) {
+    this.columnFamilyTuning = columnFamilyTuning;
+  }
+
   public AccessMetricsConfiguration.Kind getAccessMetrics() {
     return accessMetrics;
   }
@@ -139,7 +162,13 @@ public final class RocksdbCfg implements ConfigurationEntry {
         .setStatisticsEnabled(enableStatistics)
         .setIoRateBytesPerSecond(ioRateBytesPerSecond)
         .setWalDisabled(disableWal)
-        .setSstPartitioningEnabled(enableSstPartitioning);
+        .setSstPartitioningEnabled(enableSstPartitioning)
+        .setSeparateColumnFamiliesEnabled(enableSeparateColumnFamilies)
+        .setColumnFamilyTuning(
+            columnFamilyTuning.entrySet().stream()
+                .collect(
+                    Collectors.toMap(
+                        Entry::getKey, entry -> entry.getValue().createColumnFamilyTuning())));
   }
 
   @Override
@@ -165,6 +194,10 @@ public final class RocksdbCfg implements ConfigurationEntry {
         + disableWal
         + ", enableSstPartitioning="
         + enableSstPartitioning
+        + ", enableSeparateColumnFamilies="
+        + enableSeparateColumnFamilies
+        + ", columnFamilyTuning="
+        + columnFamilyTuning
         + '}';
   }
 
@@ -0,0 +1,62 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.system.configuration;
+
+import io.camunda.zeebe.db.impl.rocksdb.ColumnFamilyTuning;
+import org.springframework.util.unit.DataSize;
+
+public final class RocksdbColumnFamilyTuningCfg {
+
+  private DataSize writeBufferSize;
+  private Integer bloomFilterBitsPerKey;
+  private String compression;
+
+  public DataSize getWriteBufferSize() {
+    return writeBufferSize;
+  }
+
+  public void setWriteBufferSize(final DataSize writeBufferSize) {
+    this.writeBufferSize = writeBufferSize;
+  }
+
+  public Integer getBloomFilterBitsPerKey() {
+    return bloomFilterBitsPerKey;
+  }
+
+  public void setBloomFilterBitsPerKey(final Integer bloomFilterBitsPerKey) {
+    this.bloomFilterBitsPerKey = bloomFilterBitsPerKey;
+  }
+
+  public String getCompression() {
+    return compression;
+  }
+
+  public void setCompression(final String compression) {
+    this.compression = compression;
+  }
+
+  public ColumnFamilyTuning createColumnFamilyTuning() {
+    return new ColumnFamilyTuning(
+        writeBufferSize == null ? null : writeBufferSize.toBytes(),
+        bloomFilterBitsPerKey,
+        compression);
+  }
+
+  @Override
+  public String toString() {
+    return "RocksdbColumnFamilyTuningCfg{"
+        + "writeBufferSize="
+        + writeBufferSize
+        + ", bloomFilterBitsPerKey="
+        + bloomFilterBitsPerKey
+        + ", compression='"
+        + compression
+        + '\''
+        + '}';
+  }
+}
@@ -14,6 +14,8 @@ import java.util.Objects;
 public class FilesystemBackupStoreConfig implements ConfigurationEntry {
 
   private String basePath;
+  private boolean incremental = false;
+  private String compression;
 
   public String getBasePath() {
     return basePath;
@@ -23,13 +25,37 @@ public class FilesystemBackupStoreConfig implements ConfigurationEntry {
     this.basePath = basePath;
   }
 
+  public boolean isIncremental() {
+    return incremental;
+  }
+
+  public void setIncremental(final boolean incremental) {
+    this.incremental = incremental;
+  }
+
+  public String getCompression() {
+    return compression;
+  }
+
+  public void setCompression(final String algorithm) {
+    if (Objects.equals(algorithm, "none")) {
+      compression = null;
+    } else {
+      compression = algorithm;
+    }
+  }
+
   public static FilesystemBackupConfig toStoreConfig(final FilesystemBackupStoreConfig config) {
-    return new FilesystemBackupConfig.Builder().withBasePath(config.getBasePath()).build();
+    return new FilesystemBackupConfig.Builder()
+        .withBasePath(config.getBasePath())
+        .withIncremental(config.isIncremental())
+        .withCompressionAlgorithm(config.getCompression())
+        .build();
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(basePath);
+    return Objects.hash(basePath, incremental, compression);
   }
 
   @Override
@@ -41,11 +67,21 @@ public class FilesystemBackupStoreConfig implements ConfigurationEntry {
       return false;
     }
     final FilesystemBackupStoreConfig that = (FilesystemBackupStoreConfig) o;
-    return Objects.equals(basePath, that.basePath);
+    return incremental == that.incremental
+        && Objects.equals(basePath, that.basePath)
+        && Objects.equals(compression, that.compression);
   }
 
   @Override
   public String toString() {
-    return "FilesystemBackupStoreConfig{" + "basePath='" + basePath + '\'' + '}';
+    return "FilesystemBackupStoreConfig{"
+        + "basePath='"
+        + basePath
+        + '\''
+        + ", incremental="
+        + incremental
+        + ", compression="
+        + compression
+        + '}';
   }
 }
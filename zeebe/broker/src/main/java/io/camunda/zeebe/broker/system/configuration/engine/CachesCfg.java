@@ -15,6 +15,8 @@ public final class CachesCfg implements ConfigurationEntry {
   private int formCacheCapacity = EngineConfiguration.DEFAULT_FORM_CACHE_CAPACITY;
   private int processCacheCapacity = EngineConfiguration.DEFAULT_PROCESS_CACHE_CAPACITY;
   private int resourceCacheCapacity = EngineConfiguration.DEFAULT_PROCESS_CACHE_CAPACITY;
+  private long processCacheFlowElementCapacity =
+      EngineConfiguration.DEFAULT_PROCESS_CACHE_FLOW_ELEMENT_CAPACITY;
 
   public int getDrgCacheCapacity() {
     return drgCacheCapacity;
@@ -40,6 +42,14 @@ public final class CachesCfg implements ConfigurationEntry {
     this.processCacheCapacity = processCacheCapacity;
   }
 
+  public long getProcessCacheFlowElementCapacity() {
+    return processCacheFlowElementCapacity;
+  }
+
+  public void setProcessCacheFlowElementCapacity(final long processCacheFlowElementCapacity) {
+    this.processCacheFlowElementCapacity = processCacheFlowElementCapacity;
+  }
+
   public int getResourceCacheCapacity() {
     return resourceCacheCapacity;
   }
@@ -57,6 +67,8 @@ public final class CachesCfg implements ConfigurationEntry {
         + formCacheCapacity
         + ", processCacheCapacity="
         + processCacheCapacity
+        + ", processCacheFlowElementCapacity="
+        + processCacheFlowElementCapacity
         + ", resourceCacheCapacity="
         + resourceCacheCapacity
         + '}';
@@ -124,6 +124,7 @@ public final class ExporterDirectorPartitionTransitionStep implements PartitionT
             .descriptors(exporterDescriptors)
             .exporterMode(exporterMode)
             .positionsToSkipFilter(exporterFilter)
+            .parallelPipelines(exportingCfg.parallelPipelines())
             .meterRegistry(context.getPartitionTransitionMeterRegistry());
 
     final ExporterDirector director =
@@ -161,6 +161,10 @@ public final class StreamProcessorTransitionStep implements PartitionTransitionS
         .maxCommandsInBatch(context.getBrokerCfg().getProcessing().getMaxCommandsInBatch())
         .setEnableAsyncScheduledTasks(
             context.getBrokerCfg().getProcessing().isEnableAsyncScheduledTasks())
+        .setEnablePipelinedProcessing(
+            context.getBrokerCfg().getProcessing().isEnablePipelinedProcessing())
+        .maxEventsInReplayBatch(context.getBrokerCfg().getProcessing().getMaxEventsInReplayBatch())
+        .maxReplayBatchDuration(context.getBrokerCfg().getProcessing().getMaxReplayBatchDuration())
         .setScheduledTaskCheckInterval(
             context.getBrokerCfg().getProcessing().getScheduledTaskCheckInterval())
         .processingFilter(processingFilter)
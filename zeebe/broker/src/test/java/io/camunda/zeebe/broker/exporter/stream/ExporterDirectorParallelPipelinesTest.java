@@ -0,0 +1,173 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.exporter.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+
+import io.camunda.zeebe.broker.exporter.repo.ExporterDescriptor;
+import io.camunda.zeebe.broker.exporter.util.ControlledTestExporter;
+import io.camunda.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
+import io.camunda.zeebe.protocol.record.intent.DeploymentIntent;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import org.awaitility.Awaitility;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class ExporterDirectorParallelPipelinesTest {
+
+  private static final String SLOW_EXPORTER_ID = "slow";
+  private static final String FAST_EXPORTER_ID = "fast";
+
+  @Rule public final ExporterRule rule = ExporterRule.activeExporter().withParallelPipelines();
+
+  private final List<ExporterDescriptor> exporterDescriptors = new ArrayList<>();
+  private final CountDownLatch slowExporterLatch = new CountDownLatch(1);
+  private ControlledTestExporter slowExporter;
+  private ControlledTestExporter fastExporter;
+
+  @Before
+  public void setup() {
+    slowExporter = createExporter(SLOW_EXPORTER_ID);
+    fastExporter = createExporter(FAST_EXPORTER_ID);
+
+    // the slow exporter blocks its actor until released
+    slowExporter.onExport(
+        record -> {
+          try {
+            slowExporterLatch.await();
+          } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        });
+  }
+
+  @After
+  public void tearDown() {
+    slowExporterLatch.countDown();
+  }
+
+  @Test
+  public void shouldNotBeHeldBackBySlowExporter() {
+    // given
+    rule.startExporterDirector(exporterDescriptors);
+
+    // when
+    rule.writeEvent(DeploymentIntent.CREATED, new DeploymentRecord());
+    final long lastPosition = rule.writeEvent(DeploymentIntent.CREATED, new DeploymentRecord());
+
+    // then
+    Awaitility.await("fast exporter exported all records")
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(() -> assertThat(fastExporter.getExportedRecords()).hasSize(2));
+    assertThat(rule.getExportersState().getPosition(FAST_EXPORTER_ID)).isEqualTo(lastPosition);
+  }
+
+  @Test
+  public void shouldReturnLowestPositionOfSlowestExporter() {
+    // given
+    rule.startExporterDirector(exporterDescriptors);
+
+    // when
+    rule.writeEvent(DeploymentIntent.CREATED, new DeploymentRecord());
+    Awaitility.await("fast exporter exported the record")
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(() -> assertThat(fastExporter.getExportedRecords()).hasSize(1));
+
+    // then
+    assertThat(rule.getDirector().getLowestPosition().join()).isEqualTo(-1L);
+  }
+
+  @Test
+  public void shouldExportToAllExporters() {
+    // given
+    rule.startExporterDirector(exporterDescriptors);
+    slowExporterLatch.countDown();
+
+    // when
+    final long position = rule.writeEvent(DeploymentIntent.CREATED, new DeploymentRecord());
+
+    // then
+    Awaitility.await("all exporters exported the record")
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(
+            () -> assertThat(rule.getDirector().getLowestPosition().join()).isEqualTo(position));
+    assertThat(slowExporter.getExportedRecords()).hasSize(1);
+    assertThat(fastExporter.getExportedRecords()).hasSize(1);
+  }
+
+  @Test
+  public void shouldNotExportWhenPaused() {
+    // given
+    rule.startExporterDirector(exporterDescriptors);
+    slowExporterLatch.countDown();
+
+    // when
+    rule.getDirector().pauseExporting().join();
+    rule.writeEvent(DeploymentIntent.CREATED, new DeploymentRecord());
+
+    // then
+    Awaitility.await("exporters remain paused")
+        .during(Duration.ofMillis(500))
+        .atMost(Duration.ofSeconds(1))
+        .untilAsserted(
+            () -> {
+              assertThat(slowExporter.getExportedRecords()).isEmpty();
+              assertThat(fastExporter.getExportedRecords()).isEmpty();
+            });
+
+    // when
+    rule.getDirector().resumeExporting().join();
+
+    // then
+    Awaitility.await("exporters resumed")
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(
+            () -> {
+              assertThat(slowExporter.getExportedRecords()).hasSize(1);
+              assertThat(fastExporter.getExportedRecords()).hasSize(1);
+            });
+  }
+
+  @Test
+  public void shouldRemoveStateOfDisabledExporter() {
+    // given
+    rule.startExporterDirector(exporterDescriptors);
+    slowExporterLatch.countDown();
+    rule.writeEvent(DeploymentIntent.CREATED, new DeploymentRecord());
+
+    // when
+    rule.getDirector().disableExporter(SLOW_EXPORTER_ID).join();
+
+    // then
+    assertThat(rule.getExportersState().getPosition(SLOW_EXPORTER_ID))
+        .isEqualTo(ExportersState.VALUE_NOT_FOUND);
+    final long position = rule.writeEvent(DeploymentIntent.CREATED, new DeploymentRecord());
+    Awaitility.await("remaining exporter exported the record")
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(
+            () -> assertThat(rule.getDirector().getLowestPosition().join()).isEqualTo(position));
+  }
+
+  private ControlledTestExporter createExporter(final String exporterId) {
+    final ControlledTestExporter exporter =
+        spy(new ControlledTestExporter().shouldAutoUpdatePosition(true));
+    final ExporterDescriptor descriptor =
+        spy(new ExporterDescriptor(exporterId, exporter.getClass(), Map.of()));
+    doAnswer(c -> exporter).when(descriptor).newInstance();
+    exporterDescriptors.add(descriptor);
+    return exporter;
+  }
+}
@@ -62,6 +62,7 @@ public final class ExporterRule implements TestRule {
   private ExporterDirector director;
   private Duration distributionInterval = Duration.ofSeconds(15);
   private EventFilter positionsToSkipFilter = SkipPositionsFilter.of(Set.of());
+  private boolean parallelPipelines;
 
   private ExporterRule(final ExporterMode exporterMode) {
     this.exporterMode = exporterMode;
@@ -96,6 +97,11 @@ public final class ExporterRule implements TestRule {
     return this;
   }
 
+  public ExporterRule withParallelPipelines() {
+    parallelPipelines = true;
+    return this;
+  }
+
   @Override
   public Statement apply(final Statement base, final Description description) {
     return chain.apply(base, description);
@@ -130,7 +136,8 @@ public final class ExporterRule implements TestRule {
             .partitionMessagingService(partitionMessagingService)
             .descriptors(descriptorsWithInitializationInfo)
             .meterRegistry(new SimpleMeterRegistry())
-            .positionsToSkipFilter(positionsToSkipFilter);
+            .positionsToSkipFilter(positionsToSkipFilter)
+            .parallelPipelines(parallelPipelines);
 
     director = new ExporterDirector(context, phase);
     director.startAsync(actorSchedulerRule.get()).join();
@@ -157,6 +157,21 @@ public final class RaftPartitionFactoryTest {
         .isEqualTo(expected.toBytes());
   }
 
+  @Test
+  void shouldSetMaxAdaptiveAppendBatchSize() {
+    // given
+    final DataSize expected = DataSize.ofMegabytes(1);
+    final var brokerCfg = new BrokerCfg();
+    brokerCfg.getExperimental().setMaxAdaptiveAppendBatchSize(expected);
+
+    // when
+    final var partition = buildRaftPartition(brokerCfg);
+
+    // then
+    assertThat(partition.getPartitionConfig().getMaxAdaptiveAppendBatchSize())
+        .isEqualTo(expected.toBytes());
+  }
+
   @Test
   void shouldSetMaxAppendsPerFollower() {
     // given
@@ -93,6 +93,20 @@ final class SystemContextTest {
             "Expected to have an append batch size maximum which is non negative and smaller then '2147483647', but was '3221225472B'.");
   }
 
+  @Test
+  void shouldThrowExceptionIfAdaptiveBatchSizeExceedsMaxMessageSize() {
+    // given
+    final BrokerCfg brokerCfg = new BrokerCfg();
+    brokerCfg.getNetwork().setMaxMessageSize(DataSize.ofMegabytes(4));
+    brokerCfg.getExperimental().setMaxAdaptiveAppendBatchSize(DataSize.ofMegabytes(5));
+
+    // when - then
+    assertThatCode(() -> initSystemContext(brokerCfg))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage(
+            "Expected to have an adaptive append batch size maximum which is non negative and not larger than the max message size '4194304B', but was '5242880B'.");
+  }
+
   @Test
   void shouldNotThrowExceptionIfSnapshotPeriodIsEqualToOneMinute() {
     // given
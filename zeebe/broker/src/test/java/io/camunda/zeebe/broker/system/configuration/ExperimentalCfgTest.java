@@ -182,6 +182,29 @@ final class ExperimentalCfgTest {
     assertThat(raftCfg.isPreallocateSegmentFiles()).isTrue();
   }
 
+  @Test
+  void shouldNotPersistJournalIndexByDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var raftCfg = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raftCfg.isPersistJournalIndex()).isFalse();
+  }
+
+  @Test
+  void shouldSetPersistJournalIndexFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.raft.persistJournalIndex", "true");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raftCfg = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raftCfg.isPersistJournalIndex()).isTrue();
+  }
+
   @Test
   void shouldHaveDefaultVersionCheckRestriction() {
     // given
@@ -58,7 +58,7 @@ class ExporterConfigurationTest {
   @Test
   void shouldSetSkipPositions() {
     // given
-    final ExportingCfg exportingCfg = new ExportingCfg(Set.of(1L, 2L), null);
+    final ExportingCfg exportingCfg = new ExportingCfg(Set.of(1L, 2L), null, false);
 
     // then
     assertThat(exportingCfg.skipRecords()).isEqualTo(Set.of(1L, 2L));
@@ -10,6 +10,7 @@ package io.camunda.zeebe.broker.system.configuration;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.Set;
 import org.junit.jupiter.api.Test;
@@ -132,6 +133,58 @@ final class ProcessingCfgTest {
     assertThat(enabled).isTrue();
   }
 
+  @Test
+  void shouldDisablePipelinedProcessingByDefault() {
+    // given
+    final var cfg = new ProcessingCfg();
+
+    // when
+    final var enabled = cfg.isEnablePipelinedProcessing();
+
+    // then
+    assertThat(enabled).isFalse();
+  }
+
+  @Test
+  void shouldSetPipelinedProcessingFromConfig() {
+    // given
+    final var cfg =
+        TestConfigReader.readConfig("processing-cfg", Collections.emptyMap()).getProcessing();
+
+    // when
+    final var enabled = cfg.isEnablePipelinedProcessing();
+
+    // then
+    assertThat(enabled).isTrue();
+  }
+
+  @Test
+  void shouldSetReplayBatchFromConfig() {
+    // given
+    final var cfg =
+        TestConfigReader.readConfig("processing-cfg", Collections.emptyMap()).getProcessing();
+
+    // when
+    final var maxEvents = cfg.getMaxEventsInReplayBatch();
+    final var maxDuration = cfg.getMaxReplayBatchDuration();
+
+    // then
+    assertThat(maxEvents).isEqualTo(500);
+    assertThat(maxDuration).isEqualTo(Duration.ofMillis(50));
+  }
+
+  @Test
+  void shouldRejectInvalidMaxEventsInReplayBatch() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.processing.maxEventsInReplayBatch", "0");
+
+    // then
+    assertThatThrownBy(() -> TestConfigReader.readConfig("processing-cfg", environment))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("maxEventsInReplayBatch must be >= 1");
+  }
+
   @Test
   void shouldSetSkipPositions() {
     // given
@@ -9,6 +9,7 @@ package io.camunda.zeebe.broker.system.configuration;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.camunda.zeebe.db.impl.rocksdb.ColumnFamilyTuning;
 import java.util.HashMap;
 import java.util.Map;
 import org.junit.Test;
@@ -285,4 +286,31 @@ public final class RocksdbCfgTest {
     // then
     assertThat(rocksdb.isDisableWal()).isTrue();
   }
+
+  @Test
+  public void shouldDisableSeparateColumnFamiliesPerDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // then
+    assertThat(rocksdb.isEnableSeparateColumnFamilies()).isFalse();
+    assertThat(rocksdb.getColumnFamilyTuning()).isEmpty();
+  }
+
+  @Test
+  public void shouldSetSeparateColumnFamiliesViaConfig() {
+    // given
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // when
+    final var rocksDbConfiguration = rocksdb.createRocksDbConfiguration();
+
+    // then
+    assertThat(rocksDbConfiguration.isSeparateColumnFamiliesEnabled()).isTrue();
+    assertThat(rocksDbConfiguration.getColumnFamilyTuning())
+        .containsEntry(
+            "JOBS", new ColumnFamilyTuning(DataSize.ofMegabytes(16).toBytes(), 12, "zstd"));
+  }
 }
@@ -115,4 +115,42 @@ final class ThreadsCfgTest {
     // then
     assertThat(cpuThreadCount).isEqualTo(6);
   }
+
+  @Test
+  void shouldDisableHighPriorityWeightByDefault() {
+    // given
+    final ThreadsCfg cfg = new ThreadsCfg();
+
+    // when
+    final int highPriorityWeight = cfg.getHighPriorityWeight();
+
+    // then
+    assertThat(highPriorityWeight).isZero();
+  }
+
+  @Test
+  void shouldSetHighPriorityWeightFromConfig() {
+    // given
+    final var cfg = TestConfigReader.readConfig("threads-cfg", Collections.emptyMap()).getThreads();
+
+    // when
+    final int highPriorityWeight = cfg.getHighPriorityWeight();
+
+    // then
+    assertThat(highPriorityWeight).isEqualTo(4);
+  }
+
+  @Test
+  void shouldSetHighPriorityWeightFromEnv() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.threads.highPriorityWeight", "8");
+    final var cfg = TestConfigReader.readConfig("threads-cfg", environment).getThreads();
+
+    // when
+    final int highPriorityWeight = cfg.getHighPriorityWeight();
+
+    // then
+    assertThat(highPriorityWeight).isEqualTo(8);
+  }
 }
@@ -28,6 +28,7 @@ public final class TestActorSchedulerFactory {
         ActorScheduler.newActorScheduler()
             .setCpuBoundActorThreadCount(threads.getCpuThreadCount())
             .setIoBoundActorThreadCount(threads.getIoThreadCount())
+            .setHighPriorityWeight(threads.getHighPriorityWeight())
             .setMeterRegistry(features.isEnableActorMetrics() ? new SimpleMeterRegistry() : null)
             .setActorClock(clock)
             .build();
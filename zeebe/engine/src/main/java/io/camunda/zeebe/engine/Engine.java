@@ -30,6 +30,7 @@ import io.camunda.zeebe.protocol.record.intent.ProcessInstanceCreationIntent;
 import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
 import io.camunda.zeebe.protocol.record.intent.ProcessInstanceRelatedIntent;
 import io.camunda.zeebe.protocol.record.value.ProcessInstanceRelated;
+import io.camunda.zeebe.stream.api.PostCommitTask;
 import io.camunda.zeebe.stream.api.ProcessingResult;
 import io.camunda.zeebe.stream.api.ProcessingResultBuilder;
 import io.camunda.zeebe.stream.api.RecordProcessor;
@@ -60,6 +61,11 @@ public class Engine implements RecordProcessor {
 
   private final ProcessingResultBuilderMutex resultBuilderMutex =
       new ProcessingResultBuilderMutex();
+  private final PostCommitTask commitActivatableJobsIndexChanges =
+      () -> {
+        processingState.getJobState().commitActivatableJobsIndexChanges();
+        return true;
+      };
 
   private Writers writers;
   private final TypedRecordProcessorFactory typedRecordProcessorFactory;
@@ -112,6 +118,10 @@ public class Engine implements RecordProcessor {
   public ProcessingResult process(
       final TypedRecord record, final ProcessingResultBuilder processingResultBuilder) {
 
+    // the same variables and scopes are often looked up repeatedly while processing a command,
+    // e.g. when evaluating the input mappings of an element
+    final var variableState = processingState.getVariableState();
+    variableState.enableCache();
     try (final var scope = new ProcessingResultBuilderScope(processingResultBuilder)) {
       TypedRecordProcessor<?> currentProcessor = null;
 
@@ -133,6 +143,10 @@ public class Engine implements RecordProcessor {
       if (shouldProcessCommand(typedCommand)) {
         currentProcessor.processRecord(record);
       }
+      appendActivatableJobsIndexCommit(processingResultBuilder);
+    } finally {
+      // the transaction might be rolled back after processing, which the cache doesn't know about
+      variableState.disableCache();
     }
     return processingResultBuilder.build();
   }
@@ -143,7 +157,6 @@ public class Engine implements RecordProcessor {
       final TypedRecord record,
       final ProcessingResultBuilder processingResultBuilder) {
     try (final var scope = new ProcessingResultBuilderScope(processingResultBuilder)) {
-
       final var typedCommand = (TypedRecord<?>) record;
       TypedRecordProcessor<?> processor = null;
       try {
@@ -165,10 +178,25 @@ public class Engine implements RecordProcessor {
         final var errorRecord = getRejectionRecord(record);
         handleUnexpectedError(processingException, errorRecord);
       }
+      appendActivatableJobsIndexCommit(processingResultBuilder);
     }
     return processingResultBuilder.build();
   }
 
+  @Override
+  public void onRollback() {
+    // the in-memory index of activatable jobs is not part of the transaction
+    processingState.getJobState().restoreActivatableJobsIndex();
+  }
+
+  private void appendActivatableJobsIndexCommit(
+      final ProcessingResultBuilder processingResultBuilder) {
+    // the changes to the index only need to be restored on rollback until they are committed
+    if (processingState.getJobState().hasUncommittedActivatableJobsIndexChanges()) {
+      processingResultBuilder.appendPostCommitTask(commitActivatableJobsIndexChanges);
+    }
+  }
+
   private boolean shouldProcessCommand(final TypedRecord<?> typedCommand) {
     // There is no ban check needed if the intent is not instance related
     // nor if the intent is to create new instances, which can't be banned yet
@@ -260,6 +260,34 @@ public enum EngineMetricsDoc implements ExtendedMeterDocumentation {
       return new KeyName[] {EngineKeyNames.JOB_ACTION};
     }
 
+    @Override
+    public KeyName[] getAdditionalKeyNames() {
+      return PartitionKeyNames.values();
+    }
+  },
+
+  /** Number of activatable jobs per job type */
+  PENDING_JOBS {
+    @Override
+    public String getDescription() {
+      return "Number of activatable jobs per job type";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.pending.jobs.total";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.GAUGE;
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {EngineKeyNames.JOB_TYPE};
+    }
+
     @Override
     public KeyName[] getAdditionalKeyNames() {
       return PartitionKeyNames.values();
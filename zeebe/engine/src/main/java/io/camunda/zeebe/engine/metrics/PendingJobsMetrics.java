@@ -0,0 +1,39 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.metrics;
+
+import static io.camunda.zeebe.engine.metrics.EngineMetricsDoc.PENDING_JOBS;
+
+import io.camunda.zeebe.engine.metrics.EngineMetricsDoc.EngineKeyNames;
+import io.camunda.zeebe.util.micrometer.BoundedMeterCache;
+import io.camunda.zeebe.util.micrometer.StatefulGauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.jcip.annotations.NotThreadSafe;
+
+/**
+ * Tracks the number of activatable jobs per job type. Like {@link JobProcessingMetrics}, this is
+ * meant to be used only in the context of the engine actor.
+ */
+@NotThreadSafe
+public final class PendingJobsMetrics {
+
+  private final BoundedMeterCache<StatefulGauge> pendingJobs;
+
+  public PendingJobsMetrics(final MeterRegistry registry) {
+    final var provider =
+        StatefulGauge.builder(PENDING_JOBS.getName())
+            .description(PENDING_JOBS.getDescription())
+            .withRegistry(registry);
+
+    pendingJobs = BoundedMeterCache.of(registry, provider, EngineKeyNames.JOB_TYPE);
+  }
+
+  public void setPendingJobs(final String type, final long count) {
+    pendingJobs.get(type).set(count);
+  }
+}
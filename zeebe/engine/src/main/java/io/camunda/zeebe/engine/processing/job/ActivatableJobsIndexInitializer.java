@@ -0,0 +1,30 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.job;
+
+import io.camunda.zeebe.engine.state.mutable.MutableJobState;
+import io.camunda.zeebe.stream.api.ReadonlyStreamProcessorContext;
+import io.camunda.zeebe.stream.api.StreamProcessorLifecycleAware;
+
+/**
+ * Builds the in-memory index of activatable jobs once the state is recovered, such that the pending
+ * jobs metrics are available before the first jobs are activated.
+ */
+final class ActivatableJobsIndexInitializer implements StreamProcessorLifecycleAware {
+
+  private final MutableJobState jobState;
+
+  ActivatableJobsIndexInitializer(final MutableJobState jobState) {
+    this.jobState = jobState;
+  }
+
+  @Override
+  public void onRecovered(final ReadonlyStreamProcessorContext context) {
+    jobState.rebuildActivatableJobsIndex();
+  }
+}
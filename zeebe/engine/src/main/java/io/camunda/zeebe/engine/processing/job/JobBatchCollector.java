@@ -15,6 +15,7 @@ import io.camunda.zeebe.engine.processing.identity.AuthorizationCheckBehavior.Au
 import io.camunda.zeebe.engine.state.immutable.JobState;
 import io.camunda.zeebe.engine.state.immutable.ProcessingState;
 import io.camunda.zeebe.engine.state.immutable.VariableState;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
 import io.camunda.zeebe.msgpack.value.LongValue;
 import io.camunda.zeebe.msgpack.value.StringValue;
 import io.camunda.zeebe.msgpack.value.ValueArray;
@@ -87,18 +88,31 @@ final class JobBatchCollector {
     final Collection<DirectBuffer> requestedVariables = collectVariableNames(value);
     final var maxActivatedCount = value.getMaxJobsToActivate();
     final var activatedCount = new MutableInteger(0);
+    // the length of the record is tracked while adding jobs, since computing it walks all the jobs
+    // already added to the batch
+    final var recordLength = new MutableInteger(record.getLength());
+    // jobs and their keys are always added together, so both arrays have the same size
+    final int initialJobCount = value.getJobKeys().size();
     final var unwritableJob = new MutableReference<TooLargeJob>();
     final var tenantIds =
         value.getTenantIds().isEmpty()
             ? List.of(TenantOwned.DEFAULT_TENANT_IDENTIFIER)
             : value.getTenantIds();
     final Map<JobKind, Integer> jobCountPerJobKind = new EnumMap<>(JobKind.class);
+    if (!jobState.hasActivatableJobs(value.getTypeBuffer(), tenantIds)) {
+      return Either.right(jobCountPerJobKind);
+    }
+
     final var authorizedProcessIds =
         authCheckBehavior.getAllAuthorizedResourceIdentifiers(
             new AuthorizationRequest(
                 record,
                 AuthorizationResourceType.PROCESS_DEFINITION,
                 PermissionType.UPDATE_PROCESS_INSTANCE));
+    if (authorizedProcessIds.isEmpty()) {
+      // no need to look at the jobs if we aren't authorized for any of them
+      return Either.right(jobCountPerJobKind);
+    }
 
     jobState.forEachActivatableJobs(
         value.getTypeBuffer(),
@@ -120,13 +134,17 @@ final class JobBatchCollector {
           // as well as an 8 KB buffer.
           final var jobRecordLength = jobRecord.getLength();
           final var expectedEventLength =
-              record.getLength()
+              recordLength.get()
                   + jobRecordLength
                   + EngineConfiguration.BATCH_SIZE_CALCULATION_BUFFER;
           if (activatedCount.value <= maxActivatedCount
               && canWriteEventOfLength.test(expectedEventLength)) {
             appendJobToBatch(jobIterator, jobKeyIterator, key, jobRecord);
             activatedCount.increment();
+            recordLength.addAndGet(
+                jobRecordLength
+                    + MsgPackWriter.getEncodedLongValueLength(key)
+                    + 2 * arrayHeaderGrowth(initialJobCount + activatedCount.get()));
 
             // track the count of activated jobs by their JobKind
             jobCountPerJobKind.merge(jobRecord.getJobKind(), 1, Integer::sum);
@@ -152,6 +170,14 @@ final class JobBatchCollector {
     return Either.right(jobCountPerJobKind);
   }
 
+  /**
+   * @return the number of bytes the header of an array grows by when adding an item to it
+   */
+  private static int arrayHeaderGrowth(final int newSize) {
+    return MsgPackWriter.getEncodedArrayHeaderLenght(newSize)
+        - MsgPackWriter.getEncodedArrayHeaderLenght(newSize - 1);
+  }
+
   private boolean isAuthorizedForJob(
       final JobRecord jobRecord, final Set<String> authorizedProcessIds) {
     return authorizedProcessIds.contains(WILDCARD_PERMISSION)
@@ -116,6 +116,7 @@ public final class JobEventProcessors {
                 config.getJobsTimeoutCheckerPollingInterval(),
                 config.getJobsTimeoutCheckerBatchLimit(),
                 clock))
-        .withListener(jobBackoffChecker);
+        .withListener(jobBackoffChecker)
+        .withListener(new ActivatableJobsIndexInitializer(processingState.getJobState()));
   }
 }
@@ -59,7 +59,8 @@ public class TypedRecordProcessorContextImpl implements TypedRecordProcessorCont
             transientMessageSubscriptionState,
             transientProcessMessageSubscriptionState,
             config,
-            clock);
+            clock,
+            zeebeDb.getMeterRegistry());
     this.writers = writers;
     partitionCommandSender = context.getPartitionCommandSender();
     this.config = config;
@@ -12,6 +12,7 @@ import io.camunda.zeebe.db.DbValue;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.metrics.PendingJobsMetrics;
 import io.camunda.zeebe.engine.scaling.redistribution.DbRedistributionState;
 import io.camunda.zeebe.engine.scaling.redistribution.MutableRedistributionState;
 import io.camunda.zeebe.engine.state.authorization.DbAuthorizationState;
@@ -87,6 +88,7 @@ import io.camunda.zeebe.engine.state.variable.DbVariableState;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.stream.api.ReadonlyStreamProcessorContext;
 import io.camunda.zeebe.stream.api.state.KeyGenerator;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.time.InstantSource;
 import java.util.Objects;
 import java.util.function.BiConsumer;
@@ -140,18 +142,51 @@ public class ProcessingDbState implements MutableProcessingState {
       final TransientPendingSubscriptionState transientProcessMessageSubscriptionState,
       final EngineConfiguration config,
       final InstantSource clock) {
+    this(
+        partitionId,
+        zeebeDb,
+        transactionContext,
+        keyGenerator,
+        transientMessageSubscriptionState,
+        transientProcessMessageSubscriptionState,
+        config,
+        clock,
+        null);
+  }
+
+  /**
+   * @param meterRegistry the registry to report the metrics of the in-memory caches and indices to,
+   *     or null if this state isn't the one used for processing, and shouldn't report them
+   */
+  public ProcessingDbState(
+      final int partitionId,
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final KeyGenerator keyGenerator,
+      final TransientPendingSubscriptionState transientMessageSubscriptionState,
+      final TransientPendingSubscriptionState transientProcessMessageSubscriptionState,
+      final EngineConfiguration config,
+      final InstantSource clock,
+      final MeterRegistry meterRegistry) {
     this.partitionId = partitionId;
     this.zeebeDb = zeebeDb;
     this.keyGenerator = Objects.requireNonNull(keyGenerator);
 
     variableState = new DbVariableState(zeebeDb, transactionContext);
-    processState = new DbProcessState(zeebeDb, transactionContext, config, clock);
+    processState =
+        meterRegistry != null
+            ? new DbProcessState(zeebeDb, transactionContext, config, clock, meterRegistry)
+            : new DbProcessState(zeebeDb, transactionContext, config, clock);
     timerInstanceState = new DbTimerInstanceState(zeebeDb, transactionContext);
     elementInstanceState = new DbElementInstanceState(zeebeDb, transactionContext, variableState);
     eventScopeInstanceState = new DbEventScopeInstanceState(zeebeDb, transactionContext);
 
     deploymentState = new DbDeploymentState(zeebeDb, transactionContext);
-    jobState = new DbJobState(zeebeDb, transactionContext);
+    jobState =
+        new DbJobState(
+            zeebeDb,
+            transactionContext,
+            meterRegistry != null ? new PendingJobsMetrics(meterRegistry) : null);
     messageState = new DbMessageState(zeebeDb, transactionContext, partitionId);
     messageSubscriptionState =
         new DbMessageSubscriptionState(
@@ -9,8 +9,6 @@ package io.camunda.zeebe.engine.state.deployment;
 
 import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
 import io.camunda.zeebe.db.ColumnFamily;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDb;
@@ -36,6 +34,8 @@ import io.camunda.zeebe.protocol.impl.record.value.deployment.ProcessMetadata;
 import io.camunda.zeebe.protocol.impl.record.value.deployment.ProcessRecord;
 import io.camunda.zeebe.protocol.record.value.deployment.DeploymentResource;
 import io.camunda.zeebe.util.buffer.BufferUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
 import java.time.InstantSource;
 import java.util.List;
 import java.util.NoSuchElementException;
@@ -51,11 +51,7 @@ public final class DbProcessState implements MutableProcessState {
 
   private final BpmnTransformer transformer;
   private final ProcessRecord processRecordForDeployments = new ProcessRecord();
-  private final Cache<TenantIdAndProcessIdAndVersion, DeployedProcess>
-      processesByTenantAndProcessIdAndVersionCache;
-  private final Cache<TenantIdAndProcessDefinitionKey, DeployedProcess> processByTenantAndKeyCache;
-  private final Cache<TenantIdAndProcessIdAndDeploymentKey, Long>
-      processDefinitionKeyByTenantAndProcessIdAndDeploymentKeyCache;
+  private final DeployedProcessCache processCache;
 
   /** [tenant id | process definition key] => process */
   private final ColumnFamily<DbTenantAwareKey<DbLong>, PersistedProcess> processColumnFamily;
@@ -114,6 +110,19 @@ public final class DbProcessState implements MutableProcessState {
       final TransactionContext transactionContext,
       final EngineConfiguration config,
       final InstantSource clock) {
+    this(zeebeDb, transactionContext, config, clock, new CompositeMeterRegistry());
+  }
+
+  /**
+   * @param cacheMeterRegistry the registry to report the metrics of the process cache to; only the
+   *     state used for processing should report them, as the first registration of a meter wins
+   */
+  public DbProcessState(
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final EngineConfiguration config,
+      final InstantSource clock,
+      final MeterRegistry cacheMeterRegistry) {
     transformer = BpmnFactory.createTransformer(clock);
     processDefinitionKey = new DbLong();
     persistedProcess = new PersistedProcess();
@@ -180,12 +189,11 @@ public final class DbProcessState implements MutableProcessState {
         new VersionManager(
             DEFAULT_VERSION_VALUE, zeebeDb, ZbColumnFamilies.PROCESS_VERSION, transactionContext);
 
-    processByTenantAndKeyCache =
-        CacheBuilder.newBuilder().maximumSize(config.getProcessCacheCapacity()).build();
-    processesByTenantAndProcessIdAndVersionCache =
-        CacheBuilder.newBuilder().maximumSize(config.getProcessCacheCapacity()).build();
-    processDefinitionKeyByTenantAndProcessIdAndDeploymentKeyCache =
-        CacheBuilder.newBuilder().maximumSize(config.getProcessCacheCapacity()).build();
+    processCache =
+        new DeployedProcessCache(
+            config.getProcessCacheFlowElementCapacity(),
+            config.getProcessCacheCapacity(),
+            cacheMeterRegistry);
   }
 
   @Override
@@ -279,7 +287,7 @@ public final class DbProcessState implements MutableProcessState {
     processColumnFamily.update(tenantAwareProcessDefinitionKey, process);
     processDefinitionKeyByProcessIdAndDeploymentKeyColumnFamily.upsert(
         tenantAwareProcessIdAndDeploymentKey, fkProcessDefinitionKey);
-    invalidateCaches(
+    processCache.invalidate(
         tenantId,
         process.getBpmnProcessId(),
         processDefinitionKey,
@@ -307,7 +315,7 @@ public final class DbProcessState implements MutableProcessState {
     processDefinitionKeyByProcessIdAndVersionTagColumnFamily.deleteIfExists(
         tenantAwareProcessIdAndVersionTagKey);
 
-    invalidateCaches(
+    processCache.invalidate(
         processRecord.getTenantId(),
         processRecord.getBpmnProcessIdBuffer(),
         processRecord.getProcessDefinitionKey(),
@@ -328,27 +336,6 @@ public final class DbProcessState implements MutableProcessState {
         processRecord.getBpmnProcessId(), processRecord.getVersion(), processRecord.getTenantId());
   }
 
-  private void invalidateCaches(
-      final String tenantId,
-      final DirectBuffer bpmnProcessId,
-      final long processDefinitionKey,
-      final long deploymentKey,
-      final int version) {
-    final var tenantIdAndProcessIdAndVersion =
-        new TenantIdAndProcessIdAndVersion(tenantId, bpmnProcessId, version);
-    processesByTenantAndProcessIdAndVersionCache.invalidate(tenantIdAndProcessIdAndVersion);
-
-    final var tenantIdAndProcessDefinitionKey =
-        new TenantIdAndProcessDefinitionKey(tenantId, processDefinitionKey);
-    final var cached = processByTenantAndKeyCache.getIfPresent(tenantIdAndProcessDefinitionKey);
-    processByTenantAndKeyCache.invalidate(tenantIdAndProcessDefinitionKey);
-
-    final var tenantIdAndProcessIdAndDeploymentKey =
-        new TenantIdAndProcessIdAndDeploymentKey(tenantId, bpmnProcessId, deploymentKey);
-    processDefinitionKeyByTenantAndProcessIdAndDeploymentKeyCache.invalidate(
-        tenantIdAndProcessIdAndDeploymentKey);
-  }
-
   private void persistProcess(final long processDefinitionKey, final ProcessRecord processRecord) {
     tenantIdKey.wrapString(processRecord.getTenantId());
     persistedProcess.wrap(processRecord, processDefinitionKey);
@@ -371,6 +358,7 @@ public final class DbProcessState implements MutableProcessState {
 
   // is called on getters, if process is not in memory
   private DeployedProcess updateInMemoryState(final PersistedProcess persistedProcess) {
+    final long loadStart = System.nanoTime();
 
     // we have to copy to store this in cache
     final byte[] bytes = new byte[persistedProcess.getLength()];
@@ -399,7 +387,7 @@ public final class DbProcessState implements MutableProcessState {
 
     final DeployedProcess deployedProcess = new DeployedProcess(executableProcess, copiedProcess);
 
-    addProcessToInMemoryState(deployedProcess);
+    processCache.putProcess(deployedProcess, System.nanoTime() - loadStart);
 
     return deployedProcess;
   }
@@ -410,30 +398,11 @@ public final class DbProcessState implements MutableProcessState {
     }
   }
 
-  private void addProcessToInMemoryState(final DeployedProcess deployedProcess) {
-    final DirectBuffer bpmnProcessId = deployedProcess.getBpmnProcessId();
-
-    final var key =
-        new TenantIdAndProcessDefinitionKey(
-            deployedProcess.getTenantId(), deployedProcess.getKey());
-    processByTenantAndKeyCache.put(key, deployedProcess);
-
-    final var tenantIdAndProcessIdAndVersion =
-        new TenantIdAndProcessIdAndVersion(
-            deployedProcess.getTenantId(), bpmnProcessId, deployedProcess.getVersion());
-
-    processesByTenantAndProcessIdAndVersionCache.put(
-        tenantIdAndProcessIdAndVersion, deployedProcess);
-  }
-
   @Override
   public DeployedProcess getLatestProcessVersionByProcessId(
       final DirectBuffer processIdBuffer, final String tenantId) {
     final long latestVersion = versionManager.getLatestResourceVersion(processIdBuffer, tenantId);
-    final var tenantIdAndProcessIdAndVersion =
-        new TenantIdAndProcessIdAndVersion(tenantId, processIdBuffer, latestVersion);
-    final var cachedProcess =
-        processesByTenantAndProcessIdAndVersionCache.getIfPresent(tenantIdAndProcessIdAndVersion);
+    final var cachedProcess = processCache.getProcess(tenantId, processIdBuffer, latestVersion);
 
     if (cachedProcess == null) {
       processId.wrapBuffer(processIdBuffer);
@@ -445,10 +414,7 @@ public final class DbProcessState implements MutableProcessState {
   @Override
   public DeployedProcess getProcessByProcessIdAndVersion(
       final DirectBuffer processId, final int version, final String tenantId) {
-    final var tenantIdAndProcessIdAndVersion =
-        new TenantIdAndProcessIdAndVersion(tenantId, processId, version);
-    final var cachedProcess =
-        processesByTenantAndProcessIdAndVersionCache.getIfPresent(tenantIdAndProcessIdAndVersion);
+    final var cachedProcess = processCache.getProcess(tenantId, processId, version);
 
     if (cachedProcess == null) {
       return lookupPersistenceState(processId, version, tenantId);
@@ -475,11 +441,8 @@ public final class DbProcessState implements MutableProcessState {
   @Override
   public DeployedProcess getProcessByProcessIdAndDeploymentKey(
       final DirectBuffer processIdBuffer, final long deploymentKey, final String tenantId) {
-    final var tenantIdAndProcessIdAndDeploymentKey =
-        new TenantIdAndProcessIdAndDeploymentKey(tenantId, processIdBuffer, deploymentKey);
     var cachedProcessDefinitionKey =
-        processDefinitionKeyByTenantAndProcessIdAndDeploymentKeyCache.getIfPresent(
-            tenantIdAndProcessIdAndDeploymentKey);
+        processCache.getProcessDefinitionKey(tenantId, processIdBuffer, deploymentKey);
 
     if (cachedProcessDefinitionKey == null) {
       cachedProcessDefinitionKey =
@@ -493,9 +456,7 @@ public final class DbProcessState implements MutableProcessState {
 
   @Override
   public DeployedProcess getProcessByKeyAndTenant(final long key, final String tenantId) {
-    final var tenantIdAndProcessDefinitionKey = new TenantIdAndProcessDefinitionKey(tenantId, key);
-    final DeployedProcess cachedProcess =
-        processByTenantAndKeyCache.getIfPresent(tenantIdAndProcessDefinitionKey);
+    final DeployedProcess cachedProcess = processCache.getProcess(tenantId, key);
 
     if (cachedProcess == null) {
       return lookupPersistenceStateForProcessByKey(key, tenantId);
@@ -557,9 +518,7 @@ public final class DbProcessState implements MutableProcessState {
 
   @Override
   public void clearCache() {
-    processByTenantAndKeyCache.invalidateAll();
-    processesByTenantAndProcessIdAndVersionCache.invalidateAll();
-    processDefinitionKeyByTenantAndProcessIdAndDeploymentKeyCache.invalidateAll();
+    processCache.clear();
     versionManager.clear();
   }
 
@@ -609,14 +568,7 @@ public final class DbProcessState implements MutableProcessState {
         processByIdAndVersionColumnFamily.get(tenantAwareProcessIdAndVersionKey);
 
     if (processWithVersionAndId != null) {
-      updateInMemoryState(processWithVersionAndId);
-
-      final var tenantIdAndProcessIdAndVersion =
-          new TenantIdAndProcessIdAndVersion(tenantId, processIdBuffer, version);
-
-      // return the cached copy
-      return processesByTenantAndProcessIdAndVersionCache.getIfPresent(
-          tenantIdAndProcessIdAndVersion);
+      return updateInMemoryState(processWithVersionAndId);
     }
     // does not exist in persistence and in memory state
     return null;
@@ -630,10 +582,7 @@ public final class DbProcessState implements MutableProcessState {
     final PersistedProcess processWithKey =
         processColumnFamily.get(tenantAwareProcessDefinitionKey);
     if (processWithKey != null) {
-      updateInMemoryState(processWithKey);
-
-      final var key = new TenantIdAndProcessDefinitionKey(tenantId, processDefinitionKey);
-      return processByTenantAndKeyCache.getIfPresent(key);
+      return updateInMemoryState(processWithKey);
     }
     // does not exist in persistence and in memory state
     return null;
@@ -650,19 +599,11 @@ public final class DbProcessState implements MutableProcessState {
             tenantAwareProcessIdAndDeploymentKey);
     if (foreignKey != null) {
       final var processDefinitionKey = foreignKey.inner().wrappedKey().getValue();
-      processDefinitionKeyByTenantAndProcessIdAndDeploymentKeyCache.put(
-          new TenantIdAndProcessIdAndDeploymentKey(tenantId, processIdBuffer, deploymentKey),
-          processDefinitionKey);
+      processCache.putProcessDefinitionKey(
+          tenantId, processIdBuffer, deploymentKey, processDefinitionKey);
       return processDefinitionKey;
     }
     // does not exist in persistence and in memory state
     return null;
   }
-
-  record TenantIdAndProcessIdAndVersion(String tenantId, DirectBuffer processId, long Version) {}
-
-  record TenantIdAndProcessDefinitionKey(String tenantId, long processDefinitionKey) {}
-
-  record TenantIdAndProcessIdAndDeploymentKey(
-      String tenantId, DirectBuffer processId, long deploymentKey) {}
 }
@@ -0,0 +1,205 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.deployment;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import io.camunda.zeebe.util.cache.CaffeineCacheStatsCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.jcip.annotations.NotThreadSafe;
+import org.agrona.DirectBuffer;
+
+/**
+ * Caches the deployed processes of a partition, to avoid reading and transforming their BPMN model
+ * on every access.
+ *
+ * <p>Processes are cached by tenant and process definition key. As the size of a transformed
+ * process varies widely, the cache is bounded by the total weight of its processes, where the
+ * weight of a process is the number of its flow elements. The lookups by process id and version,
+ * and by process id and deployment key, are cached as mappings to the process definition key, which
+ * are small and bounded by their number of entries instead.
+ *
+ * <p>Lookups reuse mutable keys, such that a cache hit doesn't allocate; keys are only copied when
+ * adding an entry. This is only safe as long as the cache is accessed by a single thread, i.e. the
+ * stream processor.
+ */
+@NotThreadSafe
+final class DeployedProcessCache {
+
+  static final String NAMESPACE = "zeebe.engine.cache";
+
+  private final Cache<ProcessKey, DeployedProcess> processesByKey;
+  private final Cache<ProcessIdKey, Long> keysByProcessIdAndVersion;
+  private final Cache<ProcessIdKey, Long> keysByProcessIdAndDeploymentKey;
+  private final CaffeineCacheStatsCounter statsCounter;
+
+  private final ProcessKey processKeyView = new ProcessKey();
+  private final ProcessIdKey processIdKeyView = new ProcessIdKey();
+
+  DeployedProcessCache(
+      final long maxFlowElements, final int mappingCapacity, final MeterRegistry registry) {
+    statsCounter = new CaffeineCacheStatsCounter(NAMESPACE, "process", registry);
+    processesByKey =
+        Caffeine.newBuilder()
+            .maximumWeight(maxFlowElements)
+            .weigher(DeployedProcessCache::weigh)
+            // keep evictions on the stream processor's thread, as lookup keys are not thread safe
+            .executor(Runnable::run)
+            .recordStats(() -> statsCounter)
+            .build();
+    keysByProcessIdAndVersion =
+        Caffeine.newBuilder().maximumSize(mappingCapacity).executor(Runnable::run).build();
+    keysByProcessIdAndDeploymentKey =
+        Caffeine.newBuilder().maximumSize(mappingCapacity).executor(Runnable::run).build();
+
+    Gauge.builder(NAMESPACE + ".process.weight", processesByKey, DeployedProcessCache::weight)
+        .description("Total number of flow elements of all cached processes")
+        .register(registry);
+  }
+
+  DeployedProcess getProcess(final String tenantId, final long processDefinitionKey) {
+    return processesByKey.getIfPresent(processKeyView.wrap(tenantId, processDefinitionKey));
+  }
+
+  /**
+   * Returns the cached process with the given id and version, or null if either the mapping or the
+   * process itself is not cached.
+   */
+  DeployedProcess getProcess(
+      final String tenantId, final DirectBuffer processId, final long version) {
+    final var processDefinitionKey =
+        keysByProcessIdAndVersion.getIfPresent(processIdKeyView.wrap(tenantId, processId, version));
+    return processDefinitionKey != null ? getProcess(tenantId, processDefinitionKey) : null;
+  }
+
+  Long getProcessDefinitionKey(
+      final String tenantId, final DirectBuffer processId, final long deploymentKey) {
+    return keysByProcessIdAndDeploymentKey.getIfPresent(
+        processIdKeyView.wrap(tenantId, processId, deploymentKey));
+  }
+
+  /**
+   * Adds the given process, which was loaded from the state.
+   *
+   * @param process the loaded process
+   * @param loadTimeNanos the time it took to read and transform the process
+   */
+  void putProcess(final DeployedProcess process, final long loadTimeNanos) {
+    final var tenantId = process.getTenantId();
+    processesByKey.put(new ProcessKey().wrap(tenantId, process.getKey()), process);
+    keysByProcessIdAndVersion.put(
+        processIdKeyView.wrap(tenantId, process.getBpmnProcessId(), process.getVersion()).copy(),
+        process.getKey());
+    statsCounter.recordLoadSuccess(loadTimeNanos);
+  }
+
+  void putProcessDefinitionKey(
+      final String tenantId,
+      final DirectBuffer processId,
+      final long deploymentKey,
+      final long processDefinitionKey) {
+    keysByProcessIdAndDeploymentKey.put(
+        processIdKeyView.wrap(tenantId, processId, deploymentKey).copy(), processDefinitionKey);
+  }
+
+  void invalidate(
+      final String tenantId,
+      final DirectBuffer processId,
+      final long processDefinitionKey,
+      final long deploymentKey,
+      final int version) {
+    processesByKey.invalidate(processKeyView.wrap(tenantId, processDefinitionKey));
+    keysByProcessIdAndVersion.invalidate(processIdKeyView.wrap(tenantId, processId, version));
+    keysByProcessIdAndDeploymentKey.invalidate(
+        processIdKeyView.wrap(tenantId, processId, deploymentKey));
+  }
+
+  void clear() {
+    processesByKey.invalidateAll();
+    keysByProcessIdAndVersion.invalidateAll();
+    keysByProcessIdAndDeploymentKey.invalidateAll();
+  }
+
+  private static int weigh(final ProcessKey key, final DeployedProcess process) {
+    // the process itself is one of its flow elements, so the weight is never zero
+    return process.getProcess().getFlowElements().size();
+  }
+
+  private static double weight(final Cache<ProcessKey, DeployedProcess> cache) {
+    return cache.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0)).orElse(0L);
+  }
+
+  /** Tenant id and process definition key; mutable to allow reusing it for lookups. */
+  private static final class ProcessKey {
+    private String tenantId;
+    private long processDefinitionKey;
+
+    private ProcessKey wrap(final String tenantId, final long processDefinitionKey) {
+      this.tenantId = tenantId;
+      this.processDefinitionKey = processDefinitionKey;
+      return this;
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * tenantId.hashCode() + Long.hashCode(processDefinitionKey);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      return o instanceof final ProcessKey other
+          && processDefinitionKey == other.processDefinitionKey
+          && tenantId.equals(other.tenantId);
+    }
+  }
+
+  /**
+   * Tenant id, process id and a number, e.g. the version or the deployment key; mutable to allow
+   * reusing it for lookups. As the process id only wraps the given buffer, keys which are added to
+   * a cache must be copied first.
+   */
+  private static final class ProcessIdKey {
+    private String tenantId;
+    private DirectBuffer processId;
+    private long number;
+    private int hashCode;
+
+    private ProcessIdKey wrap(
+        final String tenantId, final DirectBuffer processId, final long number) {
+      this.tenantId = tenantId;
+      this.processId = processId;
+      this.number = number;
+
+      int processIdHash = 1;
+      for (int i = 0; i < processId.capacity(); i++) {
+        processIdHash = 31 * processIdHash + processId.getByte(i);
+      }
+      hashCode = 31 * (31 * tenantId.hashCode() + processIdHash) + Long.hashCode(number);
+      return this;
+    }
+
+    private ProcessIdKey copy() {
+      return new ProcessIdKey().wrap(tenantId, BufferUtil.cloneBuffer(processId), number);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      return o instanceof final ProcessIdKey other
+          && number == other.number
+          && tenantId.equals(other.tenantId)
+          && BufferUtil.equals(processId, other.processId);
+    }
+  }
+}
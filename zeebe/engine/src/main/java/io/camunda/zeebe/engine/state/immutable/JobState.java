@@ -42,6 +42,16 @@ public interface JobState {
       final List<String> tenantIds,
       BiFunction<Long, JobRecord, Boolean> callback);
 
+  /**
+   * Returns whether there are any activatable jobs of the given type for one of the given tenants.
+   * Unlike {@link #forEachActivatableJobs(DirectBuffer, List, BiFunction)}, this does not iterate
+   * over the activatable jobs.
+   */
+  boolean hasActivatableJobs(DirectBuffer type, List<String> tenantIds);
+
+  /** Returns the number of activatable jobs of the given type for the given tenants. */
+  long countActivatableJobs(DirectBuffer type, List<String> tenantIds);
+
   JobRecord getJob(long key);
 
   JobRecord getJob(final long key, final AuthorizedTenants authorizedTenantIds);
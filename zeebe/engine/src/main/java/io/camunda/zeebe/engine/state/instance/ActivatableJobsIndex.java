@@ -0,0 +1,184 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.instance;
+
+import io.camunda.zeebe.engine.metrics.PendingJobsMetrics;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.agrona.DirectBuffer;
+import org.agrona.collections.Object2LongHashMap;
+import org.agrona.collections.Object2ObjectHashMap;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * In-memory count of the activatable jobs per job type and tenant, mirroring the {@code
+ * JOB_ACTIVATABLE} column family. It allows to answer whether there are any jobs to activate
+ * without iterating over the column family.
+ *
+ * <p>The index is not part of the state, and changes to it are not rolled back together with a
+ * transaction. It starts out as not built, in which case changes are ignored, and must be rebuilt
+ * from the column family before it can be queried, e.g. after recovery. To restore it after a
+ * rollback, it keeps track of the job types whose counts changed since the changes were last
+ * committed, such that only these are counted again.
+ */
+final class ActivatableJobsIndex {
+
+  private final Object2ObjectHashMap<DirectBuffer, TypeCounts> countsByType =
+      new Object2ObjectHashMap<>();
+  private final List<TypeCounts> changedTypes = new ArrayList<>();
+  private final UnsafeBuffer typeView = new UnsafeBuffer();
+  private final PendingJobsMetrics metrics;
+  private boolean built;
+  private boolean rebuilding;
+
+  /**
+   * @param metrics the metrics to report the counts to, or null if they shouldn't be reported
+   */
+  ActivatableJobsIndex(final PendingJobsMetrics metrics) {
+    this.metrics = metrics;
+  }
+
+  boolean isBuilt() {
+    return built;
+  }
+
+  boolean hasUncommittedChanges() {
+    return !changedTypes.isEmpty();
+  }
+
+  /**
+   * Resets all counts to zero, after which all activatable jobs are expected to be re-added. The
+   * metrics are only updated once the rebuild is finished.
+   */
+  void beginRebuild() {
+    // the rebuild may see uncommitted changes, so all counts must be restored after a rollback
+    countsByType.values().forEach(TypeCounts::clear);
+    countsByType.values().forEach(TypeCounts::markChanged);
+    built = true;
+    rebuilding = true;
+  }
+
+  void endRebuild() {
+    rebuilding = false;
+    countsByType.values().forEach(TypeCounts::updateMetrics);
+  }
+
+  /** Forgets about the changed types, once the changes to their counts were committed. */
+  void commitChanges() {
+    changedTypes.forEach(counts -> counts.changed = false);
+    changedTypes.clear();
+  }
+
+  /**
+   * Resets the counts of the types which changed since the changes were last committed, and counts
+   * their activatable jobs again. The types are still considered as changed afterwards, since a
+   * rollback to a savepoint keeps the changes made before it.
+   *
+   * @param recount called for each changed type, expected to re-add its activatable jobs
+   */
+  void recountChangedTypes(final Consumer<DirectBuffer> recount) {
+    if (!built) {
+      return;
+    }
+
+    rebuilding = true;
+    try {
+      changedTypes.forEach(TypeCounts::clear);
+      changedTypes.forEach(counts -> recount.accept(counts.typeBuffer));
+    } finally {
+      rebuilding = false;
+    }
+    changedTypes.forEach(TypeCounts::updateMetrics);
+  }
+
+  void increment(final DirectBuffer type, final String tenantId) {
+    if (built) {
+      countsFor(type).add(tenantId, 1);
+    }
+  }
+
+  void decrement(final DirectBuffer type, final String tenantId) {
+    if (built) {
+      countsFor(type).add(tenantId, -1);
+    }
+  }
+
+  long count(final DirectBuffer type, final List<String> tenantIds) {
+    typeView.wrap(type);
+    final var counts = countsByType.get(typeView);
+    if (counts == null) {
+      return 0;
+    }
+
+    long count = 0;
+    for (int i = 0; i < tenantIds.size(); i++) {
+      count += counts.countsByTenant.getValue(tenantIds.get(i));
+    }
+    return count;
+  }
+
+  private TypeCounts countsFor(final DirectBuffer type) {
+    typeView.wrap(type);
+    var counts = countsByType.get(typeView);
+    if (counts == null) {
+      final var typeCopy = new UnsafeBuffer(BufferUtil.cloneBuffer(type));
+      counts = new TypeCounts(typeCopy);
+      countsByType.put(typeCopy, counts);
+    }
+    return counts;
+  }
+
+  private final class TypeCounts {
+    private final Object2LongHashMap<String> countsByTenant = new Object2LongHashMap<>(0);
+    private final DirectBuffer typeBuffer;
+    private final String type;
+    private long total;
+    private boolean changed;
+
+    private TypeCounts(final DirectBuffer typeBuffer) {
+      this.typeBuffer = typeBuffer;
+      type = BufferUtil.bufferAsString(typeBuffer);
+    }
+
+    private void add(final String tenantId, final long delta) {
+      markChanged();
+
+      final var count = countsByTenant.getValue(tenantId) + delta;
+      if (count <= 0) {
+        countsByTenant.removeKey(tenantId);
+      } else {
+        countsByTenant.put(tenantId, count);
+      }
+
+      total = Math.max(0, total + delta);
+      if (!rebuilding) {
+        updateMetrics();
+      }
+    }
+
+    private void clear() {
+      countsByTenant.clear();
+      total = 0;
+    }
+
+    private void markChanged() {
+      if (!changed) {
+        changed = true;
+        changedTypes.add(this);
+      }
+    }
+
+    private void updateMetrics() {
+      if (metrics != null) {
+        metrics.setPendingJobs(type, total);
+      }
+    }
+  }
+}
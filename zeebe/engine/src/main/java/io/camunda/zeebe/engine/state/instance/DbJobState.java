@@ -18,6 +18,7 @@ import io.camunda.zeebe.db.impl.DbString;
 import io.camunda.zeebe.db.impl.DbTenantAwareKey;
 import io.camunda.zeebe.db.impl.DbTenantAwareKey.PlacementType;
 import io.camunda.zeebe.engine.Loggers;
+import io.camunda.zeebe.engine.metrics.PendingJobsMetrics;
 import io.camunda.zeebe.engine.processing.identity.AuthorizedTenants;
 import io.camunda.zeebe.engine.state.immutable.JobState;
 import io.camunda.zeebe.engine.state.mutable.MutableJobState;
@@ -59,6 +60,7 @@ public final class DbJobState implements JobState, MutableJobState {
   private final ColumnFamily<
           DbTenantAwareKey<DbCompositeKey<DbString, DbForeignKey<DbLong>>>, DbNil>
       activatableColumnFamily;
+  private final ActivatableJobsIndex activatableJobsIndex;
 
   // timeout => key
   private final DbLong deadlineKey;
@@ -74,6 +76,17 @@ public final class DbJobState implements JobState, MutableJobState {
 
   public DbJobState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+    this(zeebeDb, transactionContext, null);
+  }
+
+  /**
+   * @param pendingJobsMetrics the metrics to report the number of activatable jobs per type to, or
+   *     null if this state isn't the one used for processing, and shouldn't report them
+   */
+  public DbJobState(
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final PendingJobsMetrics pendingJobsMetrics) {
 
     jobKey = new DbLong();
     fkJob = new DbForeignKey<>(jobKey, ZbColumnFamilies.JOBS);
@@ -95,6 +108,7 @@ public final class DbJobState implements JobState, MutableJobState {
             transactionContext,
             tenantAwareTypeJobKey,
             DbNil.INSTANCE);
+    activatableJobsIndex = new ActivatableJobsIndex(pendingJobsMetrics);
 
     deadlineKey = new DbLong();
     deadlineJobKey = new DbCompositeKey<>(deadlineKey, fkJob);
@@ -136,6 +150,7 @@ public final class DbJobState implements JobState, MutableJobState {
   @Override
   public void recurAfterBackoff(final long key, final JobRecord record) {
     updateJob(key, record, State.ACTIVATABLE);
+    makeJobActivatable(record.getTypeBuffer(), key, record.getTenantId());
     removeJobBackoff(key, record.getRecurringTime());
   }
 
@@ -148,6 +163,7 @@ public final class DbJobState implements JobState, MutableJobState {
     EnsureUtil.ensureGreaterThan("deadline", deadline, 0);
 
     updateJob(key, record, State.ACTIVATABLE);
+    makeJobActivatable(type, key, record.getTenantId());
   }
 
   @Override
@@ -163,13 +179,13 @@ public final class DbJobState implements JobState, MutableJobState {
   @Override
   public void disable(final long key, final JobRecord record) {
     updateJob(key, record, State.FAILED);
-    makeJobNotActivatable(record.getTypeBuffer(), record.getTenantId());
+    ensureJobNotActivatable(record.getTypeBuffer(), record.getTenantId());
   }
 
   @Override
   public void throwError(final long key, final JobRecord updatedValue) {
     updateJob(key, updatedValue, State.ERROR_THROWN);
-    makeJobNotActivatable(updatedValue.getTypeBuffer(), updatedValue.getTenantId());
+    ensureJobNotActivatable(updatedValue.getTypeBuffer(), updatedValue.getTenantId());
   }
 
   @Override
@@ -182,7 +198,7 @@ public final class DbJobState implements JobState, MutableJobState {
 
     statesJobColumnFamily.deleteExisting(fkJob);
 
-    makeJobNotActivatable(type, tenantId);
+    ensureJobNotActivatable(type, tenantId);
 
     removeJobDeadline(key, record.getDeadline());
     removeJobBackoff(key, record.getRecurringTime());
@@ -194,24 +210,28 @@ public final class DbJobState implements JobState, MutableJobState {
       if (updatedValue.getRetryBackoff() > 0) {
         addJobBackoff(key, updatedValue.getRecurringTime());
         updateJob(key, updatedValue, State.FAILED);
-        makeJobNotActivatable(updatedValue.getTypeBuffer(), updatedValue.getTenantId());
+        ensureJobNotActivatable(updatedValue.getTypeBuffer(), updatedValue.getTenantId());
       } else {
         updateJob(key, updatedValue, State.ACTIVATABLE);
+        // jobs can be failed without activating them first, i.e. they may be activatable already
+        ensureJobActivatable(updatedValue.getTypeBuffer(), key, updatedValue.getTenantId());
       }
     } else {
       updateJob(key, updatedValue, State.FAILED);
-      makeJobNotActivatable(updatedValue.getTypeBuffer(), updatedValue.getTenantId());
+      ensureJobNotActivatable(updatedValue.getTypeBuffer(), updatedValue.getTenantId());
     }
   }
 
   @Override
   public void yield(final long key, final JobRecord updatedValue) {
     updateJob(key, updatedValue, State.ACTIVATABLE);
+    makeJobActivatable(updatedValue.getTypeBuffer(), key, updatedValue.getTenantId());
   }
 
   @Override
   public void resolve(final long key, final JobRecord updatedValue) {
     updateJob(key, updatedValue, State.ACTIVATABLE);
+    makeJobActivatable(updatedValue.getTypeBuffer(), key, updatedValue.getTenantId());
   }
 
   @Override
@@ -309,6 +329,40 @@ public final class DbJobState implements JobState, MutableJobState {
         });
   }
 
+  @Override
+  public void rebuildActivatableJobsIndex() {
+    activatableJobsIndex.beginRebuild();
+    activatableColumnFamily.forEach(
+        (key, nil) ->
+            activatableJobsIndex.increment(
+                key.wrappedKey().first().getBuffer(), key.tenantKey().toString()));
+    activatableJobsIndex.endRebuild();
+  }
+
+  @Override
+  public boolean hasUncommittedActivatableJobsIndexChanges() {
+    return activatableJobsIndex.hasUncommittedChanges();
+  }
+
+  @Override
+  public void commitActivatableJobsIndexChanges() {
+    activatableJobsIndex.commitChanges();
+  }
+
+  @Override
+  public void restoreActivatableJobsIndex() {
+    activatableJobsIndex.recountChangedTypes(
+        type -> {
+          jobTypeKey.wrapBuffer(type);
+          activatableColumnFamily.whileEqualPrefix(
+              jobTypeKey,
+              (key, nil) -> {
+                activatableJobsIndex.increment(type, key.tenantKey().toString());
+                return true;
+              });
+        });
+  }
+
   private void createJob(final long key, final JobRecord record, final DirectBuffer type) {
     createJobRecord(key, record);
     initializeJobState();
@@ -324,10 +378,6 @@ public final class DbJobState implements JobState, MutableJobState {
 
     updateJobState(newState);
 
-    if (newState == State.ACTIVATABLE) {
-      makeJobActivatable(type, key, updatedValue.getTenantId());
-    }
-
     if (newState != State.ACTIVATED) {
       // This only works because none of the events actually remove the deadline from the job
       // record.
@@ -422,6 +472,19 @@ public final class DbJobState implements JobState, MutableJobState {
         }));
   }
 
+  @Override
+  public boolean hasActivatableJobs(final DirectBuffer type, final List<String> tenantIds) {
+    return countActivatableJobs(type, tenantIds) > 0;
+  }
+
+  @Override
+  public long countActivatableJobs(final DirectBuffer type, final List<String> tenantIds) {
+    if (!activatableJobsIndex.isBuilt()) {
+      rebuildActivatableJobsIndex();
+    }
+    return activatableJobsIndex.count(type, tenantIds);
+  }
+
   @Override
   public JobRecord getJob(final long key) {
     jobKey.wrapLong(key);
@@ -498,6 +561,10 @@ public final class DbJobState implements JobState, MutableJobState {
     statesJobColumnFamily.update(fkJob, jobState);
   }
 
+  /**
+   * Makes a job activatable which is known not to be activatable yet, i.e. a new job or one whose
+   * previous state can't be activatable.
+   */
   private void makeJobActivatable(final DirectBuffer type, final long key, final String tenantId) {
     EnsureUtil.ensureNotNullOrEmpty("type", type);
     EnsureUtil.ensureNotNullOrEmpty("tenantId", tenantId);
@@ -505,11 +572,29 @@ public final class DbJobState implements JobState, MutableJobState {
     jobTypeKey.wrapBuffer(type);
     jobKey.wrapLong(key);
     tenantIdKey.wrapString(tenantId);
-    // Need to upsert here because jobs can be marked as failed (and thus made activatable)
-    // without activating them first
     activatableColumnFamily.upsert(tenantAwareTypeJobKey, DbNil.INSTANCE);
+    activatableJobsIndex.increment(type, tenantId);
+  }
+
+  /**
+   * Makes a job activatable which might be activatable already. The index is only updated if it
+   * wasn't, which costs an additional lookup once the index is built.
+   */
+  private void ensureJobActivatable(
+      final DirectBuffer type, final long key, final String tenantId) {
+    EnsureUtil.ensureNotNullOrEmpty("type", type);
+    EnsureUtil.ensureNotNullOrEmpty("tenantId", tenantId);
+
+    jobTypeKey.wrapBuffer(type);
+    jobKey.wrapLong(key);
+    tenantIdKey.wrapString(tenantId);
+    if (!activatableJobsIndex.isBuilt() || !activatableColumnFamily.exists(tenantAwareTypeJobKey)) {
+      activatableColumnFamily.upsert(tenantAwareTypeJobKey, DbNil.INSTANCE);
+      activatableJobsIndex.increment(type, tenantId);
+    }
   }
 
+  /** Makes a job not activatable which is known to be activatable, i.e. when activating it. */
   private void makeJobNotActivatable(final DirectBuffer type, final String tenantId) {
     EnsureUtil.ensureNotNullOrEmpty("type", type);
     EnsureUtil.ensureNotNullOrEmpty("tenantid", tenantId);
@@ -517,6 +602,26 @@ public final class DbJobState implements JobState, MutableJobState {
     jobTypeKey.wrapBuffer(type);
     tenantIdKey.wrapString(tenantId);
     activatableColumnFamily.deleteIfExists(tenantAwareTypeJobKey);
+    activatableJobsIndex.decrement(type, tenantId);
+  }
+
+  /**
+   * Makes a job not activatable which might not be activatable anyway, e.g. when failing or
+   * completing a job which can be either activatable or activated. The index is only updated if it
+   * was, which costs an additional lookup once the index is built.
+   */
+  private void ensureJobNotActivatable(final DirectBuffer type, final String tenantId) {
+    EnsureUtil.ensureNotNullOrEmpty("type", type);
+    EnsureUtil.ensureNotNullOrEmpty("tenantid", tenantId);
+
+    jobTypeKey.wrapBuffer(type);
+    tenantIdKey.wrapString(tenantId);
+    if (!activatableJobsIndex.isBuilt()) {
+      activatableColumnFamily.deleteIfExists(tenantAwareTypeJobKey);
+    } else if (activatableColumnFamily.exists(tenantAwareTypeJobKey)) {
+      activatableColumnFamily.deleteIfExists(tenantAwareTypeJobKey);
+      activatableJobsIndex.decrement(type, tenantId);
+    }
   }
 
   private void addJobDeadline(final long job, final long deadline) {
@@ -47,4 +47,26 @@ public interface MutableJobState extends JobState {
   void migrate(long key, JobRecord record);
 
   void restoreBackoff();
+
+  /** Rebuilds the in-memory index of activatable jobs from the state, e.g. after recovery. */
+  void rebuildActivatableJobsIndex();
+
+  /**
+   * Returns true if the in-memory index of activatable jobs changed since the changes were last
+   * committed via {@link #commitActivatableJobsIndexChanges()}.
+   */
+  boolean hasUncommittedActivatableJobsIndexChanges();
+
+  /**
+   * Must be called after the changes to the job state were committed, such that they are not
+   * counted again by {@link #restoreActivatableJobsIndex()}.
+   */
+  void commitActivatableJobsIndexChanges();
+
+  /**
+   * Restores the in-memory index of activatable jobs after changes to the job state were rolled
+   * back, as the index is not part of the transaction. Only the job types which changed since the
+   * last commit are counted again.
+   */
+  void restoreActivatableJobsIndex();
 }
@@ -63,6 +63,17 @@ public interface MutableVariableState extends VariableState {
 
   void removeAllVariables(long scopeKey);
 
+  /**
+   * Caches the parent scopes and the variables which are looked up, until {@link #disableCache()}
+   * is called. Changes made through this state keep the cache up to date, but a rolled back
+   * transaction does not. The cache must therefore only be enabled while processing a single
+   * command.
+   */
+  void enableCache();
+
+  /** Disables the cache and clears it, see {@link #enableCache()}. */
+  void disableCache();
+
   /**
    * Stores the given variable document record in the state, associating it with the provided key.
    *
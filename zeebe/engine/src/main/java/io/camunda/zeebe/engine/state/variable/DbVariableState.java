@@ -30,12 +30,18 @@ import java.util.function.Predicate;
 import org.agrona.DirectBuffer;
 import org.agrona.ExpandableArrayBuffer;
 import org.agrona.MutableDirectBuffer;
+import org.agrona.collections.Long2LongHashMap;
+import org.agrona.collections.Long2ObjectHashMap;
 import org.agrona.collections.MutableInteger;
+import org.agrona.collections.Object2ObjectHashMap;
 import org.agrona.collections.ObjectHashSet;
 import org.agrona.concurrent.UnsafeBuffer;
 
 public class DbVariableState implements MutableVariableState {
 
+  private static final long UNKNOWN_PARENT = Long.MIN_VALUE;
+  private static final DirectBuffer NO_VARIABLE = new UnsafeBuffer(0, 0);
+
   private final MsgPackWriter writer = new MsgPackWriter();
   private final ExpandableArrayBuffer documentResultBuffer = new ExpandableArrayBuffer();
   private final DirectBuffer resultView = new UnsafeBuffer(0, 0);
@@ -67,6 +73,13 @@ public class DbVariableState implements MutableVariableState {
   private final ObjectHashSet<DirectBuffer> collectedVariables = new ObjectHashSet<>();
   private final ObjectHashSet<DirectBuffer> variablesToCollect = new ObjectHashSet<>();
 
+  // caches the parent scopes and the local variables of the scopes which are looked up while the
+  // cache is enabled; a variable which is not present in a scope is cached as NO_VARIABLE
+  private boolean isCacheEnabled;
+  private final Long2LongHashMap cachedParentScopeKeys = new Long2LongHashMap(UNKNOWN_PARENT);
+  private final Long2ObjectHashMap<Object2ObjectHashMap<DirectBuffer, DirectBuffer>>
+      cachedVariablesByScopeKey = new Long2ObjectHashMap<>();
+
   public DbVariableState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
     childKey = new DbLong();
@@ -127,6 +140,13 @@ public class DbVariableState implements MutableVariableState {
     variableName.wrapBuffer(variableNameView);
 
     variablesColumnFamily.upsert(scopeKeyVariableNameKey, newVariable);
+
+    if (isCacheEnabled) {
+      final var cachedVariables = cachedVariablesByScopeKey.get(scopeKey);
+      if (cachedVariables != null) {
+        cachedVariables.remove(variableNameView);
+      }
+    }
   }
 
   @Override
@@ -135,6 +155,10 @@ public class DbVariableState implements MutableVariableState {
     this.parentKey.set(parentKey);
 
     childParentColumnFamily.insert(this.childKey, this.parentKey);
+
+    if (isCacheEnabled) {
+      cachedParentScopeKeys.put(childKey, parentKey);
+    }
   }
 
   @Override
@@ -146,6 +170,10 @@ public class DbVariableState implements MutableVariableState {
     childKey.wrapLong(scopeKey);
     // TODO: Could be deleteExisting except for tests
     childParentColumnFamily.deleteIfExists(childKey);
+
+    if (isCacheEnabled) {
+      cachedParentScopeKeys.remove(scopeKey);
+    }
   }
 
   @Override
@@ -155,6 +183,10 @@ public class DbVariableState implements MutableVariableState {
         dbString -> true,
         (dbString, variable1) -> variablesColumnFamily.deleteExisting(scopeKeyVariableNameKey),
         () -> false);
+
+    if (isCacheEnabled) {
+      cachedVariablesByScopeKey.remove(scopeKey);
+    }
   }
 
   @Override
@@ -197,11 +229,20 @@ public class DbVariableState implements MutableVariableState {
 
     long currentScopeKey = scopeKey;
     do {
-      final VariableInstance variable =
-          getVariableLocal(currentScopeKey, name, nameOffset, nameLength);
-
-      if (variable != null) {
-        return variable.getValue();
+      if (isCacheEnabled) {
+        final DirectBuffer value =
+            getCachedVariableLocal(currentScopeKey, name, nameOffset, nameLength);
+
+        if (value != NO_VARIABLE) {
+          return value;
+        }
+      } else {
+        final VariableInstance variable =
+            getVariableLocal(currentScopeKey, name, nameOffset, nameLength);
+
+        if (variable != null) {
+          return variable.getValue();
+        }
       }
 
       currentScopeKey = getParentScopeKey(currentScopeKey);
@@ -319,10 +360,34 @@ public class DbVariableState implements MutableVariableState {
 
   @Override
   public long getParentScopeKey(final long childScopeKey) {
+    if (isCacheEnabled) {
+      final long cachedParentScopeKey = cachedParentScopeKeys.get(childScopeKey);
+      if (cachedParentScopeKey != UNKNOWN_PARENT) {
+        return cachedParentScopeKey;
+      }
+    }
+
     childKey.wrapLong(childScopeKey);
 
     final ParentScopeKey parentScopeKey = childParentColumnFamily.get(childKey);
-    return parentScopeKey != null ? parentScopeKey.get() : NO_PARENT;
+    final long parentKey = parentScopeKey != null ? parentScopeKey.get() : NO_PARENT;
+
+    if (isCacheEnabled) {
+      cachedParentScopeKeys.put(childScopeKey, parentKey);
+    }
+    return parentKey;
+  }
+
+  @Override
+  public void enableCache() {
+    isCacheEnabled = true;
+  }
+
+  @Override
+  public void disableCache() {
+    isCacheEnabled = false;
+    cachedParentScopeKeys.clear();
+    cachedVariablesByScopeKey.clear();
   }
 
   @Override
@@ -353,6 +418,30 @@ public class DbVariableState implements MutableVariableState {
     return variablesColumnFamily.get(scopeKeyVariableNameKey);
   }
 
+  /**
+   * Like {@link #getVariableLocal(long, DirectBuffer, int, int)}, but returns a copy of the value
+   * from the cache, if the variable was looked up before.
+   *
+   * @return the value of the variable, or {@link #NO_VARIABLE} if it is not present in the scope
+   */
+  private DirectBuffer getCachedVariableLocal(
+      final long scopeKey, final DirectBuffer name, final int nameOffset, final int nameLength) {
+    final var cachedVariables =
+        cachedVariablesByScopeKey.computeIfAbsent(scopeKey, key -> new Object2ObjectHashMap<>());
+
+    variableNameView.wrap(name, nameOffset, nameLength);
+    final DirectBuffer cachedValue = cachedVariables.get(variableNameView);
+    if (cachedValue != null) {
+      return cachedValue;
+    }
+
+    final VariableInstance variable = getVariableLocal(scopeKey, name, nameOffset, nameLength);
+    final DirectBuffer value =
+        variable != null ? BufferUtil.cloneBuffer(variable.getValue()) : NO_VARIABLE;
+    cachedVariables.put(BufferUtil.cloneBuffer(name, nameOffset, nameLength), value);
+    return value;
+  }
+
   /**
    * Like {@link #visitVariablesLocal(long, Predicate, BiConsumer, BooleanSupplier)} but walks up
    * the scope hierarchy.
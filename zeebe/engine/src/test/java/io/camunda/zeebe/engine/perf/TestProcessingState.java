@@ -0,0 +1,83 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.perf;
+
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.state.DefaultZeebeDbFactory;
+import io.camunda.zeebe.engine.state.ProcessingDbState;
+import io.camunda.zeebe.engine.state.message.TransientPendingSubscriptionState;
+import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.stream.impl.state.DbKeyGenerator;
+import io.camunda.zeebe.util.FileUtil;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.InstantSource;
+
+/**
+ * A processing state backed by a database in a temporary folder, for benchmarks which exercise the
+ * state directly instead of going through an engine. As JMH forks the benchmarks into their own
+ * JVM, this can't rely on JUnit extensions, and must be created and closed by the benchmark itself.
+ */
+public final class TestProcessingState implements AutoCloseable {
+
+  private final Path directory;
+  private final ZeebeDb<ZbColumnFamilies> zeebeDb;
+  private final TransactionContext transactionContext;
+  private final MutableProcessingState processingState;
+
+  private TestProcessingState(
+      final Path directory,
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final MutableProcessingState processingState) {
+    this.directory = directory;
+    this.zeebeDb = zeebeDb;
+    this.transactionContext = transactionContext;
+    this.processingState = processingState;
+  }
+
+  public static TestProcessingState create() throws IOException {
+    final var directory = Files.createTempDirectory("processingStatePerf");
+    final var zeebeDb = DefaultZeebeDbFactory.defaultFactory().createDb(directory.toFile());
+    final var transactionContext = zeebeDb.createContext();
+    final var keyGenerator =
+        new DbKeyGenerator(Protocol.DEPLOYMENT_PARTITION, zeebeDb, transactionContext);
+    final var processingState =
+        new ProcessingDbState(
+            Protocol.DEPLOYMENT_PARTITION,
+            zeebeDb,
+            transactionContext,
+            keyGenerator,
+            new TransientPendingSubscriptionState(),
+            new TransientPendingSubscriptionState(),
+            new EngineConfiguration(),
+            InstantSource.system());
+
+    return new TestProcessingState(directory, zeebeDb, transactionContext, processingState);
+  }
+
+  public MutableProcessingState state() {
+    return processingState;
+  }
+
+  public TransactionContext transactionContext() {
+    return transactionContext;
+  }
+
+  @Override
+  public void close() throws Exception {
+    transactionContext.getCurrentTransaction().rollback();
+    zeebeDb.close();
+    FileUtil.deleteFolderIfExists(directory);
+  }
+}
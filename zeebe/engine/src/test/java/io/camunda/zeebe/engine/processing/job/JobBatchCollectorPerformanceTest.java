@@ -0,0 +1,117 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.job;
+
+import io.camunda.security.configuration.SecurityConfiguration;
+import io.camunda.zeebe.engine.perf.TestProcessingState;
+import io.camunda.zeebe.engine.processing.identity.AuthorizationCheckBehavior;
+import io.camunda.zeebe.engine.processing.job.JobBatchCollector.TooLargeJob;
+import io.camunda.zeebe.engine.util.MockTypedRecord;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobBatchRecord;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.JobBatchIntent;
+import io.camunda.zeebe.protocol.record.value.JobKind;
+import io.camunda.zeebe.protocol.record.value.TenantOwned;
+import io.camunda.zeebe.test.util.MsgPackUtil;
+import io.camunda.zeebe.util.Either;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how fast a batch of jobs is collected for activation, including reading the jobs from
+ * the state and resolving their variables. The collected jobs stay activatable, such that every
+ * invocation collects the same jobs.
+ */
+@Warmup(iterations = 20, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 20, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx4g", "-Xms4g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class JobBatchCollectorPerformanceTest {
+
+  private static final String JOB_TYPE = "job";
+  private static final int JOB_COUNT = 1_000;
+  private static final int VARIABLE_COUNT = 10;
+  private static final int MAX_JOBS_TO_ACTIVATE = 32;
+
+  private final RecordMetadata metadata =
+      new RecordMetadata()
+          .recordType(RecordType.COMMAND)
+          .intent(JobBatchIntent.ACTIVATE)
+          .valueType(ValueType.JOB_BATCH);
+
+  private TestProcessingState processingState;
+  private JobBatchCollector collector;
+
+  @Setup
+  public void setup() throws Exception {
+    processingState = TestProcessingState.create();
+    final var state = processingState.state();
+    collector =
+        new JobBatchCollector(
+            state,
+            length -> true,
+            new AuthorizationCheckBehavior(state, new SecurityConfiguration()));
+
+    final var variableState = state.getVariableState();
+    final var variableValue = MsgPackUtil.encodeMsgPack(b -> b.packString("value"));
+    for (int i = 0; i < JOB_COUNT; i++) {
+      final long scopeKey = state.getKeyGenerator().nextKey();
+      for (int v = 0; v < VARIABLE_COUNT; v++) {
+        variableState.setVariableLocal(
+            scopeKey, scopeKey, scopeKey, BufferUtil.wrapString("var" + v), variableValue);
+      }
+
+      final var job =
+          new JobRecord()
+              .setBpmnProcessId("process")
+              .setElementId("task")
+              .setElementInstanceKey(scopeKey)
+              .setType(JOB_TYPE)
+              .setTenantId(TenantOwned.DEFAULT_TENANT_IDENTIFIER);
+      state.getJobState().create(state.getKeyGenerator().nextKey(), job);
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    processingState.close();
+  }
+
+  @Benchmark
+  public Either<TooLargeJob, Map<JobKind, Integer>> measureJobCollection() {
+    final var batchRecord =
+        new JobBatchRecord()
+            .setTimeout(Duration.ofSeconds(10).toMillis())
+            .setMaxJobsToActivate(MAX_JOBS_TO_ACTIVATE)
+            .setType(JOB_TYPE)
+            .setWorker("worker")
+            .setTenantIds(List.of(TenantOwned.DEFAULT_TENANT_IDENTIFIER));
+
+    return collector.collectJobs(new MockTypedRecord<>(1, metadata, batchRecord));
+  }
+}
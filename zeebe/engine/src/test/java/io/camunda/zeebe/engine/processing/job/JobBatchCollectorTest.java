@@ -34,6 +34,7 @@ import io.camunda.zeebe.test.util.asserts.EitherAssert;
 import io.camunda.zeebe.util.Either;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -292,6 +293,38 @@ final class JobBatchCollectorTest {
     assertThat(estimatedLength.ref).isEqualTo(expectedLength);
   }
 
+  @Test
+  void shouldEstimateLengthCorrectlyForEachJob() {
+    // given
+    final TypedRecord<JobBatchRecord> record = createRecord();
+    final List<Integer> estimatedLengths = new ArrayList<>();
+    final List<Integer> recordLengths = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      createJobWithVariables(state.getKeyGenerator().nextKey(), Map.of("foo", "bar"));
+    }
+
+    // when
+    lengthEvaluator.canWriteEventOfLength =
+        length -> {
+          estimatedLengths.add(length);
+          recordLengths.add(record.getLength());
+          return true;
+        };
+    collector.collectJobs(record);
+
+    // then - each estimate is based on the length of the record with the jobs activated so far
+    final var activatedJobs = record.getValue().getJobs();
+    assertThat(estimatedLengths).hasSize(activatedJobs.size()).hasSize(10);
+    for (int i = 0; i < activatedJobs.size(); i++) {
+      final var activatedJob = (JobRecord) activatedJobs.get(i);
+      assertThat(estimatedLengths.get(i))
+          .isEqualTo(
+              recordLengths.get(i)
+                  + activatedJob.getLength()
+                  + EngineConfiguration.BATCH_SIZE_CALCULATION_BUFFER);
+    }
+  }
+
   @Test
   public void shouldCollectOnlyCustomTenantJobs() {
     // given
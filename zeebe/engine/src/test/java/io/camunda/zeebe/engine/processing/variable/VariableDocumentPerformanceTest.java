@@ -0,0 +1,141 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.variable;
+
+import io.camunda.zeebe.engine.perf.TestProcessingState;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedEventWriter;
+import io.camunda.zeebe.engine.state.appliers.EventAppliers;
+import io.camunda.zeebe.engine.state.immutable.VariableState;
+import io.camunda.zeebe.engine.state.mutable.MutableVariableState;
+import io.camunda.zeebe.protocol.record.RecordValue;
+import io.camunda.zeebe.protocol.record.intent.Intent;
+import io.camunda.zeebe.protocol.record.value.TenantOwned;
+import io.camunda.zeebe.test.util.MsgPackUtil;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures merging variable documents into the variable state, and collecting the variables of a
+ * scope chain as a document. The variables are spread over a process instance scope and two nested
+ * scopes, as they would be for an element within an embedded sub process.
+ */
+@Warmup(iterations = 20, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 20, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx4g", "-Xms4g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class VariableDocumentPerformanceTest {
+
+  private static final int VARIABLE_COUNT = 20;
+  private static final long PROCESS_DEFINITION_KEY = 1;
+  private static final long PROCESS_INSTANCE_KEY = 2;
+  private static final long SUB_PROCESS_KEY = 3;
+  private static final long ELEMENT_KEY = 4;
+  private static final DirectBuffer BPMN_PROCESS_ID = BufferUtil.wrapString("process");
+
+  private final DirectBuffer[] documents = new DirectBuffer[2];
+  private TestProcessingState processingState;
+  private MutableVariableState variableState;
+  private VariableBehavior behavior;
+  private int iteration;
+
+  @Setup
+  public void setup() throws Exception {
+    processingState = TestProcessingState.create();
+    final var state = processingState.state();
+    final var eventAppliers = new EventAppliers();
+    eventAppliers.registerEventAppliers(state);
+
+    variableState = state.getVariableState();
+    behavior =
+        new VariableBehavior(
+            variableState,
+            new EventApplyingStateWriter(new NoopEventWriter(), eventAppliers),
+            state.getKeyGenerator());
+
+    variableState.createScope(PROCESS_INSTANCE_KEY, VariableState.NO_PARENT);
+    variableState.createScope(SUB_PROCESS_KEY, PROCESS_INSTANCE_KEY);
+    variableState.createScope(ELEMENT_KEY, SUB_PROCESS_KEY);
+
+    // alternate between two documents, such that every merge updates all variables
+    for (int d = 0; d < documents.length; d++) {
+      final Map<String, Object> document = new HashMap<>();
+      for (int i = 0; i < VARIABLE_COUNT; i++) {
+        document.put("var" + i, "value-" + d + "-" + i);
+      }
+      documents[d] = MsgPackUtil.asMsgPack(document);
+    }
+    mergeDocument(documents[0]);
+    behavior.mergeLocalDocument(
+        SUB_PROCESS_KEY,
+        PROCESS_DEFINITION_KEY,
+        PROCESS_INSTANCE_KEY,
+        BPMN_PROCESS_ID,
+        TenantOwned.DEFAULT_TENANT_IDENTIFIER,
+        MsgPackUtil.asMsgPack(Map.of("var0", "local", "var1", "local")));
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    processingState.close();
+  }
+
+  @Benchmark
+  public void measureDocumentMerge() {
+    mergeDocument(documents[++iteration & 1]);
+  }
+
+  @Benchmark
+  public DirectBuffer measureDocumentCollection() {
+    return variableState.getVariablesAsDocument(ELEMENT_KEY);
+  }
+
+
+
+  private void mergeDocument(final DirectBuffer document) {
+    behavior.mergeDocument(
+        ELEMENT_KEY,
+        PROCESS_DEFINITION_KEY,
+        PROCESS_INSTANCE_KEY,
+        BPMN_PROCESS_ID,
+        TenantOwned.DEFAULT_TENANT_IDENTIFIER,
+        document);
+  }
+
+  /** Discards the written events; only their state changes are of interest. */
+  private static final class NoopEventWriter implements TypedEventWriter {
+
+    @Override
+    public void appendFollowUpEvent(final long key, final Intent intent, final RecordValue value) {}
+
+    @Override
+    public void appendFollowUpEvent(
+        final long key, final Intent intent, final RecordValue value, final int recordVersion) {}
+
+    @Override
+    public boolean canWriteEventOfLength(final int eventLength) {
+      return true;
+    }
+  }
+}
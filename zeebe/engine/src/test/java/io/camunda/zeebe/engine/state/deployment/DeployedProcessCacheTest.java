@@ -0,0 +1,147 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.deployment;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableFlowNode;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableProcess;
+import io.camunda.zeebe.protocol.impl.record.value.deployment.ProcessRecord;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.stream.Stream;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.AutoClose;
+import org.junit.jupiter.api.Test;
+
+final class DeployedProcessCacheTest {
+
+  private static final String TENANT_ID = "tenant";
+
+  @AutoClose private final MeterRegistry registry = new SimpleMeterRegistry();
+  private final DeployedProcessCache cache = new DeployedProcessCache(10, 100, registry);
+
+  @Test
+  void shouldBoundCacheByFlowElements() {
+    // given
+    final var small = process("small", 1, 1, 2);
+    final var large = process("large", 2, 1, 7);
+
+    // when
+    cache.putProcess(small, 0);
+    cache.putProcess(large, 0);
+
+    // then - both processes weigh 3 + 8, exceeding the capacity of 10
+    assertThat(
+            Stream.of(cache.getProcess(TENANT_ID, 1), cache.getProcess(TENANT_ID, 2))
+                .filter(process -> process != null))
+        .hasSize(1);
+    assertThat(registry.get("zeebe.engine.cache.process.evictions").counter().count()).isOne();
+  }
+
+  @Test
+  void shouldNotKeepProcessExceedingCapacity() {
+    // given
+    final var process = process("huge", 1, 1, 10);
+
+    // when
+    cache.putProcess(process, 0);
+
+    // then
+    assertThat(cache.getProcess(TENANT_ID, 1)).isNull();
+    assertThat(cache.getProcess(TENANT_ID, wrapString("huge"), 1)).isNull();
+  }
+
+  @Test
+  void shouldLookUpProcessByIdAndVersion() {
+    // given
+    final var process = process("process", 1, 3, 2);
+    cache.putProcess(process, 0);
+
+    // when - the process id is wrapped by a different buffer
+    final var processId = new UnsafeBuffer(new byte[16]);
+    processId.putStringWithoutLengthAscii(4, "process");
+    final var cached = cache.getProcess(TENANT_ID, new UnsafeBuffer(processId, 4, 7), 3);
+
+    // then
+    assertThat(cached).isSameAs(process);
+    assertThat(cache.getProcess(TENANT_ID, wrapString("process"), 2)).isNull();
+    assertThat(cache.getProcess("other", wrapString("process"), 3)).isNull();
+  }
+
+  @Test
+  void shouldLookUpProcessDefinitionKeyByIdAndDeploymentKey() {
+    // given
+    final var processId = new UnsafeBuffer(wrapString("process"));
+    cache.putProcessDefinitionKey(TENANT_ID, processId, 5, 1);
+
+    // when - the buffer is reused after adding the mapping
+    processId.wrap(wrapString("other"));
+
+    // then
+    assertThat(cache.getProcessDefinitionKey(TENANT_ID, wrapString("process"), 5)).isOne();
+    assertThat(cache.getProcessDefinitionKey(TENANT_ID, wrapString("other"), 5)).isNull();
+  }
+
+  @Test
+  void shouldInvalidateAllLookups() {
+    // given
+    final var process = process("process", 1, 1, 2);
+    cache.putProcess(process, 0);
+    cache.putProcessDefinitionKey(TENANT_ID, wrapString("process"), 5, 1);
+
+    // when
+    cache.invalidate(TENANT_ID, wrapString("process"), 1, 5, 1);
+
+    // then
+    assertThat(cache.getProcess(TENANT_ID, 1)).isNull();
+    assertThat(cache.getProcess(TENANT_ID, wrapString("process"), 1)).isNull();
+    assertThat(cache.getProcessDefinitionKey(TENANT_ID, wrapString("process"), 5)).isNull();
+  }
+
+  @Test
+  void shouldRecordHitsAndMisses() {
+    // given
+    cache.putProcess(process("process", 1, 1, 2), 0);
+
+    // when
+    cache.getProcess(TENANT_ID, 1);
+    cache.getProcess(TENANT_ID, 1);
+    cache.getProcess(TENANT_ID, 2);
+
+    // then
+    assertThat(
+            registry.get("zeebe.engine.cache.process.result").tag("type", "HIT").counter().count())
+        .isEqualTo(2);
+    assertThat(
+            registry.get("zeebe.engine.cache.process.result").tag("type", "MISS").counter().count())
+        .isOne();
+    assertThat(registry.get("zeebe.engine.cache.process.weight").gauge().value()).isEqualTo(3);
+  }
+
+  private DeployedProcess process(
+      final String processId, final long key, final int version, final int elementCount) {
+    final var executableProcess = new ExecutableProcess(processId);
+    for (int i = 0; i < elementCount; i++) {
+      executableProcess.addFlowElement(new ExecutableFlowNode("element-" + i));
+    }
+
+    final var record =
+        new ProcessRecord()
+            .setBpmnProcessId(processId)
+            .setVersion(version)
+            .setKey(key)
+            .setResourceName("process.bpmn")
+            .setResource(wrapString("<definitions/>"))
+            .setTenantId(TENANT_ID);
+    final var persistedProcess = new PersistedProcess();
+    persistedProcess.wrap(record, key);
+    return new DeployedProcess(executableProcess, persistedProcess);
+  }
+}
@@ -11,6 +11,7 @@ import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import io.camunda.zeebe.engine.metrics.PendingJobsMetrics;
 import io.camunda.zeebe.engine.state.immutable.JobState;
 import io.camunda.zeebe.engine.state.immutable.JobState.DeadlineIndex;
 import io.camunda.zeebe.engine.state.immutable.JobState.State;
@@ -23,6 +24,7 @@ import io.camunda.zeebe.protocol.record.value.TenantOwned;
 import io.camunda.zeebe.test.util.BufferAssert;
 import io.camunda.zeebe.test.util.MsgPackUtil;
 import io.camunda.zeebe.util.buffer.BufferUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -770,6 +772,132 @@ public final class JobStateTest {
     refuteListedAsTimedOut(key, jobRecord.getDeadline() + 1);
   }
 
+  @Test
+  public void shouldCountActivatableJobsPerTypeAndTenant() {
+    // given
+    final DirectBuffer type = wrapString("test");
+    jobState.create(1L, newJobRecord());
+    jobState.create(2L, newJobRecord("tenant-a"));
+    jobState.create(3L, newJobRecord("tenant-b"));
+    createAndActivateJobRecord(4L, newJobRecord("tenant-a"));
+    jobState.create(5L, newJobRecord().setType("other"));
+
+    // then
+    assertThat(jobState.countActivatableJobs(type, List.of(TenantOwned.DEFAULT_TENANT_IDENTIFIER)))
+        .isOne();
+    assertThat(jobState.countActivatableJobs(type, List.of("tenant-a", "tenant-b"))).isEqualTo(2);
+    assertThat(jobState.hasActivatableJobs(type, List.of("tenant-c"))).isFalse();
+    assertThat(jobState.hasActivatableJobs(wrapString("unknown"), List.of("tenant-a"))).isFalse();
+  }
+
+  @Test
+  public void shouldKeepActivatableJobsCountInSync() {
+    // given
+    final DirectBuffer type = wrapString("test");
+    final List<String> tenantIds = List.of(TenantOwned.DEFAULT_TENANT_IDENTIFIER);
+    final JobRecord jobRecord = newJobRecord();
+    assertThat(jobState.hasActivatableJobs(type, tenantIds)).isFalse();
+
+    // when - failing an activatable job keeps it activatable
+    jobState.create(1L, jobRecord);
+    jobState.fail(1L, jobRecord);
+    jobState.create(2L, jobRecord);
+    jobState.activate(2L, jobRecord);
+    jobState.timeout(2L, jobRecord);
+    jobState.create(3L, jobRecord);
+    jobState.complete(3L, jobRecord);
+
+    // then
+    assertThat(jobState.countActivatableJobs(type, tenantIds)).isEqualTo(2);
+
+    // when
+    jobState.activate(1L, jobRecord);
+    jobState.activate(2L, jobRecord);
+
+    // then
+    assertThat(jobState.hasActivatableJobs(type, tenantIds)).isFalse();
+  }
+
+  @Test
+  public void shouldRestoreActivatableJobsIndexAfterRollback() throws Exception {
+    try (final var db = stateRule.createNewDb()) {
+      // given
+      final var context = db.createContext();
+      final var state = new DbJobState(db, context);
+      final DirectBuffer type = wrapString("test");
+      final DirectBuffer otherType = wrapString("other");
+      final List<String> tenantIds = List.of(TenantOwned.DEFAULT_TENANT_IDENTIFIER);
+      state.create(1L, newJobRecord());
+      assertThat(state.countActivatableJobs(type, tenantIds)).isOne();
+      state.commitActivatableJobsIndexChanges();
+
+      final var transaction = context.getCurrentTransaction();
+      transaction.run(
+          () -> {
+            state.activate(1L, newJobRecord());
+            state.create(2L, newJobRecord().setType("other"));
+          });
+      assertThat(state.hasUncommittedActivatableJobsIndexChanges()).isTrue();
+      assertThat(state.countActivatableJobs(type, tenantIds)).isZero();
+      assertThat(state.countActivatableJobs(otherType, tenantIds)).isOne();
+
+      // when
+      transaction.rollback();
+      state.restoreActivatableJobsIndex();
+
+      // then
+      assertThat(state.countActivatableJobs(type, tenantIds)).isOne();
+      assertThat(state.countActivatableJobs(otherType, tenantIds)).isZero();
+    }
+  }
+
+  @Test
+  public void shouldNotRestoreCommittedActivatableJobsIndexChanges() throws Exception {
+    try (final var db = stateRule.createNewDb()) {
+      // given
+      final var context = db.createContext();
+      final var state = new DbJobState(db, context);
+      final DirectBuffer type = wrapString("test");
+      final List<String> tenantIds = List.of(TenantOwned.DEFAULT_TENANT_IDENTIFIER);
+      state.rebuildActivatableJobsIndex();
+
+      final var transaction = context.getCurrentTransaction();
+      transaction.run(() -> state.create(1L, newJobRecord()));
+      transaction.commit();
+      state.commitActivatableJobsIndexChanges();
+
+      // when
+      context.getCurrentTransaction().rollback();
+      state.restoreActivatableJobsIndex();
+
+      // then
+      assertThat(state.hasUncommittedActivatableJobsIndexChanges()).isFalse();
+      assertThat(state.countActivatableJobs(type, tenantIds)).isOne();
+    }
+  }
+
+  @Test
+  public void shouldReportPendingJobsPerType() throws Exception {
+    try (final var db = stateRule.createNewDb()) {
+      // given
+      final var registry = new SimpleMeterRegistry();
+      final var state = new DbJobState(db, db.createContext(), new PendingJobsMetrics(registry));
+      state.rebuildActivatableJobsIndex();
+
+      // when
+      state.create(1L, newJobRecord());
+      state.create(2L, newJobRecord("tenant-a"));
+      state.create(3L, newJobRecord().setType("other"));
+      state.activate(3L, newJobRecord().setType("other"));
+
+      // then
+      assertThat(registry.get("zeebe.pending.jobs.total").tag("type", "test").gauge().value())
+          .isEqualTo(2);
+      assertThat(registry.get("zeebe.pending.jobs.total").tag("type", "other").gauge().value())
+          .isZero();
+    }
+  }
+
   private void createAndActivateJobRecord(final long key, final JobRecord record) {
     jobState.create(key, record);
     jobState.activate(key, record);
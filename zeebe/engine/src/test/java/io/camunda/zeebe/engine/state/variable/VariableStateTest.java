@@ -66,6 +66,7 @@ public final class VariableStateTest {
 
   @After
   public void cleanUp() {
+    variableState.disableCache();
     elementInstanceState.removeInstance(child2);
     elementInstanceState.removeInstance(child);
     elementInstanceState.removeInstance(parent);
@@ -323,6 +324,62 @@ public final class VariableStateTest {
     assertThat(parentScopeKey).isEqualTo(parent);
   }
 
+  @Test
+  public void shouldReturnUpdatedParentScopeKeyWithCache() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+    variableState.enableCache();
+    assertThat(variableState.getParentScopeKey(child)).isEqualTo(parent);
+
+    // when
+    variableState.removeScope(child);
+
+    // then
+    assertThat(variableState.getParentScopeKey(child)).isEqualTo(VariableState.NO_PARENT);
+  }
+
+  @Test
+  public void shouldGetUpdatedVariableWithCache() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+    variableState.enableCache();
+
+    // when - then
+    assertThat(variableState.getVariable(child, wrapString("a"))).isEqualTo(asMsgPack("1"));
+    assertThat(variableState.getVariable(child, wrapString("b"))).isNull();
+
+    setVariableLocal(parent, wrapString("a"), asMsgPack("2"));
+    setVariableLocal(parent, wrapString("b"), asMsgPack("3"));
+    assertThat(variableState.getVariable(child, wrapString("a"))).isEqualTo(asMsgPack("2"));
+    assertThat(variableState.getVariable(child, wrapString("b"))).isEqualTo(asMsgPack("3"));
+
+    setVariableLocal(child, wrapString("a"), asMsgPack("4"));
+    assertThat(variableState.getVariable(child, wrapString("a"))).isEqualTo(asMsgPack("4"));
+
+    variableState.removeAllVariables(child);
+    assertThat(variableState.getVariable(child, wrapString("a"))).isEqualTo(asMsgPack("2"));
+  }
+
+  @Test
+  public void shouldNotKeepCachedVariablesAfterDisablingCache() {
+    // given
+    declareScope(parent);
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+    variableState.enableCache();
+    assertThat(variableState.getVariable(parent, wrapString("a"))).isEqualTo(asMsgPack("1"));
+    variableState.disableCache();
+
+    // when
+    setVariableLocal(parent, wrapString("a"), asMsgPack("2"));
+    variableState.enableCache();
+
+    // then
+    assertThat(variableState.getVariable(parent, wrapString("a"))).isEqualTo(asMsgPack("2"));
+  }
+
   @Test
   public void shouldReturnNoParentForRootScopeKey() {
     // given
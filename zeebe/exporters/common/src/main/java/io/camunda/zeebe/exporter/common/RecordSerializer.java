@@ -0,0 +1,74 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.exporter.common;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.camunda.zeebe.protocol.record.Record;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Serializes records to the JSON documents indexed by the Elasticsearch and OpenSearch exporters.
+ * The record is serialized by its own {@link Record#toJson()}, and the sequence of the record is
+ * appended to the resulting document. Only records which don't support {@link Record#toJson()},
+ * e.g. the immutable records used in tests, are serialized by the given mapper.
+ *
+ * <p>The written fields must match the record index template, see {@code
+ * zeebe-record-template.json}.
+ */
+public final class RecordSerializer {
+
+  // The property of the ES record template to store the sequence of the record.
+  private static final byte[] SEQUENCE_FIELD = ",\"sequence\":".getBytes(StandardCharsets.UTF_8);
+
+  private final ObjectMapper mapper;
+
+  public RecordSerializer(final ObjectMapper mapper) {
+    this.mapper = mapper;
+  }
+
+  /**
+   * Serializes the given record, enhanced by its sequence number. The sequence number is not a part
+   * of the record itself but a special property for Elasticsearch. It can be used to limit the
+   * number of records when reading from the index, for example, by using a range query. Read
+   * https://github.com/camunda/camunda/issues/10568 for details.
+   */
+  public byte[] serialize(final Record<?> record, final long sequence) throws IOException {
+    final byte[] json = toJson(record);
+    final int end = lastIndexOfObjectEnd(json);
+    final byte[] sequenceValue = Long.toString(sequence).getBytes(StandardCharsets.UTF_8);
+
+    final byte[] document =
+        Arrays.copyOf(json, end + SEQUENCE_FIELD.length + sequenceValue.length + 1);
+    System.arraycopy(SEQUENCE_FIELD, 0, document, end, SEQUENCE_FIELD.length);
+    System.arraycopy(sequenceValue, 0, document, end + SEQUENCE_FIELD.length, sequenceValue.length);
+    document[document.length - 1] = '}';
+    return document;
+  }
+
+  private byte[] toJson(final Record<?> record) throws IOException {
+    try {
+      return record.toJson().getBytes(StandardCharsets.UTF_8);
+    } catch (final UnsupportedOperationException e) {
+      return mapper.writeValueAsBytes(record);
+    }
+  }
+
+  private static int lastIndexOfObjectEnd(final byte[] json) {
+    for (int i = json.length - 1; i > 0; i--) {
+      if (json[i] == '}') {
+        return i;
+      }
+    }
+
+    throw new IllegalStateException(
+        "Expected record to be serialized to a JSON object, but got: "
+            + new String(json, StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.exporter.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.camunda.zeebe.protocol.record.Record;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+final class RecordSerializerTest {
+
+  private final ObjectMapper mapper = mock(ObjectMapper.class);
+  private final RecordSerializer serializer = new RecordSerializer(mapper);
+
+  @Test
+  void shouldAppendSequenceToRecordJson() throws IOException {
+    // given
+    final Record<?> record = mock(Record.class);
+    when(record.toJson()).thenReturn("{\"key\":1,\"value\":{\"name\":\"ä\"}}");
+
+    // when
+    final var document = serializer.serialize(record, 123L);
+
+    // then
+    assertThat(new String(document, StandardCharsets.UTF_8))
+        .isEqualTo("{\"key\":1,\"value\":{\"name\":\"ä\"},\"sequence\":123}");
+  }
+
+  @Test
+  void shouldSerializeWithMapperIfRecordDoesNotSupportJson() throws IOException {
+    // given
+    final Record<?> record = mock(Record.class);
+    when(record.toJson()).thenThrow(new UnsupportedOperationException());
+    when(mapper.writeValueAsBytes(record))
+        .thenReturn("{\"key\":1}".getBytes(StandardCharsets.UTF_8));
+
+    // when
+    final var document = serializer.serialize(record, 5L);
+
+    // then
+    assertThat(new String(document, StandardCharsets.UTF_8))
+        .isEqualTo("{\"key\":1,\"sequence\":5}");
+  }
+}
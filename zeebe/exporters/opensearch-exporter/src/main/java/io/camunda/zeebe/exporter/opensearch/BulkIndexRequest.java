@@ -9,7 +9,7 @@ package io.camunda.zeebe.exporter.opensearch;
 
 import com.fasterxml.jackson.core.JsonParser.Feature;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.annotation.JsonAppend;
+import io.camunda.zeebe.exporter.common.RecordSerializer;
 import io.camunda.zeebe.exporter.opensearch.dto.BulkIndexAction;
 import io.camunda.zeebe.protocol.record.Record;
 import java.io.IOException;
@@ -25,15 +25,10 @@ import org.apache.http.entity.ContentProducer;
  */
 final class BulkIndexRequest implements ContentProducer {
 
-  private static final ObjectMapper MAPPER =
-      new ObjectMapper()
-          .addMixIn(Record.class, RecordSequenceMixin.class)
-          .enable(Feature.ALLOW_SINGLE_QUOTES);
-
-  // The property of the ES record template to store the sequence of the record.
-  private static final String RECORD_SEQUENCE_PROPERTY = "sequence";
+  private static final ObjectMapper MAPPER = new ObjectMapper().enable(Feature.ALLOW_SINGLE_QUOTES);
 
   private final List<BulkOperation> operations = new ArrayList<>();
+  private final RecordSerializer recordSerializer = new RecordSerializer(MAPPER);
 
   private BulkIndexAction lastIndexedMetadata;
   private int memoryUsageBytes = 0;
@@ -59,7 +54,7 @@ final class BulkIndexRequest implements ContentProducer {
 
     final byte[] source;
     try {
-      source = serializeRecord(record, recordSequence);
+      source = recordSerializer.serialize(record, recordSequence.sequence());
 
     } catch (final IOException e) {
       throw new OpensearchExporterException(
@@ -73,18 +68,6 @@ final class BulkIndexRequest implements ContentProducer {
     return true;
   }
 
-  private static byte[] serializeRecord(final Record<?> record, final RecordSequence recordSequence)
-      throws IOException {
-    return MAPPER
-        .writer()
-        // Enhance the serialized record by its sequence number. The sequence number is not a part
-        // of the record itself but a special property for Opensearch. It can be used to limit
-        // the number of records when reading from the index, for example, by using a range query.
-        // Read https://github.com/camunda/camunda/issues/10568 for details.
-        .withAttribute(RECORD_SEQUENCE_PROPERTY, recordSequence.sequence())
-        .writeValueAsBytes(record);
-  }
-
   /** Returns the number of operations indexed so far. */
   int size() {
     return operations.size();
@@ -132,7 +115,4 @@ final class BulkIndexRequest implements ContentProducer {
   }
 
   record BulkOperation(BulkIndexAction metadata, byte[] source) {}
-
-  @JsonAppend(attrs = {@JsonAppend.Attr(value = RECORD_SEQUENCE_PROPERTY)})
-  private static final class RecordSequenceMixin {}
 }
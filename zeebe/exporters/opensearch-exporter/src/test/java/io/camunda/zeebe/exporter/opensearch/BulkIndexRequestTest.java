@@ -223,6 +223,32 @@ final class BulkIndexRequestTest {
           .containsExactly(recordSequences.get(0).sequence(), recordSequences.get(1).sequence());
     }
 
+    @Test
+    void shouldSerializeRecordsLikeTheObjectMapper() throws IOException {
+      // given
+      final var records = recordFactory.generateRecords().limit(20).toList();
+
+      // when
+      for (int i = 0; i < records.size(); i++) {
+        request.index(
+            new BulkIndexAction("index", "id" + i, "routing"),
+            records.get(i),
+            new RecordSequence(PARTITION_ID, i));
+      }
+
+      // then - each document is written on its own, without anything left over from the previous
+      final var operations = request.bulkOperations();
+      assertThat(operations).hasSameSizeAs(records);
+      for (int i = 0; i < records.size(); i++) {
+        final var expected =
+            MAPPER.readValue(MAPPER.writeValueAsBytes(records.get(i)), MAP_TYPE_REFERENCE);
+        expected.put("sequence", new RecordSequence(PARTITION_ID, i).sequence());
+
+        assertThat(MAPPER.readValue(operations.get(i).source(), MAP_TYPE_REFERENCE))
+            .isEqualTo(expected);
+      }
+    }
+
     private Record<?> deserializeSource(final BulkOperation operation) {
       try {
         return MAPPER.readValue(operation.source(), new TypeReference<>() {});
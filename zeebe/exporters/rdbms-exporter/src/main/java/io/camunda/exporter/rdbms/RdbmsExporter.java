@@ -20,6 +20,8 @@ import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -43,6 +45,8 @@ public class RdbmsExporter {
   private long lastPosition = -1;
   private ScheduledTask currentFlushTask = null;
   private ScheduledTask currentCleanupTask = null;
+  // positions of the buffers which are flushed in the background, in the order of their commits
+  private final Queue<Long> pendingPositions = new ConcurrentLinkedQueue<>();
 
   public RdbmsExporter(final RdbmsExporterConfig config) {
     rdbmsWriter = config.rdbmsWriter();
@@ -73,11 +77,28 @@ public class RdbmsExporter {
       // This is needed since the brokers last exported position is from its last snapshot and can
       // be different from ours.
       lastPosition = exporterRdbmsPosition.lastExportedPosition();
-      updatePositionInBroker();
+      updatePositionInBroker(lastPosition);
     }
 
-    rdbmsWriter.getExecutionQueue().registerPreFlushListener(this::updatePositionInRdbms);
-    rdbmsWriter.getExecutionQueue().registerPostFlushListener(this::updatePositionInBroker);
+    final var executionQueue = rdbmsWriter.getExecutionQueue();
+    if (executionQueue.flushesAsynchronously()) {
+      // the broker may only compact the log once the buffer containing the position is committed
+      executionQueue.registerPreFlushListener(
+          () -> {
+            updatePositionInRdbms();
+            pendingPositions.add(lastPosition);
+          });
+      executionQueue.registerPostFlushListener(
+          () -> {
+            final Long position = pendingPositions.poll();
+            if (position != null) {
+              updatePositionInBroker(position);
+            }
+          });
+    } else {
+      executionQueue.registerPreFlushListener(this::updatePositionInRdbms);
+      executionQueue.registerPostFlushListener(() -> updatePositionInBroker(lastPosition));
+    }
 
     // schedule first cleanup in 1 second. Future intervals are given by the history cleanup service
     // itself
@@ -99,6 +120,8 @@ public class RdbmsExporter {
       rdbmsWriter.flush();
     } catch (final Exception e) {
       LOG.warn("[RDBMS Exporter] Failed to flush records before closing exporter.", e);
+    } finally {
+      rdbmsWriter.close();
     }
 
     LOG.info("[RDBMS Exporter] Exporter closed");
@@ -159,9 +182,9 @@ public class RdbmsExporter {
     rdbmsWriter.getRdbmsPurger().purgeRdbms();
   }
 
-  private void updatePositionInBroker() {
-    LOG.trace("[RDBMS Exporter] Updating position to {} in broker", lastPosition);
-    controller.updateLastExportedRecordPosition(lastPosition);
+  private void updatePositionInBroker(final long position) {
+    LOG.trace("[RDBMS Exporter] Updating position to {} in broker", position);
+    controller.updateLastExportedRecordPosition(position);
   }
 
   private void updatePositionInRdbms() {
@@ -209,7 +232,7 @@ public class RdbmsExporter {
   }
 
   private void flushAndReschedule() {
-    flushExecutionQueue();
+    rdbmsWriter.flushAsync();
     currentFlushTask = controller.scheduleCancellableTask(flushInterval, this::flushAndReschedule);
   }
 
@@ -80,6 +80,9 @@ public class RdbmsExporterWrapper implements Exporter {
                 .partitionId(partitionId)
                 .maxQueueSize(maxQueueSize)
                 .historyCleanupBatchSize(readCleanupBatchSize(context))
+                .historyCleanupTargetBatchDuration(readHistoryCleanupTargetBatchDuration(context))
+                .maxRowsPerInsert(readMaxRowsPerInsert(context))
+                .maxInFlightFlushes(readMaxInFlightFlushes(context))
                 .defaultHistoryTTL(readHistoryTTL(context))
                 .minHistoryCleanupInterval(readMinHistoryCleanupInterval(context))
                 .maxHistoryCleanupInterval(readMaxHistoryCleanupInterval(context))
@@ -132,6 +135,13 @@ public class RdbmsExporterWrapper implements Exporter {
     return readDuration(context, "defaultHistoryTTL", RdbmsWriterConfig.DEFAULT_HISTORY_TTL);
   }
 
+  private Duration readHistoryCleanupTargetBatchDuration(final Context context) {
+    return readDuration(
+        context,
+        "historyCleanupTargetBatchDuration",
+        RdbmsWriterConfig.DEFAULT_HISTORY_CLEANUP_TARGET_BATCH_DURATION);
+  }
+
   private Duration readMinHistoryCleanupInterval(final Context context) {
     return readDuration(
         context,
@@ -154,6 +164,14 @@ public class RdbmsExporterWrapper implements Exporter {
     return readInt(context, "historyCleanupBatchSize", DEFAULT_CLEANUP_BATCH_SIZE);
   }
 
+  private int readMaxRowsPerInsert(final Context context) {
+    return readInt(context, "maxRowsPerInsert", RdbmsWriterConfig.DEFAULT_MAX_ROWS_PER_INSERT);
+  }
+
+  private int readMaxInFlightFlushes(final Context context) {
+    return readInt(context, "maxInFlightFlushes", RdbmsWriterConfig.DEFAULT_MAX_IN_FLIGHT_FLUSHES);
+  }
+
   private Duration readDuration(
       final Context context, final String property, final Duration defaultValue) {
     final var arguments = context.getConfiguration().getArguments();
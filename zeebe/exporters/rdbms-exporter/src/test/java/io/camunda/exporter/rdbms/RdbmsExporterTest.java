@@ -10,6 +10,7 @@ package io.camunda.exporter.rdbms;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
@@ -210,6 +211,35 @@ class RdbmsExporterTest {
     verify(positionService).update(Mockito.argThat(p -> p.lastExportedPosition() == 1));
   }
 
+  @Test
+  void shouldUpdatePositionInBrokerOnlyAfterAsyncFlushIsCommitted() {
+    // given
+    createExporter(b -> b.withHandler(ValueType.JOB, mockHandler(ValueType.JOB)), true);
+
+    // when
+    exporter.export(mockRecord(ValueType.JOB, 1));
+    executionQueue.seal();
+    exporter.export(mockRecord(ValueType.JOB, 2));
+    executionQueue.seal();
+
+    // then
+    verify(positionService).update(Mockito.argThat(p -> p.lastExportedPosition() == 2));
+    verify(controller, never()).updateLastExportedRecordPosition(anyLong());
+
+    // when
+    executionQueue.commit();
+
+    // then
+    verify(controller).updateLastExportedRecordPosition(1L);
+    verify(controller, never()).updateLastExportedRecordPosition(2L);
+
+    // when
+    executionQueue.commit();
+
+    // then
+    verify(controller).updateLastExportedRecordPosition(2L);
+  }
+
   @Test
   void shouldClearFlushTaskOnPurge() {
     // given
@@ -249,6 +279,12 @@ class RdbmsExporterTest {
 
   private void createExporter(
       final Function<RdbmsExporterConfig.Builder, RdbmsExporterConfig.Builder> builderFunction) {
+    createExporter(builderFunction, false);
+  }
+
+  private void createExporter(
+      final Function<RdbmsExporterConfig.Builder, RdbmsExporterConfig.Builder> builderFunction,
+      final boolean asynchronousQueue) {
     flushTask = mock(ScheduledTask.class);
     cleanupTask = mock(ScheduledTask.class);
 
@@ -259,7 +295,7 @@ class RdbmsExporterTest {
         .thenReturn(cleanupTask);
 
     rdbmsWriter = mock(RdbmsWriter.class);
-    executionQueue = new StubExecutionQueue();
+    executionQueue = new StubExecutionQueue(asynchronousQueue);
     positionService = mock(ExporterPositionService.class);
     when(positionService.findOne(anyInt())).thenReturn(null);
     rdbmsPurger = mock(RdbmsPurger.class);
@@ -274,6 +310,7 @@ class RdbmsExporterTest {
     when(rdbmsWriter.getExecutionQueue()).thenReturn(executionQueue);
     when(rdbmsWriter.getRdbmsPurger()).thenReturn(rdbmsPurger);
     doAnswer((invocation) -> executionQueue.flush()).when(rdbmsWriter).flush();
+    doAnswer((invocation) -> executionQueue.flush()).when(rdbmsWriter).flushAsync();
 
     final var builder =
         new RdbmsExporterConfig.Builder()
@@ -290,6 +327,11 @@ class RdbmsExporterTest {
 
     final List<PreFlushListener> preFlushListeners = new ArrayList<>();
     final List<PostFlushListener> postFlushListeners = new ArrayList<>();
+    final boolean asynchronous;
+
+    StubExecutionQueue(final boolean asynchronous) {
+      this.asynchronous = asynchronous;
+    }
 
     @Override
     public void executeInQueue(final QueueItem entry) {
@@ -308,9 +350,22 @@ class RdbmsExporterTest {
 
     @Override
     public int flush() {
+      seal();
+      commit();
+      return 0;
+    }
+
+    @Override
+    public boolean flushesAsynchronously() {
+      return asynchronous;
+    }
+
+    void seal() {
       preFlushListeners.forEach(PreFlushListener::onPreFlush);
+    }
+
+    void commit() {
       postFlushListeners.forEach(PostFlushListener::onPostFlush);
-      return 0;
     }
 
     @Override
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.el.impl;
 
 import io.camunda.zeebe.el.Expression;
+import io.camunda.zeebe.el.impl.FeelFastPathEvaluator.TrivialExpression;
 import java.util.Optional;
 import org.camunda.feel.syntaxtree.Exp;
 import org.camunda.feel.syntaxtree.ParsedExpression;
@@ -17,9 +18,11 @@ import org.camunda.feel.syntaxtree.Ref;
 public final class FeelExpression implements Expression {
 
   private final ParsedExpression expression;
+  private final TrivialExpression trivialExpression;
 
   public FeelExpression(final ParsedExpression expression) {
     this.expression = expression;
+    trivialExpression = FeelFastPathEvaluator.classify(expression.expression());
   }
 
   @Override
@@ -63,6 +66,13 @@ public final class FeelExpression implements Expression {
     return expression;
   }
 
+  /**
+   * @return the expression if it can be evaluated without the FEEL engine, otherwise {@code null}
+   */
+  TrivialExpression getTrivialExpression() {
+    return trivialExpression;
+  }
+
   @Override
   public String toString() {
     return "FeelExpression{" + "expression=" + expression + '}';
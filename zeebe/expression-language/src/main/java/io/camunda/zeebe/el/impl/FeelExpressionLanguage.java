@@ -40,6 +40,7 @@ public final class FeelExpressionLanguage implements ExpressionLanguage {
 
   private final FeelToMessagePackTransformer messagePackTransformer =
       new FeelToMessagePackTransformer();
+  private final FeelFastPathEvaluator fastPathEvaluator = new FeelFastPathEvaluator();
 
   private final FeelEngine feelEngine;
 
@@ -107,6 +108,15 @@ public final class FeelExpressionLanguage implements ExpressionLanguage {
       final EvaluationContext context,
       final FeelExpression feelExpression) {
 
+    final var trivialExpression = feelExpression.getTrivialExpression();
+    if (trivialExpression != null) {
+      final var result = fastPathEvaluator.evaluate(trivialExpression, context);
+      if (result != null) {
+        return new FeelEvaluationResult(
+            expression, result, List.of(), messagePackTransformer::toMessagePack);
+      }
+    }
+
     final var parsedExpression = feelExpression.getParsedExpression();
     final var feelContext = new FeelVariableContext(context);
 
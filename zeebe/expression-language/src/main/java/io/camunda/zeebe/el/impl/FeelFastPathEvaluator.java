@@ -0,0 +1,309 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.el.impl;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+
+import io.camunda.zeebe.el.EvaluationContext;
+import io.camunda.zeebe.feel.impl.MessagePackValueMapper;
+import io.camunda.zeebe.msgpack.spec.MsgPackReader;
+import io.camunda.zeebe.msgpack.spec.MsgPackToken;
+import io.camunda.zeebe.msgpack.spec.MsgPackType;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.math.BigDecimal;
+import org.agrona.DirectBuffer;
+import org.camunda.feel.syntaxtree.ConstBool;
+import org.camunda.feel.syntaxtree.ConstNull$;
+import org.camunda.feel.syntaxtree.ConstNumber;
+import org.camunda.feel.syntaxtree.ConstString;
+import org.camunda.feel.syntaxtree.Equal;
+import org.camunda.feel.syntaxtree.Exp;
+import org.camunda.feel.syntaxtree.GreaterOrEqual;
+import org.camunda.feel.syntaxtree.GreaterThan;
+import org.camunda.feel.syntaxtree.LessOrEqual;
+import org.camunda.feel.syntaxtree.LessThan;
+import org.camunda.feel.syntaxtree.Not;
+import org.camunda.feel.syntaxtree.Ref;
+import org.camunda.feel.syntaxtree.Val;
+import org.camunda.feel.syntaxtree.ValBoolean;
+import org.camunda.feel.syntaxtree.ValNull$;
+import org.camunda.feel.syntaxtree.ValNumber;
+import org.camunda.feel.syntaxtree.ValString;
+
+/**
+ * Evaluates trivial FEEL expressions without the FEEL engine, by reading the MessagePack encoded
+ * variables directly. Trivial expressions are literals, references to a variable or to a nested
+ * property of a variable (e.g. {@code order.customer.id}), and comparisons of such a reference with
+ * a literal (e.g. {@code amount > 1000}).
+ *
+ * <p>If a trivial expression can't be evaluated directly, e.g. because the variable doesn't exist
+ * or has a different type than the literal, the evaluation is left to the FEEL engine. This way,
+ * the result and the warnings are the same as if the FEEL engine evaluated the expression.
+ */
+final class FeelFastPathEvaluator {
+
+  private final MsgPackReader reader = new MsgPackReader();
+  private final MessagePackValueMapper valueMapper = new MessagePackValueMapper();
+
+  /**
+   * @return the trivial expression, or {@code null} if the expression is not trivial
+   */
+  static TrivialExpression classify(final Exp expression) {
+    final var literal = classifyLiteral(expression);
+    if (literal != null) {
+      return new Literal(literal);
+    }
+
+    final var reference = classifyReference(expression);
+    if (reference != null) {
+      return reference;
+    }
+
+    return classifyComparison(expression);
+  }
+
+  /**
+   * @return the result of the expression, or {@code null} if it must be evaluated by the FEEL
+   *     engine
+   */
+  Val evaluate(final TrivialExpression expression, final EvaluationContext context) {
+    return switch (expression) {
+      case final Literal literal -> literal.value();
+      case final Reference reference -> evaluateReference(reference, context);
+      case final Comparison comparison -> evaluateComparison(comparison, context);
+    };
+  }
+
+  private Val evaluateReference(final Reference reference, final EvaluationContext context) {
+    if (!readReference(reference, context)) {
+      return null;
+    }
+
+    return valueMapper.toVal(reader.getBuffer(), null).get();
+  }
+
+  private Val evaluateComparison(final Comparison comparison, final EvaluationContext context) {
+    if (!readReference(comparison.reference(), context)) {
+      return null;
+    }
+
+    final MsgPackToken token = reader.readToken();
+    final int result;
+    switch (comparison.literal()) {
+      case final ValNumber number -> {
+        final var value = readNumber(token);
+        if (value == null) {
+          return null;
+        }
+        result = value.compareTo(number.value().bigDecimal());
+      }
+      case final ValString string -> {
+        if (token.getType() != MsgPackType.STRING) {
+          return null;
+        } else if (comparison.operator().isEquality()) {
+          result = BufferUtil.equals(token.getValueBuffer(), comparison.literalBuffer()) ? 0 : 1;
+        } else {
+          result = bufferAsString(token.getValueBuffer()).compareTo(string.value());
+        }
+      }
+      case final ValBoolean bool -> {
+        if (token.getType() != MsgPackType.BOOLEAN) {
+          return null;
+        }
+        result = token.getBooleanValue() == bool.value() ? 0 : 1;
+      }
+      default -> {
+        return null;
+      }
+    }
+
+    return new ValBoolean(comparison.operator().test(result));
+  }
+
+  private static BigDecimal readNumber(final MsgPackToken token) {
+    return switch (token.getType()) {
+      case INTEGER -> new BigDecimal(token.getIntegerValue());
+      case FLOAT ->
+          Double.isFinite(token.getFloatValue()) ? BigDecimal.valueOf(token.getFloatValue()) : null;
+      default -> null;
+    };
+  }
+
+  /**
+   * Wraps the reader around the value of the referenced variable or nested property.
+   *
+   * @return {@code false} if the variable or one of the nested properties doesn't exist
+   */
+  private boolean readReference(final Reference reference, final EvaluationContext context) {
+    final DirectBuffer variable = context.getVariable(reference.variableName());
+    if (variable == null || variable.capacity() == 0) {
+      return false;
+    }
+
+    int valueOffset = 0;
+    int valueLength = variable.capacity();
+    reader.wrap(variable, valueOffset, valueLength);
+
+    for (final DirectBuffer key : reference.path()) {
+      final MsgPackToken token = reader.readToken();
+      if (token.getType() != MsgPackType.MAP) {
+        return false;
+      }
+
+      // like the FEEL engine, use the last entry if a key is contained multiple times
+      int entryOffset = -1;
+      int entryLength = 0;
+      final int size = token.getSize();
+      for (int i = 0; i < size; i++) {
+        final MsgPackToken keyToken = reader.readToken();
+        final boolean isKey =
+            keyToken.getType() == MsgPackType.STRING
+                && BufferUtil.equals(keyToken.getValueBuffer(), key);
+
+        final int offset = reader.getOffset();
+        reader.skipValue();
+        if (isKey) {
+          entryOffset = offset;
+          entryLength = reader.getOffset() - offset;
+        }
+      }
+
+      if (entryOffset < 0) {
+        return false;
+      }
+
+      valueOffset += entryOffset;
+      valueLength = entryLength;
+      reader.wrap(variable, valueOffset, valueLength);
+    }
+
+    return true;
+  }
+
+  private static Val classifyLiteral(final Exp expression) {
+    return switch (expression) {
+      case final ConstNumber number -> new ValNumber(number.value());
+      case final ConstString string -> new ValString(string.value());
+      case final ConstBool bool -> new ValBoolean(bool.value());
+      case final ConstNull$ ignored -> ValNull$.MODULE$;
+      default -> null;
+    };
+  }
+
+  private static Reference classifyReference(final Exp expression) {
+    if (!(expression instanceof final Ref ref)) {
+      return null;
+    }
+
+    final var names = ref.names();
+    final var path = new DirectBuffer[names.size() - 1];
+    for (int i = 0; i < path.length; i++) {
+      path[i] = wrapString(names.apply(i + 1));
+    }
+    return new Reference(names.head(), path);
+  }
+
+  private static Comparison classifyComparison(final Exp expression) {
+    return switch (expression) {
+      case final Equal equal -> classifyComparison(ComparisonOperator.EQUAL, equal.x(), equal.y());
+      case final Not not ->
+          not.x() instanceof final Equal equal
+              ? classifyComparison(ComparisonOperator.NOT_EQUAL, equal.x(), equal.y())
+              : null;
+      case final LessThan lessThan ->
+          classifyComparison(ComparisonOperator.LESS_THAN, lessThan.x(), lessThan.y());
+      case final LessOrEqual lessOrEqual ->
+          classifyComparison(ComparisonOperator.LESS_OR_EQUAL, lessOrEqual.x(), lessOrEqual.y());
+      case final GreaterThan greaterThan ->
+          classifyComparison(ComparisonOperator.GREATER_THAN, greaterThan.x(), greaterThan.y());
+      case final GreaterOrEqual greaterOrEqual ->
+          classifyComparison(
+              ComparisonOperator.GREATER_OR_EQUAL, greaterOrEqual.x(), greaterOrEqual.y());
+      default -> null;
+    };
+  }
+
+  private static Comparison classifyComparison(
+      final ComparisonOperator operator, final Exp x, final Exp y) {
+    final var referenceX = classifyReference(x);
+    final var referenceY = classifyReference(y);
+    final var literalX = classifyLiteral(x);
+    final var literalY = classifyLiteral(y);
+
+    if (referenceX != null && literalY != null) {
+      return newComparison(operator, referenceX, literalY);
+    } else if (literalX != null && referenceY != null) {
+      return newComparison(operator.swap(), referenceY, literalX);
+    } else {
+      return null;
+    }
+  }
+
+  private static Comparison newComparison(
+      final ComparisonOperator operator, final Reference reference, final Val literal) {
+    return switch (literal) {
+      case final ValNumber ignored -> new Comparison(reference, operator, literal, null);
+      case final ValString string ->
+          new Comparison(reference, operator, literal, wrapString(string.value()));
+      case final ValBoolean ignored when operator.isEquality() ->
+          new Comparison(reference, operator, literal, null);
+      default -> null;
+    };
+  }
+
+  sealed interface TrivialExpression permits Literal, Reference, Comparison {}
+
+  record Literal(Val value) implements TrivialExpression {}
+
+  record Reference(String variableName, DirectBuffer[] path) implements TrivialExpression {}
+
+  record Comparison(
+      Reference reference, ComparisonOperator operator, Val literal, DirectBuffer literalBuffer)
+      implements TrivialExpression {}
+
+  enum ComparisonOperator {
+    EQUAL,
+    NOT_EQUAL,
+    LESS_THAN,
+    LESS_OR_EQUAL,
+    GREATER_THAN,
+    GREATER_OR_EQUAL;
+
+    boolean isEquality() {
+      return this == EQUAL || this == NOT_EQUAL;
+    }
+
+    /**
+     * @return the operator to use if the operands are swapped
+     */
+    ComparisonOperator swap() {
+      return switch (this) {
+        case LESS_THAN -> GREATER_THAN;
+        case LESS_OR_EQUAL -> GREATER_OR_EQUAL;
+        case GREATER_THAN -> LESS_THAN;
+        case GREATER_OR_EQUAL -> LESS_OR_EQUAL;
+        default -> this;
+      };
+    }
+
+    /**
+     * @param comparison the result of comparing the reference with the literal
+     */
+    boolean test(final int comparison) {
+      return switch (this) {
+        case EQUAL -> comparison == 0;
+        case NOT_EQUAL -> comparison != 0;
+        case LESS_THAN -> comparison < 0;
+        case LESS_OR_EQUAL -> comparison <= 0;
+        case GREATER_THAN -> comparison > 0;
+        case GREATER_OR_EQUAL -> comparison >= 0;
+      };
+    }
+  }
+}
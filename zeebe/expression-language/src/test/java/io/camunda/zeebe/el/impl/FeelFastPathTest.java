@@ -0,0 +1,153 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.el.impl;
+
+import static io.camunda.zeebe.test.util.MsgPackUtil.asMsgPack;
+import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsArray;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.el.EvaluationResult;
+import io.camunda.zeebe.el.EvaluationWarning;
+import io.camunda.zeebe.el.ExpressionLanguage;
+import io.camunda.zeebe.el.impl.FeelFastPathEvaluator.Reference;
+import io.camunda.zeebe.el.util.TestFeelEngineClock;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.Arrays;
+import java.util.Map;
+import org.agrona.DirectBuffer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Verifies that trivial expressions, which are evaluated without the FEEL engine if possible, have
+ * the same result as an equivalent expression which is always evaluated by the FEEL engine.
+ */
+public class FeelFastPathTest {
+
+  private static final Map<String, DirectBuffer> VARIABLES =
+      Map.of(
+          "orderId", asMsgPack("\"order-1\""),
+          "amount", asMsgPack("1500"),
+          "price", asMsgPack("12.5"),
+          "approved", asMsgPack("true"),
+          "nothing", asMsgPack("null"),
+          "items", asMsgPack("[1, 2, 3]"),
+          "order",
+              asMsgPack(
+                  "{\"customer\": {\"id\": 7, \"name\": \"Zee\"}, \"total\": 99.0,"
+                      + " \"customer\": {\"id\": 8, \"name\": \"Bee\"}}"));
+
+  private final ExpressionLanguage expressionLanguage =
+      new FeelExpressionLanguage(new TestFeelEngineClock());
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "\"x\"",
+        "42",
+        "2.5",
+        "true",
+        "null",
+        "orderId",
+        "amount",
+        "price",
+        "approved",
+        "nothing",
+        "items",
+        "order",
+        "order.customer",
+        "order.customer.id",
+        "order.customer.name",
+        "order.total",
+        "amount > 1000",
+        "amount < 1000",
+        "amount >= 1500",
+        "amount <= 1499.9",
+        "amount = 1500.0",
+        "amount != 1500",
+        "1000 < amount",
+        "1500 >= amount",
+        "price > 12",
+        "price = 12.5",
+        "orderId = \"order-1\"",
+        "orderId != \"order-1\"",
+        "orderId < \"order-2\"",
+        "approved = true",
+        "approved != true",
+        "order.customer.id = 8",
+        "order.customer.name > \"A\"",
+        "missing",
+        "order.missing",
+        "orderId.missing",
+        "missing > 1",
+        "amount > \"x\"",
+        "orderId > 1",
+        "approved = 1",
+        "nothing = 1",
+        "items = 1"
+      })
+  public void shouldEvaluateLikeFeelEngine(final String expression) {
+    // given
+    assertThat(parseExpression(expression).getTrivialExpression())
+        .describedAs("Expected '%s' to be evaluated by the fast path", expression)
+        .isNotNull();
+    assertThat(parseExpression("[" + expression + "][1]").getTrivialExpression()).isNull();
+    final var expected = evaluateExpression("[" + expression + "][1]");
+
+    // when
+    final var result = evaluateExpression(expression);
+
+    // then
+    assertThat(result.isFailure()).isEqualTo(expected.isFailure());
+    assertThat(result.getFailureMessage()).isEqualTo(expected.getFailureMessage());
+    assertThat(result.getWarnings())
+        .extracting(EvaluationWarning::getType)
+        .isEqualTo(expected.getWarnings().stream().map(EvaluationWarning::getType).toList());
+    if (!expected.isFailure()) {
+      assertThat(result.getType()).isEqualTo(expected.getType());
+      assertThat(bufferAsArray(result.toBuffer())).isEqualTo(bufferAsArray(expected.toBuffer()));
+      assertThat(result.getString()).isEqualTo(expected.getString());
+      assertThat(result.getBoolean()).isEqualTo(expected.getBoolean());
+      assertThat(result.getNumber()).isEqualTo(expected.getNumber());
+    }
+  }
+
+  @Test
+  public void shouldUseFastPathForNestedReference() {
+    // when
+    final var trivialExpression = parseExpression("order.customer.id").getTrivialExpression();
+
+    // then
+    assertThat(trivialExpression).isInstanceOf(Reference.class);
+    final var reference = (Reference) trivialExpression;
+    assertThat(reference.variableName()).isEqualTo("order");
+    assertThat(Arrays.stream(reference.path()).map(BufferUtil::bufferAsString))
+        .containsExactly("customer", "id");
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {"amount + 1", "amount > price", "not(approved)", "count(items)", "items[1]"})
+  public void shouldNotUseFastPathForOtherExpressions(final String expression) {
+    // when
+    final var trivialExpression = parseExpression(expression).getTrivialExpression();
+
+    // then
+    assertThat(trivialExpression).isNull();
+  }
+
+  private FeelExpression parseExpression(final String expression) {
+    return (FeelExpression) expressionLanguage.parseExpression("=" + expression);
+  }
+
+  private EvaluationResult evaluateExpression(final String expression) {
+    final var parsedExpression = expressionLanguage.parseExpression("=" + expression);
+    return expressionLanguage.evaluateExpression(parsedExpression, VARIABLES::get);
+  }
+}
@@ -1341,7 +1341,8 @@ public final class SearchQueryRequestMapper {
                 p.size(requestedPage.getLimit())
                     .from(requestedPage.getFrom())
                     .searchAfter(searchAfter)
-                    .searchBefore(searchBefore)));
+                    .searchBefore(searchBefore)
+                    .totalHitsLimit(requestedPage.getTotalItemsLimit())));
   }
 
   private static <T, B extends SortOption.AbstractBuilder<B> & ObjectBuilder<T>, F>
@@ -338,6 +338,7 @@ public final class SearchQueryResponseMapper {
 
     return new SearchQueryPageResponse()
         .totalItems(result.total())
+        .hasMoreTotalItems(result.hasMoreTotalItems())
         .firstSortValues(firstSortValues)
         .lastSortValues(lastSortValues);
   }
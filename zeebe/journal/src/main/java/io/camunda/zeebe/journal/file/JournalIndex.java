@@ -31,6 +31,26 @@ interface JournalIndex {
    */
   void index(JournalRecord record, int position);
 
+  /**
+   * Restores an entry which was indexed before, e.g. when reading it from a {@link
+   * SegmentIndexFile}. Unlike {@link #index(JournalRecord, int)}, the entry is always added.
+   *
+   * @param index the index of the record
+   * @param position the position of the record within its segment
+   * @param asqn the asqn of the record, or {@link SegmentedJournal#ASQN_IGNORE} if it has none
+   */
+  void restore(long index, int position, long asqn);
+
+  /**
+   * Visits all indexed entries between the given indexes, in ascending order.
+   *
+   * @param fromIndex the lowest index to visit, inclusive
+   * @param toIndex the highest index to visit, inclusive
+   * @param consumer consumes the index, position and asqn of each entry; the asqn is {@link
+   *     SegmentedJournal#ASQN_IGNORE} if the record has none
+   */
+  void forEach(long fromIndex, long toIndex, IndexedEntryConsumer consumer);
+
   /**
    * Looks up the position of the given index.
    *
@@ -89,4 +109,9 @@ interface JournalIndex {
    * @return true if this index likely have been already indexed. false if otherwise.
    */
   boolean hasIndexed(long index);
+
+  @FunctionalInterface
+  interface IndexedEntryConsumer {
+    void accept(long index, int position, long asqn);
+  }
 }
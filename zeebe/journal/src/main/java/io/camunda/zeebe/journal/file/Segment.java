@@ -237,6 +237,7 @@ final class Segment implements AutoCloseable, FlushableSegment {
   /** Deletes the segment. */
   void delete() {
     open = false;
+    SegmentIndexFile.delete(file.indexFile());
     markForDeletion();
     if (readers.isEmpty()) {
       safeDelete();
@@ -287,7 +288,38 @@ final class Segment implements AutoCloseable, FlushableSegment {
     descriptorSerializer.writeTo(descriptor, buffer);
   }
 
+  /**
+   * Persists the index entries of this segment, such that they can be restored via {@link
+   * #restoreIndex()} when the segment is loaded again. Expects the descriptor to be updated with
+   * the last entry, i.e. the segment to be full.
+   */
+  void persistIndex() {
+    try {
+      SegmentIndexFile.write(file.indexFile(), descriptor, index);
+    } catch (final IOException e) {
+      LOG.warn("Failed to persist the index of segment {}, it will be indexed on demand", this, e);
+      SegmentIndexFile.delete(file.indexFile());
+    }
+  }
+
+  /**
+   * Restores the index entries of this segment which were persisted via {@link #persistIndex()}, if
+   * the segment was not modified since.
+   *
+   * @return true if the index entries were restored, false otherwise
+   */
+  boolean restoreIndex() {
+    if (descriptor.lastPosition() <= 0) {
+      return false;
+    }
+
+    return SegmentIndexFile.restore(
+        file.indexFile(), descriptor, writer.getLastIndex(), writer.getLastEntryPosition(), index);
+  }
+
   void resetLastEntryInDescriptor() {
+    // the persisted index entries may point to entries which are about to be truncated
+    SegmentIndexFile.delete(file.indexFile());
     descriptor = descriptor.reset();
     descriptorSerializer.writeTo(descriptor, buffer);
     // flush immediately to prevent inconsistencies between descriptor and actual last written entry
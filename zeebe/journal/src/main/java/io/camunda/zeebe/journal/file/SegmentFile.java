@@ -32,6 +32,7 @@ public final class SegmentFile {
   private static final char PART_SEPARATOR = '-';
   private static final char EXTENSION_SEPARATOR = '.';
   private static final String EXTENSION = "log";
+  private static final String INDEX_EXTENSION = "idx";
   private static final String DELETE_EXTENSION = "deleted";
   private static final char DELETE_EXTENSION_SEPARATOR = '_';
   private final File file;
@@ -125,6 +126,17 @@ public final class SegmentFile {
     return file.getName();
   }
 
+  /**
+   * Returns the path of the segment's index file, see {@link SegmentIndexFile}. It is not
+   * recognized as a segment file, as it has a different extension.
+   */
+  Path indexFile() {
+    final var name = file.getName();
+    final int extensionSeparator = name.lastIndexOf(EXTENSION_SEPARATOR);
+    final var baseName = extensionSeparator == -1 ? name : name.substring(0, extensionSeparator);
+    return Path.of(file.getParent(), baseName + EXTENSION_SEPARATOR + INDEX_EXTENSION);
+  }
+
   Path getFileMarkedForDeletion() {
     if (fileMarkedForDeletion == null) {
       final String renamedFileName =
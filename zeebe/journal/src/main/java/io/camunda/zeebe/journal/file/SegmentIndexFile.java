@@ -0,0 +1,182 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.util.ChecksumGenerator;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Persists the {@link JournalIndex} entries of a sealed segment in a sidecar file next to it, such
+ * that they can be restored when the journal is opened again, instead of being rebuilt by reading
+ * the segment.
+ *
+ * <p>The file is written once, when the writer rolls over to the next segment, and is deleted
+ * whenever the segment is truncated or deleted. It is not flushed: a missing, partially written or
+ * outdated file is detected via its checksum and the segment's descriptor, and simply ignored.
+ *
+ * <p>The file is encoded in little endian as follows: version (8 bits), segment id (64 bits), first
+ * index (64 bits), last index (64 bits), last position (32 bits), entry count (32 bits), followed
+ * by each entry's index (64 bits), position (32 bits) and asqn (64 bits), and finally the CRC32C
+ * checksum (64 bits) of everything before it.
+ */
+final class SegmentIndexFile {
+
+  private static final Logger LOG = LoggerFactory.getLogger(SegmentIndexFile.class);
+  private static final ByteOrder ENDIANNESS = ByteOrder.LITTLE_ENDIAN;
+  private static final byte VERSION = 1;
+
+  private static final int VERSION_OFFSET = 0;
+  private static final int SEGMENT_ID_OFFSET = VERSION_OFFSET + Byte.BYTES;
+  private static final int FIRST_INDEX_OFFSET = SEGMENT_ID_OFFSET + Long.BYTES;
+  private static final int LAST_INDEX_OFFSET = FIRST_INDEX_OFFSET + Long.BYTES;
+  private static final int LAST_POSITION_OFFSET = LAST_INDEX_OFFSET + Long.BYTES;
+  private static final int ENTRY_COUNT_OFFSET = LAST_POSITION_OFFSET + Integer.BYTES;
+  private static final int HEADER_LENGTH = ENTRY_COUNT_OFFSET + Integer.BYTES;
+  private static final int ENTRY_LENGTH = Long.BYTES + Integer.BYTES + Long.BYTES;
+  private static final int CHECKSUM_LENGTH = Long.BYTES;
+
+  private SegmentIndexFile() {}
+
+  /**
+   * Writes the entries of the given segment's index into the given file. The segment's descriptor
+   * must have been updated with its last entry beforehand.
+   */
+  static void write(final Path file, final SegmentDescriptor descriptor, final JournalIndex index)
+      throws IOException {
+    final var buffer = new ExpandableArrayBuffer(HEADER_LENGTH + ENTRY_LENGTH * 64);
+    final int[] entryCount = {0};
+    index.forEach(
+        descriptor.index(),
+        descriptor.lastIndex(),
+        (entryIndex, position, asqn) -> {
+          final int offset = HEADER_LENGTH + entryCount[0]++ * ENTRY_LENGTH;
+          buffer.putLong(offset, entryIndex, ENDIANNESS);
+          buffer.putInt(offset + Long.BYTES, position, ENDIANNESS);
+          buffer.putLong(offset + Long.BYTES + Integer.BYTES, asqn, ENDIANNESS);
+        });
+
+    buffer.putByte(VERSION_OFFSET, VERSION);
+    buffer.putLong(SEGMENT_ID_OFFSET, descriptor.id(), ENDIANNESS);
+    buffer.putLong(FIRST_INDEX_OFFSET, descriptor.index(), ENDIANNESS);
+    buffer.putLong(LAST_INDEX_OFFSET, descriptor.lastIndex(), ENDIANNESS);
+    buffer.putInt(LAST_POSITION_OFFSET, descriptor.lastPosition(), ENDIANNESS);
+    buffer.putInt(ENTRY_COUNT_OFFSET, entryCount[0], ENDIANNESS);
+
+    final int checksumOffset = HEADER_LENGTH + entryCount[0] * ENTRY_LENGTH;
+    final long checksum = new ChecksumGenerator().compute(buffer.byteArray(), 0, checksumOffset);
+    buffer.putLong(checksumOffset, checksum, ENDIANNESS);
+
+    final var tmpFile = file.resolveSibling(file.getFileName() + ".tmp");
+    try (final var channel =
+        FileChannel.open(
+            tmpFile,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+      final var content = ByteBuffer.wrap(buffer.byteArray(), 0, checksumOffset + CHECKSUM_LENGTH);
+      while (content.hasRemaining()) {
+        channel.write(content);
+      }
+    }
+    Files.move(tmpFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+  }
+
+  /**
+   * Restores the index entries of the given segment from the given file, if it exists and matches
+   * the segment. A file which does not match the segment is deleted.
+   *
+   * @param file the index file of the segment
+   * @param descriptor the descriptor of the segment
+   * @param lastIndex the actual last index of the segment
+   * @param lastPosition the actual position of the last entry of the segment
+   * @param index the index to restore the entries into
+   * @return true if the entries were restored, false otherwise
+   */
+  static boolean restore(
+      final Path file,
+      final SegmentDescriptor descriptor,
+      final long lastIndex,
+      final int lastPosition,
+      final JournalIndex index) {
+    final byte[] content;
+    try {
+      content = Files.readAllBytes(file);
+    } catch (final NoSuchFileException e) {
+      return false;
+    } catch (final IOException e) {
+      LOG.warn("Failed to read index file {}, segment will be indexed on demand", file, e);
+      return false;
+    }
+
+    if (!matches(content, descriptor, lastIndex, lastPosition)) {
+      LOG.debug("Index file {} does not match its segment {}, deleting it", file, descriptor);
+      delete(file);
+      return false;
+    }
+
+    final var buffer = new UnsafeBuffer(content);
+    final int entryCount = buffer.getInt(ENTRY_COUNT_OFFSET, ENDIANNESS);
+    for (int i = 0; i < entryCount; i++) {
+      final int offset = HEADER_LENGTH + i * ENTRY_LENGTH;
+      index.restore(
+          buffer.getLong(offset, ENDIANNESS),
+          buffer.getInt(offset + Long.BYTES, ENDIANNESS),
+          buffer.getLong(offset + Long.BYTES + Integer.BYTES, ENDIANNESS));
+    }
+
+    return true;
+  }
+
+  /** Deletes the given index file, if it exists. Failures are only logged. */
+  static void delete(final Path file) {
+    try {
+      Files.deleteIfExists(file);
+    } catch (final IOException e) {
+      LOG.warn("Failed to delete index file {}", file, e);
+    }
+  }
+
+  private static boolean matches(
+      final byte[] content,
+      final SegmentDescriptor descriptor,
+      final long lastIndex,
+      final int lastPosition) {
+    if (content.length < HEADER_LENGTH + CHECKSUM_LENGTH) {
+      return false;
+    }
+
+    final var buffer = new UnsafeBuffer(content);
+    final long entryCount = buffer.getInt(ENTRY_COUNT_OFFSET, ENDIANNESS);
+    final long checksumOffset = HEADER_LENGTH + entryCount * ENTRY_LENGTH;
+    if (entryCount < 0 || checksumOffset + CHECKSUM_LENGTH != content.length) {
+      return false;
+    }
+
+    final long checksum = new ChecksumGenerator().compute(content, 0, (int) checksumOffset);
+    return checksum == buffer.getLong((int) checksumOffset, ENDIANNESS)
+        && buffer.getByte(VERSION_OFFSET) == VERSION
+        && buffer.getLong(SEGMENT_ID_OFFSET, ENDIANNESS) == descriptor.id()
+        && buffer.getLong(FIRST_INDEX_OFFSET, ENDIANNESS) == descriptor.index()
+        && buffer.getLong(LAST_INDEX_OFFSET, ENDIANNESS) == descriptor.lastIndex()
+        && buffer.getInt(LAST_POSITION_OFFSET, ENDIANNESS) == descriptor.lastPosition()
+        && descriptor.lastIndex() == lastIndex
+        && descriptor.lastPosition() == lastPosition;
+  }
+}
@@ -32,6 +32,7 @@ final class SegmentLoader {
   private final SegmentAllocator allocator;
   private final long minFreeDiskSpace;
   private final JournalMetrics metrics;
+  private final boolean persistIndex;
 
   SegmentLoader(final int minFreeDiskSpace, final JournalMetrics metrics) {
     this(minFreeDiskSpace, metrics, SegmentAllocator.fill());
@@ -39,9 +40,18 @@ final class SegmentLoader {
 
   SegmentLoader(
       final long minFreeDiskSpace, final JournalMetrics metrics, final SegmentAllocator allocator) {
+    this(minFreeDiskSpace, metrics, allocator, false);
+  }
+
+  SegmentLoader(
+      final long minFreeDiskSpace,
+      final JournalMetrics metrics,
+      final SegmentAllocator allocator,
+      final boolean persistIndex) {
     this.minFreeDiskSpace = minFreeDiskSpace;
     this.metrics = metrics;
     this.allocator = allocator;
+    this.persistIndex = persistIndex;
   }
 
   Segment createSegment(
@@ -136,19 +146,34 @@ final class SegmentLoader {
         mappedSegment = mapSegment(channel, descriptor.maxSegmentSize());
       }
 
-      return loadSegment(
-          segmentFile,
-          mappedSegment,
-          descriptor,
-          descriptorSerializer,
-          lastWrittenAsqn,
-          journalIndex);
+      final var segment =
+          loadSegment(
+              segmentFile,
+              mappedSegment,
+              descriptor,
+              descriptorSerializer,
+              lastWrittenAsqn,
+              journalIndex);
+      if (persistIndex && segment.restoreIndex()) {
+        LOGGER.trace("Restored index of segment {} from its index file", segment);
+      }
+      return segment;
     } catch (final IOException e) {
       throw new JournalException(
           String.format("Failed to load existing segment %s", segmentFile), e);
     }
   }
 
+  /**
+   * Called once the given segment is full and the writer moves on to the next segment. If enabled,
+   * persists the index entries of the segment, such that they are restored when it's loaded again.
+   */
+  void onSegmentSealed(final Segment segment) {
+    if (persistIndex) {
+      segment.persistIndex();
+    }
+  }
+
   /* ---- Internal methods ------ */
   private Segment loadSegment(
       final Path file,
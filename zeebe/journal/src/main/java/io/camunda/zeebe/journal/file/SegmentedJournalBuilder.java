@@ -33,6 +33,7 @@ public class SegmentedJournalBuilder {
   private static final long DEFAULT_MIN_FREE_DISK_SPACE = 1024L * 1024 * 1024;
   private static final int DEFAULT_JOURNAL_INDEX_DENSITY = 100;
   private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+  private static final boolean DEFAULT_PERSIST_INDEX = false;
 
   // impossible value to make it clear it's unset
   private static final int DEFAULT_PARTITION_ID = -1;
@@ -44,6 +45,7 @@ public class SegmentedJournalBuilder {
   private long freeDiskSpace = DEFAULT_MIN_FREE_DISK_SPACE;
   private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
   private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+  private boolean persistIndex = DEFAULT_PERSIST_INDEX;
   private int partitionId = DEFAULT_PARTITION_ID;
 
   private JournalMetaStore journalMetaStore;
@@ -145,6 +147,19 @@ public class SegmentedJournalBuilder {
     return this;
   }
 
+  /**
+   * Sets whether the index entries of a segment are persisted in a sidecar file once the segment is
+   * full. If true, the index of all but the last segment is restored from these files when the
+   * journal is opened, instead of being rebuilt on demand by reading the segments.
+   *
+   * @param persistIndex true to persist the index of full segments, false otherwise
+   * @return this builder for chaining
+   */
+  public SegmentedJournalBuilder withPersistIndex(final boolean persistIndex) {
+    this.persistIndex = persistIndex;
+    return this;
+  }
+
   /**
    * The ID of the partition on which this journal resides. This is used primarily for
    * observability, e.g. in {@link JournalMetrics}.
@@ -171,7 +186,8 @@ public class SegmentedJournalBuilder {
     final var journalMetrics = new JournalMetrics(meterRegistry);
     final var segmentAllocator =
         preallocateSegmentFiles ? SegmentAllocator.fill() : SegmentAllocator.noop();
-    final var segmentLoader = new SegmentLoader(freeDiskSpace, journalMetrics, segmentAllocator);
+    final var segmentLoader =
+        new SegmentLoader(freeDiskSpace, journalMetrics, segmentAllocator, persistIndex);
     final var segmentsManager =
         new SegmentsManager(
             journalIndex,
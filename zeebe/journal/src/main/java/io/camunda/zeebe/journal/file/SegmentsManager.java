@@ -119,6 +119,7 @@ final class SegmentsManager implements AutoCloseable {
    * @throws IllegalStateException if the segment manager is not open
    */
   Segment getNextSegment() {
+    segmentLoader.onSegmentSealed(currentSegment);
 
     final Segment lastSegment = getLastSegment();
     final var lastWrittenAsqn = lastSegment != null ? lastSegment.lastAsqn() : INITIAL_ASQN;
@@ -444,6 +445,7 @@ final class SegmentsManager implements AutoCloseable {
       final File file = files.get(i);
       try {
         Files.delete(file.toPath());
+        SegmentIndexFile.delete(new SegmentFile(file).indexFile());
       } catch (final IOException e) {
         throw new JournalException(
             String.format(
@@ -16,19 +16,37 @@
 package io.camunda.zeebe.journal.file;
 
 import io.camunda.zeebe.journal.JournalRecord;
-import java.util.Map;
-import java.util.concurrent.ConcurrentNavigableMap;
-import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.Arrays;
+import java.util.concurrent.locks.StampedLock;
 
+/**
+ * Indexes every n-th record (where n is the density) in primitive arrays sorted by index. Since
+ * records are almost always indexed in order, adding an entry is usually an append, and lookups are
+ * a binary search. Records indexed out of order, e.g. by a reader seeking through a segment which
+ * was not indexed yet, are inserted at their sorted position.
+ *
+ * <p>The ASQNs are kept in separate arrays, as not every record has one. Both indexes and ASQNs are
+ * monotonically increasing, so the same arrays can be searched by either.
+ *
+ * <p>The index is shared between the writer and readers, which may run on different threads, so all
+ * accesses are guarded by a read-write lock.
+ */
 final class SparseJournalIndex implements JournalIndex {
 
+  private static final int INITIAL_CAPACITY = 64;
+
   private final int density;
-  private final ConcurrentNavigableMap<Long, Integer> indexToPosition =
-      new ConcurrentSkipListMap<>();
-  private final ConcurrentNavigableMap<Long, Long> asqnToIndex = new ConcurrentSkipListMap<>();
-  // This is added to make deleteAfter and deleteUntil easier.
-  // TODO: Check if this can be improved. https://github.com/zeebe-io/zeebe/issues/6220
-  private final ConcurrentNavigableMap<Long, Long> indexToAsqn = new ConcurrentSkipListMap<>();
+  private final StampedLock lock = new StampedLock();
+
+  // index => position
+  private long[] indexes = new long[INITIAL_CAPACITY];
+  private int[] positions = new int[INITIAL_CAPACITY];
+  private int size;
+
+  // index <=> asqn, for records with an asqn only
+  private long[] asqnIndexes = new long[INITIAL_CAPACITY];
+  private long[] asqns = new long[INITIAL_CAPACITY];
+  private int asqnSize;
 
   SparseJournalIndex(final int density) {
     this.density = density;
@@ -37,20 +55,69 @@ final class SparseJournalIndex implements JournalIndex {
   @Override
   public void index(final JournalRecord indexedEntry, final int position) {
     final long index = indexedEntry.index();
-    if (index % density == 0) {
-      indexToPosition.put(index, position);
-      final long asqn = indexedEntry.asqn();
+    if (index % density != 0) {
+      return;
+    }
+
+    final long asqn = indexedEntry.asqn();
+    final var stamp = lock.writeLock();
+    try {
+      putPosition(index, position);
       if (asqn != SegmentedJournal.ASQN_IGNORE) {
-        asqnToIndex.put(asqn, index);
-        indexToAsqn.put(index, asqn);
+        putAsqn(index, asqn);
       }
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  @Override
+  public void restore(final long index, final int position, final long asqn) {
+    final var stamp = lock.writeLock();
+    try {
+      putPosition(index, position);
+      if (asqn != SegmentedJournal.ASQN_IGNORE) {
+        putAsqn(index, asqn);
+      }
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  @Override
+  public void forEach(
+      final long fromIndex, final long toIndex, final IndexedEntryConsumer consumer) {
+    final var stamp = lock.readLock();
+    try {
+      int asqnSlot = ceiling(asqnIndexes, asqnSize, fromIndex);
+      for (int slot = ceiling(indexes, size, fromIndex);
+          slot < size && indexes[slot] <= toIndex;
+          slot++) {
+        final long index = indexes[slot];
+        while (asqnSlot < asqnSize && asqnIndexes[asqnSlot] < index) {
+          asqnSlot++;
+        }
+
+        final long asqn =
+            asqnSlot < asqnSize && asqnIndexes[asqnSlot] == index
+                ? asqns[asqnSlot]
+                : SegmentedJournal.ASQN_IGNORE;
+        consumer.accept(index, positions[slot], asqn);
+      }
+    } finally {
+      lock.unlockRead(stamp);
     }
   }
 
   @Override
   public IndexInfo lookup(final long index) {
-    final Map.Entry<Long, Integer> entry = indexToPosition.floorEntry(index);
-    return entry != null ? new IndexInfo(entry.getKey(), entry.getValue()) : null;
+    final var stamp = lock.readLock();
+    try {
+      final int slot = floor(indexes, size, index);
+      return slot >= 0 ? new IndexInfo(indexes[slot], positions[slot]) : null;
+    } finally {
+      lock.unlockRead(stamp);
+    }
   }
 
   @Override
@@ -60,46 +127,68 @@ final class SparseJournalIndex implements JournalIndex {
 
   @Override
   public Long lookupAsqn(final long asqn, final long indexUpperBound) {
-    final Map.Entry<Long, Long> entry = asqnToIndex.floorEntry(asqn);
-    if (entry != null) {
-      if (entry.getValue() <= indexUpperBound) {
-        return entry.getValue();
-      } else {
-        return indexToAsqn.floorKey(indexUpperBound);
+    final var stamp = lock.readLock();
+    try {
+      final int slot = floor(asqns, asqnSize, asqn);
+      if (slot < 0) {
+        return null;
+      }
+
+      if (asqnIndexes[slot] <= indexUpperBound) {
+        return asqnIndexes[slot];
       }
+
+      final int boundedSlot = floor(asqnIndexes, asqnSize, indexUpperBound);
+      return boundedSlot >= 0 ? asqnIndexes[boundedSlot] : null;
+    } finally {
+      lock.unlockRead(stamp);
     }
-    return null;
   }
 
   @Override
   public void deleteAfter(final long index) {
-    indexToPosition.tailMap(index, false).clear();
-    final var asqnEntryToDelete = indexToAsqn.ceilingEntry(index);
-    if (asqnEntryToDelete != null) {
-      final var asqnToDelete = asqnEntryToDelete.getValue();
-      indexToAsqn.tailMap(index, false).clear();
-      final boolean include = asqnEntryToDelete.getKey() > index;
-      asqnToIndex.tailMap(asqnToDelete, include).clear();
+    final var stamp = lock.writeLock();
+    try {
+      size = floor(indexes, size, index) + 1;
+      asqnSize = floor(asqnIndexes, asqnSize, index) + 1;
+    } finally {
+      lock.unlockWrite(stamp);
     }
   }
 
   @Override
   public void deleteUntil(final long index) {
-    indexToPosition.headMap(index, false).clear();
+    final var stamp = lock.writeLock();
+    try {
+      final int firstRetained = ceiling(indexes, size, index);
+      size -= firstRetained;
+      System.arraycopy(indexes, firstRetained, indexes, 0, size);
+      System.arraycopy(positions, firstRetained, positions, 0, size);
 
-    final var asqnEntryToDelete = indexToAsqn.floorEntry(index);
-    if (asqnEntryToDelete != null) {
-      final var asqnToDelete = asqnEntryToDelete.getValue();
-      indexToAsqn.headMap(index, false).clear();
-      asqnToIndex.headMap(asqnToDelete, false).clear();
+      // the ASQN of the last record before the given index is retained, such that looking up any
+      // ASQN greater than it still returns the closest lower index
+      final int firstRetainedAsqn = Math.max(0, floor(asqnIndexes, asqnSize, index));
+      asqnSize -= firstRetainedAsqn;
+      System.arraycopy(asqnIndexes, firstRetainedAsqn, asqnIndexes, 0, asqnSize);
+      System.arraycopy(asqns, firstRetainedAsqn, asqns, 0, asqnSize);
+    } finally {
+      lock.unlockWrite(stamp);
     }
   }
 
   @Override
   public void clear() {
-    indexToPosition.clear();
-    indexToAsqn.clear();
-    asqnToIndex.clear();
+    final var stamp = lock.writeLock();
+    try {
+      indexes = new long[INITIAL_CAPACITY];
+      positions = new int[INITIAL_CAPACITY];
+      size = 0;
+      asqnIndexes = new long[INITIAL_CAPACITY];
+      asqns = new long[INITIAL_CAPACITY];
+      asqnSize = 0;
+    } finally {
+      lock.unlockWrite(stamp);
+    }
   }
 
   @Override
@@ -111,4 +200,66 @@ final class SparseJournalIndex implements JournalIndex {
       return indexInfo.index() > index - density;
     }
   }
+
+  private void putPosition(final long index, final int position) {
+    int slot = size;
+    if (size > 0 && indexes[size - 1] >= index) {
+      slot = Arrays.binarySearch(indexes, 0, size, index);
+      if (slot >= 0) {
+        positions[slot] = position;
+        return;
+      }
+      slot = -(slot + 1);
+    }
+
+    if (size == indexes.length) {
+      indexes = Arrays.copyOf(indexes, grow(size));
+      positions = Arrays.copyOf(positions, indexes.length);
+    }
+
+    System.arraycopy(indexes, slot, indexes, slot + 1, size - slot);
+    System.arraycopy(positions, slot, positions, slot + 1, size - slot);
+    indexes[slot] = index;
+    positions[slot] = position;
+    size++;
+  }
+
+  private void putAsqn(final long index, final long asqn) {
+    int slot = asqnSize;
+    if (asqnSize > 0 && asqnIndexes[asqnSize - 1] >= index) {
+      slot = Arrays.binarySearch(asqnIndexes, 0, asqnSize, index);
+      if (slot >= 0) {
+        asqns[slot] = asqn;
+        return;
+      }
+      slot = -(slot + 1);
+    }
+
+    if (asqnSize == asqnIndexes.length) {
+      asqnIndexes = Arrays.copyOf(asqnIndexes, grow(asqnSize));
+      asqns = Arrays.copyOf(asqns, asqnIndexes.length);
+    }
+
+    System.arraycopy(asqnIndexes, slot, asqnIndexes, slot + 1, asqnSize - slot);
+    System.arraycopy(asqns, slot, asqns, slot + 1, asqnSize - slot);
+    asqnIndexes[slot] = index;
+    asqns[slot] = asqn;
+    asqnSize++;
+  }
+
+  private static int grow(final int capacity) {
+    return capacity + (capacity >> 1);
+  }
+
+  /** Returns the slot of the greatest value less than or equal to the given one, or -1. */
+  private static int floor(final long[] values, final int size, final long value) {
+    final int slot = Arrays.binarySearch(values, 0, size, value);
+    return slot >= 0 ? slot : -(slot + 1) - 1;
+  }
+
+  /** Returns the slot of the smallest value greater than or equal to the given one, or size. */
+  private static int ceiling(final long[] values, final int size, final long value) {
+    final int slot = Arrays.binarySearch(values, 0, size, value);
+    return slot >= 0 ? slot : -(slot + 1);
+  }
 }
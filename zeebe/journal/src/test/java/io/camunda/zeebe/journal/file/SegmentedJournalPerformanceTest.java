@@ -0,0 +1,104 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.JournalReader;
+import io.camunda.zeebe.journal.JournalRecord;
+import io.camunda.zeebe.journal.util.MockJournalMetastore;
+import io.camunda.zeebe.util.FileUtil;
+import io.camunda.zeebe.util.buffer.DirectBufferWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.agrona.CloseHelper;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures appending to and sequentially reading from a {@link SegmentedJournal}, with entries of 1
+ * KB. Appended entries are not flushed, as flushing is done asynchronously in a broker. To keep the
+ * disk usage bounded, the appending benchmark regularly deletes the segments it has filled.
+ */
+@Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class SegmentedJournalPerformanceTest {
+
+  private static final int ENTRY_SIZE = 1024;
+  private static final int INITIAL_ENTRY_COUNT = 100_000;
+  private static final int MAX_SEGMENT_SIZE = 16 * 1024 * 1024;
+  private static final int MAX_RETAINED_ENTRIES = 200_000;
+
+  private final DirectBufferWriter entry = new DirectBufferWriter();
+
+  private Path directory;
+  private SegmentedJournal journal;
+  private JournalReader reader;
+  private long asqn;
+
+  @Setup
+  public void setup() throws Exception {
+    final var data = new byte[ENTRY_SIZE];
+    ThreadLocalRandom.current().nextBytes(data);
+    entry.wrap(new UnsafeBuffer(data));
+
+    directory = Files.createTempDirectory("journalPerf");
+    journal =
+        SegmentedJournal.builder(new SimpleMeterRegistry())
+            .withDirectory(directory.toFile())
+            .withMaxSegmentSize(MAX_SEGMENT_SIZE)
+            .withMetaStore(new MockJournalMetastore())
+            .build();
+    for (int i = 0; i < INITIAL_ENTRY_COUNT; i++) {
+      journal.append(++asqn, entry);
+    }
+
+    reader = journal.openReader();
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    CloseHelper.quietCloseAll(reader, journal);
+    FileUtil.deleteFolderIfExists(directory);
+  }
+
+  @Benchmark
+  public JournalRecord measureAppend() {
+    final var record = journal.append(++asqn, entry);
+    if (record.index() - journal.getFirstIndex() > MAX_RETAINED_ENTRIES) {
+      journal.deleteUntil(record.index() - INITIAL_ENTRY_COUNT);
+    }
+
+    return record;
+  }
+
+  @Benchmark
+  public JournalRecord measureRead() {
+    if (!reader.hasNext()) {
+      reader.seekToFirst();
+    }
+
+    return reader.next();
+  }
+}
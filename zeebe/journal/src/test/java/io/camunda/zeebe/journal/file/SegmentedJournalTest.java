@@ -33,8 +33,11 @@ import io.camunda.zeebe.util.buffer.DirectBufferWriter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.File;
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
@@ -436,6 +439,71 @@ class SegmentedJournalTest {
         .isEqualTo(indexBeforeRestart.lookup(thirdIndex));
   }
 
+  @Test
+  void shouldRestoreIndexMappingsOfFullSegmentsAfterRestart() {
+    // given
+    final int entriesPerSegment = 2;
+    journal = openJournalWithPersistedIndex(entriesPerSegment);
+    for (int i = 1; i <= 5; i++) {
+      journal.append(i, journalFactory.entry());
+    }
+    final JournalIndex indexBeforeRestart = journal.getJournalIndex();
+    final var firstLookup = indexBeforeRestart.lookup(1);
+    final var thirdLookup = indexBeforeRestart.lookup(3);
+
+    // when
+    journal.close();
+    journal = openJournalWithPersistedIndex(entriesPerSegment);
+
+    // then
+    final JournalIndex indexAfterRestart = journal.getJournalIndex();
+    assertThat(indexAfterRestart.lookup(1)).isEqualTo(firstLookup);
+    assertThat(indexAfterRestart.lookup(3)).isEqualTo(thirdLookup);
+    assertThat(indexAfterRestart.lookupAsqn(1)).isOne();
+    assertThat(indexAfterRestart.lookupAsqn(3)).isEqualTo(3);
+  }
+
+  @Test
+  void shouldDeleteIndexFileOnTruncate() {
+    // given
+    final int entriesPerSegment = 2;
+    journal = openJournalWithPersistedIndex(entriesPerSegment);
+    for (int i = 1; i <= 5; i++) {
+      journal.append(i, journalFactory.entry());
+    }
+    final var truncatedSegment = journal.getFirstSegment();
+    final var indexFile = journal.getSegment(3).file().indexFile();
+    assertThat(indexFile).exists();
+
+    // when
+    journal.deleteAfter(3);
+
+    // then
+    assertThat(indexFile).doesNotExist();
+    assertThat(truncatedSegment.file().indexFile()).exists();
+  }
+
+  @Test
+  void shouldIgnoreCorruptedIndexFile() throws IOException {
+    // given
+    final int entriesPerSegment = 2;
+    journal = openJournalWithPersistedIndex(entriesPerSegment);
+    for (int i = 1; i <= 3; i++) {
+      journal.append(i, journalFactory.entry());
+    }
+    final var indexFile = journal.getFirstSegment().file().indexFile();
+    journal.close();
+    Files.write(indexFile, new byte[] {1, 2, 3}, StandardOpenOption.APPEND);
+
+    // when
+    journal = openJournalWithPersistedIndex(entriesPerSegment);
+
+    // then
+    assertThat(indexFile).doesNotExist();
+    assertThat(journal.getJournalIndex().lookup(1)).isNull();
+    assertThat(journal.getJournalIndex().lookup(2).index()).isEqualTo(2);
+  }
+
   @Test
   void shouldContinueAppendAfterDetectingPartiallyWrittenDescriptor() throws Exception {
     // given
@@ -931,6 +999,19 @@ class SegmentedJournalTest {
     return journal;
   }
 
+  private SegmentedJournal openJournalWithPersistedIndex(final int entriesPerSegment) {
+    journalFactory = new TestJournalFactory("test", entriesPerSegment);
+    final var loader =
+        new SegmentLoader(
+            2L * journalFactory.maxSegmentSize(),
+            journalFactory.metrics(),
+            SegmentAllocator.noop(),
+            true);
+    final var journal = journalFactory.journal(journalFactory.segmentsManager(directory, loader));
+    closeables.add(journal);
+    return journal;
+  }
+
   /**
    * Creates a segment allocator, which should fail after the given segments count has been reached.
    * Failing will be done via throwing an OutOfDiskException.
@@ -265,4 +265,56 @@ class SparseJournalIndexTest {
     assertThat(index.hasIndexed(11)).isFalse();
     assertThat(index.hasIndexed(100)).isFalse();
   }
+
+  @Test
+  void shouldIndexOutOfOrder() {
+    // given - every 2nd index is added
+    final JournalIndex index = new SparseJournalIndex(2);
+    index.index(asJournalRecord(2, 20), 4);
+    index.index(asJournalRecord(6, 60), 12);
+
+    // when
+    index.index(asJournalRecord(4, 40), 8);
+
+    // then
+    assertEquals(4, index.lookup(5).index());
+    assertEquals(8, index.lookup(5).position());
+    assertEquals(6, index.lookup(6).index());
+    assertEquals(4, index.lookupAsqn(59));
+    assertEquals(6, index.lookupAsqn(60));
+  }
+
+  @Test
+  void shouldIndexBeyondInitialCapacity() {
+    // given
+    final JournalIndex index = new SparseJournalIndex(1);
+
+    // when
+    for (int i = 1; i <= 1_000; i++) {
+      index.index(asJournalRecord(i, i * 10L), i * 2);
+    }
+
+    // then
+    assertEquals(1_000, index.lookup(1_000).index());
+    assertEquals(2_000, index.lookup(1_000).position());
+    assertEquals(500, index.lookup(500).index());
+    assertEquals(500, index.lookupAsqn(5_009));
+  }
+
+  @Test
+  void shouldIndexAgainAfterTruncation() {
+    // given - every 5 index is added
+    final JournalIndex index = new SparseJournalIndex(5);
+    index.index(asJournalRecord(5, 50), 10);
+    index.index(asJournalRecord(10, 100), 20);
+    index.deleteAfter(7);
+
+    // when
+    index.index(asJournalRecord(10, 110), 30);
+
+    // then
+    assertEquals(30, index.lookup(10).position());
+    assertEquals(5, index.lookupAsqn(100));
+    assertEquals(10, index.lookupAsqn(110));
+  }
 }
@@ -36,10 +36,31 @@ public class UnpackedObject extends ObjectValue implements Recyclable, BufferRea
 
   @Override
   public void wrap(final DirectBuffer buff, final int offset, final int length) {
+    wrap(buff, offset, length, false);
+  }
+
+  /**
+   * Wraps the given buffer like {@link #wrap(DirectBuffer, int, int)}, but only decodes the values
+   * of the declared properties when they are accessed. Values which are never accessed are written
+   * as they are. Useful when only a few properties of the object are read, e.g. on replay.
+   *
+   * <p>The buffer must not be modified while the object is in use, and invalid values are only
+   * detected when they are accessed.
+   */
+  public void wrapLazily(final DirectBuffer buff, final int offset, final int length) {
+    wrap(buff, offset, length, true);
+  }
+
+  private void wrap(
+      final DirectBuffer buff, final int offset, final int length, final boolean lazily) {
     reset();
     reader.wrap(buff, offset, length);
     try {
-      read(reader);
+      if (lazily) {
+        readLazily(reader);
+      } else {
+        read(reader);
+      }
     } catch (final Exception e) {
       throw new RuntimeException(
           "Could not deserialize object ["
@@ -14,6 +14,7 @@ import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
 import io.camunda.zeebe.msgpack.value.BaseValue;
 import io.camunda.zeebe.msgpack.value.StringValue;
 import java.util.Objects;
+import org.agrona.DirectBuffer;
 
 public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
   protected final StringValue key;
@@ -21,6 +22,13 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
   protected final T defaultValue;
   protected boolean isSet;
 
+  // the still encoded value of a property that was read lazily, see readLazily
+  private boolean hasEncodedValue;
+  private DirectBuffer encodedValueBuffer;
+  private int encodedValueOffset;
+  private int encodedValueLength;
+  private MsgPackReader encodedValueReader;
+
   public BaseProperty(final T value) {
     this(StringValue.EMPTY_STRING, value);
   }
@@ -40,11 +48,13 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
 
   public void set() {
     isSet = true;
+    hasEncodedValue = false;
   }
 
   @Override
   public void reset() {
     isSet = false;
+    hasEncodedValue = false;
     value.reset();
   }
 
@@ -57,6 +67,8 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
   }
 
   protected T resolveValue() {
+    decodeValue();
+
     if (isSet) {
       return value;
     } else if (defaultValue != null) {
@@ -68,6 +80,10 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
   }
 
   public int getEncodedLength() {
+    if (hasEncodedValue) {
+      return key.getEncodedLength() + encodedValueLength;
+    }
+
     return key.getEncodedLength() + resolveValue().getEncodedLength();
   }
 
@@ -76,7 +92,49 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
     set();
   }
 
+  /**
+   * Skips the value instead of decoding it, and only remembers where it is encoded. The value is
+   * decoded on first access, and written as is if it is never accessed. This means that the buffer
+   * the value is read from must not be modified as long as the property is in use, and that an
+   * invalid value is only detected on access.
+   */
+  public void readLazily(final MsgPackReader reader) {
+    final int offset = reader.getOffset();
+    reader.skipValue();
+
+    isSet = true;
+    hasEncodedValue = true;
+    encodedValueBuffer = reader.getBuffer();
+    encodedValueOffset = offset;
+    encodedValueLength = reader.getOffset() - offset;
+  }
+
+  /** Decodes the value if it was read lazily and was not decoded yet. */
+  protected void decodeValue() {
+    if (!hasEncodedValue) {
+      return;
+    }
+
+    hasEncodedValue = false;
+    if (encodedValueReader == null) {
+      encodedValueReader = new MsgPackReader();
+    }
+
+    try {
+      encodedValueReader.wrap(encodedValueBuffer, encodedValueOffset, encodedValueLength);
+      value.read(encodedValueReader);
+    } catch (final Exception e) {
+      throw new MsgpackPropertyException(key, e);
+    }
+  }
+
   public void write(final MsgPackWriter writer) {
+    if (hasEncodedValue) {
+      key.write(writer);
+      writer.writeRaw(encodedValueBuffer, encodedValueOffset, encodedValueLength);
+      return;
+    }
+
     T valueToWrite = value;
     if (!isSet) {
       valueToWrite = defaultValue;
@@ -103,6 +161,7 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
 
   @Override
   public int hashCode() {
+    decodeValue();
     return Objects.hash(getKey(), value, defaultValue, isSet);
   }
 
@@ -123,6 +182,7 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
 
   @Override
   public String toString() {
+    decodeValue();
     final StringBuilder builder = new StringBuilder();
     builder.append(key.toString());
     builder.append(" => ");
@@ -93,31 +93,62 @@ public class ObjectValue extends BaseValue {
     write(writer, undeclaredProperties);
   }
 
+  /**
+   * Reads the properties of the object. Objects are usually read in the order they were written,
+   * i.e. in the order of the declared properties, so each key is first compared with the property
+   * following the previously read one, before falling back to comparing it with all declared
+   * properties.
+   */
   @Override
   public void read(final MsgPackReader reader) {
+    read(reader, false);
+  }
+
+  /**
+   * Reads the object like {@link #read(MsgPackReader)}, but only decodes the values of the declared
+   * properties when they are accessed. See {@link BaseProperty#readLazily(MsgPackReader)}.
+   */
+  public void readLazily(final MsgPackReader reader) {
+    read(reader, true);
+  }
+
+  private void read(final MsgPackReader reader, final boolean lazily) {
     final int mapSize = reader.readMapHeader();
+    int expectedPropertyIndex = 0;
 
     for (int i = 0; i < mapSize; ++i) {
       decodedKey.read(reader);
 
       BaseProperty<? extends BaseValue> prop = null;
 
-      for (int k = 0; k < declaredProperties.size(); ++k) {
-        final BaseProperty<?> declaredProperty = declaredProperties.get(k);
-        final StringValue declaredKey = declaredProperty.getKey();
-
-        if (declaredKey.equals(decodedKey)) {
-          prop = declaredProperty;
-          break;
+      if (expectedPropertyIndex < declaredProperties.size()
+          && declaredProperties.get(expectedPropertyIndex).getKey().equals(decodedKey)) {
+        prop = declaredProperties.get(expectedPropertyIndex);
+        expectedPropertyIndex++;
+      } else {
+        for (int k = 0; k < declaredProperties.size(); ++k) {
+          final BaseProperty<?> declaredProperty = declaredProperties.get(k);
+          final StringValue declaredKey = declaredProperty.getKey();
+
+          if (declaredKey.equals(decodedKey)) {
+            prop = declaredProperty;
+            expectedPropertyIndex = k + 1;
+            break;
+          }
         }
       }
 
-      if (prop == null) {
+      final boolean isDeclared = prop != null;
+      if (!isDeclared) {
         prop = newUndeclaredProperty(decodedKey);
       }
 
       try {
-        prop.read(reader);
+        if (lazily && isDeclared) {
+          prop.readLazily(reader);
+        } else {
+          prop.read(reader);
+        }
       } catch (final Exception e) {
         throw new RuntimeException(String.format("Could not read property '%s'", prop.getKey()), e);
       }
@@ -0,0 +1,88 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.msgpack;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+
+import io.camunda.zeebe.msgpack.POJO.POJOEnum;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Measures reading and writing an {@link UnpackedObject} with properties of all common types. */
+@Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class UnpackedObjectPerformanceTest {
+
+  private static final DirectBuffer STRING = wrapString("a-string-of-medium-length");
+  private static final DirectBuffer BINARY = new UnsafeBuffer(new byte[256]);
+  private static final DirectBuffer PACKED =
+      MsgPackUtil.encodeMsgPack(
+          w -> {
+            w.writeMapHeader(2);
+            w.writeString(wrapString("foo"));
+            w.writeInteger(1);
+            w.writeString(wrapString("bar"));
+            w.writeString(wrapString("baz"));
+          });
+
+  private final POJO pojo = new POJO();
+  private final ExpandableArrayBuffer writeBuffer = new ExpandableArrayBuffer();
+  private final UnsafeBuffer encoded = new UnsafeBuffer();
+
+  @Setup
+  public void setup() {
+    fill(pojo);
+    final var buffer = new ExpandableArrayBuffer();
+    pojo.write(buffer, 0);
+    encoded.wrap(buffer, 0, pojo.getLength());
+  }
+
+  @Benchmark
+  public int measureRead() {
+    pojo.reset();
+    pojo.wrap(encoded);
+    return pojo.getInt();
+  }
+
+  @Benchmark
+  public int measureWrite() {
+    pojo.reset();
+    fill(pojo);
+    pojo.write(writeBuffer, 0);
+    return pojo.getLength();
+  }
+
+
+
+  private static void fill(final POJO pojo) {
+    pojo.setEnum(POJOEnum.BAR);
+    pojo.setLong(123_456_789L);
+    pojo.setInt(42);
+    pojo.setString(STRING);
+    pojo.setPacked(PACKED);
+    pojo.setBinary(BINARY);
+    pojo.nestedObject().setLong(24L);
+  }
+}
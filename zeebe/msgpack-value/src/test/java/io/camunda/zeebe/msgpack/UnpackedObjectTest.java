@@ -7,14 +7,21 @@
  */
 package io.camunda.zeebe.msgpack;
 
+import static io.camunda.zeebe.msgpack.MsgPackUtil.encodeMsgPack;
+import static io.camunda.zeebe.test.util.BufferAssert.assertThatBuffer;
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.spy;
 
+import io.camunda.zeebe.msgpack.POJO.POJOEnum;
 import io.camunda.zeebe.msgpack.property.BooleanProperty;
 import io.camunda.zeebe.msgpack.property.IntegerProperty;
 import io.camunda.zeebe.msgpack.property.StringProperty;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.nio.ByteBuffer;
+import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.jupiter.api.Nested;
@@ -127,4 +134,122 @@ public class UnpackedObjectTest {
       assertThat(newSchemaObject.getLength()).isEqualTo(length);
     }
   }
+
+  @Nested
+  class LazyDecoding {
+    private final POJO lazyObject = new POJO();
+    private final MutableDirectBuffer buffer = new UnsafeBuffer(ByteBuffer.allocate(200));
+    private int length;
+
+    {
+      final var pojo = new POJO();
+      pojo.setEnum(POJOEnum.BAR);
+      pojo.setLong(456456L);
+      pojo.setInt(123);
+      pojo.setString(wrapString("foo"));
+      pojo.setBinary(wrapString("bar"));
+      pojo.setPacked(ObjectMappingTest.MSGPACK_BUF1);
+      pojo.nestedObject().setLong(24L);
+
+      length = pojo.getLength();
+      pojo.write(buffer, 0);
+    }
+
+    @Test
+    void shouldDecodeValuesOnAccess() {
+      // when
+      lazyObject.wrapLazily(buffer, 0, length);
+
+      // then
+      assertThat(lazyObject.getEnum()).isEqualTo(POJOEnum.BAR);
+      assertThat(lazyObject.getLong()).isEqualTo(456456L);
+      assertThat(lazyObject.getInt()).isEqualTo(123);
+      assertThatBuffer(lazyObject.getString()).hasBytes(wrapString("foo"));
+      assertThatBuffer(lazyObject.getBinary()).hasBytes(wrapString("bar"));
+      assertThatBuffer(lazyObject.getPacked()).hasBytes(ObjectMappingTest.MSGPACK_BUF1);
+      assertThat(lazyObject.nestedObject().getLong()).isEqualTo(24L);
+    }
+
+    @Test
+    void shouldWriteValuesWhichWereNotAccessedAsTheyAre() {
+      // given
+      lazyObject.wrapLazily(buffer, 0, length);
+      final var result = new UnsafeBuffer(new byte[length]);
+
+      // when
+      lazyObject.write(result, 0);
+
+      // then
+      assertThat(lazyObject.getLength()).isEqualTo(length);
+      assertThatBuffer(result).hasBytes(new UnsafeBuffer(buffer, 0, length));
+    }
+
+    @Test
+    void shouldWriteUpdatedValues() {
+      // given
+      lazyObject.wrapLazily(buffer, 0, length);
+      lazyObject.setLong(7L);
+      lazyObject.nestedObject().setLong(8L);
+      final var result = new UnsafeBuffer(new byte[lazyObject.getLength()]);
+
+      // when
+      lazyObject.write(result, 0);
+
+      // then
+      final var pojo = new POJO();
+      pojo.wrap(result);
+      assertThat(pojo.getLong()).isEqualTo(7L);
+      assertThat(pojo.nestedObject().getLong()).isEqualTo(8L);
+      assertThat(pojo.getInt()).isEqualTo(123);
+      assertThatBuffer(pojo.getString()).hasBytes(wrapString("foo"));
+    }
+
+    @Test
+    void shouldNotKeepLazyValuesAfterReset() {
+      // given
+      lazyObject.wrapLazily(buffer, 0, length);
+
+      // when
+      lazyObject.reset();
+      lazyObject.setLong(7L);
+
+      // then
+      assertThat(lazyObject.getLong()).isEqualTo(7L);
+      assertThatThrownBy(lazyObject::getInt).isInstanceOf(MsgpackPropertyException.class);
+    }
+
+    @Test
+    void shouldDetectInvalidValueOnAccess() {
+      // given
+      final DirectBuffer invalidBuffer =
+          encodeMsgPack(
+              (w) -> {
+                w.writeMapHeader(7);
+                w.writeString(wrapString("enumProp"));
+                w.writeString(wrapString(POJOEnum.BAR.toString()));
+                w.writeString(wrapString("longProp"));
+                w.writeString(wrapString("not a long"));
+                w.writeString(wrapString("intProp"));
+                w.writeInteger(123L);
+                w.writeString(wrapString("stringProp"));
+                w.writeString(wrapString("foo"));
+                w.writeString(wrapString("packedProp"));
+                w.writeRaw(ObjectMappingTest.MSGPACK_BUF1);
+                w.writeString(wrapString("binaryProp"));
+                w.writeBinary(wrapString("bar"));
+                w.writeString(wrapString("objectProp"));
+                w.writeRaw(ObjectMappingTest.MSGPACK_BUF1);
+              });
+
+      // when
+      assertThatNoException()
+          .isThrownBy(() -> lazyObject.wrapLazily(invalidBuffer, 0, invalidBuffer.capacity()));
+
+      // then
+      assertThat(lazyObject.getInt()).isEqualTo(123);
+      assertThatThrownBy(lazyObject::getLong)
+          .isInstanceOf(MsgpackPropertyException.class)
+          .hasMessageContaining("longProp");
+    }
+  }
 }
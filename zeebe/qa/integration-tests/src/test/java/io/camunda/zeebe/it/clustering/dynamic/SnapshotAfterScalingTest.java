@@ -45,7 +45,7 @@ final class SnapshotAfterScalingTest {
               broker -> {
                 broker
                     .brokerConfig()
-                    .setExporting(new ExportingCfg(Set.of(), Duration.ofMillis(100)));
+                    .setExporting(new ExportingCfg(Set.of(), Duration.ofMillis(100), false));
 
                 final ConfigManagerCfg configManagerCfg =
                     new ConfigManagerCfg(
@@ -55,6 +55,16 @@ public abstract class Actor implements AutoCloseable, AsyncClosable, Concurrency
     return context;
   }
 
+  /**
+   * Should be overwritten by actors on the critical path, so they run ahead of background actors
+   * when the scheduler is configured to schedule weighted-fairly.
+   *
+   * @return the priority with which this actor is scheduled
+   */
+  public SchedulingPriority getSchedulingPriority() {
+    return SchedulingPriority.NORMAL;
+  }
+
   public boolean isActorClosed() {
     return actor.isClosed();
   }
@@ -58,6 +58,9 @@ public interface ActorMetrics {
           @Override
           public void updateJobQueueLength(final int length) {}
 
+          @Override
+          public void observeQueueWait(final long waitTimeNs) {}
+
           @Override
           public CloseableSilently startExecutionTimer() {
             return closeable;
@@ -73,6 +76,12 @@ public interface ActorMetrics {
 
     void updateJobQueueLength(final int length);
 
+    void observeQueueWait(final long waitTimeNs);
+
+    /**
+     * Starts measuring an execution of the actor task, in both wall clock and CPU time. The
+     * returned closeable must be closed on the same thread.
+     */
     CloseableSilently startExecutionTimer();
 
     static ActorMetricsScoped noop() {
@@ -46,6 +46,66 @@ public enum ActorMetricsDoc implements ExtendedMeterDocumentation {
       return TIMER_SLOS;
     }
   },
+  /** CPU time spent by the actor thread while executing a certain actor task */
+  EXECUTION_CPU_TIME {
+    private static final Duration[] TIMER_SLOS =
+        MicrometerUtil.exponentialBucketDuration(10, 4, 10, ChronoUnit.MICROS);
+
+    @Override
+    public String getName() {
+      return "zeebe.actor.task.execution.cpu.time";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.TIMER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "CPU time spent by the actor thread while executing a certain actor task";
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {ActorMetricsKeyName.ACTOR_NAME};
+    }
+
+    @Override
+    public Duration[] getTimerSLOs() {
+      return TIMER_SLOS;
+    }
+  },
+  /** Time a certain actor task waited in a task queue before an actor thread executed it */
+  TASK_QUEUE_WAIT_LATENCY {
+    private static final Duration[] TIMER_SLOS =
+        MicrometerUtil.exponentialBucketDuration(1, 4, 12, ChronoUnit.MICROS);
+
+    @Override
+    public String getName() {
+      return "zeebe.actor.task.queue.wait.latency";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.TIMER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Time a certain actor task waited in a task queue before an actor thread executed it";
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {ActorMetricsKeyName.ACTOR_NAME};
+    }
+
+    @Override
+    public Duration[] getTimerSLOs() {
+      return TIMER_SLOS;
+    }
+  },
   /** Time between scheduling and executing a job */
   SCHEDULING_LATENCY {
     private static final Duration[] TIMER_SLOS =
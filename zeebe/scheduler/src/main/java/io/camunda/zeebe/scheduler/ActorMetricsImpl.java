@@ -15,6 +15,8 @@ import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
 import java.util.EnumMap;
 import java.util.Map;
 import java.util.Objects;
@@ -22,6 +24,10 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
 final class ActorMetricsImpl implements ActorMetrics {
+  private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+  private static final boolean CPU_TIME_SUPPORTED =
+      THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported() && THREAD_MX_BEAN.isThreadCpuTimeEnabled();
+
   private final Map<SubscriptionType, Timer> schedulingLatency =
       new EnumMap<>(SubscriptionType.class);
   private final MeterRegistry registry;
@@ -49,6 +55,22 @@ final class ActorMetricsImpl implements ActorMetrics {
         .register(registry);
   }
 
+  private Timer createExecutionCpuTimer(final String actorName) {
+    return Timer.builder(EXECUTION_CPU_TIME.getName())
+        .description(EXECUTION_CPU_TIME.getDescription())
+        .tag(ActorMetricsKeyName.ACTOR_NAME.asString(), actorName)
+        .serviceLevelObjectives(EXECUTION_CPU_TIME.getTimerSLOs())
+        .register(registry);
+  }
+
+  private Timer createQueueWaitTimer(final String actorName) {
+    return Timer.builder(TASK_QUEUE_WAIT_LATENCY.getName())
+        .description(TASK_QUEUE_WAIT_LATENCY.getDescription())
+        .tag(ActorMetricsKeyName.ACTOR_NAME.asString(), actorName)
+        .serviceLevelObjectives(TASK_QUEUE_WAIT_LATENCY.getTimerSLOs())
+        .register(registry);
+  }
+
   private Counter createExecutionCount(final String actorName) {
     return Counter.builder(EXECUTION_COUNT.getName())
         .description(EXECUTION_COUNT.getDescription())
@@ -74,6 +96,8 @@ final class ActorMetricsImpl implements ActorMetrics {
     return new ActorMetricsScopedEnabled(
         registry,
         createExecutionTimer(actorName),
+        createExecutionCpuTimer(actorName),
+        createQueueWaitTimer(actorName),
         createJobQueueLength(actorName, jobQueueLength),
         jobQueueLength,
         createExecutionCount(actorName));
@@ -88,6 +112,8 @@ final class ActorMetricsImpl implements ActorMetrics {
   record ActorMetricsScopedEnabled(
       MeterRegistry registry,
       Timer executionLatency,
+      Timer executionCpuTime,
+      Timer queueWaitLatency,
       Gauge jobQueueLengthGauge,
       AtomicLong jobQueueLength,
       Counter executionCount)
@@ -97,6 +123,8 @@ final class ActorMetricsImpl implements ActorMetrics {
     public void close() {
       jobQueueLength.set(0);
       registry.remove(executionLatency);
+      registry.remove(executionCpuTime);
+      registry.remove(queueWaitLatency);
       registry.remove(jobQueueLengthGauge);
       registry.remove(executionCount);
     }
@@ -111,9 +139,24 @@ final class ActorMetricsImpl implements ActorMetrics {
       jobQueueLength.set(length);
     }
 
+    @Override
+    public void observeQueueWait(final long waitTimeNs) {
+      queueWaitLatency.record(waitTimeNs, TimeUnit.NANOSECONDS);
+    }
+
     @Override
     public CloseableSilently startExecutionTimer() {
-      return MicrometerUtil.timer(executionLatency, Timer.start(registry));
+      final var latencyTimer = MicrometerUtil.timer(executionLatency, Timer.start(registry));
+      if (!CPU_TIME_SUPPORTED) {
+        return latencyTimer;
+      }
+
+      final long cpuTimeStart = THREAD_MX_BEAN.getCurrentThreadCpuTime();
+      return () -> {
+        executionCpuTime.record(
+            THREAD_MX_BEAN.getCurrentThreadCpuTime() - cpuTimeStart, TimeUnit.NANOSECONDS);
+        latencyTimer.close();
+      };
     }
 
     @Override
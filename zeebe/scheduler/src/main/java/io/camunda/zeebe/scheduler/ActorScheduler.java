@@ -138,6 +138,7 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
     private Supplier<IdleStrategy> idleStrategySupplier =
         ActorSchedulerBuilder::defaultIdleStrategySupplier;
     private ActorMetrics actorMetrics = ActorMetrics.disabled();
+    private int highPriorityWeight = 0;
 
     public static IdleStrategy defaultIdleStrategySupplier() {
       return new BackoffIdleStrategy(
@@ -224,6 +225,28 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
       return ioBoundActorGroup;
     }
 
+    public int getHighPriorityWeight() {
+      return highPriorityWeight;
+    }
+
+    /**
+     * Enables weighted-fair scheduling between actors of {@link SchedulingPriority#HIGH high} and
+     * {@link SchedulingPriority#NORMAL normal} priority: each thread runs up to this many high
+     * priority tasks in a row before it runs a normal priority task, if any is waiting. With the
+     * default of 0, all actors are scheduled in the order they became ready.
+     *
+     * @param highPriorityWeight the number of high priority tasks to run per normal priority task
+     * @return this builder
+     */
+    public ActorSchedulerBuilder setHighPriorityWeight(final int highPriorityWeight) {
+      if (highPriorityWeight < 0) {
+        throw new IllegalArgumentException(
+            "Expected high priority weight to be non-negative, but was " + highPriorityWeight);
+      }
+      this.highPriorityWeight = highPriorityWeight;
+      return this;
+    }
+
     ActorMetrics getActorMetrics() {
       return actorMetrics;
     }
@@ -61,6 +61,8 @@ public class ActorTask {
   private volatile Queue<ActorJob> submittedJobs = new ClosedQueue();
 
   private ActorMetricsScoped metrics = ActorMetricsScoped.NOOP;
+  private boolean highPriority;
+  private long queuedAtNanos;
 
   public ActorTask(final Actor actor) {
     this.actor = actor;
@@ -69,6 +71,7 @@ public class ActorTask {
   /** called when the task is initially scheduled. */
   public ActorFuture<Void> onTaskScheduled(final ActorThreadGroup actorThreadGroup) {
     this.actorThreadGroup = actorThreadGroup;
+    highPriority = actor.getSchedulingPriority() == SchedulingPriority.HIGH;
     // reset previous state to allow re-scheduling
     closeFuture.close();
     closeFuture.setAwaitingResult();
@@ -546,6 +549,24 @@ public class ActorTask {
     metrics = scoped;
   }
 
+  boolean isHighPriority() {
+    return highPriority;
+  }
+
+  /** Called whenever the task is appended to a task queue, to measure how long it waits there. */
+  void onQueued() {
+    if (metrics.isEnabled()) {
+      queuedAtNanos = System.nanoTime();
+    }
+  }
+
+  /** Called when a thread picked up the task from a task queue, right before executing it. */
+  void onDequeued() {
+    if (metrics.isEnabled()) {
+      metrics.observeQueueWait(System.nanoTime() - queuedAtNanos);
+    }
+  }
+
   /** Describes an actor's scheduling state */
   public enum TaskSchedulingState {
     NOT_SCHEDULED,
@@ -100,6 +100,7 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
 
     if (currentTask != null) {
       final var metrics = currentTask.getActorMetrics();
+      currentTask.onDequeued();
       try (final var timer = metrics.startExecutionTimer()) {
         executeCurrentTask();
       } finally {
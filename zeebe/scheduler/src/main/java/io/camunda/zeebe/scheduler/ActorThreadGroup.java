@@ -32,7 +32,7 @@ public abstract class ActorThreadGroup {
     this.numOfThreads = numOfThreads;
     this.schedulerName = schedulerName;
 
-    tasks = new WorkStealingGroup(numOfThreads);
+    tasks = new WorkStealingGroup(numOfThreads, builder.getHighPriorityWeight());
 
     threads = new ActorThread[numOfThreads];
 
@@ -0,0 +1,20 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+/**
+ * The priority with which an actor is scheduled, relative to the other actors of the same thread
+ * group. Priorities only take effect if the scheduler is configured with a high priority weight,
+ * see {@link WorkStealingGroup}.
+ */
+public enum SchedulingPriority {
+  /** For actors on the critical path, such as the stream processors. */
+  HIGH,
+  /** For everything else, including background work such as taking snapshots or exporting. */
+  NORMAL
+}
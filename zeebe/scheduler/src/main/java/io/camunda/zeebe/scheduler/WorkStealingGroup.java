@@ -11,17 +11,38 @@ import static io.camunda.zeebe.scheduler.ActorTask.TaskSchedulingState.QUEUED;
 
 import java.util.concurrent.ThreadLocalRandom;
 
-/** Workstealing group maintains a queue per thread. */
+/**
+ * Workstealing group maintains a queue per thread.
+ *
+ * <p>With a positive high priority weight, it maintains a second queue per thread for actors with
+ * {@link SchedulingPriority#HIGH high priority}. A thread then runs up to that many high priority
+ * tasks in a row, before it gives a waiting normal priority task its turn. This way, a busy
+ * background actor can't delay the actors on the critical path by more than one task execution,
+ * while background actors still make progress under load.
+ */
 public final class WorkStealingGroup implements TaskScheduler {
   private final int numOfThreads;
+  private final int highPriorityWeight;
   private final ActorTaskQueue[] taskQueues;
+  private final ActorTaskQueue[] highPriorityTaskQueues;
+
+  /** Per thread, only accessed by the thread itself. */
+  private final int[] consecutiveHighPriorityTasks;
 
-  public WorkStealingGroup(final int numOfThreads) {
+  public WorkStealingGroup(final int numOfThreads, final int highPriorityWeight) {
     this.numOfThreads = numOfThreads;
-    taskQueues = new ActorTaskQueue[numOfThreads];
+    this.highPriorityWeight = highPriorityWeight;
+    taskQueues = newTaskQueues(numOfThreads);
+    highPriorityTaskQueues = highPriorityWeight > 0 ? newTaskQueues(numOfThreads) : taskQueues;
+    consecutiveHighPriorityTasks = new int[numOfThreads];
+  }
+
+  private static ActorTaskQueue[] newTaskQueues(final int numOfThreads) {
+    final var queues = new ActorTaskQueue[numOfThreads];
     for (int i = 0; i < numOfThreads; i++) {
-      taskQueues[i] = new ActorTaskQueue();
+      queues[i] = new ActorTaskQueue();
     }
+    return queues;
   }
 
   /**
@@ -32,7 +53,12 @@ public final class WorkStealingGroup implements TaskScheduler {
    */
   public void submit(final ActorTask task, final int threadId) {
     task.schedulingState.set(QUEUED);
-    taskQueues[threadId].append(task);
+    task.onQueued();
+    if (task.isHighPriority()) {
+      highPriorityTaskQueues[threadId].append(task);
+    } else {
+      taskQueues[threadId].append(task);
+    }
   }
 
   /**
@@ -43,10 +69,33 @@ public final class WorkStealingGroup implements TaskScheduler {
   @Override
   public ActorTask getNextTask() {
     final ActorThread currentThread = ActorThread.current();
-    ActorTask nextTask = taskQueues[currentThread.getRunnerId()].pop();
+    final int runnerId = currentThread.getRunnerId();
+    if (highPriorityWeight == 0) {
+      final ActorTask nextTask = taskQueues[runnerId].pop();
+      return nextTask != null ? nextTask : trySteal(currentThread, taskQueues);
+    }
+
+    final boolean preferHighPriority = consecutiveHighPriorityTasks[runnerId] < highPriorityWeight;
+    if (preferHighPriority) {
+      final ActorTask nextTask = highPriorityTaskQueues[runnerId].pop();
+      if (nextTask != null) {
+        consecutiveHighPriorityTasks[runnerId]++;
+        return nextTask;
+      }
+    }
+
+    consecutiveHighPriorityTasks[runnerId] = 0;
+    ActorTask nextTask = taskQueues[runnerId].pop();
+    if (nextTask == null && !preferHighPriority) {
+      nextTask = highPriorityTaskQueues[runnerId].pop();
+    }
+
+    if (nextTask == null) {
+      nextTask = trySteal(currentThread, highPriorityTaskQueues);
+    }
 
     if (nextTask == null) {
-      nextTask = trySteal(currentThread);
+      nextTask = trySteal(currentThread, taskQueues);
     }
 
     return nextTask;
@@ -59,7 +108,7 @@ public final class WorkStealingGroup implements TaskScheduler {
    * <p>Work stealing is a mechanism for <em>load balancing</em>: it relies upon the assumption that
    * there is more work to do than there is resources (threads) to run it.
    */
-  private ActorTask trySteal(final ActorThread currentThread) {
+  private ActorTask trySteal(final ActorThread currentThread, final ActorTaskQueue[] taskQueues) {
     /*
      * This implementation uses a random offset into the runner array. The idea is to
      *
@@ -0,0 +1,68 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import io.camunda.zeebe.scheduler.ActorMetricsDoc.ActorMetricsKeyName;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+final class ActorMetricsTest {
+
+  private static final String ACTOR_NAME = "measured";
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private final ActorScheduler scheduler =
+      ActorScheduler.newActorScheduler()
+          .setCpuBoundActorThreadCount(1)
+          .setIoBoundActorThreadCount(1)
+          .setMeterRegistry(registry)
+          .build();
+
+  @AfterEach
+  void tearDown() throws Exception {
+    scheduler.close();
+  }
+
+  @Test
+  void shouldMeasureCpuTimeAndQueueWaitPerActor() {
+    // given
+    scheduler.start();
+    final var actor =
+        new Actor() {
+          @Override
+          public String getName() {
+            return ACTOR_NAME;
+          }
+        };
+    scheduler.submitActor(actor).join(5, TimeUnit.SECONDS);
+
+    // when
+    actor.call(() -> null).join(5, TimeUnit.SECONDS);
+
+    // then
+    await()
+        .untilAsserted(
+            () -> {
+              assertThat(timer(ActorMetricsDoc.TASK_QUEUE_WAIT_LATENCY).count()).isPositive();
+              assertThat(timer(ActorMetricsDoc.EXECUTION_CPU_TIME).count()).isPositive();
+            });
+  }
+
+  private Timer timer(final ActorMetricsDoc doc) {
+    return registry
+        .get(doc.getName())
+        .tag(ActorMetricsKeyName.ACTOR_NAME.asString(), ACTOR_NAME)
+        .timer();
+  }
+}
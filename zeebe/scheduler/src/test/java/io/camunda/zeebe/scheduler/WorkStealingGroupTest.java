@@ -0,0 +1,150 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+final class WorkStealingGroupTest {
+
+  private final List<String> executions = new CopyOnWriteArrayList<>();
+  private ActorScheduler scheduler;
+
+  @AfterEach
+  void tearDown() throws Exception {
+    if (scheduler != null) {
+      scheduler.close();
+    }
+  }
+
+  @Test
+  void shouldRunHighPriorityTasksAheadOfNormalPriorityTasks() throws Exception {
+    // given
+    startScheduler(2);
+    final var high1 = startActor("high-1", SchedulingPriority.HIGH);
+    final var high2 = startActor("high-2", SchedulingPriority.HIGH);
+    final var high3 = startActor("high-3", SchedulingPriority.HIGH);
+    final var normal1 = startActor("normal-1", SchedulingPriority.NORMAL);
+    final var normal2 = startActor("normal-2", SchedulingPriority.NORMAL);
+
+    // when - all tasks become ready while the only thread is busy
+    final var release = blockThread();
+    normal1.record();
+    normal2.record();
+    high1.record();
+    high2.record();
+    high3.record();
+    release.countDown();
+
+    // then - every second task may be of normal priority
+    awaitExecutions(5);
+    assertThat(executions).containsExactly("high-1", "high-2", "normal-1", "high-3", "normal-2");
+  }
+
+  @Test
+  void shouldRunTasksInOrderWithoutHighPriorityWeight() throws Exception {
+    // given
+    startScheduler(0);
+    final var high1 = startActor("high-1", SchedulingPriority.HIGH);
+    final var high2 = startActor("high-2", SchedulingPriority.HIGH);
+    final var normal1 = startActor("normal-1", SchedulingPriority.NORMAL);
+    final var normal2 = startActor("normal-2", SchedulingPriority.NORMAL);
+
+    // when
+    final var release = blockThread();
+    normal1.record();
+    high1.record();
+    normal2.record();
+    high2.record();
+    release.countDown();
+
+    // then
+    awaitExecutions(4);
+    assertThat(executions).containsExactly("normal-1", "high-1", "normal-2", "high-2");
+  }
+
+  @Test
+  void shouldRejectNegativeHighPriorityWeight() {
+    // when - then
+    assertThatThrownBy(() -> ActorScheduler.newActorScheduler().setHighPriorityWeight(-1))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private void startScheduler(final int highPriorityWeight) {
+    scheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(1)
+            .setHighPriorityWeight(highPriorityWeight)
+            .build();
+    scheduler.start();
+  }
+
+  private RecordingActor startActor(final String name, final SchedulingPriority priority) {
+    final var actor = new RecordingActor(name, priority);
+    scheduler.submitActor(actor).join(5, TimeUnit.SECONDS);
+    return actor;
+  }
+
+  private CountDownLatch blockThread() throws InterruptedException {
+    final var blocked = new CountDownLatch(1);
+    final var release = new CountDownLatch(1);
+    final var blocker =
+        Actor.wrap(
+            control ->
+                control.run(
+                    () -> {
+                      blocked.countDown();
+                      try {
+                        release.await();
+                      } catch (final InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                      }
+                    }));
+    scheduler.submitActor(blocker);
+    assertThat(blocked.await(5, TimeUnit.SECONDS)).isTrue();
+    return release;
+  }
+
+  private void awaitExecutions(final int count) {
+    await().atMost(Duration.ofSeconds(5)).until(() -> executions.size() >= count);
+  }
+
+  private final class RecordingActor extends Actor {
+    private final String name;
+    private final SchedulingPriority priority;
+
+    private RecordingActor(final String name, final SchedulingPriority priority) {
+      this.name = name;
+      this.priority = priority;
+    }
+
+    @Override
+    public String getName() {
+      return name;
+    }
+
+    @Override
+    public SchedulingPriority getSchedulingPriority() {
+      return priority;
+    }
+
+    private void record() {
+      actor.run(() -> executions.add(name));
+    }
+  }
+}
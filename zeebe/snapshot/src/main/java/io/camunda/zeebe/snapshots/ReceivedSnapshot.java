@@ -8,6 +8,9 @@
 package io.camunda.zeebe.snapshots;
 
 import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * A received volatile snapshot, which consist of several {@link SnapshotChunk}'s. It can be
@@ -30,4 +33,18 @@ public interface ReceivedSnapshot extends PersistableSnapshot {
    * @param chunk the {@link SnapshotChunk} which should be applied
    */
   ActorFuture<Void> apply(SnapshotChunk chunk);
+
+  /**
+   * Reuses the files of the latest persisted snapshot which are equal to files of this snapshot,
+   * such that they don't have to be received again. A file is only reused if both its size and its
+   * checksum match. Chunks of reused files are ignored when they are applied.
+   *
+   * @param checksums the checksums of all files of this snapshot, by file name
+   * @param sizes the sizes of all files of this snapshot in bytes, by file name
+   * @return the names of the reused files
+   */
+  default ActorFuture<Set<String>> reuseFiles(
+      final Map<String, Long> checksums, final Map<String, Long> sizes) {
+    return CompletableActorFuture.completed(Set.of());
+  }
 }
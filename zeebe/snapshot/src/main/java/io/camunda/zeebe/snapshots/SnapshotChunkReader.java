@@ -9,6 +9,7 @@ package io.camunda.zeebe.snapshots;
 
 import io.camunda.zeebe.util.CloseableSilently;
 import java.nio.ByteBuffer;
+import java.util.Collection;
 import java.util.Iterator;
 
 /**
@@ -41,4 +42,12 @@ public interface SnapshotChunkReader extends Iterator<SnapshotChunk>, CloseableS
    * @param maximumChunkSize
    */
   void setMaximumChunkSize(final int maximumChunkSize);
+
+  /**
+   * Excludes the chunks with the given names from the remaining chunks, e.g. because the receiver
+   * already has them. The last chunk is never skipped, since it completes the snapshot.
+   *
+   * @param chunkNames the names of the chunks to skip
+   */
+  default void skip(final Collection<String> chunkNames) {}
 }
@@ -18,10 +18,14 @@ import io.camunda.zeebe.util.FileUtil;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -40,6 +44,7 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
   private ByteBuffer metadataBuffer;
   private long writtenMetadataBytes;
   private SfvChecksumImpl checksumCollection;
+  private final Set<String> reusedFiles = new HashSet<>();
 
   FileBasedReceivedSnapshot(
       final FileBasedSnapshotId snapshotId,
@@ -85,6 +90,13 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
       return;
     }
 
+    if (reusedFiles.contains(chunkName)) {
+      LOGGER.trace(
+          "Ignore snapshot snapshotChunk {}, because it was reused from the latest snapshot.",
+          chunkName);
+      return;
+    }
+
     checkChunkChecksumIsValid(snapshotChunk, snapshotId, chunkName);
 
     final var tmpSnapshotDirectory = directory;
@@ -100,11 +112,8 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     LOGGER.trace("Consume snapshot snapshotChunk {} of snapshot {}", chunkName, snapshotId);
     writeReceivedSnapshotChunk(snapshotChunk, snapshotFile);
 
-    if (checksumCollection == null) {
-      checksumCollection = new SfvChecksumImpl();
-    }
-    checksumCollection.updateFromBytes(
-        snapshotFile.getFileName().toString(), snapshotChunk.getContent());
+    checksumCollection()
+        .updateFromBytes(snapshotFile.getFileName().toString(), snapshotChunk.getContent());
 
     if (snapshotChunk.getChunkName().equals(FileBasedSnapshotStoreImpl.METADATA_FILE_NAME)) {
       try {
@@ -115,6 +124,115 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     }
   }
 
+  @Override
+  public ActorFuture<Set<String>> reuseFiles(
+      final Map<String, Long> checksums, final Map<String, Long> sizes) {
+    return actor.call(() -> reuseFilesInternal(checksums, sizes));
+  }
+
+  private Set<String> reuseFilesInternal(
+      final Map<String, Long> checksums, final Map<String, Long> sizes)
+      throws SnapshotWriteException {
+    final var latestSnapshot = snapshotStore.getLatestSnapshot();
+    if (latestSnapshot.isEmpty()
+        || snapshotStore.hasSnapshotId(snapshotId.getSnapshotIdAsString())) {
+      return Set.of();
+    }
+
+    try {
+      FileUtil.ensureDirectoryExists(directory);
+    } catch (final IOException e) {
+      throw new SnapshotWriteException(
+          String.format("Failed to ensure that directory %s exists.", directory), e);
+    }
+
+    final var latestSnapshotPath = latestSnapshot.get().getPath();
+    final var latestChecksums = latestSnapshot.get().getChecksums().getChecksums();
+    for (final var file : checksums.entrySet()) {
+      final var fileName = file.getKey();
+      final var snapshotFile = directory.resolve(fileName);
+      final var latestFile = latestSnapshotPath.resolve(fileName);
+      // the metadata is collected from the received chunks, and files which already exist are
+      // being received; writing to a reused file would modify the latest snapshot as well
+      if (fileName.equals(FileBasedSnapshotStoreImpl.METADATA_FILE_NAME)
+          || !file.getValue().equals(latestChecksums.get(fileName))
+          || !hasSize(latestFile, sizes.get(fileName))
+          || Files.exists(snapshotFile)) {
+        continue;
+      }
+
+      try {
+        // snapshot files are never modified, so both snapshots can share them
+        Files.createLink(snapshotFile, latestFile);
+        // the recorded checksum may be outdated if the file was corrupted since, so verify it
+        final var actualChecksum = SnapshotChunkUtil.createChecksum(snapshotFile);
+        if (actualChecksum != file.getValue()) {
+          LOGGER.warn(
+              "Expected file {} of snapshot {} to have checksum {}, but calculated {}; it will be received instead",
+              fileName,
+              latestSnapshot.get().getId(),
+              file.getValue(),
+              actualChecksum);
+          deleteReusedFile(snapshotFile);
+          continue;
+        }
+      } catch (final IOException e) {
+        LOGGER.debug(
+            "Failed to reuse file {} of snapshot {}, it will be received instead",
+            fileName,
+            latestSnapshot.get().getId(),
+            e);
+        deleteReusedFile(snapshotFile);
+        continue;
+      }
+
+      reusedFiles.add(fileName);
+      checksumCollection().updateFromChecksum(snapshotFile, file.getValue());
+    }
+
+    if (!reusedFiles.isEmpty()) {
+      try {
+        FileUtil.flushDirectory(directory);
+      } catch (final IOException e) {
+        throw new SnapshotWriteException(
+            String.format("Failed to flush directory %s", directory), e);
+      }
+    }
+
+    LOGGER.debug(
+        "Reused {} of {} files of snapshot {} from snapshot {}",
+        reusedFiles.size(),
+        checksums.size(),
+        snapshotId,
+        latestSnapshot.get().getId());
+    return Set.copyOf(reusedFiles);
+  }
+
+  private boolean hasSize(final Path file, final Long expectedSize) {
+    try {
+      return expectedSize != null && Files.size(file) == expectedSize;
+    } catch (final IOException e) {
+      return false;
+    }
+  }
+
+  private void deleteReusedFile(final Path file) throws SnapshotWriteException {
+    try {
+      Files.deleteIfExists(file);
+    } catch (final IOException e) {
+      // receiving the file would write through the link into the latest snapshot
+      throw new SnapshotWriteException(
+          String.format("Failed to delete file %s which couldn't be reused", file), e);
+    }
+  }
+
+  private SfvChecksumImpl checksumCollection() {
+    if (checksumCollection == null) {
+      checksumCollection = new SfvChecksumImpl();
+    }
+    return checksumCollection;
+  }
+
   private void collectMetadata(final SnapshotChunk chunk) throws IOException {
     if (metadataBuffer == null) {
       metadataBuffer = ByteBuffer.allocate(Math.toIntExact(chunk.getTotalFileSize()));
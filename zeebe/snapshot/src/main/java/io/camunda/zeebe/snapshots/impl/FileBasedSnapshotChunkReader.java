@@ -15,6 +15,7 @@ import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.NavigableSet;
 import java.util.TreeSet;
 
@@ -89,6 +90,22 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
     this.maximumChunkSize = maximumChunkSize;
   }
 
+  @Override
+  public void skip(final Collection<String> chunkNames) {
+    if (chunks.isEmpty()) {
+      return;
+    }
+
+    final var lastChunk = chunks.last();
+    for (final var chunkName : chunkNames) {
+      // the last chunk completes the snapshot, so it is always sent
+      if (!lastChunk.toString().equals(chunkName)) {
+        chunks.remove(chunkName);
+        chunksView.remove(chunkName);
+      }
+    }
+  }
+
   @Override
   public void close() {
     chunks.clear();
@@ -8,8 +8,14 @@
 package io.camunda.zeebe.snapshots.impl;
 
 import io.camunda.zeebe.snapshots.SnapshotChunk;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.zip.CRC32C;
 import java.util.zip.Checksum;
+import org.agrona.IoUtil;
 
 final class SnapshotChunkUtil {
 
@@ -21,6 +27,19 @@ final class SnapshotChunkUtil {
     return checksum.getValue();
   }
 
+  static long createChecksum(final Path file) throws IOException {
+    final Checksum checksum = newChecksum();
+    final ByteBuffer readBuffer = ByteBuffer.allocate(IoUtil.BLOCK_SIZE);
+    try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      while (channel.read(readBuffer) > 0) {
+        readBuffer.flip();
+        checksum.update(readBuffer);
+        readBuffer.clear();
+      }
+    }
+    return checksum.getValue();
+  }
+
   static Checksum newChecksum() {
     return new CRC32C();
   }
@@ -27,7 +27,9 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
 import org.assertj.core.api.Assertions;
 import org.junit.Before;
@@ -349,6 +351,136 @@ public class FileBasedReceivedSnapshotTest {
     }
   }
 
+  @Test
+  public void shouldReuseFilesOfLatestSnapshot() throws IOException {
+    // given
+    final var previousSnapshot = receiveSnapshot(takePersistedSnapshot(1L)).persist().join();
+    final var persistedSnapshot = takePersistedSnapshot(2L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
+
+    // when
+    final Set<String> reusedFiles;
+    try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
+      receivedSnapshot.apply(snapshotChunkReader.next()).join();
+      reusedFiles =
+          receivedSnapshot
+              .reuseFiles(
+                  persistedSnapshot.getChecksums().getChecksums(), fileSizes(persistedSnapshot))
+              .join();
+      snapshotChunkReader.skip(reusedFiles);
+      while (snapshotChunkReader.hasNext()) {
+        receivedSnapshot.apply(snapshotChunkReader.next()).join();
+      }
+    }
+    final var receivedPersistedSnapshot = receivedSnapshot.persist().join();
+
+    // then - the first file was received already, and the metadata is always received
+    assertThat(reusedFiles).containsExactly("file2");
+    assertThat(
+            receivedPersistedSnapshot
+                .getChecksums()
+                .sameChecksums(persistedSnapshot.getChecksums()))
+        .isTrue();
+    assertThat(previousSnapshot.getPath()).doesNotExist();
+    assertThat(receivedPersistedSnapshot.getPath().resolve("file2"))
+        .hasContent(SNAPSHOT_FILE_CONTENTS.get("file2"));
+  }
+
+  @Test
+  public void shouldNotReuseFilesWithDifferentChecksums() throws IOException {
+    // given
+    receiveSnapshot(takePersistedSnapshot(1L)).persist().join();
+    final var persistedSnapshot = takePersistedSnapshot(2L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
+    final var checksums = new HashMap<>(persistedSnapshot.getChecksums().getChecksums());
+    checksums.replaceAll((fileName, checksum) -> checksum + 1);
+
+    // when
+    final var reusedFiles =
+        receivedSnapshot.reuseFiles(checksums, fileSizes(persistedSnapshot)).join();
+
+    // then
+    assertThat(reusedFiles).isEmpty();
+  }
+
+  @Test
+  public void shouldNotReuseFilesWithDifferentSizes() throws IOException {
+    // given
+    receiveSnapshot(takePersistedSnapshot(1L)).persist().join();
+    final var persistedSnapshot = takePersistedSnapshot(2L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
+    final var sizes = fileSizes(persistedSnapshot);
+    sizes.replaceAll((fileName, size) -> size + 1);
+
+    // when
+    final var reusedFiles =
+        receivedSnapshot.reuseFiles(persistedSnapshot.getChecksums().getChecksums(), sizes).join();
+
+    // then
+    assertThat(reusedFiles).isEmpty();
+  }
+
+  @Test
+  public void shouldNotReuseFilesWhichDontMatchTheirChecksum() throws IOException {
+    // given - a file of the latest snapshot was corrupted after its checksum was recorded
+    final var previousSnapshot = receiveSnapshot(takePersistedSnapshot(1L)).persist().join();
+    Files.writeString(previousSnapshot.getPath().resolve("file2"), "file2 CONTENTS");
+    final var persistedSnapshot = takePersistedSnapshot(2L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
+
+    // when
+    final var reusedFiles =
+        receivedSnapshot
+            .reuseFiles(
+                persistedSnapshot.getChecksums().getChecksums(), fileSizes(persistedSnapshot))
+            .join();
+
+    // then
+    assertThat(reusedFiles).isEmpty();
+    assertThat(receivedSnapshot.getPath().resolve("file2")).doesNotExist();
+  }
+
+  @Test
+  public void shouldIgnoreChunksOfReusedFiles() throws IOException {
+    // given
+    final var previousSnapshot = receiveSnapshot(takePersistedSnapshot(1L)).persist().join();
+    final var persistedSnapshot = takePersistedSnapshot(2L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
+    receivedSnapshot
+        .reuseFiles(persistedSnapshot.getChecksums().getChecksums(), fileSizes(persistedSnapshot))
+        .join();
+
+    // when - the sender didn't skip the reused files
+    try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
+      while (snapshotChunkReader.hasNext()) {
+        receivedSnapshot.apply(snapshotChunkReader.next()).join();
+      }
+    }
+    final var receivedPersistedSnapshot = receivedSnapshot.persist().join();
+
+    // then
+    assertThat(
+            receivedPersistedSnapshot
+                .getChecksums()
+                .sameChecksums(persistedSnapshot.getChecksums()))
+        .isTrue();
+    assertThat(previousSnapshot.getPath()).doesNotExist();
+  }
+
+  private Map<String, Long> fileSizes(final PersistedSnapshot persistedSnapshot)
+      throws IOException {
+    final var sizes = new HashMap<String, Long>();
+    for (final var fileName : persistedSnapshot.getChecksums().getChecksums().keySet()) {
+      sizes.put(fileName, Files.size(persistedSnapshot.getPath().resolve(fileName)));
+    }
+    return sizes;
+  }
+
   private ReceivedSnapshot receiveSnapshot(final PersistedSnapshot persistedSnapshot) {
     final var receivedSnapshot =
         receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
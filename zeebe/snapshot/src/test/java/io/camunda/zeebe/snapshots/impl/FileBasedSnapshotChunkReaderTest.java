@@ -164,6 +164,60 @@ public final class FileBasedSnapshotChunkReaderTest {
     assertThat(snapshotChunkIds).containsExactly("file1", "file2", "file3");
   }
 
+  @Test
+  public void shouldSkipChunks() throws IOException {
+    // given
+    final var snapshotChunkIds = new ArrayList<String>();
+    try (final var snapshotChunkReader = newReader()) {
+      // when
+      snapshotChunkReader.skip(List.of("file2"));
+
+      while (snapshotChunkReader.hasNext()) {
+        snapshotChunkIds.add(snapshotChunkReader.next().getChunkName());
+      }
+    }
+
+    // then
+    assertThat(snapshotChunkIds).containsExactly("file1", "file3");
+  }
+
+  @Test
+  public void shouldNotSkipLastChunk() throws IOException {
+    // given
+    final var snapshotChunkIds = new ArrayList<String>();
+    try (final var snapshotChunkReader = newReader()) {
+      // when
+      snapshotChunkReader.skip(List.of("file2", "file3"));
+
+      while (snapshotChunkReader.hasNext()) {
+        snapshotChunkIds.add(snapshotChunkReader.next().getChunkName());
+      }
+    }
+
+    // then
+    assertThat(snapshotChunkIds).containsExactly("file1", "file3");
+  }
+
+  @Test
+  public void shouldSeekToChunkAfterSkippedChunk() throws IOException {
+    // given
+    final var snapshotChunkIds = new ArrayList<String>();
+    try (final var snapshotChunkReader = newReader()) {
+      snapshotChunkReader.next();
+      snapshotChunkReader.skip(List.of("file2"));
+
+      // when
+      snapshotChunkReader.seek(asByteBuffer("file2__0"));
+
+      while (snapshotChunkReader.hasNext()) {
+        snapshotChunkIds.add(snapshotChunkReader.next().getChunkName());
+      }
+    }
+
+    // then
+    assertThat(snapshotChunkIds).containsExactly("file3");
+  }
+
   @Test
   public void shouldThrowExceptionOnReachingLimit() throws IOException {
     // given
@@ -105,4 +105,23 @@ public interface RecordProcessor {
       Throwable processingException,
       TypedRecord record,
       ProcessingResultBuilder processingResultBuilder);
+
+  /**
+   * Called by platform after the changes made while processing were rolled back.
+   *
+   * <p><em>Contract</em>
+   *
+   * <ul>
+   *   <li>Will be called after the transaction was rolled back, e.g. because {@link
+   *       #process(TypedRecord, ProcessingResultBuilder)} failed, and before the command is
+   *       processed again or {@link #onProcessingError(Throwable, TypedRecord,
+   *       ProcessingResultBuilder)} is called
+   *   <li>Will also be called after only the changes of a command processed ahead were rolled back
+   *       to a savepoint, in which case the changes made before the savepoint are kept
+   *   <li>Implementors must discard in-memory state which was derived from the rolled back changes
+   *   <li>Implementors can read from the database, which doesn't contain the rolled back changes
+   *       anymore
+   * </ul>
+   */
+  default void onRollback() {}
 }
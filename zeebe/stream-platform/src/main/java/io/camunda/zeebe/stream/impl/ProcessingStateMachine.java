@@ -10,6 +10,7 @@ package io.camunda.zeebe.stream.impl;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
 import io.camunda.zeebe.logstreams.impl.Loggers;
+import io.camunda.zeebe.logstreams.impl.log.LoggedEventImpl;
 import io.camunda.zeebe.logstreams.log.LogAppendEntry;
 import io.camunda.zeebe.logstreams.log.LogStreamReader;
 import io.camunda.zeebe.logstreams.log.LogStreamWriter;
@@ -54,6 +55,7 @@ import java.util.Collections;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.function.BooleanSupplier;
+import org.agrona.ExpandableArrayBuffer;
 import org.slf4j.Logger;
 
 /**
@@ -94,6 +96,14 @@ import org.slf4j.Logger;
  *                                       +-----+
  *
  * </pre>
+ *
+ * <p>With pipelined processing enabled, the next command is processed ahead, right after the
+ * records of the current command were handed over to be written. It is processed in the same
+ * transaction, on top of the uncommitted changes of the current command, after a savepoint which
+ * allows discarding its changes alone. Its records are written after the current ones, and the
+ * changes of both commands are committed together, before their side effects are executed in order.
+ * If the command processed ahead fails, or the current one can't be written, the command processed
+ * ahead is discarded and processed again as usual.
  */
 public final class ProcessingStateMachine {
 
@@ -127,7 +137,7 @@ public final class ProcessingStateMachine {
             return recordType == RecordType.EVENT || recordType == RecordType.COMMAND_REJECTION;
           });
   private final MutableLastProcessedPositionState lastProcessedPositionState;
-  private final RecordMetadata metadata = new RecordMetadata();
+  private RecordMetadata metadata = new RecordMetadata();
   private final ActorControl actor;
   private final LogStreamReader logStreamReader;
   private final TransactionContext transactionContext;
@@ -136,8 +146,8 @@ public final class ProcessingStateMachine {
   private final RetryStrategy updateStateRetryStrategy;
   private final BooleanSupplier shouldProcessNext;
   private final BooleanSupplier abortCondition;
-  private final RecordValues recordValues;
-  private final TypedRecordImpl typedCommand;
+  private RecordValues recordValues;
+  private TypedRecordImpl typedCommand;
   private final StreamProcessorListener streamProcessorListener;
   // current iteration
   private LoggedEvent currentRecord;
@@ -163,6 +173,18 @@ public final class ProcessingStateMachine {
   private final ScheduledCommandCache scheduledCommandCache;
   private volatile ErrorHandlingPhase errorHandlingPhase = ErrorHandlingPhase.NO_ERROR;
   private final ControllableStreamClock clock;
+  // pipelined processing
+  private final boolean enablePipelinedProcessing;
+  private final LoggedEventImpl detachedRecord = new LoggedEventImpl();
+  private final ExpandableArrayBuffer detachedRecordBuffer = new ExpandableArrayBuffer();
+  // the command is read into these when processing it ahead, as the current one is still used
+  private RecordMetadata spareMetadata;
+  private TypedRecordImpl spareTypedCommand;
+  private RecordValues spareRecordValues;
+  // processed ahead, waiting for the records of the current command to be written
+  private ProcessedCommand aheadCommand;
+  // records written, waiting for the command processed ahead to be committed together
+  private ProcessedCommand writtenCommand;
 
   public ProcessingStateMachine(
       final StreamProcessorContext context,
@@ -197,6 +219,13 @@ public final class ProcessingStateMachine {
             .and(record -> !record.shouldSkipProcessing())
             .and(context.processingFilter());
     clock = context.getClock();
+
+    enablePipelinedProcessing = context.enablePipelinedProcessing();
+    if (enablePipelinedProcessing) {
+      spareMetadata = new RecordMetadata();
+      spareTypedCommand = new TypedRecordImpl(partitionId);
+      spareRecordValues = new RecordValues();
+    }
   }
 
   private void skipRecord() {
@@ -264,25 +293,9 @@ public final class ProcessingStateMachine {
     loggedEvent.readMetadata(metadata);
 
     try {
-      // Here we need to get the current time, since we want to calculate
-      // how long it took between writing to the dispatcher and processing.
-      // In all other cases we should prefer to use the Prometheus Timer API.
-      processingMetrics.processingLatency(loggedEvent.getTimestamp(), clock.millis());
-      processingTimer =
-          processingMetrics.startProcessingDurationTimer(
-              metadata.getValueType(), metadata.getIntent());
-
-      final var value = recordValues.readRecordValue(loggedEvent, metadata.getValueType());
-      typedCommand.wrap(loggedEvent, metadata, value);
-
-      zeebeDbTransaction = transactionContext.getCurrentTransaction();
-      try (final var timer = processingMetrics.startBatchProcessingDurationTimer()) {
-        zeebeDbTransaction.run(() -> batchProcessing(typedCommand));
-        processingMetrics.observeCommandCount(processedCommandsCount);
-      }
-
-      finalizeCommandProcessing();
+      processInTransaction(loggedEvent);
       writeRecords();
+      tryToProcessAhead();
     } catch (final RecoverableException recoverableException) {
       // recoverable
       LOG.error(
@@ -321,6 +334,176 @@ public final class ProcessingStateMachine {
     }
   }
 
+  private void processInTransaction(final LoggedEvent loggedEvent) throws Exception {
+    // Here we need to get the current time, since we want to calculate
+    // how long it took between writing to the dispatcher and processing.
+    // In all other cases we should prefer to use the Prometheus Timer API.
+    processingMetrics.processingLatency(loggedEvent.getTimestamp(), clock.millis());
+    processingTimer =
+        processingMetrics.startProcessingDurationTimer(
+            metadata.getValueType(), metadata.getIntent());
+
+    final var value = recordValues.readRecordValue(loggedEvent, metadata.getValueType());
+    typedCommand.wrap(loggedEvent, metadata, value);
+
+    zeebeDbTransaction = transactionContext.getCurrentTransaction();
+    try (final var timer = processingMetrics.startBatchProcessingDurationTimer()) {
+      zeebeDbTransaction.run(() -> batchProcessing(typedCommand));
+      processingMetrics.observeCommandCount(processedCommandsCount);
+    }
+
+    finalizeCommandProcessing();
+  }
+
+  /**
+   * Processes the next command ahead, if pipelined processing is enabled and the next record is a
+   * command to process. Otherwise, or if processing it ahead fails, the next record is read as
+   * usual once the current command is done.
+   *
+   * <p>Must be called after the records of the current command were handed over to be written.
+   */
+  private void tryToProcessAhead() {
+    if (!enablePipelinedProcessing
+        || aheadCommand != null
+        || writtenCommand != null
+        || errorHandlingPhase != ErrorHandlingPhase.NO_ERROR
+        || !shouldProcessNext.getAsBoolean()
+        || !logStreamReader.hasNext()
+        || !processingFilter.applies(logStreamReader.peekNext())) {
+      return;
+    }
+
+    final var aheadPosition = logStreamReader.peekNext().getPosition();
+    try {
+      zeebeDbTransaction.setSavepoint();
+    } catch (final Exception e) {
+      LOG.debug("Expected to set a savepoint to process the next command ahead, but failed", e);
+      return;
+    }
+
+    detachCurrentCommand();
+    final var current = captureCommand();
+    swapSpareObjects();
+
+    currentRecord = logStreamReader.next();
+    currentProcessingResult = EmptyProcessingResult.INSTANCE;
+    metadata.reset();
+    currentRecord.readMetadata(metadata);
+    try {
+      processInTransaction(currentRecord);
+      aheadCommand = captureCommand();
+    } catch (final Exception e) {
+      LOG.debug(
+          "Expected to process command '{} {}' ahead, but caught exception. Discard it and process it again.",
+          currentRecord,
+          metadata,
+          e);
+      processedCommandsCount = 0;
+      if (processingTimer != current.processingTimer()) {
+        processingTimer.close();
+      }
+      discardAheadChanges(aheadPosition);
+    }
+
+    swapSpareObjects();
+    restoreCommand(current);
+  }
+
+  /**
+   * Copies the current command, such that it remains valid after the reader moved on to the next
+   * one. The command's value is read again from the copy, as it wraps the record's buffer.
+   */
+  private void detachCurrentCommand() {
+    currentRecord.write(detachedRecordBuffer, 0);
+    detachedRecord.wrap(detachedRecordBuffer, 0);
+    currentRecord = detachedRecord;
+
+    final var value = recordValues.readRecordValue(detachedRecord, metadata.getValueType());
+    typedCommand.wrap(detachedRecord, metadata, value);
+  }
+
+  /**
+   * Rolls back the changes made after the savepoint, i.e. the changes of the command processed
+   * ahead, and seeks the reader back to that command to process it again. The record processors
+   * are notified about the rollback, as they may keep in-memory state derived from these changes.
+   */
+  private void discardAheadChanges(final long aheadPosition) {
+    try {
+      zeebeDbTransaction.rollbackToSavepoint();
+    } catch (final Exception e) {
+      throw new UnrecoverableException(
+          "Expected to roll back the changes of the command processed ahead, but failed", e);
+    }
+    recordProcessors.forEach(RecordProcessor::onRollback);
+    logStreamReader.seek(aheadPosition);
+  }
+
+  /**
+   * Writes the records of the command processed ahead, once the records of the current command were
+   * written. The changes of both commands are committed together afterwards.
+   */
+  private void writeAheadCommand() {
+    writtenCommand = captureCommand();
+    swapSpareObjects();
+    restoreCommand(aheadCommand);
+    aheadCommand = null;
+    writeRecords();
+  }
+
+  /**
+   * Discards the command processed ahead after its records could not be written. The records of the
+   * previous command were written already, so only the changes made after the savepoint are rolled
+   * back, and the previous command is completed as usual.
+   */
+  private void revertToWrittenCommand() {
+    processingTimer.close();
+    discardAheadChanges(currentRecord.getPosition());
+    swapSpareObjects();
+    restoreCommand(writtenCommand);
+    writtenPosition = writtenCommand.writtenPosition();
+    writtenCommand = null;
+  }
+
+  private ProcessedCommand captureCommand() {
+    return new ProcessedCommand(
+        currentRecord,
+        metadata,
+        typedCommand,
+        currentProcessor,
+        currentProcessingResult,
+        pendingWrites,
+        pendingResponses,
+        processingTimer,
+        writtenPosition);
+  }
+
+  /**
+   * Restores the processing state of the given command. The objects the command was read into are
+   * not restored, but must be swapped back via {@link #swapSpareObjects()}.
+   */
+  private void restoreCommand(final ProcessedCommand command) {
+    currentRecord = command.record();
+    currentProcessor = command.processor();
+    currentProcessingResult = command.processingResult();
+    pendingWrites = command.pendingWrites();
+    pendingResponses = command.pendingResponses();
+    processingTimer = command.processingTimer();
+  }
+
+  private void swapSpareObjects() {
+    final var currentMetadata = metadata;
+    metadata = spareMetadata;
+    spareMetadata = currentMetadata;
+
+    final var currentTypedCommand = typedCommand;
+    typedCommand = spareTypedCommand;
+    spareTypedCommand = currentTypedCommand;
+
+    final var currentRecordValues = recordValues;
+    recordValues = spareRecordValues;
+    spareRecordValues = currentRecordValues;
+  }
+
   /**
    * Finalize the command processing, which includes certain clean-up tasks, like mark the command
    * as processed and reset transient processing state, etc.
@@ -438,6 +621,7 @@ public final class ProcessingStateMachine {
         updateStateRetryStrategy.runWithRetry(
             () -> {
               zeebeDbTransaction.rollback();
+              recordProcessors.forEach(RecordProcessor::onRollback);
               return true;
             },
             abortCondition);
@@ -594,12 +778,13 @@ public final class ProcessingStateMachine {
       // means we will not mark the record as skipped
       writeFuture = CompletableActorFuture.completed(true);
     } else {
+      final var writes = pendingWrites;
       writeFuture =
           writeRetryStrategy.runWithRetry(
               () -> {
                 final var writeResult =
                     logStreamWriter.tryWrite(
-                        WriteContext.processingResult(), pendingWrites, sourceRecordPosition);
+                        WriteContext.processingResult(), writes, sourceRecordPosition);
                 if (writeResult.isRight()) {
                   writtenPosition = writeResult.get();
                   return true;
@@ -619,6 +804,17 @@ public final class ProcessingStateMachine {
         (bool, t) -> {
           if (t != null) {
             LOG.error(ERROR_MESSAGE_WRITE_RECORD_ABORTED, currentRecord, metadata, t);
+            if (writtenCommand != null) {
+              revertToWrittenCommand();
+              updateState();
+              return;
+            }
+            if (aheadCommand != null) {
+              // its changes are rolled back together with the ones of the current command
+              aheadCommand.processingTimer().close();
+              logStreamReader.seek(aheadCommand.record().getPosition());
+              aheadCommand = null;
+            }
             onError(
                 t,
                 () -> {
@@ -629,9 +825,14 @@ public final class ProcessingStateMachine {
             // We write various type of records. The positions are always increasing and
             // incremented by 1 for one record (even in a batch), so we can count the amount
             // of written records via the lastWritten and now written position.
-            final var amount = writtenPosition - lastWrittenPosition;
-            processingMetrics.recordsWritten(amount);
-            updateState();
+            final var previousWrittenPosition =
+                writtenCommand != null ? writtenCommand.writtenPosition() : lastWrittenPosition;
+            processingMetrics.recordsWritten(writtenPosition - previousWrittenPosition);
+            if (aheadCommand != null) {
+              writeAheadCommand();
+            } else {
+              updateState();
+            }
           }
         });
   }
@@ -660,6 +861,10 @@ public final class ProcessingStateMachine {
                   updateState();
                 });
           } else {
+            if (writtenCommand != null) {
+              scheduledCommandCache.remove(
+                  writtenCommand.metadata().getIntent(), writtenCommand.record().getKey());
+            }
             scheduledCommandCache.remove(metadata.getIntent(), currentRecord.getKey());
             executeSideEffects();
           }
@@ -672,23 +877,10 @@ public final class ProcessingStateMachine {
             () -> {
               // TODO refactor this into two parallel tasks, which are then combined, and on the
               // completion of which the process continues
-              for (final var processingResponse : pendingResponses) {
-                final var responseWriter = context.getCommandResponseWriter();
-
-                final var responseValue = processingResponse.responseValue();
-                final var recordMetadata = responseValue.recordMetadata();
-                responseWriter
-                    .intent(recordMetadata.getIntent())
-                    .key(responseValue.key())
-                    .recordType(recordMetadata.getRecordType())
-                    .rejectionReason(BufferUtil.wrapString(recordMetadata.getRejectionReason()))
-                    .rejectionType(recordMetadata.getRejectionType())
-                    .partitionId(context.getPartitionId())
-                    .valueType(recordMetadata.getValueType())
-                    .valueWriter(responseValue.recordValue())
-                    .tryWriteResponse(
-                        processingResponse.requestStreamId(), processingResponse.requestId());
+              if (writtenCommand != null) {
+                writeResponses(writtenCommand.pendingResponses());
               }
+              writeResponses(pendingResponses);
               return executePostCommitTasks();
             },
             abortCondition);
@@ -701,6 +893,12 @@ public final class ProcessingStateMachine {
                 ERROR_MESSAGE_EXECUTE_SIDE_EFFECT_ABORTED, currentRecord, metadata, throwable);
           }
 
+          if (writtenCommand != null) {
+            notifyProcessedListener(writtenCommand.typedCommand());
+            writtenCommand.processingTimer().close();
+            writtenCommand = null;
+          }
+
           notifyProcessedListener(typedCommand);
 
           // observe the processing duration
@@ -712,9 +910,32 @@ public final class ProcessingStateMachine {
         });
   }
 
+  private void writeResponses(final Collection<ProcessingResponse> responses) {
+    for (final var processingResponse : responses) {
+      final var responseWriter = context.getCommandResponseWriter();
+
+      final var responseValue = processingResponse.responseValue();
+      final var recordMetadata = responseValue.recordMetadata();
+      responseWriter
+          .intent(recordMetadata.getIntent())
+          .key(responseValue.key())
+          .recordType(recordMetadata.getRecordType())
+          .rejectionReason(BufferUtil.wrapString(recordMetadata.getRejectionReason()))
+          .rejectionType(recordMetadata.getRejectionType())
+          .partitionId(context.getPartitionId())
+          .valueType(recordMetadata.getValueType())
+          .valueWriter(responseValue.recordValue())
+          .tryWriteResponse(processingResponse.requestStreamId(), processingResponse.requestId());
+    }
+  }
+
   private boolean executePostCommitTasks() {
     try (final var timer = processingMetrics.startBatchProcessingPostCommitTasksTimer()) {
-      return currentProcessingResult.executePostCommitTasks();
+      var success = true;
+      if (writtenCommand != null) {
+        success = writtenCommand.processingResult().executePostCommitTasks();
+      }
+      return currentProcessingResult.executePostCommitTasks() && success;
     }
   }
 
@@ -772,6 +993,18 @@ public final class ProcessingStateMachine {
   private record BatchProcessingStepResult(
       List<TypedRecord<?>> toProcess, List<LogAppendEntry> toWrite) {}
 
+  /** The processing state of a command, kept aside while another command is processed. */
+  private record ProcessedCommand(
+      LoggedEvent record,
+      RecordMetadata metadata,
+      TypedRecordImpl typedCommand,
+      RecordProcessor processor,
+      ProcessingResult processingResult,
+      List<LogAppendEntry> pendingWrites,
+      Collection<ProcessingResponse> pendingResponses,
+      CloseableSilently processingTimer,
+      long writtenPosition) {}
+
   @FunctionalInterface
   private interface NextProcessingStep {
     void run() throws Exception;
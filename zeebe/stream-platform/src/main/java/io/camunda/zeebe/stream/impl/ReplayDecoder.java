@@ -0,0 +1,37 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.stream.impl;
+
+import io.camunda.zeebe.scheduler.Actor;
+import io.camunda.zeebe.scheduler.future.ActorFuture;
+
+/**
+ * Decodes the next group of events ahead, while the stream processor actor replays the current one.
+ * It only lives as long as events are replayed in groups, see {@link ReplayStateMachine}.
+ */
+final class ReplayDecoder extends Actor {
+
+  private final String actorName;
+
+  ReplayDecoder(final int partitionId) {
+    actorName = buildActorName("ReplayDecoder", partitionId);
+  }
+
+  @Override
+  public String getName() {
+    return actorName;
+  }
+
+  /**
+   * Decodes the events of the given group. Events which fail to decode are decoded again when they
+   * are replayed, so the returned future is only completed exceptionally if the decoder is closed.
+   */
+  ActorFuture<Void> decode(final ReplayEventGroup group, final long snapshotPosition) {
+    return actor.call(() -> group.decode(snapshotPosition));
+  }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.stream.impl;
+
+import io.camunda.zeebe.logstreams.impl.log.LoggedEventImpl;
+import io.camunda.zeebe.logstreams.log.LogStreamBatchReader.Batch;
+import io.camunda.zeebe.logstreams.log.LoggedEvent;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.stream.api.MetadataFilter;
+import io.camunda.zeebe.util.ReflectUtil;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.collections.IntArrayList;
+
+/**
+ * A group of consecutive log batches which are replayed together, in as few transactions as
+ * possible.
+ *
+ * <p>The events of the group are copied out of the log stream reader, such that their metadata and
+ * values can be decoded on a different thread while the previous group is replayed. Each event owns
+ * its record value instances, and the slots are reused for the next groups.
+ *
+ * <p>The group is not thread safe: it is filled and replayed by the stream processor actor, and
+ * decoded by a single other thread in between. The hand over must happen via a future.
+ */
+final class ReplayEventGroup {
+
+  private final List<ReplayEvent> events = new ArrayList<>();
+  private final IntArrayList batchEnds = new IntArrayList();
+  private final MetadataFilter replayFilter;
+  private int size;
+  private int replayedBatches;
+
+  ReplayEventGroup(final MetadataFilter replayFilter) {
+    this.replayFilter = replayFilter;
+  }
+
+  void reset() {
+    size = 0;
+    replayedBatches = 0;
+    batchEnds.clear();
+  }
+
+  /** Copies all remaining events of the given log batch into the group. */
+  void add(final Batch batch) {
+    while (batch.hasNext()) {
+      if (size == events.size()) {
+        events.add(new ReplayEvent());
+      }
+      events.get(size++).copy(batch.next());
+    }
+    batchEnds.addInt(size);
+  }
+
+  /**
+   * Decodes the metadata of all events, and the values of the events which pass the filter.
+   *
+   * @param snapshotPosition the position of the snapshot; events caused by commands up to this
+   *     position are already part of the state and are not applied
+   */
+  void decode(final long snapshotPosition) {
+    for (int i = 0; i < size; i++) {
+      events.get(i).decode(snapshotPosition);
+    }
+  }
+
+  /** Marks all events of the batches which were not replayed yet as not decoded. */
+  void resetDecoding() {
+    for (int i = batchStart(replayedBatches); i < size; i++) {
+      events.get(i).decoded = false;
+    }
+  }
+
+  int size() {
+    return size;
+  }
+
+  int batchCount() {
+    return batchEnds.size();
+  }
+
+  int batchStart(final int batch) {
+    return batch == 0 ? 0 : batchEnds.getInt(batch - 1);
+  }
+
+  int batchEnd(final int batch) {
+    return batchEnds.getInt(batch);
+  }
+
+  ReplayEvent get(final int index) {
+    return events.get(index);
+  }
+
+  /** The number of batches which were replayed and committed already. */
+  int replayedBatches() {
+    return replayedBatches;
+  }
+
+  void replayedBatches(final int replayedBatches) {
+    this.replayedBatches = replayedBatches;
+  }
+
+  boolean isReplayed() {
+    return replayedBatches == batchEnds.size();
+  }
+
+  final class ReplayEvent {
+    private final ExpandableArrayBuffer buffer = new ExpandableArrayBuffer();
+    private final LoggedEventImpl event = new LoggedEventImpl();
+    private final RecordMetadata metadata = new RecordMetadata();
+    private final Map<ValueType, UnifiedRecordValue> values = new EnumMap<>(ValueType.class);
+    private UnifiedRecordValue value;
+    private boolean applies;
+    private boolean decoded;
+
+    private void copy(final LoggedEvent source) {
+      source.write(buffer, 0);
+      event.wrap(buffer, 0);
+      decoded = false;
+    }
+
+    /**
+     * Decodes the metadata, and the value if the event must be applied. Failures are not thrown but
+     * leave the event undecoded, such that decoding it again on replay throws them instead.
+     */
+    private void decode(final long snapshotPosition) {
+      try {
+        decodeOrThrow(snapshotPosition);
+      } catch (final RuntimeException e) {
+        decoded = false;
+      }
+    }
+
+    /**
+     * Decodes the event, unless this was done already.
+     *
+     * @throws RuntimeException if the metadata or the value can't be read
+     */
+    void decodeOrThrow(final long snapshotPosition) {
+      if (decoded) {
+        return;
+      }
+
+      metadata.reset();
+      event.readMetadata(metadata);
+
+      final var sourceEventPosition = event.getSourceEventPosition();
+      // some events might not have a source pointer
+      applies =
+          replayFilter.applies(metadata)
+              && (sourceEventPosition > snapshotPosition || sourceEventPosition < 0);
+      value = null;
+      if (applies) {
+        value = values.computeIfAbsent(metadata.getValueType(), ReplayEvent::newValue);
+        if (value != null) {
+          value.reset();
+          event.readValue(value);
+        }
+      }
+      decoded = true;
+    }
+
+    LoggedEvent event() {
+      return event;
+    }
+
+    RecordMetadata metadata() {
+      return metadata;
+    }
+
+    UnifiedRecordValue value() {
+      return value;
+    }
+
+    boolean applies() {
+      return applies;
+    }
+
+    private static UnifiedRecordValue newValue(final ValueType valueType) {
+      final var valueClass = TypedEventRegistry.EVENT_REGISTRY.get(valueType);
+      return valueClass != null ? ReflectUtil.newInstance(valueClass) : null;
+    }
+  }
+}
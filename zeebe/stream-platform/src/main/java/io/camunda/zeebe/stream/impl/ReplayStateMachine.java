@@ -21,6 +21,8 @@ import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
 import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
 import io.camunda.zeebe.protocol.record.RecordType;
 import io.camunda.zeebe.scheduler.ActorControl;
+import io.camunda.zeebe.scheduler.ActorSchedulingService;
+import io.camunda.zeebe.scheduler.clock.ActorClock;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.scheduler.retry.RecoverableRetryStrategy;
@@ -31,14 +33,26 @@ import io.camunda.zeebe.stream.api.RecordProcessor;
 import io.camunda.zeebe.stream.api.records.TypedRecord;
 import io.camunda.zeebe.stream.api.state.KeyGeneratorControls;
 import io.camunda.zeebe.stream.api.state.MutableLastProcessedPositionState;
+import io.camunda.zeebe.stream.impl.ReplayEventGroup.ReplayEvent;
 import io.camunda.zeebe.stream.impl.metrics.ReplayMetrics;
 import io.camunda.zeebe.stream.impl.records.RecordValues;
 import io.camunda.zeebe.stream.impl.records.TypedRecordImpl;
+import io.camunda.zeebe.util.CloseableSilently;
 import java.util.List;
 import java.util.function.BooleanSupplier;
 import org.slf4j.Logger;
 
-/** Represents the state machine to replay events and rebuild the state. */
+/**
+ * Represents the state machine to replay events and rebuild the state.
+ *
+ * <p>By default, each batch of follow-up events is replayed in its own transaction. If more than
+ * one event per replay batch is allowed, consecutive log batches are grouped until the group
+ * contains at least that many events, and are replayed in one transaction. A transaction is
+ * committed early if replaying it takes longer than the configured duration, but log batches are
+ * never split. While a group is replayed, the next group is already read, and its metadata and
+ * values are decoded ahead by a separate {@link ReplayDecoder} actor; the events are still applied
+ * in log order by the stream processor actor. The decoder is closed once the replay is finished.
+ */
 public final class ReplayStateMachine implements LogRecordAwaiter {
 
   private static final Logger LOG = Loggers.PROCESSOR_LOGGER;
@@ -75,6 +89,7 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
   private long snapshotPosition;
   private long lastReadRecordPosition = StreamProcessor.UNSET_POSITION;
   private long lastReplayedEventPosition = StreamProcessor.UNSET_POSITION;
+  private long lastCommittedReadRecordPosition = StreamProcessor.UNSET_POSITION;
 
   private ActorFuture<LastProcessingPositions> recoveryFuture;
   private ZeebeDbTransaction zeebeDbTransaction;
@@ -87,10 +102,19 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
   private final List<RecordProcessor> recordProcessors;
   private final int partitionId;
 
+  private final int maxEventsInReplayBatch;
+  private final long maxReplayBatchDurationMillis;
+  private ReplayDecoder decoder;
+  private final ReplayEventGroup[] groups;
+  private ReplayEventGroup pendingGroup;
+  private ActorFuture<Void> pendingGroupDecoded;
+  private boolean replayingGroup;
+
   public ReplayStateMachine(
       final List<RecordProcessor> recordProcessors,
       final StreamProcessorContext context,
-      final BooleanSupplier shouldReplayNext) {
+      final BooleanSupplier shouldReplayNext,
+      final ActorSchedulingService actorSchedulingService) {
     partitionId = context.getPartitionId();
     this.recordProcessors = recordProcessors;
     shouldPause = () -> !shouldReplayNext.getAsBoolean();
@@ -107,6 +131,20 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     logStream = context.getLogStream();
     logStreamBatchReader = new LogStreamBatchReaderImpl(context.getLogStreamReader());
     replayMetrics = new ReplayMetrics(context.getMeterRegistry());
+
+    maxEventsInReplayBatch = context.getMaxEventsInReplayBatch();
+    maxReplayBatchDurationMillis = context.getMaxReplayBatchDuration().toMillis();
+    if (maxEventsInReplayBatch > 1) {
+      decoder = new ReplayDecoder(partitionId);
+      actorSchedulingService.submitActor(decoder);
+      groups =
+          new ReplayEventGroup[] {
+            new ReplayEventGroup(REPLAY_FILTER), new ReplayEventGroup(REPLAY_FILTER)
+          };
+    } else {
+      decoder = null;
+      groups = null;
+    }
   }
 
   /**
@@ -155,7 +193,10 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     }
 
     try {
-      if (logStreamBatchReader.hasNext()) {
+      if (groups != null) {
+        replayNextGroup();
+
+      } else if (logStreamBatchReader.hasNext()) {
         currentState = State.REPLAY_EVENT;
 
         final var replayDurationTimer = replayMetrics.startReplayDurationTimer();
@@ -188,12 +229,167 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
       }
 
     } catch (final RuntimeException e) {
-      final var message =
-          String.format(
-              "Failed to replay records. [snapshot-position: %d, last-read-record-position: %d, last-replayed-event-position: %d]",
-              snapshotPosition, lastReadRecordPosition, lastReplayedEventPosition);
+      failRecovery(e);
+    }
+  }
+
+  private void failRecovery(final RuntimeException e) {
+    final var message =
+        String.format(
+            "Failed to replay records. [snapshot-position: %d, last-read-record-position: %d, last-replayed-event-position: %d]",
+            snapshotPosition, lastReadRecordPosition, lastReplayedEventPosition);
+    if (!recoveryFuture.isDone()) {
       recoveryFuture.completeExceptionally(new RuntimeException(message, e));
+    } else {
+      LOG.error(message, e);
+    }
+  }
+
+  private void replayNextGroup() {
+    if (replayingGroup) {
+      // the next group is replayed when the current one is done
+      return;
+    }
+
+    if (pendingGroup == null) {
+      if (logStreamBatchReader.hasNext()) {
+        readNextGroup(groups[0]);
+      } else if (streamProcessorMode == StreamProcessorMode.PROCESSING) {
+        onRecordsReplayed();
+        return;
+      } else {
+        currentState = State.AWAIT_RECORD;
+        return;
+      }
+    }
+
+    currentState = State.REPLAY_EVENT;
+    replayingGroup = true;
+    final var group = pendingGroup;
+    final var decoded = pendingGroupDecoded;
+    pendingGroup = null;
+    pendingGroupDecoded = null;
+
+    // events which failed to decode, e.g. because the decoder was closed, are decoded on replay
+    actor.runOnCompletion(
+        decoded,
+        (ignored, decodingFailure) -> {
+          try {
+            // read the next group already, such that it is decoded while this one is replayed
+            if (logStreamBatchReader.hasNext()) {
+              readNextGroup(group == groups[0] ? groups[1] : groups[0]);
+            }
+
+            replayGroup(group, replayMetrics.startReplayDurationTimer());
+          } catch (final RuntimeException e) {
+            replayingGroup = false;
+            failRecovery(e);
+          }
+        });
+  }
+
+  /**
+   * Replays the remaining log batches of the group in one transaction. If the maximum replay batch
+   * duration was exceeded before all of them were replayed, the transaction is committed and the
+   * remaining ones are replayed in a new transaction.
+   */
+  private void replayGroup(
+      final ReplayEventGroup group, final CloseableSilently replayDurationTimer) {
+    replayStrategy
+        .runWithRetry(() -> tryToReplayGroup(group), abortCondition)
+        .onComplete(
+            (success, failure) -> {
+              if (failure != null) {
+                replayingGroup = false;
+                failRecovery(
+                    new RuntimeException(
+                        "Failed to replay batch at '%s %s'"
+                            .formatted(
+                                group.get(group.batchStart(group.replayedBatches())).event(),
+                                typedEvent.getMetadata()),
+                        failure));
+              } else if (!group.isReplayed()) {
+                actor.submit(() -> replayGroup(group, replayDurationTimer));
+              } else {
+                replayingGroup = false;
+                replayDurationTimer.close();
+                actor.submit(this::replayNextEvent);
+              }
+            });
+  }
+
+  /** Copies the next log batches into the given group and starts decoding them. */
+  private void readNextGroup(final ReplayEventGroup group) {
+    group.reset();
+    while (logStreamBatchReader.hasNext() && group.size() < maxEventsInReplayBatch) {
+      group.add(logStreamBatchReader.next());
+    }
+
+    pendingGroup = group;
+    pendingGroupDecoded =
+        decoder != null
+            ? decoder.decode(group, snapshotPosition)
+            : CompletableActorFuture.completed(null);
+  }
+
+  /**
+   * Replays the log batches of the group which were not replayed yet in one transaction, until
+   * either all of them are replayed or the maximum replay batch duration is exceeded. Whether
+   * batches remain to be replayed in a next transaction is reflected by {@link
+   * ReplayEventGroup#isReplayed()}.
+   *
+   * @return true once the transaction is committed
+   */
+  private boolean tryToReplayGroup(final ReplayEventGroup group) throws Exception {
+    final boolean onRetry = zeebeDbTransaction != null;
+    if (onRetry) {
+      zeebeDbTransaction.rollback();
+      // the values might have been modified while they were applied, so decode them again
+      group.resetDecoding();
+      lastReadRecordPosition = lastCommittedReadRecordPosition;
+    }
+
+    final var deadline = ActorClock.currentTimeMillis() + maxReplayBatchDurationMillis;
+    final var replayedBatches = new int[] {group.replayedBatches()};
+    zeebeDbTransaction = transactionContext.getCurrentTransaction();
+    zeebeDbTransaction.run(
+        () -> {
+          do {
+            final var batch = replayedBatches[0]++;
+            for (int i = group.batchStart(batch); i < group.batchEnd(batch); i++) {
+              replayEvent(group.get(i));
+            }
+          } while (replayedBatches[0] < group.batchCount()
+              && ActorClock.currentTimeMillis() < deadline);
+
+          if (batchSourceEventPosition > snapshotPosition) {
+            lastProcessedPositionState.markAsProcessed(batchSourceEventPosition);
+          }
+        });
+
+    zeebeDbTransaction.commit();
+    zeebeDbTransaction = null;
+
+    group.replayedBatches(replayedBatches[0]);
+    lastCommittedReadRecordPosition = lastReadRecordPosition;
+    // the position should be visible only after the events are replayed successfully
+    lastSourceEventPosition = Math.max(lastSourceEventPosition, batchSourceEventPosition);
+    replayMetrics.setLastSourcePosition(lastSourceEventPosition);
+
+    return true;
+  }
+
+  private void replayEvent(final ReplayEvent event) {
+    event.decodeOrThrow(snapshotPosition);
+    final var currentEvent = event.event();
+    if (event.applies()) {
+      typedEvent.wrap(currentEvent, event.metadata(), event.value());
+      final var processor = findProcessor(typedEvent);
+      processor.replay(typedEvent);
+      lastReplayedEventPosition = currentEvent.getPosition();
     }
+
+    onRecordReplayed(currentEvent);
   }
 
   private boolean tryToReplayBatch(final Batch batch) throws Exception {
@@ -228,12 +424,7 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
       readMetadata(currentEvent);
       final var currentTypedEvent = readRecordValue(currentEvent);
 
-      final var processor =
-          recordProcessors.stream()
-              .filter(p -> p.accepts(currentTypedEvent.getValueType()))
-              .findFirst()
-              .orElseThrow(() -> NoSuchProcessorException.forRecord(currentTypedEvent));
-
+      final var processor = findProcessor(currentTypedEvent);
       processor.replay(currentTypedEvent);
       lastReplayedEventPosition = currentTypedEvent.getPosition();
     }
@@ -241,6 +432,13 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     onRecordReplayed(currentEvent);
   }
 
+  private RecordProcessor findProcessor(final TypedRecord<?> record) {
+    return recordProcessors.stream()
+        .filter(p -> p.accepts(record.getValueType()))
+        .findFirst()
+        .orElseThrow(() -> NoSuchProcessorException.forRecord(record));
+  }
+
   /**
    * Ends the replay and sets some important properties, especially completes the replay future with
    * the last processing positions.
@@ -259,6 +457,7 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
         new LastProcessingPositions(lastProcessedPosition, lastWrittenPosition);
 
     LOG.info(LOG_STMT_REPLAY_FINISHED, lastProcessingPositions);
+    closeDecoder();
     recoveryFuture.complete(lastProcessingPositions);
   }
 
@@ -309,7 +508,7 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
 
   private TypedRecord<?> readRecordValue(final LoggedEvent currentEvent) {
     final UnifiedRecordValue value =
-        recordValues.readRecordValue(currentEvent, metadata.getValueType());
+        recordValues.readRecordValueLazily(currentEvent, metadata.getValueType());
     typedEvent.wrap(currentEvent, metadata, value);
     return typedEvent;
   }
@@ -324,6 +523,14 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
 
   public void close() {
     logStream.removeRecordAvailableListener(this);
+    closeDecoder();
+  }
+
+  private void closeDecoder() {
+    if (decoder != null) {
+      decoder.closeAsync();
+      decoder = null;
+    }
   }
 
   private enum State {
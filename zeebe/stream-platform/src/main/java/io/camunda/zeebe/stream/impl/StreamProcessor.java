@@ -15,6 +15,7 @@ import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.logstreams.log.LogStreamReader;
 import io.camunda.zeebe.scheduler.Actor;
 import io.camunda.zeebe.scheduler.ActorSchedulingService;
+import io.camunda.zeebe.scheduler.SchedulingPriority;
 import io.camunda.zeebe.scheduler.clock.ActorClock;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
@@ -149,6 +150,11 @@ public class StreamProcessor extends Actor implements HealthMonitorable, LogReco
     return actorName;
   }
 
+  @Override
+  public SchedulingPriority getSchedulingPriority() {
+    return SchedulingPriority.HIGH;
+  }
+
   @Override
   protected void onActorStarting() {
     final var reader = logStream.newLogStreamReader();
@@ -193,7 +199,11 @@ public class StreamProcessor extends Actor implements HealthMonitorable, LogReco
       healthCheckTick();
 
       replayStateMachine =
-          new ReplayStateMachine(recordProcessors, streamProcessorContext, this::shouldProcessNext);
+          new ReplayStateMachine(
+              recordProcessors,
+              streamProcessorContext,
+              this::shouldProcessNext,
+              actorSchedulingService);
 
       openFuture.complete(null);
       replayCompletedFuture = replayStateMachine.startRecover(snapshotPosition);
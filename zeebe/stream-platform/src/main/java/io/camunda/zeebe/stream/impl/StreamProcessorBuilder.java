@@ -159,6 +159,21 @@ public final class StreamProcessorBuilder {
     return this;
   }
 
+  public StreamProcessorBuilder setEnablePipelinedProcessing(final boolean enabled) {
+    streamProcessorContext.setEnablePipelinedProcessing(enabled);
+    return this;
+  }
+
+  public StreamProcessorBuilder maxEventsInReplayBatch(final int maxEventsInReplayBatch) {
+    streamProcessorContext.maxEventsInReplayBatch(maxEventsInReplayBatch);
+    return this;
+  }
+
+  public StreamProcessorBuilder maxReplayBatchDuration(final Duration maxReplayBatchDuration) {
+    streamProcessorContext.maxReplayBatchDuration(maxReplayBatchDuration);
+    return this;
+  }
+
   public StreamProcessorBuilder processingFilter(final EventFilter processingFilter) {
     streamProcessorContext.processingFilter(processingFilter);
     return this;
@@ -53,6 +53,9 @@ public final class StreamProcessorContext implements ReadonlyStreamProcessorCont
   private KeyGeneratorControls keyGeneratorControls;
   private int maxCommandsInBatch = DEFAULT_MAX_COMMANDS_IN_BATCH;
   private boolean enableAsyncScheduledTasks = true;
+  private boolean enablePipelinedProcessing;
+  private int maxEventsInReplayBatch = 1;
+  private Duration maxReplayBatchDuration = Duration.ofMillis(100);
   private EventFilter processingFilter = e -> true;
   private ControllableStreamClock clock;
   private MeterRegistry meterRegistry;
@@ -228,6 +231,33 @@ public final class StreamProcessorContext implements ReadonlyStreamProcessorCont
     return this;
   }
 
+  public StreamProcessorContext setEnablePipelinedProcessing(final boolean enabled) {
+    enablePipelinedProcessing = enabled;
+    return this;
+  }
+
+  public boolean enablePipelinedProcessing() {
+    return enablePipelinedProcessing;
+  }
+
+  public StreamProcessorContext maxEventsInReplayBatch(final int maxEventsInReplayBatch) {
+    this.maxEventsInReplayBatch = maxEventsInReplayBatch;
+    return this;
+  }
+
+  public int getMaxEventsInReplayBatch() {
+    return maxEventsInReplayBatch;
+  }
+
+  public StreamProcessorContext maxReplayBatchDuration(final Duration maxReplayBatchDuration) {
+    this.maxReplayBatchDuration = maxReplayBatchDuration;
+    return this;
+  }
+
+  public Duration getMaxReplayBatchDuration() {
+    return maxReplayBatchDuration;
+  }
+
   public EventFilter processingFilter() {
     return processingFilter;
   }
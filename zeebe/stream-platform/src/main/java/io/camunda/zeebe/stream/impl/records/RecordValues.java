@@ -35,4 +35,18 @@ public final class RecordValues {
     }
     return value;
   }
+
+  /**
+   * Reads the record value like {@link #readRecordValue(LoggedEvent, ValueType)}, but only decodes
+   * the properties of the value which are accessed, see {@link
+   * UnifiedRecordValue#wrapLazily(org.agrona.DirectBuffer, int, int)}.
+   */
+  public UnifiedRecordValue readRecordValueLazily(
+      final LoggedEvent event, final ValueType valueType) {
+    final UnifiedRecordValue value = eventCache.get(valueType);
+    if (value != null) {
+      value.wrapLazily(event.getValueBuffer(), event.getValueOffset(), event.getValueLength());
+    }
+    return value;
+  }
 }
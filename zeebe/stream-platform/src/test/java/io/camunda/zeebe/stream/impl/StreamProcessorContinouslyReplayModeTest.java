@@ -66,6 +66,40 @@ public final class StreamProcessorContinouslyReplayModeTest {
     Assertions.assertThat(streamProcessor.getCurrentPhase().join()).isEqualTo(Phase.REPLAY);
   }
 
+  @Test
+  public void shouldReplayGroupsContinuously() {
+    // given
+    streamPlatform.writeBatch(
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+        RecordToWrite.event()
+            .processInstance(ELEMENT_ACTIVATING, Records.processInstance(1))
+            .causedBy(0));
+
+    // when -- the replay of the first group is done, and it waits for new records
+    final var streamProcessor =
+        streamPlatform.buildStreamProcessor(
+            streamPlatform.getLogStream(),
+            false,
+            cfg -> cfg.streamProcessorMode(StreamProcessorMode.REPLAY).maxEventsInReplayBatch(3));
+    final RecordProcessor recordProcessor = streamPlatform.getDefaultMockedRecordProcessor();
+    Mockito.verify(recordProcessor, TIMEOUT).replay(any());
+
+    streamPlatform.writeBatch(
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+        RecordToWrite.event()
+            .processInstance(ELEMENT_ACTIVATING, Records.processInstance(1))
+            .causedBy(0));
+
+    // then
+    Mockito.verify(recordProcessor, TIMEOUT.times(2)).replay(any());
+    Assertions.assertThat(streamProcessor.getCurrentPhase().join()).isEqualTo(Phase.REPLAY);
+    Awaitility.await("last source position of the second group is visible")
+        .untilAsserted(
+            () ->
+                Assertions.assertThat(streamProcessor.getLastProcessedPositionAsync().join())
+                    .isEqualTo(3L));
+  }
+
   @Test
   @RegressionTest("https://github.com/camunda/camunda/issues/7662")
   public void shouldReplayIfNoEventsAfterSnapshot() throws Exception {
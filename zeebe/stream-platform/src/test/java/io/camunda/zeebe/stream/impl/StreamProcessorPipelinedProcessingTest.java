@@ -0,0 +1,320 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.stream.impl;
+
+import static io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent.ACTIVATE_ELEMENT;
+import static io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent.ELEMENT_ACTIVATING;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import io.camunda.zeebe.logstreams.log.LogAppendEntry;
+import io.camunda.zeebe.logstreams.log.LogStream;
+import io.camunda.zeebe.logstreams.log.LogStreamWriter;
+import io.camunda.zeebe.logstreams.log.LoggedEvent;
+import io.camunda.zeebe.logstreams.log.WriteContext;
+import io.camunda.zeebe.logstreams.util.TestLogStream;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.stream.api.ProcessingResult;
+import io.camunda.zeebe.stream.api.ProcessingResultBuilder;
+import io.camunda.zeebe.stream.api.RecordProcessor;
+import io.camunda.zeebe.stream.api.RecordProcessorContext;
+import io.camunda.zeebe.stream.api.records.TypedRecord;
+import io.camunda.zeebe.stream.impl.state.DbKeyGenerator;
+import io.camunda.zeebe.stream.util.RecordToWrite;
+import io.camunda.zeebe.stream.util.Records;
+import io.camunda.zeebe.util.Either;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(StreamPlatformExtension.class)
+final class StreamProcessorPipelinedProcessingTest {
+
+  private static final int COMMAND_COUNT = 5;
+
+  @SuppressWarnings("unused") // injected by the extension
+  private StreamPlatform streamPlatform;
+
+  private final KeyGeneratingProcessor processor = new KeyGeneratingProcessor();
+  private final List<Long> processedPositions = new CopyOnWriteArrayList<>();
+
+  @Test
+  void shouldProcessCommandsInOrder() {
+    // given
+    final var firstPosition = writeCommands();
+
+    // when
+    startPipelinedStreamProcessor();
+
+    // then
+    final var commandPositions =
+        LongStream.range(firstPosition, firstPosition + COMMAND_COUNT).boxed().toList();
+    await("all commands are processed")
+        .untilAsserted(() -> assertThat(processedPositions).hasSize(COMMAND_COUNT));
+    assertThat(processedPositions).containsExactlyElementsOf(commandPositions);
+    assertThat(followUpEvents())
+        .extracting(LoggedEvent::getSourceEventPosition)
+        .containsExactlyElementsOf(commandPositions);
+    assertThat(streamPlatform.getStreamProcessor().getLastProcessedPositionAsync().join())
+        .isEqualTo(firstPosition + COMMAND_COUNT - 1);
+  }
+
+  @Test
+  void shouldCommitChangesOfAllCommands() {
+    // given
+    writeCommands();
+
+    // when
+    startPipelinedStreamProcessor();
+
+    // then
+    await("all commands are processed")
+        .untilAsserted(() -> assertThat(processedPositions).hasSize(COMMAND_COUNT));
+    final var firstKey = followUpEvents().getFirst().getKey();
+    assertThat(followUpEvents())
+        .extracting(LoggedEvent::getKey)
+        .containsExactlyElementsOf(
+            LongStream.range(firstKey, firstKey + COMMAND_COUNT).boxed().toList());
+    assertThat(streamPlatform.getCurrentKey()).isEqualTo(firstKey + COMMAND_COUNT - 1);
+  }
+
+  @Test
+  void shouldProcessCommandAgainIfProcessingAheadFails() {
+    // given
+    final var firstPosition = writeCommands();
+    processor.failOnceAtPosition = firstPosition + 1;
+
+    // when
+    startPipelinedStreamProcessor();
+
+    // then
+    await("all commands are processed")
+        .untilAsserted(() -> assertThat(processedPositions).hasSize(COMMAND_COUNT));
+    assertThat(processor.processingErrors).hasValue(0);
+    assertThat(processor.processedCount).hasValue(COMMAND_COUNT + 1);
+
+    // the key generated by the failed attempt was rolled back
+    final var firstKey = followUpEvents().getFirst().getKey();
+    assertThat(followUpEvents())
+        .extracting(LoggedEvent::getKey)
+        .containsExactlyElementsOf(
+            LongStream.range(firstKey, firstKey + COMMAND_COUNT).boxed().toList());
+  }
+
+  @Test
+  void shouldProcessCommandAgainIfWritingCurrentCommandFails() {
+    // given
+    final var firstPosition = writeCommands();
+    final var logStream = new FailingWriteLogStream(streamPlatform.getLogStream());
+    logStream.failOnceForSourcePosition = firstPosition;
+
+    // when
+    startPipelinedStreamProcessor(logStream);
+
+    // then
+    await("all commands are processed")
+        .untilAsserted(() -> assertThat(processedPositions).hasSize(COMMAND_COUNT));
+    assertThat(processor.processingErrors).hasValue(1);
+    assertThat(processor.rollbacks).hasPositiveValue();
+    assertThat(processor.processedCount).hasValue(COMMAND_COUNT + 1);
+
+    // the changes of the command processed ahead were rolled back, and it was processed again
+    final var commandPositions =
+        LongStream.range(firstPosition + 1, firstPosition + COMMAND_COUNT).boxed().toList();
+    assertThat(followUpEvents())
+        .extracting(LoggedEvent::getSourceEventPosition)
+        .containsExactlyElementsOf(commandPositions);
+    final var firstKey = followUpEvents().getFirst().getKey();
+    assertThat(followUpEvents())
+        .extracting(LoggedEvent::getKey)
+        .containsExactlyElementsOf(
+            LongStream.range(firstKey, firstKey + COMMAND_COUNT - 1).boxed().toList());
+  }
+
+  @Test
+  void shouldProcessCommandAgainIfWritingCommandProcessedAheadFails() {
+    // given
+    final var firstPosition = writeCommands();
+    final var logStream = new FailingWriteLogStream(streamPlatform.getLogStream());
+    logStream.failOnceForSourcePosition = firstPosition + 1;
+
+    // when
+    startPipelinedStreamProcessor(logStream);
+
+    // then
+    await("all commands are processed")
+        .untilAsserted(() -> assertThat(processedPositions).hasSize(COMMAND_COUNT));
+    assertThat(processor.processingErrors).hasValue(0);
+    assertThat(processor.rollbacks).hasValue(1);
+    assertThat(processor.processedCount).hasValue(COMMAND_COUNT + 1);
+
+    // the previous command was committed, and only the key of the failed attempt was rolled back
+    final var commandPositions =
+        LongStream.range(firstPosition, firstPosition + COMMAND_COUNT).boxed().toList();
+    assertThat(processedPositions).containsExactlyElementsOf(commandPositions);
+    assertThat(followUpEvents())
+        .extracting(LoggedEvent::getSourceEventPosition)
+        .containsExactlyElementsOf(commandPositions);
+    final var firstKey = followUpEvents().getFirst().getKey();
+    assertThat(followUpEvents())
+        .extracting(LoggedEvent::getKey)
+        .containsExactlyElementsOf(
+            LongStream.range(firstKey, firstKey + COMMAND_COUNT).boxed().toList());
+  }
+
+  @Test
+  void shouldNotifyProcessorsAboutRollbackIfProcessingAheadFails() {
+    // given
+    final var firstPosition = writeCommands();
+    processor.failOnceAtPosition = firstPosition + 1;
+
+    // when
+    startPipelinedStreamProcessor();
+
+    // then
+    await("all commands are processed")
+        .untilAsserted(() -> assertThat(processedPositions).hasSize(COMMAND_COUNT));
+    assertThat(processor.rollbacks).hasValue(1);
+  }
+
+  private long writeCommands() {
+    final var commands = new RecordToWrite[COMMAND_COUNT];
+    for (int i = 0; i < COMMAND_COUNT; i++) {
+      commands[i] =
+          RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1));
+    }
+    return streamPlatform.writeBatch(commands) - COMMAND_COUNT + 1;
+  }
+
+  private void startPipelinedStreamProcessor() {
+    startPipelinedStreamProcessor(streamPlatform.getLogStream());
+  }
+
+  private void startPipelinedStreamProcessor(final TestLogStream logStream) {
+    streamPlatform
+        .withRecordProcessors(List.of(processor))
+        .buildStreamProcessor(
+            logStream,
+            true,
+            cfg ->
+                cfg.setEnablePipelinedProcessing(true)
+                    .listener(command -> processedPositions.add(command.getPosition())));
+  }
+
+  private List<LoggedEvent> followUpEvents() {
+    return streamPlatform
+        .events()
+        .filter(
+            event -> {
+              final var metadata = new RecordMetadata();
+              event.readMetadata(metadata);
+              return metadata.getRecordType() == RecordType.EVENT;
+            })
+        .toList();
+  }
+
+  private static final class KeyGeneratingProcessor implements RecordProcessor {
+
+    private final AtomicInteger processedCount = new AtomicInteger();
+    private final AtomicInteger processingErrors = new AtomicInteger();
+    private final AtomicInteger rollbacks = new AtomicInteger();
+    private DbKeyGenerator keyGenerator;
+    private volatile long failOnceAtPosition = -1;
+
+    @Override
+    public void init(final RecordProcessorContext recordProcessorContext) {
+      keyGenerator =
+          new DbKeyGenerator(
+              recordProcessorContext.getPartitionId(),
+              recordProcessorContext.getZeebeDb(),
+              recordProcessorContext.getTransactionContext());
+    }
+
+    @Override
+    public boolean accepts(final ValueType valueType) {
+      return true;
+    }
+
+    @Override
+    public void replay(final TypedRecord record) {}
+
+    @Override
+    public ProcessingResult process(
+        final TypedRecord record, final ProcessingResultBuilder processingResultBuilder) {
+      processedCount.incrementAndGet();
+      final var key = keyGenerator.nextKey();
+      if (record.getPosition() == failOnceAtPosition) {
+        failOnceAtPosition = -1;
+        throw new RuntimeException("expected");
+      }
+
+      processingResultBuilder.appendRecordReturnEither(
+          key,
+          Records.processInstance(1),
+          new RecordMetadata()
+              .recordType(RecordType.EVENT)
+              .intent(ELEMENT_ACTIVATING)
+              .rejectionType(RejectionType.NULL_VAL)
+              .rejectionReason(""));
+      return processingResultBuilder.build();
+    }
+
+    @Override
+    public ProcessingResult onProcessingError(
+        final Throwable processingException,
+        final TypedRecord record,
+        final ProcessingResultBuilder processingResultBuilder) {
+      processingErrors.incrementAndGet();
+      return processingResultBuilder.build();
+    }
+
+    @Override
+    public void onRollback() {
+      rollbacks.incrementAndGet();
+    }
+  }
+
+  /** Fails the first write of the follow-up records of the command at the given position. */
+  private static final class FailingWriteLogStream extends TestLogStream {
+
+    private volatile long failOnceForSourcePosition = -1;
+
+    private FailingWriteLogStream(final LogStream logStream) {
+      super(logStream);
+    }
+
+    @Override
+    public LogStreamWriter newLogStreamWriter() {
+      final var delegate = super.newLogStreamWriter();
+      return new LogStreamWriter() {
+        @Override
+        public boolean canWriteEvents(final int eventCount, final int batchSize) {
+          return delegate.canWriteEvents(eventCount, batchSize);
+        }
+
+        @Override
+        public Either<WriteFailure, Long> tryWrite(
+            final WriteContext context,
+            final List<LogAppendEntry> appendEntries,
+            final long sourcePosition) {
+          if (sourcePosition == failOnceForSourcePosition) {
+            failOnceForSourcePosition = -1;
+            throw new IllegalStateException("expected");
+          }
+          return delegate.tryWrite(context, appendEntries, sourcePosition);
+        }
+      };
+    }
+  }
+}
@@ -18,8 +18,12 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 
+import io.camunda.zeebe.logstreams.log.LogAppendEntry;
+import io.camunda.zeebe.logstreams.log.WriteContext;
 import io.camunda.zeebe.protocol.Protocol;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
 import io.camunda.zeebe.protocol.record.RecordType;
 import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.protocol.record.intent.ErrorIntent;
@@ -30,6 +34,12 @@ import io.camunda.zeebe.stream.impl.StreamProcessor.Phase;
 import io.camunda.zeebe.stream.util.RecordToWrite;
 import io.camunda.zeebe.stream.util.Records;
 import io.camunda.zeebe.test.util.junit.RegressionTest;
+import io.camunda.zeebe.util.exception.RecoverableException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.agrona.MutableDirectBuffer;
 import org.awaitility.Awaitility;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -390,4 +400,189 @@ final class StreamProcessorReplayTest {
     // then
     assertThat(Protocol.decodeKeyInPartition(streamPlatform.getCurrentKey())).isEqualTo(19L);
   }
+
+  @Test
+  void shouldReplayEventsInGroups() {
+    // given
+    final var recordProcessor = streamPlatform.getDefaultMockedRecordProcessor();
+    final List<Long> replayedPositions = new CopyOnWriteArrayList<>();
+    doAnswer(
+            invocation -> {
+              final TypedRecord<?> record = invocation.getArgument(0);
+              replayedPositions.add(record.getPosition());
+              return null;
+            })
+        .when(recordProcessor)
+        .replay(any());
+
+    for (int i = 1; i <= 5; i++) {
+      streamPlatform.writeBatch(
+          RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(i)),
+          RecordToWrite.event()
+              .key(Protocol.encodePartitionId(1, i))
+              .processInstance(ELEMENT_ACTIVATING, Records.processInstance(i))
+              .causedBy(0));
+    }
+
+    // when
+    final var streamProcessor =
+        streamPlatform.buildStreamProcessor(
+            streamPlatform.getLogStream(), true, cfg -> cfg.maxEventsInReplayBatch(3));
+
+    // then
+    Awaitility.await("position has to be set on processing start")
+        .untilAsserted(
+            () -> assertThat(streamProcessor.getLastProcessedPositionAsync().join()).isEqualTo(9L));
+    assertThat(replayedPositions).containsExactly(2L, 4L, 6L, 8L, 10L);
+    assertThat(streamPlatform.getLastSuccessfulProcessedRecordPosition()).isEqualTo(9L);
+    assertThat(Protocol.decodeKeyInPartition(streamPlatform.getCurrentKey())).isEqualTo(5L);
+  }
+
+  @Test
+  void shouldReplayGroupedEventsWithTheirOwnValues() {
+    // given
+    final var recordProcessor = streamPlatform.getDefaultMockedRecordProcessor();
+    final List<Long> replayedInstanceKeys = new CopyOnWriteArrayList<>();
+    doAnswer(
+            invocation -> {
+              final TypedRecord<ProcessInstanceRecord> record = invocation.getArgument(0);
+              replayedInstanceKeys.add(record.getValue().getProcessInstanceKey());
+              return null;
+            })
+        .when(recordProcessor)
+        .replay(any());
+
+    for (int i = 1; i <= 4; i++) {
+      streamPlatform.writeBatch(
+          RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(i)),
+          RecordToWrite.event()
+              .processInstance(ELEMENT_ACTIVATING, Records.processInstance(i))
+              .causedBy(0));
+    }
+
+    // when
+    streamPlatform.buildStreamProcessor(
+        streamPlatform.getLogStream(), true, cfg -> cfg.maxEventsInReplayBatch(100));
+
+    // then
+    Awaitility.await("all events are replayed")
+        .untilAsserted(() -> assertThat(replayedInstanceKeys).containsExactly(1L, 2L, 3L, 4L));
+  }
+
+  @Test
+  void shouldReplayGroupAgainAfterRecoverableFailure() {
+    // given
+    final List<Long> replayedPositions = failOnceOnReplayAt(6L);
+    writeEventsInSeparateBatches(5);
+
+    // when
+    final var streamProcessor =
+        streamPlatform.buildStreamProcessor(
+            streamPlatform.getLogStream(),
+            true,
+            cfg -> cfg.maxEventsInReplayBatch(100).maxReplayBatchDuration(Duration.ofMinutes(1)));
+
+    // then -- the whole group was rolled back and replayed again
+    Awaitility.await("position has to be set on processing start")
+        .untilAsserted(
+            () -> assertThat(streamProcessor.getLastProcessedPositionAsync().join()).isEqualTo(9L));
+    assertThat(replayedPositions).containsExactly(2L, 4L, 6L, 2L, 4L, 6L, 8L, 10L);
+    assertThat(streamPlatform.getLastSuccessfulProcessedRecordPosition()).isEqualTo(9L);
+    assertThat(Protocol.decodeKeyInPartition(streamPlatform.getCurrentKey())).isEqualTo(5L);
+  }
+
+  @Test
+  void shouldCommitGroupEarlyIfReplayBatchDurationIsExceeded() {
+    // given
+    final List<Long> replayedPositions = failOnceOnReplayAt(6L);
+    writeEventsInSeparateBatches(5);
+
+    // when
+    final var streamProcessor =
+        streamPlatform.buildStreamProcessor(
+            streamPlatform.getLogStream(),
+            true,
+            cfg -> cfg.maxEventsInReplayBatch(100).maxReplayBatchDuration(Duration.ZERO));
+
+    // then -- every log batch was committed on its own, so only the failed one was replayed again
+    Awaitility.await("position has to be set on processing start")
+        .untilAsserted(
+            () -> assertThat(streamProcessor.getLastProcessedPositionAsync().join()).isEqualTo(9L));
+    assertThat(replayedPositions).containsExactly(2L, 4L, 6L, 6L, 8L, 10L);
+    assertThat(streamPlatform.getLastSuccessfulProcessedRecordPosition()).isEqualTo(9L);
+  }
+
+  @Test
+  void shouldFailReplayIfGroupedEventCannotBeDecoded() {
+    // given -- an event whose value can be decoded neither ahead nor on replay
+    final var recordProcessor = streamPlatform.getDefaultMockedRecordProcessor();
+    final var corruptEvent =
+        LogAppendEntry.of(
+            new RecordMetadata()
+                .recordType(RecordType.EVENT)
+                .valueType(ValueType.PROCESS_INSTANCE)
+                .intent(ELEMENT_ACTIVATING),
+            new CorruptRecordValue());
+    streamPlatform
+        .getLogStream()
+        .newBlockingLogStreamWriter()
+        .tryWrite(WriteContext.internal(), corruptEvent);
+    writeEventsInSeparateBatches(2);
+
+    // when
+    streamPlatform.buildStreamProcessor(
+        streamPlatform.getLogStream(), false, cfg -> cfg.maxEventsInReplayBatch(100));
+
+    // then -- the decoding failure is surfaced on replay instead of applying an undecoded event
+    verify(streamPlatform.getMockProcessorLifecycleAware(), TIMEOUT).onFailed();
+    verify(recordProcessor, never()).replay(any());
+  }
+
+  private List<Long> failOnceOnReplayAt(final long position) {
+    final var recordProcessor = streamPlatform.getDefaultMockedRecordProcessor();
+    final List<Long> replayedPositions = new CopyOnWriteArrayList<>();
+    final var failed = new AtomicBoolean();
+    doAnswer(
+            invocation -> {
+              final TypedRecord<?> record = invocation.getArgument(0);
+              replayedPositions.add(record.getPosition());
+              if (record.getPosition() == position && failed.compareAndSet(false, true)) {
+                throw new RecoverableException("expected");
+              }
+              return null;
+            })
+        .when(recordProcessor)
+        .replay(any());
+    return replayedPositions;
+  }
+
+  private void writeEventsInSeparateBatches(final int count) {
+    for (int i = 1; i <= count; i++) {
+      streamPlatform.writeBatch(
+          RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(i)),
+          RecordToWrite.event()
+              .key(Protocol.encodePartitionId(1, i))
+              .processInstance(ELEMENT_ACTIVATING, Records.processInstance(i))
+              .causedBy(0));
+    }
+  }
+
+  /** A process instance value which is not valid msgpack. */
+  private static final class CorruptRecordValue extends UnifiedRecordValue {
+
+    private CorruptRecordValue() {
+      super(0);
+    }
+
+    @Override
+    public int getLength() {
+      return 1;
+    }
+
+    @Override
+    public void write(final MutableDirectBuffer buffer, final int offset) {
+      // 0xc1 is never used by msgpack
+      buffer.putByte(offset, (byte) 0xc1);
+    }
+  }
 }
@@ -18,6 +18,8 @@ import java.util.concurrent.TimeUnit;
 public class CaffeineCacheStatsCounter implements StatsCounter {
 
   public static final String TAG_TYPE = "type";
+  private final Counter hitCount;
+  private final Counter missCount;
   private final Timer loadSuccessDuration;
   private final Timer loadFailureDuration;
   private final Counter evictionCount;
@@ -36,6 +38,9 @@ public class CaffeineCacheStatsCounter implements StatsCounter {
         .tag(TAG_TYPE, "")
         .register(meterRegistry);
 
+    hitCount = resultCounter(CacheResult.HIT);
+    missCount = resultCounter(CacheResult.MISS);
+
     evictionCount =
         Counter.builder(meterName("evictions"))
             .description("Number of cache evictions")
@@ -57,12 +62,12 @@ public class CaffeineCacheStatsCounter implements StatsCounter {
 
   @Override
   public void recordHits(final int count) {
-    meterRegistry.counter(meterName("result"), TAG_TYPE, CacheResult.HIT.name()).increment(count);
+    hitCount.increment(count);
   }
 
   @Override
   public void recordMisses(final int count) {
-    meterRegistry.counter(meterName("result"), TAG_TYPE, CacheResult.MISS.name()).increment(count);
+    missCount.increment(count);
   }
 
   @Override
@@ -86,6 +91,13 @@ public class CaffeineCacheStatsCounter implements StatsCounter {
     return null;
   }
 
+  private Counter resultCounter(final CacheResult result) {
+    return Counter.builder(meterName("result"))
+        .description("Number of cache access results by type")
+        .tag(TAG_TYPE, result.name())
+        .register(meterRegistry);
+  }
+
   private String meterName(final String name) {
     return namespace + "." + cacheName + "." + name;
   }
@@ -31,6 +31,25 @@ public interface ZeebeDbTransaction {
    */
   void commit() throws Exception;
 
+  /**
+   * Sets a savepoint in the current transaction. All changes made after it can be discarded via
+   * {@link #rollbackToSavepoint()}, without discarding the changes made before it. Savepoints are
+   * removed on commit and rollback.
+   *
+   * @throws ZeebeDbException if the underlying database has a recoverable exception thrown
+   * @throws Exception if the underlying database has a non recoverable exception thrown
+   */
+  void setSavepoint() throws Exception;
+
+  /**
+   * Discards all changes made since the latest savepoint, and removes that savepoint.
+   *
+   * @throws ZeebeDbException if the underlying database has a recoverable exception thrown
+   * @throws Exception if the underlying database has a non recoverable exception thrown, e.g. if no
+   *     savepoint was set
+   */
+  void rollbackToSavepoint() throws Exception;
+
   /**
    * Rolls the transaction back to the latest commit, discards all changes in between.
    *
@@ -0,0 +1,66 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb;
+
+import java.util.Arrays;
+import org.rocksdb.CompressionType;
+
+/**
+ * Overrides for the options of a single native RocksDB column family. Only applied when {@link
+ * RocksDbConfiguration#isSeparateColumnFamiliesEnabled()} is true, as otherwise all logical column
+ * families share the same native one. Any {@code null} component falls back to the options shared
+ * by all column families.
+ *
+ * @param writeBufferSize the size of a single memtable in bytes
+ * @param bloomFilterBitsPerKey bits per key of the bloom filter; 0 disables the filter
+ * @param compression the compression used for the compressed levels, e.g. {@code lz4} or {@code
+ *     zstd}; {@code none} disables compression
+ */
+public record ColumnFamilyTuning(
+    Long writeBufferSize, Integer bloomFilterBitsPerKey, String compression) {
+
+  public ColumnFamilyTuning {
+    if (writeBufferSize != null && writeBufferSize <= 0) {
+      throw new IllegalArgumentException(
+          "Expected write buffer size to be greater than 0, but was %d".formatted(writeBufferSize));
+    }
+
+    if (bloomFilterBitsPerKey != null && bloomFilterBitsPerKey < 0) {
+      throw new IllegalArgumentException(
+          "Expected bloom filter bits per key to be greater or equal to 0, but was %d"
+              .formatted(bloomFilterBitsPerKey));
+    }
+
+    if (compression != null) {
+      // fail early instead of when opening the database
+      compressionType(compression);
+    }
+  }
+
+  CompressionType compressionType() {
+    return compression == null ? null : compressionType(compression);
+  }
+
+  private static CompressionType compressionType(final String compression) {
+    if ("none".equalsIgnoreCase(compression)) {
+      return CompressionType.NO_COMPRESSION;
+    }
+
+    return Arrays.stream(CompressionType.values())
+        .filter(
+            type ->
+                compression.equalsIgnoreCase(type.getLibraryName())
+                    || compression.equalsIgnoreCase(type.name()))
+        .findFirst()
+        .orElseThrow(
+            () ->
+                new IllegalArgumentException(
+                    "Expected compression to be one of 'none', 'snappy', 'z', 'bzip2', 'lz4', "
+                        + "'lz4hc', 'xpress' or 'zstd', but was '%s'".formatted(compression)));
+  }
+}
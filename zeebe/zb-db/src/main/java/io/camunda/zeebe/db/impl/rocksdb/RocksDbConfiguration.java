@@ -7,6 +7,8 @@
  */
 package io.camunda.zeebe.db.impl.rocksdb;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Properties;
 
 public final class RocksDbConfiguration {
@@ -43,6 +45,20 @@ public final class RocksDbConfiguration {
 
   public static final int DEFAULT_IO_RATE_BYTES_PER_SECOND = 0;
 
+  /**
+   * When enabled, every logical column family is stored in its own native RocksDB column family,
+   * which gives each of them its own memtables, SST files and compaction schedule, and allows
+   * tuning them individually via {@link #setColumnFamilyTuning(Map)}. Keys keep their column family
+   * prefix in both layouts, so switching between them only moves the data from one native column
+   * family to another. The layout is resolved when the database is opened, e.g. when recovering
+   * from a snapshot: all native column families are created then, and data stored in the other
+   * layout is moved before the database is used.
+   *
+   * <p>Since the WAL is disabled by default, enabling this also enables atomic flushes to keep
+   * checkpoints consistent across all native column families.
+   */
+  public static final boolean DEFAULT_SEPARATE_COLUMN_FAMILIES_ENABLED = false;
+
   private Properties columnFamilyOptions = new Properties();
   private boolean statisticsEnabled = DEFAULT_STATISTICS_ENABLED;
   private long memoryLimit = DEFAULT_MEMORY_LIMIT;
@@ -51,6 +67,14 @@ public final class RocksDbConfiguration {
   private boolean walDisabled = DEFAULT_WAL_DISABLED;
 
   private boolean sstPartitioningEnabled = DEFAULT_SST_PARTITIONING_ENABLED;
+  private boolean separateColumnFamiliesEnabled = DEFAULT_SEPARATE_COLUMN_FAMILIES_ENABLED;
+
+  /**
+   * Per column family overrides, keyed by the name of the column family enum constant (e.g. {@code
+   * JOBS}). Only used when {@link #isSeparateColumnFamiliesEnabled()} is true. Opening the database
+   * fails if a key doesn't name a known column family.
+   */
+  private Map<String, ColumnFamilyTuning> columnFamilyTuning = new HashMap<>();
 
   /**
    * Defines how many files are kept open by RocksDB, per default it is unlimited (-1). This is done
@@ -155,4 +179,24 @@ public final class RocksDbConfiguration {
     this.sstPartitioningEnabled = sstPartitioningEnabled;
     return this;
   }
+
+  public boolean isSeparateColumnFamiliesEnabled() {
+    return separateColumnFamiliesEnabled;
+  }
+
+  public RocksDbConfiguration setSeparateColumnFamiliesEnabled(
+      final boolean separateColumnFamiliesEnabled) {
+    this.separateColumnFamiliesEnabled = separateColumnFamiliesEnabled;
+    return this;
+  }
+
+  public Map<String, ColumnFamilyTuning> getColumnFamilyTuning() {
+    return columnFamilyTuning;
+  }
+
+  public RocksDbConfiguration setColumnFamilyTuning(
+      final Map<String, ColumnFamilyTuning> columnFamilyTuning) {
+    this.columnFamilyTuning = columnFamilyTuning;
+    return this;
+  }
 }
@@ -13,14 +13,19 @@ import io.camunda.zeebe.db.DbValue;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.ZeebeDbException;
+import io.camunda.zeebe.db.impl.rocksdb.transaction.RocksDbOptions;
 import io.camunda.zeebe.protocol.EnumValue;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import org.agrona.CloseHelper;
 import org.rocksdb.Checkpoint;
+import org.rocksdb.ColumnFamilyDescriptor;
+import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.Options;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
@@ -90,10 +95,30 @@ final class SnapshotOnlyDb<ColumnFamilyType extends Enum<? extends EnumValue> &
 
   static <ColumnFamilyType extends Enum<? extends EnumValue> & EnumValue>
       ZeebeDb<ColumnFamilyType> openDb(
-          final Options options, final String path, final List<AutoCloseable> managedResources)
+          final Options options,
+          final RocksDbOptions rocksDbOptions,
+          final String path,
+          final List<AutoCloseable> managedResources)
           throws RocksDBException {
-    final RocksDB db = RocksDB.openReadOnly(options, path);
+    final var columnFamilyNames = RocksDB.listColumnFamilies(options, path);
+    if (columnFamilyNames.size() <= 1) {
+      final RocksDB db = RocksDB.openReadOnly(options, path);
+      managedResources.add(db);
+      return new SnapshotOnlyDb<>(db, managedResources);
+    }
+
+    // with separate column families, all of them must be opened to take a complete checkpoint
+    final var descriptors =
+        columnFamilyNames.stream()
+            .map(
+                name ->
+                    new ColumnFamilyDescriptor(
+                        name, rocksDbOptions.cfOptions(new String(name, StandardCharsets.UTF_8))))
+            .toList();
+    final List<ColumnFamilyHandle> handles = new ArrayList<>();
+    final RocksDB db = RocksDB.openReadOnly(rocksDbOptions.dbOptions(), path, descriptors, handles);
     managedResources.add(db);
+    managedResources.addAll(handles);
 
     return new SnapshotOnlyDb<>(db, managedResources);
   }
@@ -19,8 +19,11 @@ import io.micrometer.core.instrument.MeterRegistry;
 import java.io.File;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.function.Supplier;
@@ -43,11 +46,14 @@ import org.rocksdb.SstPartitionerFixedPrefixFactory;
 import org.rocksdb.Statistics;
 import org.rocksdb.StatsLevel;
 import org.rocksdb.TableFormatConfig;
+import org.rocksdb.WriteBufferManager;
 
 public final class ZeebeRocksDbFactory<
         ColumnFamilyType extends Enum<? extends EnumValue> & EnumValue & ScopedColumnFamily>
     implements ZeebeDbFactory<ColumnFamilyType> {
 
+  private static final int DEFAULT_BLOOM_FILTER_BITS_PER_KEY = 10;
+
   static {
     RocksDB.loadLibrary();
   }
@@ -56,16 +62,36 @@ public final class ZeebeRocksDbFactory<
   private final ConsistencyChecksSettings consistencyChecksSettings;
   private final AccessMetricsConfiguration metrics;
   private final Supplier<MeterRegistry> meterRegistryFactory;
+  private final ColumnFamilyType[] columnFamilies;
 
   public ZeebeRocksDbFactory(
       final RocksDbConfiguration rocksDbConfiguration,
       final ConsistencyChecksSettings consistencyChecksSettings,
       final AccessMetricsConfiguration metricsConfiguration,
       final Supplier<MeterRegistry> meterRegistryFactory) {
+    this(
+        rocksDbConfiguration,
+        consistencyChecksSettings,
+        metricsConfiguration,
+        meterRegistryFactory,
+        null);
+  }
+
+  /**
+   * @param columnFamilyType the type of the column families, which is required to create their
+   *     native column families when opening the database if separate column families are enabled
+   */
+  public ZeebeRocksDbFactory(
+      final RocksDbConfiguration rocksDbConfiguration,
+      final ConsistencyChecksSettings consistencyChecksSettings,
+      final AccessMetricsConfiguration metricsConfiguration,
+      final Supplier<MeterRegistry> meterRegistryFactory,
+      final Class<ColumnFamilyType> columnFamilyType) {
     this.rocksDbConfiguration = Objects.requireNonNull(rocksDbConfiguration);
     this.consistencyChecksSettings = Objects.requireNonNull(consistencyChecksSettings);
     metrics = metricsConfiguration;
     this.meterRegistryFactory = Objects.requireNonNull(meterRegistryFactory);
+    columnFamilies = columnFamilyType != null ? columnFamilyType.getEnumConstants() : null;
   }
 
   @Override
@@ -79,7 +105,8 @@ public final class ZeebeRocksDbFactory<
           rocksDbConfiguration,
           consistencyChecksSettings,
           metrics,
-          meterRegistryFactory);
+          meterRegistryFactory,
+          columnFamilies);
     } catch (final RocksDBException e) {
       CloseHelper.quietCloseAll(closeables);
       throw new IllegalStateException("Unexpected error occurred trying to open the database", e);
@@ -100,7 +127,7 @@ public final class ZeebeRocksDbFactory<
 
     try {
       return SnapshotOnlyDb.openDb(
-          snapshotOnlyOptions, pathName.getAbsolutePath(), managedResources);
+          snapshotOnlyOptions, options, pathName.getAbsolutePath(), managedResources);
     } catch (final RocksDBException e) {
       CloseHelper.quietCloseAll(managedResources);
       throw new IllegalStateException(
@@ -109,15 +136,35 @@ public final class ZeebeRocksDbFactory<
   }
 
   private RocksDbOptions prepareOptions(final List<AutoCloseable> managedResources) {
+    final var blockCache = createBlockCache(managedResources);
     // column family options have to be closed as last
-    final var columnFamilyOptions = createColumnFamilyOptions(managedResources);
+    final var columnFamilyOptions = createColumnFamilyOptions(managedResources, blockCache);
     managedResources.add(columnFamilyOptions);
-    final var dbOptions = createDefaultDbOptions(managedResources);
+    final var tunedColumnFamilyOptions =
+        createTunedColumnFamilyOptions(managedResources, columnFamilyOptions, blockCache);
+    final var dbOptions = createDefaultDbOptions(managedResources, blockCache);
     managedResources.add(dbOptions);
-    return new RocksDbOptions(dbOptions, columnFamilyOptions);
+    return new RocksDbOptions(dbOptions, columnFamilyOptions, tunedColumnFamilyOptions);
   }
 
-  private DBOptions createDefaultDbOptions(final List<AutoCloseable> closeables) {
+  LRUCache createBlockCache(final List<AutoCloseable> closeables) {
+    final var totalMemoryBudget = rocksDbConfiguration.getMemoryLimit();
+    // with separate column families, the memtables of all column families are charged to the
+    // block cache (see createDefaultDbOptions), so it must be sized for the complete budget
+    final var blockCacheMemory =
+        rocksDbConfiguration.isSeparateColumnFamiliesEnabled()
+            ? totalMemoryBudget
+            : totalMemoryBudget / 3;
+
+    // you can use the perf context to check if we're often blocked on the block cache mutex, in
+    // which case we want to increase the number of shards (shard count == 2^shardBits)
+    final var cache = new LRUCache(blockCacheMemory, 8, false, 0.15);
+    closeables.add(cache);
+    return cache;
+  }
+
+  private DBOptions createDefaultDbOptions(
+      final List<AutoCloseable> closeables, final LRUCache blockCache) {
     final var props = new Properties();
     props.put("file_checksum_gen_factory", "FileChecksumGenCrc32cFactory");
     //    Enables full file checksum
@@ -130,7 +177,7 @@ public final class ZeebeRocksDbFactory<
             .setMaxOpenFiles(rocksDbConfiguration.getMaxOpenFiles())
             // 1 flush, 1 compaction
             .setMaxBackgroundJobs(2)
-            // we only use the default CF
+            // separate column families are created when opening, see ZeebeTransactionDb
             .setCreateMissingColumnFamilies(false)
             // may not be necessary when WAL is disabled, but nevertheless recommended to avoid
             // many small SST files
@@ -150,6 +197,20 @@ public final class ZeebeRocksDbFactory<
       dbOptions.setRateLimiter(rateLimiter);
     }
 
+    if (rocksDbConfiguration.isSeparateColumnFamiliesEnabled()) {
+      // each column family has its own memtables, so we bound the memory of all of them together
+      // instead of per column family; the block cache then accounts for the complete memory limit
+      final var totalMemoryBudget = rocksDbConfiguration.getMemoryLimit();
+      final var writeBufferManager =
+          new WriteBufferManager(totalMemoryBudget - totalMemoryBudget / 3, blockCache);
+      closeables.add(writeBufferManager);
+      dbOptions
+          .setWriteBufferManager(writeBufferManager)
+          // without the WAL, this is required to take consistent checkpoints across column
+          // families
+          .setAtomicFlush(true);
+    }
+
     if (rocksDbConfiguration.isStatisticsEnabled()) {
       final var statistics = new Statistics();
       closeables.add(statistics);
@@ -168,7 +229,8 @@ public final class ZeebeRocksDbFactory<
   /**
    * @return Options which are used on all column families
    */
-  ColumnFamilyOptions createColumnFamilyOptions(final List<AutoCloseable> closeables) {
+  ColumnFamilyOptions createColumnFamilyOptions(
+      final List<AutoCloseable> closeables, final LRUCache blockCache) {
     final var userProvidedColumnFamilyOptions = rocksDbConfiguration.getColumnFamilyOptions();
     final var hasUserOptions = !userProvidedColumnFamilyOptions.isEmpty();
 
@@ -176,7 +238,88 @@ public final class ZeebeRocksDbFactory<
       return createFromUserOptions(userProvidedColumnFamilyOptions);
     }
 
-    return createDefaultColumnFamilyOptions(closeables);
+    return createDefaultColumnFamilyOptions(closeables, blockCache);
+  }
+
+  /**
+   * @return options for the individually tuned column families, keyed by column family name, which
+   *     are derived from the options shared by all other column families
+   */
+  Map<String, ColumnFamilyOptions> createTunedColumnFamilyOptions(
+      final List<AutoCloseable> closeables,
+      final ColumnFamilyOptions sharedOptions,
+      final LRUCache blockCache) {
+    if (!rocksDbConfiguration.isSeparateColumnFamiliesEnabled()) {
+      return Map.of();
+    }
+
+    verifyColumnFamilyTuning();
+    final Map<String, ColumnFamilyOptions> tunedOptions = new HashMap<>();
+    rocksDbConfiguration
+        .getColumnFamilyTuning()
+        .forEach(
+            (columnFamilyName, tuning) -> {
+              final var options = new ColumnFamilyOptions(sharedOptions);
+              closeables.add(options);
+
+              if (tuning.writeBufferSize() != null) {
+                options.setWriteBufferSize(tuning.writeBufferSize());
+              }
+
+              final var compression = tuning.compressionType();
+              if (compression != null) {
+                applyCompression(options, compression);
+              }
+
+              if (tuning.bloomFilterBitsPerKey() != null) {
+                options.setTableFormatConfig(
+                    createTableFormatConfig(
+                        closeables, blockCache, tuning.bloomFilterBitsPerKey()));
+              }
+
+              tunedOptions.put(columnFamilyName, options);
+            });
+
+    return tunedOptions;
+  }
+
+  private void verifyColumnFamilyTuning() {
+    if (columnFamilies == null) {
+      return;
+    }
+
+    final var knownNames = Arrays.stream(columnFamilies).map(Enum::name).toList();
+    final var unknownNames =
+        rocksDbConfiguration.getColumnFamilyTuning().keySet().stream()
+            .filter(name -> !knownNames.contains(name))
+            .sorted()
+            .toList();
+    if (!unknownNames.isEmpty()) {
+      throw new IllegalArgumentException(
+          "Expected column family tuning to only configure known column families, but %s are unknown"
+              .formatted(unknownNames));
+    }
+  }
+
+  private void applyCompression(
+      final ColumnFamilyOptions options, final CompressionType compression) {
+    final var compressionPerLevel = options.compressionPerLevel();
+    if (compressionPerLevel.isEmpty()) {
+      options.setCompressionType(compression);
+      return;
+    }
+
+    // only replace the compression of levels which are compressed, as the first levels are kept
+    // uncompressed on purpose
+    options.setCompressionPerLevel(
+        compressionPerLevel.stream()
+            .map(
+                level ->
+                    level == CompressionType.NO_COMPRESSION
+                            && compression != CompressionType.NO_COMPRESSION
+                        ? level
+                        : compression)
+            .toList());
   }
 
   private ColumnFamilyOptions createFromUserOptions(
@@ -196,7 +339,7 @@ public final class ZeebeRocksDbFactory<
   }
 
   private ColumnFamilyOptions createDefaultColumnFamilyOptions(
-      final List<AutoCloseable> closeables) {
+      final List<AutoCloseable> closeables, final LRUCache blockCache) {
     final var columnFamilyOptions = new ColumnFamilyOptions();
 
     final var totalMemoryBudget = rocksDbConfiguration.getMemoryLimit();
@@ -220,7 +363,8 @@ public final class ZeebeRocksDbFactory<
             ((totalMemoryBudget - blockCacheMemory) / (double) maxConcurrentMemtableCount)
                 * (1 - memtablePrefixFilterMemory));
 
-    final var tableConfig = createTableFormatConfig(closeables, blockCacheMemory);
+    final var tableConfig =
+        createTableFormatConfig(closeables, blockCache, DEFAULT_BLOOM_FILTER_BITS_PER_KEY);
 
     if (rocksDbConfiguration.isSstPartitioningEnabled()) {
       columnFamilyOptions.setSstPartitionerFactory(
@@ -277,17 +421,19 @@ public final class ZeebeRocksDbFactory<
   }
 
   private TableFormatConfig createTableFormatConfig(
-      final List<AutoCloseable> closeables, final long blockCacheMemory) {
-    // you can use the perf context to check if we're often blocked on the block cache mutex, in
-    // which case we want to increase the number of shards (shard count == 2^shardBits)
-    final var cache = new LRUCache(blockCacheMemory, 8, false, 0.15);
-    closeables.add(cache);
-
-    final var filter = new BloomFilter(10, false);
-    closeables.add(filter);
+      final List<AutoCloseable> closeables,
+      final LRUCache blockCache,
+      final int bloomFilterBitsPerKey) {
+    final BloomFilter filter;
+    if (bloomFilterBitsPerKey > 0) {
+      filter = new BloomFilter(bloomFilterBitsPerKey, false);
+      closeables.add(filter);
+    } else {
+      filter = null;
+    }
 
     return new BlockBasedTableConfig()
-        .setBlockCache(cache)
+        .setBlockCache(blockCache)
         // increasing block size means reducing memory usage, but increasing read iops
         .setBlockSize(32 * 1024L)
         // full and partitioned filters use a more efficient bloom filter implementation when
@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.db.impl.rocksdb.transaction;
 
+import java.util.Map;
 import org.rocksdb.ColumnFamilyOptions;
 import org.rocksdb.DBOptions;
 
@@ -15,11 +16,28 @@ import org.rocksdb.DBOptions;
  * change these depending on its own configuration. As each of the parts must be individually
  * closed, this record allows easily passing both configurations around within Zeebe.
  *
- * <p>While each column family in RocksDB can be configured differently, Zeebe only uses a single
- * RocksDB column family. We therefore don't have to differentiate further than a single database
- * options and a single column family options.
+ * <p>By default, Zeebe only uses a single RocksDB column family. When separate column families are
+ * enabled, each of them uses {@link #cfOptions()} unless it was tuned individually, in which case
+ * its options are found in {@link #tunedCfOptions()}.
  *
  * @param dbOptions The database options used to open the RocksDB database
  * @param cfOptions The column family options used to open the RocksDB database
+ * @param tunedCfOptions The column family options of individually tuned column families, keyed by
+ *     their native column family name
  */
-public record RocksDbOptions(DBOptions dbOptions, ColumnFamilyOptions cfOptions) {}
+public record RocksDbOptions(
+    DBOptions dbOptions,
+    ColumnFamilyOptions cfOptions,
+    Map<String, ColumnFamilyOptions> tunedCfOptions) {
+
+  public RocksDbOptions(final DBOptions dbOptions, final ColumnFamilyOptions cfOptions) {
+    this(dbOptions, cfOptions, Map.of());
+  }
+
+  /**
+   * @return the options to use for the native column family with the given name
+   */
+  public ColumnFamilyOptions cfOptions(final String columnFamilyName) {
+    return tunedCfOptions.getOrDefault(columnFamilyName, cfOptions);
+  }
+}
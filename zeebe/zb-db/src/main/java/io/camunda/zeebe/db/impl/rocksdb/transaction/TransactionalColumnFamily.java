@@ -27,6 +27,7 @@ import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import org.agrona.DirectBuffer;
+import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksIterator;
 
@@ -52,6 +53,8 @@ class TransactionalColumnFamily<
   private final ZeebeTransactionDb<ColumnFamilyNames> transactionDb;
   private final ConsistencyChecksSettings consistencyChecksSettings;
   private final ColumnFamilyNames columnFamily;
+  private final ColumnFamilyHandle handle;
+  private final long nativeHandle;
   private final TransactionContext context;
   private final ValueType valueInstance;
   private final KeyType keyInstance;
@@ -63,6 +66,7 @@ class TransactionalColumnFamily<
       final ZeebeTransactionDb<ColumnFamilyNames> transactionDb,
       final ConsistencyChecksSettings consistencyChecksSettings,
       final ColumnFamilyNames columnFamily,
+      final ColumnFamilyHandle handle,
       final TransactionContext context,
       final KeyType keyInstance,
       final ValueType valueInstance,
@@ -70,6 +74,8 @@ class TransactionalColumnFamily<
     this.transactionDb = transactionDb;
     this.consistencyChecksSettings = consistencyChecksSettings;
     this.columnFamily = columnFamily;
+    this.handle = handle;
+    nativeHandle = ZeebeTransactionDb.getNativeHandle(handle);
     this.context = context;
     this.keyInstance = keyInstance;
     this.valueInstance = valueInstance;
@@ -89,7 +95,7 @@ class TransactionalColumnFamily<
             assertKeyDoesNotExist(transaction);
             assertForeignKeysExist(transaction, key, value);
             transaction.put(
-                transactionDb.getDefaultNativeHandle(),
+                nativeHandle,
                 columnFamilyContext.getKeyBufferArray(),
                 columnFamilyContext.getKeyLength(),
                 columnFamilyContext.getValueBufferArray(),
@@ -108,7 +114,7 @@ class TransactionalColumnFamily<
             assertKeyExists(transaction);
             assertForeignKeysExist(transaction, key, value);
             transaction.put(
-                transactionDb.getDefaultNativeHandle(),
+                nativeHandle,
                 columnFamilyContext.getKeyBufferArray(),
                 columnFamilyContext.getKeyLength(),
                 columnFamilyContext.getValueBufferArray(),
@@ -126,7 +132,7 @@ class TransactionalColumnFamily<
             columnFamilyContext.writeValue(value);
             assertForeignKeysExist(transaction, key, value);
             transaction.put(
-                transactionDb.getDefaultNativeHandle(),
+                nativeHandle,
                 columnFamilyContext.getKeyBufferArray(),
                 columnFamilyContext.getKeyLength(),
                 columnFamilyContext.getValueBufferArray(),
@@ -143,7 +149,7 @@ class TransactionalColumnFamily<
             columnFamilyContext.writeKey(key);
             final byte[] value =
                 transaction.get(
-                    transactionDb.getDefaultNativeHandle(),
+                    nativeHandle,
                     transactionDb.getReadOptionsNativeHandle(),
                     columnFamilyContext.getKeyBufferArray(),
                     columnFamilyContext.getKeyLength());
@@ -228,7 +234,7 @@ class TransactionalColumnFamily<
             columnFamilyContext.writeKey(key);
             assertKeyExists(transaction);
             transaction.delete(
-                transactionDb.getDefaultNativeHandle(),
+                nativeHandle,
                 columnFamilyContext.getKeyBufferArray(),
                 columnFamilyContext.getKeyLength());
           });
@@ -242,7 +248,7 @@ class TransactionalColumnFamily<
           transaction -> {
             columnFamilyContext.writeKey(key);
             transaction.delete(
-                transactionDb.getDefaultNativeHandle(),
+                nativeHandle,
                 columnFamilyContext.getKeyBufferArray(),
                 columnFamilyContext.getKeyLength());
           });
@@ -257,7 +263,7 @@ class TransactionalColumnFamily<
             columnFamilyContext.writeKey(key);
             final byte[] value =
                 transaction.get(
-                    transactionDb.getDefaultNativeHandle(),
+                    nativeHandle,
                     transactionDb.getReadOptionsNativeHandle(),
                     columnFamilyContext.getKeyBufferArray(),
                     columnFamilyContext.getKeyLength());
@@ -310,7 +316,7 @@ class TransactionalColumnFamily<
     }
     final var value =
         transaction.get(
-            transactionDb.getDefaultNativeHandle(),
+            nativeHandle,
             transactionDb.getReadOptionsNativeHandle(),
             columnFamilyContext.getKeyBufferArray(),
             columnFamilyContext.getKeyLength());
@@ -326,7 +332,7 @@ class TransactionalColumnFamily<
     }
     final var value =
         transaction.get(
-            transactionDb.getDefaultNativeHandle(),
+            nativeHandle,
             transactionDb.getReadOptionsNativeHandle(),
             columnFamilyContext.getKeyBufferArray(),
             columnFamilyContext.getKeyLength());
@@ -348,7 +354,7 @@ class TransactionalColumnFamily<
 
   RocksIterator newIterator(final TransactionContext context, final ReadOptions options) {
     final var currentTransaction = (ZeebeTransaction) context.getCurrentTransaction();
-    return currentTransaction.newIterator(options, transactionDb.getDefaultHandle());
+    return currentTransaction.newIterator(options, handle);
   }
 
   /**
@@ -18,29 +18,41 @@ import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.db.impl.DbNil;
 import io.camunda.zeebe.db.impl.FineGrainedColumnFamilyMetrics;
 import io.camunda.zeebe.db.impl.NoopColumnFamilyMetrics;
+import io.camunda.zeebe.db.impl.ZeebeDbConstants;
 import io.camunda.zeebe.db.impl.rocksdb.Loggers;
 import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
 import io.camunda.zeebe.db.impl.rocksdb.metrics.RocksDBMetricExporter;
+import io.camunda.zeebe.db.impl.rocksdb.metrics.RocksDbMetricsDoc;
 import io.camunda.zeebe.protocol.EnumValue;
 import io.camunda.zeebe.protocol.ScopedColumnFamily;
+import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.camunda.zeebe.util.micrometer.MicrometerUtil;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.io.File;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.rocksdb.Checkpoint;
 import org.rocksdb.ColumnFamilyDescriptor;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.OptimisticTransactionDB;
+import org.rocksdb.Options;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksObject;
 import org.rocksdb.Transaction;
+import org.rocksdb.WriteBatch;
 import org.rocksdb.WriteOptions;
 import org.slf4j.Logger;
 
@@ -51,6 +63,19 @@ public class ZeebeTransactionDb<
   private static final Logger LOG = Loggers.DB_LOGGER;
   private static final String ERROR_MESSAGE_CLOSE_RESOURCE =
       "Expected to close RocksDB resource successfully, but exception was thrown. Will continue to close remaining resources.";
+  private static final int MIGRATION_BATCH_SIZE = 10_000;
+  // properties which have the same value for every column family, e.g. as the block cache is shared
+  private static final Set<String> DB_WIDE_PROPERTIES =
+      Stream.of(
+              RocksDbMetricsDoc.BLOCK_CACHE_USAGE,
+              RocksDbMetricsDoc.BLOCK_CACHE_CAPACITY,
+              RocksDbMetricsDoc.BLOCK_CACHE_PINNED_USAGE,
+              RocksDbMetricsDoc.IS_WRITE_STOPPED,
+              RocksDbMetricsDoc.ACTUAL_DELAYED_WRITE_RATE,
+              RocksDbMetricsDoc.NUM_RUNNING_FLUSHES,
+              RocksDbMetricsDoc.NUM_RUNNING_COMPACTIONS)
+          .map(RocksDbMetricsDoc::propertyName)
+          .collect(Collectors.toUnmodifiableSet());
   private final OptimisticTransactionDB optimisticTransactionDB;
   private final List<AutoCloseable> closables;
   private final ReadOptions prefixReadOptions;
@@ -62,9 +87,16 @@ public class ZeebeTransactionDb<
   private final AccessMetricsConfiguration accessMetricsConfiguration;
   private final MeterRegistry meterRegistry;
   private final RocksDBMetricExporter metricExporter;
+  // native handles by column family value, resolved when opening the database; column families
+  // which are not contained are stored in the default column family
+  private final ColumnFamilyHandle[] handlesByColumnFamily;
+  private final long[] nativeHandlesByColumnFamily;
+  // all native handles, including the default one
+  private final ColumnFamilyHandle[] distinctHandles;
 
   protected ZeebeTransactionDb(
       final ColumnFamilyHandle defaultHandle,
+      final ColumnFamilyHandle[] handlesByColumnFamily,
       final OptimisticTransactionDB optimisticTransactionDB,
       final List<AutoCloseable> closables,
       final RocksDbConfiguration rocksDbConfiguration,
@@ -73,6 +105,15 @@ public class ZeebeTransactionDb<
       final MeterRegistry meterRegistry) {
     this.defaultHandle = defaultHandle;
     defaultNativeHandle = getNativeHandle(defaultHandle);
+    this.handlesByColumnFamily = handlesByColumnFamily;
+    nativeHandlesByColumnFamily = new long[handlesByColumnFamily.length];
+    for (int i = 0; i < handlesByColumnFamily.length; i++) {
+      nativeHandlesByColumnFamily[i] = getNativeHandle(handlesByColumnFamily[i]);
+    }
+    distinctHandles =
+        Stream.concat(Stream.of(defaultHandle), Arrays.stream(handlesByColumnFamily))
+            .distinct()
+            .toArray(ColumnFamilyHandle[]::new);
     this.optimisticTransactionDB = optimisticTransactionDB;
     this.closables = closables;
     this.consistencyChecksSettings = consistencyChecksSettings;
@@ -104,30 +145,71 @@ public class ZeebeTransactionDb<
           final RocksDbConfiguration rocksDbConfiguration,
           final ConsistencyChecksSettings consistencyChecksSettings,
           final AccessMetricsConfiguration metrics,
-          final Supplier<MeterRegistry> meterRegistryFactory)
+          final Supplier<MeterRegistry> meterRegistryFactory,
+          final ColumnFamilyNames[] columnFamilies)
           throws RocksDBException {
+    if (rocksDbConfiguration.isSeparateColumnFamiliesEnabled() && columnFamilies == null) {
+      throw new IllegalStateException(
+          "Expected the column families to be known to use separate column families, but none"
+              + " were given");
+    }
+
+    // all existing column families must be opened, even if they are not used in the configured
+    // layout, as their data is moved to the configured layout below
     final var cfDescriptors =
-        Arrays.asList( // todo: could consider using List.of
-            new ColumnFamilyDescriptor(RocksDB.DEFAULT_COLUMN_FAMILY, options.cfOptions()));
+        listColumnFamilies(options, path).stream()
+            .map(name -> new ColumnFamilyDescriptor(name, options.cfOptions(nativeName(name))))
+            .toList();
     final List<ColumnFamilyHandle> cfHandles = new ArrayList<>();
     final OptimisticTransactionDB optimisticTransactionDB =
         OptimisticTransactionDB.open(options.dbOptions(), path, cfDescriptors, cfHandles);
     closables.add(optimisticTransactionDB);
 
-    if (cfHandles.size() != 1) {
+    if (cfHandles.size() != cfDescriptors.size()) {
       throw new IllegalStateException(
-          "Expected a handle for the default column family but found %d handles"
-              .formatted(cfHandles.size()));
+          "Expected a handle for each of the %d column families but found %d handles"
+              .formatted(cfDescriptors.size(), cfHandles.size()));
     }
 
-    final ColumnFamilyHandle defaultColumnFamilyHandle = cfHandles.getFirst();
-    closables.add(defaultColumnFamilyHandle);
+    closables.addAll(cfHandles);
+    ColumnFamilyHandle defaultColumnFamilyHandle = null;
+    final Map<String, ColumnFamilyHandle> nativeHandlesByName = new HashMap<>();
+    for (int i = 0; i < cfDescriptors.size(); i++) {
+      final var name = cfDescriptors.get(i).getName();
+      if (Arrays.equals(RocksDB.DEFAULT_COLUMN_FAMILY, name)) {
+        defaultColumnFamilyHandle = cfHandles.get(i);
+      } else {
+        nativeHandlesByName.put(nativeName(name), cfHandles.get(i));
+      }
+    }
+
+    if (defaultColumnFamilyHandle == null) {
+      throw new IllegalStateException(
+          "Expected a handle for the default column family but found none");
+    }
+
+    final ColumnFamilyHandle[] handlesByColumnFamily;
+    if (rocksDbConfiguration.isSeparateColumnFamiliesEnabled()) {
+      handlesByColumnFamily =
+          resolveSeparateColumnFamilies(
+              optimisticTransactionDB,
+              options,
+              closables,
+              defaultColumnFamilyHandle,
+              nativeHandlesByName,
+              columnFamilies);
+    } else {
+      moveToDefaultColumnFamily(
+          optimisticTransactionDB, defaultColumnFamilyHandle, nativeHandlesByName);
+      handlesByColumnFamily = new ColumnFamilyHandle[0];
+    }
 
     final var meterRegistry = meterRegistryFactory.get();
     closables.add(() -> MicrometerUtil.close(meterRegistry));
 
     return new ZeebeTransactionDb<>(
         defaultColumnFamilyHandle,
+        handlesByColumnFamily,
         optimisticTransactionDB,
         closables,
         rocksDbConfiguration,
@@ -136,6 +218,21 @@ public class ZeebeTransactionDb<
         meterRegistry);
   }
 
+  private static List<byte[]> listColumnFamilies(final RocksDbOptions options, final String path)
+      throws RocksDBException {
+    if (!new File(path, "CURRENT").exists()) {
+      return List.of(RocksDB.DEFAULT_COLUMN_FAMILY);
+    }
+
+    try (final var listOptions = new Options(options.dbOptions(), options.cfOptions())) {
+      return RocksDB.listColumnFamilies(listOptions, path);
+    }
+  }
+
+  private static String nativeName(final byte[] name) {
+    return new String(name, StandardCharsets.UTF_8);
+  }
+
   static long getNativeHandle(final RocksObject object) {
     try {
       return RocksDbInternal.nativeHandle.getLong(object);
@@ -161,6 +258,129 @@ public class ZeebeTransactionDb<
     return defaultNativeHandle;
   }
 
+  /**
+   * Returns the native column family handle in which the given column family is stored. With the
+   * default layout, this is always the default handle.
+   */
+  protected ColumnFamilyHandle getHandle(final Enum<? extends EnumValue> columnFamily) {
+    final var value = ((EnumValue) columnFamily).getValue();
+    return value < handlesByColumnFamily.length ? handlesByColumnFamily[value] : defaultHandle;
+  }
+
+  protected long getNativeHandle(final Enum<? extends EnumValue> columnFamily) {
+    final var value = ((EnumValue) columnFamily).getValue();
+    return value < nativeHandlesByColumnFamily.length
+        ? nativeHandlesByColumnFamily[value]
+        : defaultNativeHandle;
+  }
+
+  /**
+   * Creates the native column family of each of the given column families if it doesn't exist yet.
+   * If the data of a column family is still stored in the default column family, e.g. after
+   * recovering from a snapshot taken with the default layout, it is moved. Keys are prefixed with
+   * the column family value in both layouts, so this is a plain copy.
+   *
+   * @return the native handles, indexed by column family value
+   */
+  private static <ColumnFamilyNames extends Enum<? extends EnumValue> & EnumValue>
+      ColumnFamilyHandle[] resolveSeparateColumnFamilies(
+          final OptimisticTransactionDB db,
+          final RocksDbOptions options,
+          final List<AutoCloseable> closables,
+          final ColumnFamilyHandle defaultHandle,
+          final Map<String, ColumnFamilyHandle> nativeHandlesByName,
+          final ColumnFamilyNames[] columnFamilies)
+          throws RocksDBException {
+    final int maxValue =
+        Arrays.stream(columnFamilies).mapToInt(EnumValue::getValue).max().orElse(-1);
+    final var handles = new ColumnFamilyHandle[maxValue + 1];
+    Arrays.fill(handles, defaultHandle);
+
+    for (final var columnFamily : columnFamilies) {
+      final var name = columnFamily.name();
+      var handle = nativeHandlesByName.get(name);
+      if (handle == null) {
+        handle =
+            db.createColumnFamily(
+                new ColumnFamilyDescriptor(
+                    name.getBytes(StandardCharsets.UTF_8), options.cfOptions(name)));
+        closables.add(handle);
+        moveColumnFamily(db, columnFamily.getValue(), defaultHandle, handle);
+      }
+
+      handles[columnFamily.getValue()] = handle;
+    }
+
+    return handles;
+  }
+
+  /**
+   * Moves the data of all native column families back to the default column family and drops them,
+   * e.g. after recovering from a snapshot taken with separate column families.
+   */
+  private static void moveToDefaultColumnFamily(
+      final OptimisticTransactionDB db,
+      final ColumnFamilyHandle defaultHandle,
+      final Map<String, ColumnFamilyHandle> nativeHandlesByName)
+      throws RocksDBException {
+    for (final var nativeHandle : nativeHandlesByName.values()) {
+      moveColumnFamily(db, -1, nativeHandle, defaultHandle);
+      db.dropColumnFamily(nativeHandle);
+    }
+  }
+
+  /**
+   * Moves the keys of the given column family value from the source to the target column family, or
+   * all keys of the source column family if the value is negative.
+   */
+  private static void moveColumnFamily(
+      final OptimisticTransactionDB db,
+      final int value,
+      final ColumnFamilyHandle source,
+      final ColumnFamilyHandle target)
+      throws RocksDBException {
+    final var prefix = new UnsafeBuffer(new byte[Long.BYTES]);
+    prefix.putLong(0, value, ZeebeDbConstants.ZB_DB_BYTE_ORDER);
+
+    // the optimistic transaction DB doesn't support range deletes, so every key is deleted
+    // individually in the same batch it is copied in
+    long movedKeys = 0;
+    try (final var readOptions = new ReadOptions();
+        final var writeOptions = new WriteOptions();
+        final var iterator = db.newIterator(source, readOptions);
+        final var batch = new WriteBatch()) {
+      if (value < 0) {
+        iterator.seekToFirst();
+      } else {
+        iterator.seek(prefix.byteArray());
+      }
+
+      for (; iterator.isValid(); iterator.next()) {
+        final var key = iterator.key();
+        if (value >= 0
+            && !BufferUtil.startsWith(prefix.byteArray(), 0, Long.BYTES, key, 0, key.length)) {
+          break;
+        }
+
+        batch.put(target, key, iterator.value());
+        batch.delete(source, key);
+        movedKeys++;
+        if (batch.count() >= MIGRATION_BATCH_SIZE) {
+          db.write(writeOptions, batch);
+          batch.clear();
+        }
+      }
+
+      iterator.status();
+      db.write(writeOptions, batch);
+    }
+
+    if (movedKeys > 0) {
+      LOG.debug(
+          "Moved {} keys of column family {} to another native column family", movedKeys, value);
+    }
+  }
+
   @Override
   public <KeyType extends DbKey, ValueType extends DbValue>
       ColumnFamily<KeyType, ValueType> createColumnFamily(
@@ -177,6 +397,7 @@ public class ZeebeTransactionDb<
         this,
         consistencyChecksSettings,
         columnFamily,
+        getHandle(columnFamily),
         context,
         keyInstance,
         valueInstance,
@@ -195,17 +416,34 @@ public class ZeebeTransactionDb<
     }
   }
 
+  /**
+   * Returns the given property of the default column family. With separate column families, the
+   * integer properties are summed up over all native column families instead, as the data is
+   * stored in those.
+   */
   @Override
   public Optional<String> getProperty(final String propertyName) {
     String propertyValue = null;
     try {
       propertyValue = optimisticTransactionDB.getProperty(defaultHandle, propertyName);
+      if (distinctHandles.length > 1 && !DB_WIDE_PROPERTIES.contains(propertyName)) {
+        // fails for properties which are not integers, which keep the default's value
+        propertyValue = Long.toString(sumIntegerProperty(propertyName));
+      }
     } catch (final RocksDBException rde) {
       LOG.debug(rde.getMessage(), rde);
     }
     return Optional.ofNullable(propertyValue);
   }
 
+  private long sumIntegerProperty(final String propertyName) throws RocksDBException {
+    long sum = 0;
+    for (final var handle : distinctHandles) {
+      sum += optimisticTransactionDB.getLongProperty(handle, propertyName);
+    }
+    return sum;
+  }
+
   @Override
   public TransactionContext createContext() {
     final Transaction transaction = optimisticTransactionDB.beginTransaction(defaultWriteOptions);
@@ -228,7 +466,7 @@ public class ZeebeTransactionDb<
 
   @Override
   public void exportMetrics() {
-    metricExporter.exportMetrics(optimisticTransactionDB);
+    metricExporter.exportMetrics(this);
   }
 
   @Override
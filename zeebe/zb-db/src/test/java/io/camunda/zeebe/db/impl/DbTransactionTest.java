@@ -237,6 +237,33 @@ public final class DbTransactionTest {
     assertThat(threeColumnFamily.exists(threeKey)).isFalse();
   }
 
+  @Test
+  public void shouldRollbackToSavepoint() throws Exception {
+    // given
+    oneKey.wrapLong(1);
+    oneValue.wrapLong(-1);
+
+    twoKey.wrapLong(52000);
+    twoValue.wrapLong(192313);
+
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.run(() -> oneColumnFamily.insert(oneKey, oneValue));
+    transaction.setSavepoint();
+    transaction.run(
+        () -> {
+          oneColumnFamily.deleteExisting(oneKey);
+          twoColumnFamily.insert(twoKey, twoValue);
+        });
+
+    // when
+    transaction.rollbackToSavepoint();
+    transaction.commit();
+
+    // then
+    assertThat(oneColumnFamily.get(oneKey).getValue()).isEqualTo(-1);
+    assertThat(twoColumnFamily.exists(twoKey)).isFalse();
+  }
+
   @Test
   public void shouldGetValueInTransaction() {
     // given
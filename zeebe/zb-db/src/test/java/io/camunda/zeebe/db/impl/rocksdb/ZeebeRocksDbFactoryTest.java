@@ -13,6 +13,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.camunda.zeebe.db.AccessMetricsConfiguration;
 import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ColumnFamily;
 import io.camunda.zeebe.db.ConsistencyChecksSettings;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.TransactionOperation;
@@ -26,7 +27,10 @@ import io.camunda.zeebe.db.impl.DefaultZeebeDbFactory;
 import io.camunda.zeebe.util.ByteValue;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.File;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.stream.Stream;
 import org.assertj.core.api.ThrowingConsumer;
@@ -37,6 +41,10 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.rocksdb.ColumnFamilyOptions;
 import org.rocksdb.CompactionPriority;
+import org.rocksdb.CompressionType;
+import org.rocksdb.Options;
+import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
 
 final class ZeebeRocksDbFactoryTest {
 
@@ -92,8 +100,13 @@ final class ZeebeRocksDbFactoryTest {
             SimpleMeterRegistry::new);
 
     // when
-    final var defaults = factoryWithDefaults.createColumnFamilyOptions(new ArrayList<>());
-    final var customOptions = factoryWithCustomOptions.createColumnFamilyOptions(new ArrayList<>());
+    final var closeables = new ArrayList<AutoCloseable>();
+    final var defaults =
+        factoryWithDefaults.createColumnFamilyOptions(
+            closeables, factoryWithDefaults.createBlockCache(closeables));
+    final var customOptions =
+        factoryWithCustomOptions.createColumnFamilyOptions(
+            closeables, factoryWithCustomOptions.createBlockCache(closeables));
 
     // then
     assertThat(defaults)
@@ -205,6 +218,222 @@ final class ZeebeRocksDbFactoryTest {
     }
   }
 
+  @Test
+  void shouldMoveDataToSeparateColumnFamilies(final @TempDir File path) throws Exception {
+    // given
+    final var key = new DbString();
+    final var value = new DbString();
+    key.wrapString("foo");
+    value.wrapString("bar");
+    try (final var db = createFactory(false).createDb(path)) {
+      createDefaultColumn(db).insert(key, value);
+    }
+
+    // when
+    final String movedValue;
+    try (final var db = createFactory(true).createDb(path)) {
+      movedValue = createDefaultColumn(db).get(key).toString();
+    }
+
+    // then
+    assertThat(movedValue).isEqualTo("bar");
+    assertThat(listColumnFamilies(path)).containsExactlyInAnyOrder("default", "DEFAULT");
+  }
+
+  @Test
+  void shouldMoveDataBackToDefaultColumnFamily(final @TempDir File path) throws Exception {
+    // given
+    final var key = new DbString();
+    final var value = new DbString();
+    key.wrapString("foo");
+    value.wrapString("bar");
+    try (final var db = createFactory(true).createDb(path)) {
+      createDefaultColumn(db).insert(key, value);
+    }
+
+    // when
+    final String movedValue;
+    try (final var db = createFactory(false).createDb(path)) {
+      movedValue = createDefaultColumn(db).get(key).toString();
+    }
+
+    // then
+    assertThat(movedValue).isEqualTo("bar");
+    assertThat(listColumnFamilies(path)).containsExactly("default");
+  }
+
+  @Test
+  void shouldSumPropertiesOverSeparateColumnFamilies(final @TempDir File path) throws Exception {
+    // given
+    final var key = new DbString();
+    final var value = new DbString();
+    value.wrapString("bar");
+
+    try (final var db = createFactory(true).createDb(path)) {
+      final var column = createDefaultColumn(db);
+      for (int i = 0; i < 10; i++) {
+        key.wrapString("foo" + i);
+        column.insert(key, value);
+      }
+
+      // when
+      final var estimatedKeys = db.getProperty("rocksdb.estimate-num-keys");
+      final var blockCacheCapacity = db.getProperty("rocksdb.block-cache-capacity");
+
+      // then - the keys are stored in the separate column family, not in the default one
+      assertThat(estimatedKeys).hasValue("10");
+      // the block cache is shared by all column families, so its capacity is not summed up
+      assertThat(blockCacheCapacity)
+          .hasValue(Long.toString(RocksDbConfiguration.DEFAULT_MEMORY_LIMIT));
+    }
+  }
+
+  @Test
+  void shouldCreateSeparateColumnFamiliesWhenOpening(final @TempDir File path) throws Exception {
+    // when
+    try (final var db = createFactory(true).createDb(path)) {
+      // then
+      assertThat(listColumnFamilies(path)).containsExactlyInAnyOrder("default", "DEFAULT");
+    }
+  }
+
+  @Test
+  void shouldRejectSeparateColumnFamiliesWithoutColumnFamilyType(final @TempDir File path) {
+    // given
+    final var factory =
+        new ZeebeRocksDbFactory<DefaultColumnFamily>(
+            new RocksDbConfiguration().setSeparateColumnFamiliesEnabled(true),
+            new ConsistencyChecksSettings(),
+            new AccessMetricsConfiguration(Kind.NONE, 1),
+            SimpleMeterRegistry::new);
+
+    // expect
+    //noinspection resource
+    assertThatThrownBy(() -> factory.createDb(path))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("Expected the column families to be known");
+  }
+
+  @Test
+  void shouldOpenSnapshotOnlyDbWithSeparateColumnFamilies(
+      final @TempDir File path, final @TempDir File tempDir) throws Exception {
+    // given
+    final var factory = createFactory(true);
+    final var key = new DbString();
+    final var value = new DbString();
+    key.wrapString("foo");
+    value.wrapString("bar");
+    try (final var db = factory.createDb(path)) {
+      createDefaultColumn(db).insert(key, value);
+    }
+
+    // when
+    final var snapshotPath = new File(tempDir, "snapshot");
+    try (final var db = factory.openSnapshotOnlyDb(path)) {
+      db.createSnapshot(snapshotPath);
+    }
+
+    // then
+    final String snapshotValue;
+    try (final var db = factory.createDb(snapshotPath)) {
+      snapshotValue = createDefaultColumn(db).get(key).toString();
+    }
+
+    assertThat(snapshotValue).isEqualTo("bar");
+  }
+
+  @Test
+  void shouldTuneSeparateColumnFamilies() {
+    // given
+    final var configuration =
+        new RocksDbConfiguration()
+            .setSeparateColumnFamiliesEnabled(true)
+            .setColumnFamilyTuning(
+                Map.of("DEFAULT", new ColumnFamilyTuning(ByteValue.ofMegabytes(4), 0, "zstd")));
+    final var factory =
+        new ZeebeRocksDbFactory<DefaultColumnFamily>(
+            configuration,
+            new ConsistencyChecksSettings(),
+            new AccessMetricsConfiguration(Kind.NONE, 1),
+            SimpleMeterRegistry::new,
+            DefaultColumnFamily.class);
+    final var closeables = new ArrayList<AutoCloseable>();
+    final var blockCache = factory.createBlockCache(closeables);
+
+    // when
+    final var sharedOptions = factory.createColumnFamilyOptions(closeables, blockCache);
+    final var tunedOptions =
+        factory
+            .createTunedColumnFamilyOptions(closeables, sharedOptions, blockCache)
+            .get("DEFAULT");
+
+    // then
+    assertThat(tunedOptions.writeBufferSize()).isEqualTo(ByteValue.ofMegabytes(4));
+    assertThat(tunedOptions.compressionPerLevel())
+        .containsExactly(
+            CompressionType.NO_COMPRESSION,
+            CompressionType.NO_COMPRESSION,
+            CompressionType.ZSTD_COMPRESSION,
+            CompressionType.ZSTD_COMPRESSION);
+    assertThat(tunedOptions.numLevels()).isEqualTo(sharedOptions.numLevels());
+  }
+
+  @Test
+  void shouldRejectTuningOfUnknownColumnFamilies() {
+    // given
+    final var configuration =
+        new RocksDbConfiguration()
+            .setSeparateColumnFamiliesEnabled(true)
+            .setColumnFamilyTuning(Map.of("JOB", new ColumnFamilyTuning(null, 0, null)));
+    final var factory =
+        new ZeebeRocksDbFactory<DefaultColumnFamily>(
+            configuration,
+            new ConsistencyChecksSettings(),
+            new AccessMetricsConfiguration(Kind.NONE, 1),
+            SimpleMeterRegistry::new,
+            DefaultColumnFamily.class);
+    final var closeables = new ArrayList<AutoCloseable>();
+    final var blockCache = factory.createBlockCache(closeables);
+    final var sharedOptions = factory.createColumnFamilyOptions(closeables, blockCache);
+
+    // when - then
+    assertThatThrownBy(
+            () -> factory.createTunedColumnFamilyOptions(closeables, sharedOptions, blockCache))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("[JOB] are unknown");
+  }
+
+  @Test
+  void shouldRejectUnknownCompression() {
+    assertThatThrownBy(() -> new ColumnFamilyTuning(null, null, "foo"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("but was 'foo'");
+  }
+
+  private static ZeebeDbFactory<DefaultColumnFamily> createFactory(
+      final boolean separateColumnFamilies) {
+    return new ZeebeRocksDbFactory<>(
+        new RocksDbConfiguration().setSeparateColumnFamiliesEnabled(separateColumnFamilies),
+        new ConsistencyChecksSettings(),
+        new AccessMetricsConfiguration(Kind.NONE, 1),
+        SimpleMeterRegistry::new,
+        DefaultColumnFamily.class);
+  }
+
+  private static ColumnFamily<DbString, DbString> createDefaultColumn(
+      final ZeebeDb<DefaultColumnFamily> db) {
+    return db.createColumnFamily(
+        DefaultColumnFamily.DEFAULT, db.createContext(), new DbString(), new DbString());
+  }
+
+  private static List<String> listColumnFamilies(final File path) throws RocksDBException {
+    try (final var options = new Options()) {
+      return RocksDB.listColumnFamilies(options, path.getAbsolutePath()).stream()
+          .map(name -> new String(name, StandardCharsets.UTF_8))
+          .toList();
+    }
+  }
+
   private static Stream<Named<ThrowingConsumer<ZeebeDb<DefaultColumnFamily>>>>
       provideSnapshotOnlyOperation() {
     return Stream.of(
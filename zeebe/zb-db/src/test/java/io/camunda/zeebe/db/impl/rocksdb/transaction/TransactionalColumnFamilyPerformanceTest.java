@@ -0,0 +1,116 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbCompositeKey;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DefaultColumnFamily;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.camunda.zeebe.util.FileUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.agrona.collections.MutableLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures point lookups and prefix iteration on a {@link TransactionalColumnFamily}, with the
+ * default consistency checks of a broker. The data is committed up front, such that the reads go
+ * through the transaction to the underlying database.
+ */
+@Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class TransactionalColumnFamilyPerformanceTest {
+
+  private static final int PREFIX_COUNT = 1_000;
+  private static final int ENTRIES_PER_PREFIX = 100;
+
+  private final DbLong prefix = new DbLong();
+  private final DbLong suffix = new DbLong();
+  private final DbCompositeKey<DbLong, DbLong> key = new DbCompositeKey<>(prefix, suffix);
+  private final DbLong value = new DbLong();
+
+  private Path directory;
+  private ZeebeDb<DefaultColumnFamily> zeebeDb;
+  private ColumnFamily<DbCompositeKey<DbLong, DbLong>, DbLong> columnFamily;
+
+  @Setup
+  public void setup() throws Exception {
+    directory = Files.createTempDirectory("columnFamilyPerf");
+    zeebeDb =
+        new ZeebeRocksDbFactory<DefaultColumnFamily>(
+                new RocksDbConfiguration(),
+                new ConsistencyChecksSettings(),
+                new AccessMetricsConfiguration(Kind.NONE, 1),
+                SimpleMeterRegistry::new)
+            .createDb(directory.toFile());
+    final var context = zeebeDb.createContext();
+    columnFamily = zeebeDb.createColumnFamily(DefaultColumnFamily.DEFAULT, context, key, value);
+
+    context.runInTransaction(
+        () -> {
+          for (int p = 0; p < PREFIX_COUNT; p++) {
+            prefix.wrapLong(p);
+            for (int s = 0; s < ENTRIES_PER_PREFIX; s++) {
+              suffix.wrapLong(s);
+              value.wrapLong((long) p * s);
+              columnFamily.insert(key, value);
+            }
+          }
+        });
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+    FileUtil.deleteFolderIfExists(directory);
+  }
+
+  @Benchmark
+  public DbLong measureGet() {
+    final var random = ThreadLocalRandom.current();
+    prefix.wrapLong(random.nextInt(PREFIX_COUNT));
+    suffix.wrapLong(random.nextInt(ENTRIES_PER_PREFIX));
+    return columnFamily.get(key);
+  }
+
+  @Benchmark
+  public long measurePrefixIteration() {
+    final var sum = new MutableLong();
+    prefix.wrapLong(ThreadLocalRandom.current().nextInt(PREFIX_COUNT));
+    columnFamily.whileEqualPrefix(
+        prefix,
+        (k, v) -> {
+          sum.addAndGet(v.getValue());
+        });
+    return sum.get();
+  }
+}